@@ -0,0 +1,402 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.dynamic.js.base.boxplot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.base.node.viz.plotter.box.BoxplotCalculator;
+import org.knime.base.node.viz.plotter.box.BoxplotStatistics;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.dynamic.js.base.boxplot.BoxplotStatisticsCalculator.Outlier;
+import org.knime.dynamic.js.base.boxplot.BoxplotStatisticsCalculator.QuantileSketch;
+import org.knime.dynamic.js.base.boxplot.BoxplotStatisticsCalculator.Statistics;
+
+/**
+ * Testcases for {@link BoxplotStatisticsCalculator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BoxplotStatisticsCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Checks that the selection partitions the first n values around the k-th smallest one for the first, the middle
+     * and the last position, permutes the row indices along and leaves the values after n untouched.
+     */
+    @Test
+    public void testSelectEdges() {
+        Random random = new Random(42);
+        for (int run = 0; run < 50; run++) {
+            int n = 1 + random.nextInt(100);
+            double[] values = new double[n + 3];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(10);
+            }
+            Arrays.fill(values, n, n + 3, -1);
+            double[] sorted = Arrays.copyOf(values, n);
+            Arrays.sort(sorted);
+            for (int k : new int[]{0, n / 2, n - 1}) {
+                double[] selected = values.clone();
+                int[] rows = IntStream.range(0, n + 3).toArray();
+                BoxplotStatisticsCalculator.select(selected, rows, n, k);
+                assertThat(selected[k], is(sorted[k]));
+                for (int i = 0; i < n; i++) {
+                    assertThat(selected[i], i < k ? lessThanOrEqualTo(selected[k])
+                        : greaterThanOrEqualTo(selected[k]));
+                    assertThat(selected[i], is(values[rows[i]]));
+                }
+                for (int i = n; i < n + 3; i++) {
+                    assertThat(selected[i], is(-1d));
+                    assertThat(rows[i], is(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the quantiles of a single and of two values, which are clamped to the minimum and maximum.
+     */
+    @Test
+    public void testQuantileOfFewValues() {
+        assertThat(quantile(new double[]{7}, 0.25), is(7d));
+        assertThat(quantile(new double[]{7}, 0.5), is(7d));
+        assertThat(quantile(new double[]{7}, 0.75), is(7d));
+
+        assertThat(quantile(new double[]{3, 1}, 0.25), is(1d));
+        assertThat(quantile(new double[]{3, 1}, 0.5), closeTo(2, EPSILON));
+        assertThat(quantile(new double[]{3, 1}, 0.75), is(3d));
+    }
+
+    /**
+     * Checks the quartiles of an even and an odd number of values, interpolated at position p * (n + 1).
+     */
+    @Test
+    public void testQuantileOfEvenAndOddCount() {
+        double[] even = {4, 1, 3, 2};
+        assertThat(quantile(even, 0.25), closeTo(1.25, EPSILON));
+        assertThat(quantile(even, 0.5), closeTo(2.5, EPSILON));
+        assertThat(quantile(even, 0.75), closeTo(3.75, EPSILON));
+
+        double[] odd = {5, 1, 4, 2, 3};
+        assertThat(quantile(odd, 0.25), closeTo(1.5, EPSILON));
+        assertThat(quantile(odd, 0.5), is(3d));
+        assertThat(quantile(odd, 0.75), closeTo(4.5, EPSILON));
+    }
+
+    /**
+     * Checks that the whiskers are the most extreme values inside the fences and that values beyond 1.5 and 3
+     * interquartile ranges are collected as mild and extreme outliers with the keys of their rows.
+     */
+    @Test
+    public void testWhiskersAndOutliers() throws Exception {
+        double[] values = new double[23];
+        values[0] = -20;
+        for (int i = 1; i <= 20; i++) {
+            values[i] = i;
+        }
+        values[21] = 40;
+        values[22] = 60;
+        BufferedDataTable table = createTable(values);
+
+        // quartiles 5 and 17, i.e. fences at -13 and 35 and at -31 and 53
+        Statistics stats =
+            new BoxplotStatisticsCalculator(false).calculateMultiple(table, new String[]{"value"}, createExec())
+                .get("value");
+        assertThat(stats.getMin(), is(-20d));
+        assertThat(stats.getMax(), is(60d));
+        assertThat(stats.getLowerQuartile(), is(5d));
+        assertThat(stats.getMedian(), is(11d));
+        assertThat(stats.getUpperQuartile(), is(17d));
+        assertThat(stats.getLowerWhisker(), is(1d));
+        assertThat(stats.getUpperWhisker(), is(20d));
+        assertThat(valuesOf(stats.getMildOutliers()), is(new double[]{-20, 40}));
+        assertThat(keysOf(stats.getMildOutliers()), arrayContaining("Row0", "Row21"));
+        assertThat(valuesOf(stats.getExtremeOutliers()), is(new double[]{60}));
+        assertThat(keysOf(stats.getExtremeOutliers()), arrayContaining("Row22"));
+    }
+
+    /**
+     * Checks that missing values, NaN and infinite values are ignored and counted, that columns without valid values are
+     * excluded and that special doubles fail the calculation if requested.
+     */
+    @Test
+    public void testMissingAndSpecialValues() throws Exception {
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("missing", DoubleCell.TYPE).createSpec());
+        ExecutionContext exec = createExec();
+        BufferedDataContainer container = exec.createDataContainer(spec);
+        DataCell[] cells = {new DoubleCell(1), DataType.getMissingCell(), new DoubleCell(Double.NaN),
+            new DoubleCell(3), new DoubleCell(Double.POSITIVE_INFINITY), new DoubleCell(2)};
+        for (int i = 0; i < cells.length; i++) {
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), cells[i], DataType.getMissingCell()));
+        }
+        container.close();
+        BufferedDataTable table = container.getTable();
+
+        BoxplotStatisticsCalculator calculator = new BoxplotStatisticsCalculator(false);
+        LinkedHashMap<String, Statistics> stats =
+            calculator.calculateMultiple(table, new String[]{"value", "missing"}, exec);
+        assertThat(stats.keySet().toArray(), is(new Object[]{"value"}));
+        assertThat(stats.get("value").getMin(), is(1d));
+        assertThat(stats.get("value").getMedian(), is(2d));
+        assertThat(stats.get("value").getMax(), is(3d));
+        assertThat(calculator.getExcludedDataCols(), is(new String[]{"missing"}));
+        assertThat(calculator.getNumMissValPerCol().get("value"), is(3L));
+        assertThat(calculator.getNumMissValPerCol().get("missing"), is(nullValue()));
+
+        try {
+            new BoxplotStatisticsCalculator(true).calculateMultiple(table, new String[]{"value"}, exec);
+            throw new AssertionError("Special double did not fail the calculation");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().contains("NaN"), is(true));
+        }
+    }
+
+    /**
+     * Checks the grouping by class, including the class of rows with a missing category.
+     */
+    @Test
+    public void testConditional() throws Exception {
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("class", StringCell.TYPE).createSpec());
+        ExecutionContext exec = createExec();
+        BufferedDataContainer container = exec.createDataContainer(spec);
+        String[] classes = {"a", "b", null, "a", "b", "a"};
+        double[] values = {1, 10, 5, 3, Double.NaN, 2};
+        for (int i = 0; i < values.length; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), toCell(values[i]),
+                classes[i] == null ? DataType.getMissingCell() : new StringCell(classes[i])));
+        }
+        container.close();
+
+        BoxplotStatisticsCalculator calculator = new BoxplotStatisticsCalculator(false);
+        LinkedHashMap<String, Statistics> stats = calculator
+            .calculateMultipleConditional(container.getTable(), "class", new String[]{"value"}, exec).get("value");
+        assertThat(stats.keySet().toArray(),
+            is(new Object[]{"a", "b", BoxplotStatisticsCalculator.MISSING_VALUES_CLASS}));
+        assertThat(stats.get("a").getMedian(), is(2d));
+        assertThat(stats.get("b").getMedian(), is(10d));
+        assertThat(stats.get(BoxplotStatisticsCalculator.MISSING_VALUES_CLASS).getMedian(), is(5d));
+        assertThat(calculator.getIgnoredMissVals().get("value").get("b"), is(1L));
+        assertThat(calculator.getExcludedClasses().get("value"), is(emptyArray()));
+    }
+
+    /**
+     * Checks the estimated quantiles of the sketch below and well above the size of a level.
+     */
+    @Test
+    public void testQuantileSketch() {
+        QuantileSketch small = new QuantileSketch();
+        for (int i = 100; i >= 1; i--) {
+            small.update(i);
+        }
+        assertThat(small.quantiles(0.25, 0.5, 0.75), is(new double[]{25, 50, 75}));
+
+        int n = 100 * QuantileSketch.K;
+        double[] values = shuffledRange(n, new Random(42));
+        QuantileSketch sketch = new QuantileSketch();
+        for (double value : values) {
+            sketch.update(value);
+        }
+        double[] quartiles = sketch.quantiles(0.25, 0.5, 0.75);
+        assertThat(quartiles[0], closeTo(0.25 * n, 0.01 * n));
+        assertThat(quartiles[1], closeTo(0.5 * n, 0.01 * n));
+        assertThat(quartiles[2], closeTo(0.75 * n, 0.01 * n));
+    }
+
+    /**
+     * Checks that a table exceeding the budget of exact values is processed with sketches, estimating the quartiles
+     * and collecting the outliers in a second pass.
+     */
+    @Test
+    public void testSketchAboveThreshold() throws Exception {
+        int n = 10 * QuantileSketch.K;
+        double[] values = Arrays.copyOf(shuffledRange(n, new Random(42)), n + 2);
+        values[n] = 10 * n;
+        values[n + 1] = -10 * n;
+        BufferedDataTable table = createTable(values);
+
+        // the budget is smaller than the number of values and rows
+        Statistics stats = new BoxplotStatisticsCalculator(false, 2L * n)
+            .calculateMultiple(table, new String[]{"value"}, createExec()).get("value");
+        assertThat(stats.getMin(), is(-10d * n));
+        assertThat(stats.getMax(), is(10d * n));
+        assertThat(stats.getLowerQuartile(), closeTo(0.25 * n, 0.01 * n));
+        assertThat(stats.getMedian(), closeTo(0.5 * n, 0.01 * n));
+        assertThat(stats.getUpperQuartile(), closeTo(0.75 * n, 0.01 * n));
+        assertThat(stats.getLowerWhisker(), is(0d));
+        assertThat(stats.getUpperWhisker(), is(n - 1d));
+        assertThat(stats.getMildOutliers(), is(emptyArray()));
+        assertThat(keysOf(stats.getExtremeOutliers()), arrayContaining("Row" + (n + 1), "Row" + n));
+    }
+
+    /**
+     * Compares the statistics to the ones of the {@link BoxplotCalculator} used before.
+     */
+    @Test
+    public void testParityWithBoxplotCalculator() throws Exception {
+        Random random = new Random(42);
+        double[] values = new double[1000];
+        double[] other = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round(random.nextGaussian() * 100) / 10.0;
+            other[i] = i % 50 == 0 ? 1000 * random.nextDouble() : random.nextInt(100);
+        }
+        BufferedDataTable table = createTable(values, other);
+        String[] columns = {"value", "value1"};
+        ExecutionContext exec = createExec();
+
+        LinkedHashMap<String, BoxplotStatistics> expected =
+            new BoxplotCalculator().calculateMultiple(table, columns, false, exec);
+        LinkedHashMap<String, Statistics> actual =
+            new BoxplotStatisticsCalculator(false).calculateMultiple(table, columns, exec);
+        for (String column : columns) {
+            BoxplotStatistics e = expected.get(column);
+            Statistics a = actual.get(column);
+            assertThat(column, a.getMin(), closeTo(e.getMin(), EPSILON));
+            assertThat(column, a.getMax(), closeTo(e.getMax(), EPSILON));
+            assertThat(column, a.getLowerWhisker(), closeTo(e.getLowerWhisker(), EPSILON));
+            assertThat(column, a.getLowerQuartile(), closeTo(e.getLowerQuartile(), EPSILON));
+            assertThat(column, a.getMedian(), closeTo(e.getMedian(), EPSILON));
+            assertThat(column, a.getUpperQuartile(), closeTo(e.getUpperQuartile(), EPSILON));
+            assertThat(column, a.getUpperWhisker(), closeTo(e.getUpperWhisker(), EPSILON));
+            assertThat(column, a.getMildOutliers().length, is(e.getMildOutliers().size()));
+            assertThat(column, a.getExtremeOutliers().length, is(e.getExtremeOutliers().size()));
+        }
+    }
+
+    private static double quantile(final double[] values, final double p) {
+        double[] copy = values.clone();
+        return BoxplotStatisticsCalculator.quantile(copy, null, copy.length, p);
+    }
+
+    private static double[] shuffledRange(final int n, final Random random) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        return values;
+    }
+
+    private static double[] valuesOf(final Outlier[] outliers) {
+        return Arrays.stream(outliers).mapToDouble(Outlier::getValue).sorted().toArray();
+    }
+
+    private static String[] keysOf(final Outlier[] outliers) {
+        return Arrays.stream(outliers).sorted((a, b) -> Double.compare(a.getValue(), b.getValue()))
+            .map(Outlier::getRowKey).toArray(String[]::new);
+    }
+
+    private static DataCell toCell(final double value) {
+        // NaN stands for a missing cell, special doubles are created explicitly
+        return Double.isNaN(value) ? DataType.getMissingCell() : new DoubleCell(value);
+    }
+
+    /** Creates a table with a double column per array, named "value", "value1", ... */
+    private static BufferedDataTable createTable(final double[]... columns) throws Exception {
+        DataTableSpec spec = new DataTableSpec(IntStream.range(0, columns.length)
+            .mapToObj(c -> new DataColumnSpecCreator(c == 0 ? "value" : "value" + c, DoubleCell.TYPE).createSpec())
+            .toArray(DataColumnSpec[]::new));
+        BufferedDataContainer container = createExec().createDataContainer(spec);
+        for (int i = 0; i < columns[0].length; i++) {
+            final int row = i;
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i),
+                Arrays.stream(columns).map(c -> toCell(c[row])).toArray(DataCell[]::new)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ExecutionContext createExec() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory<NodeModel>)(NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(
+                new PortType[0])), MemoryPolicy.CacheOnDisc, new HashMap<>());
+    }
+}
@@ -2,14 +2,13 @@
 
 import java.util.LinkedHashMap;
 
-import org.knime.base.node.viz.plotter.box.BoxplotCalculator;
-import org.knime.base.node.viz.plotter.box.BoxplotStatistics;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.port.PortObject;
+import org.knime.dynamic.js.base.boxplot.BoxplotStatisticsCalculator.Statistics;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicJSProcessor;
 
@@ -25,7 +24,6 @@ public class BoxplotProcessor_v2 implements DynamicJSProcessor {
     public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exec, DynamicJSConfig config)
         throws Exception {
         BufferedDataTable dt = (BufferedDataTable)inObjects[0];
-        BoxplotCalculator bc = new BoxplotCalculator();
 
         String[] numColumns =
             ((SettingsModelColumnFilter2)config.getModel("columns")).applyTo(dt.getDataTableSpec()).getIncludes();
@@ -35,7 +33,9 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
         boolean failOnSpecialDoubles =
             ((SettingsModelBoolean)config.getModel("failOnSpecialDoubles")).getBooleanValue();
 
-        BoxPlotResult res = new BoxPlotResult(bc.calculateMultiple(dt, numColumns, failOnSpecialDoubles, exec),
+        // single scan of the table, statistics of the columns are computed in parallel
+        BoxplotStatisticsCalculator bc = new BoxplotStatisticsCalculator(failOnSpecialDoubles);
+        BoxPlotResult res = new BoxPlotResult(bc.calculateMultiple(dt, numColumns, exec),
             bc.getExcludedDataCols(), bc.getNumMissValPerCol());
         return new Object[]{res};
 
@@ -44,7 +44,7 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
     @SuppressWarnings("javadoc")
     @JsonAutoDetect
     public static class BoxPlotResult {
-        public LinkedHashMap<String, BoxplotStatistics> m_stats;
+        public LinkedHashMap<String, Statistics> m_stats;
 
         public String[] m_excludedDataCols;
 
@@ -53,14 +53,14 @@ public static class BoxPlotResult {
         /**
          * @return the stats
          */
-        public LinkedHashMap<String, BoxplotStatistics> getStats() {
+        public LinkedHashMap<String, Statistics> getStats() {
             return m_stats;
         }
 
         /**
          * @param stats the stats to set
          */
-        public void setStats(LinkedHashMap<String, BoxplotStatistics> stats) {
+        public void setStats(LinkedHashMap<String, Statistics> stats) {
             this.m_stats = stats;
         }
 
@@ -97,7 +97,7 @@ public void setNumMissValPerCol(LinkedHashMap<String, Long> numMissValPerCol) {
          * @param excludedDataCols
          * @param numMissValPerCol
          */
-        public BoxPlotResult(LinkedHashMap<String, BoxplotStatistics> stats, String[] excludedDataCols,
+        public BoxPlotResult(LinkedHashMap<String, Statistics> stats, String[] excludedDataCols,
             LinkedHashMap<String, Long> numMissValPerCol) {
             super();
             m_stats = stats;
@@ -0,0 +1,762 @@
+package org.knime.dynamic.js.base.boxplot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+
+/**
+ * Calculates the boxplot statistics of several numeric columns, optionally per class of a category column.
+ *
+ * <p>
+ * The table is scanned once. If all values fit into the memory budget they are kept in primitive buffers per column
+ * (and class) and the quartiles are found by exact selection. Otherwise the quartiles are estimated by quantile
+ * sketches and the outliers and whiskers are collected in a second pass. The statistics of the columns and classes
+ * are computed in parallel.
+ *
+ * <p>
+ * Missing values and special doubles (NaN and infinity) are ignored and counted. Columns and classes without any
+ * valid value are excluded.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BoxplotStatisticsCalculator {
+
+    /** Name of the class of rows whose category is missing. */
+    public static final String MISSING_VALUES_CLASS = "Missing values";
+
+    /**
+     * System property limiting the number of values and rows kept in memory for the exact calculation, larger tables
+     * are processed with quantile sketches.
+     */
+    public static final String EXACT_VALUES_PROPERTY = "knime.js.boxplot.exact.values";
+
+    static final long DEFAULT_EXACT_VALUES = 10_000_000L;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final boolean m_failOnSpecialDoubles;
+
+    private final long m_maxExactValues;
+
+    private String[] m_excludedDataCols = new String[0];
+
+    private LinkedHashMap<String, Long> m_numMissValPerCol = new LinkedHashMap<>();
+
+    private LinkedHashMap<String, String[]> m_excludedClasses = new LinkedHashMap<>();
+
+    private LinkedHashMap<String, LinkedHashMap<String, Long>> m_ignoredMissVals = new LinkedHashMap<>();
+
+    /**
+     * Creates a calculator whose memory budget is read from {@value #EXACT_VALUES_PROPERTY}.
+     *
+     * @param failOnSpecialDoubles whether to fail on NaN and infinite values instead of ignoring them
+     */
+    public BoxplotStatisticsCalculator(final boolean failOnSpecialDoubles) {
+        this(failOnSpecialDoubles, Long.getLong(EXACT_VALUES_PROPERTY, DEFAULT_EXACT_VALUES));
+    }
+
+    /**
+     * @param failOnSpecialDoubles whether to fail on NaN and infinite values instead of ignoring them
+     * @param maxExactValues the maximum number of values and rows kept in memory for the exact calculation
+     */
+    public BoxplotStatisticsCalculator(final boolean failOnSpecialDoubles, final long maxExactValues) {
+        m_failOnSpecialDoubles = failOnSpecialDoubles;
+        m_maxExactValues = maxExactValues;
+    }
+
+    /**
+     * Calculates the boxplot statistics of the given columns.
+     *
+     * @param table the input table
+     * @param columns the numeric columns
+     * @param exec the execution monitor
+     * @return the statistics per column, excluded columns are not contained
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public LinkedHashMap<String, Statistics> calculateMultiple(final BufferedDataTable table, final String[] columns,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        List<String> classes = new ArrayList<>();
+        List<List<Group>> groups = scan(table, columns, null, classes, exec);
+        LinkedHashMap<String, Statistics> stats = new LinkedHashMap<>();
+        List<String> excluded = new ArrayList<>();
+        m_numMissValPerCol = new LinkedHashMap<>();
+        for (int c = 0; c < columns.length; c++) {
+            Group group = groups.get(c).get(0);
+            if (group.m_statistics == null) {
+                excluded.add(columns[c]);
+                continue;
+            }
+            stats.put(columns[c], group.m_statistics);
+            if (group.m_numIgnored > 0) {
+                m_numMissValPerCol.put(columns[c], group.m_numIgnored);
+            }
+        }
+        m_excludedDataCols = excluded.toArray(new String[0]);
+        return stats;
+    }
+
+    /**
+     * Calculates the boxplot statistics of the given columns per class of the category column.
+     *
+     * @param table the input table
+     * @param classColumn the category column
+     * @param columns the numeric columns
+     * @param exec the execution monitor
+     * @return the statistics per column and class, excluded classes are not contained
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public LinkedHashMap<String, LinkedHashMap<String, Statistics>> calculateMultipleConditional(
+        final BufferedDataTable table, final String classColumn, final String[] columns, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        List<String> classes = new ArrayList<>();
+        DataColumnSpec classSpec = table.getDataTableSpec().getColumnSpec(classColumn);
+        if (classSpec.getDomain().hasValues()) {
+            // classes in domain order, classes not contained in the domain are added in the order of occurrence
+            classSpec.getDomain().getValues().forEach(v -> classes.add(v.toString()));
+        }
+        List<List<Group>> groups = scan(table, columns, classColumn, classes, exec);
+        LinkedHashMap<String, LinkedHashMap<String, Statistics>> stats = new LinkedHashMap<>();
+        m_excludedClasses = new LinkedHashMap<>();
+        m_ignoredMissVals = new LinkedHashMap<>();
+        for (int c = 0; c < columns.length; c++) {
+            LinkedHashMap<String, Statistics> columnStats = new LinkedHashMap<>();
+            List<String> excluded = new ArrayList<>();
+            LinkedHashMap<String, Long> ignored = new LinkedHashMap<>();
+            List<Group> columnGroups = groups.get(c);
+            for (int k = 0; k < classes.size(); k++) {
+                Group group = columnGroups.get(k);
+                if (group.m_numValues == 0 && group.m_numIgnored == 0) {
+                    // class only contained in the domain
+                    continue;
+                }
+                if (group.m_statistics == null) {
+                    excluded.add(classes.get(k));
+                    continue;
+                }
+                columnStats.put(classes.get(k), group.m_statistics);
+                if (group.m_numIgnored > 0) {
+                    ignored.put(classes.get(k), group.m_numIgnored);
+                }
+            }
+            stats.put(columns[c], columnStats);
+            m_excludedClasses.put(columns[c], excluded.toArray(new String[0]));
+            m_ignoredMissVals.put(columns[c], ignored);
+        }
+        return stats;
+    }
+
+    /**
+     * @return the columns excluded by the last non-conditional calculation because they contain no valid value
+     */
+    public String[] getExcludedDataCols() {
+        return m_excludedDataCols;
+    }
+
+    /**
+     * @return the number of ignored missing values and special doubles per column of the last non-conditional
+     *         calculation
+     */
+    public LinkedHashMap<String, Long> getNumMissValPerCol() {
+        return m_numMissValPerCol;
+    }
+
+    /**
+     * @return the classes per column excluded by the last conditional calculation because they contain no valid value
+     */
+    public LinkedHashMap<String, String[]> getExcludedClasses() {
+        return m_excludedClasses;
+    }
+
+    /**
+     * @return the number of ignored missing values and special doubles per column and class of the last conditional
+     *         calculation
+     */
+    public LinkedHashMap<String, LinkedHashMap<String, Long>> getIgnoredMissVals() {
+        return m_ignoredMissVals;
+    }
+
+    /**
+     * Scans the table and computes the statistics of all groups.
+     *
+     * @param classColumn the category column or <code>null</code> if the statistics are not conditional
+     * @param classes the known classes, extended by the classes found in the table
+     * @return the groups per column and class index
+     */
+    private List<List<Group>> scan(final BufferedDataTable table, final String[] columns, final String classColumn,
+        final List<String> classes, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int numColumns = columns.length;
+        final int[] colIndices = new int[numColumns];
+        for (int c = 0; c < numColumns; c++) {
+            colIndices[c] = spec.findColumnIndex(columns[c]);
+        }
+        final int classIndex = classColumn == null ? -1 : spec.findColumnIndex(classColumn);
+        final Map<String, Integer> classIndices = new HashMap<>();
+        for (int k = 0; k < classes.size(); k++) {
+            classIndices.put(classes.get(k), k);
+        }
+        int[] materialized = Arrays.copyOf(colIndices, numColumns + (classIndex < 0 ? 0 : 1));
+        if (classIndex >= 0) {
+            materialized[numColumns] = classIndex;
+        }
+
+        final long numRows = table.size();
+        // the exact calculation keeps all values and the key of each row
+        final boolean exact = numRows * (numColumns + 1L) <= m_maxExactValues;
+        final List<List<Group>> groups = new ArrayList<>();
+        for (int c = 0; c < numColumns; c++) {
+            groups.add(new ArrayList<>());
+        }
+        addGroups(groups, classes.size(), exact);
+        final List<String> rowKeys = exact ? new ArrayList<>() : null;
+        final double[][] values = new double[numColumns][CHUNK_SIZE];
+        final int[] rowClasses = new int[CHUNK_SIZE];
+        final String[] chunkKeys = exact ? null : new String[CHUNK_SIZE];
+
+        ExecutionMonitor scanExec = exec.createSubProgress(exact ? 0.9 : 0.45);
+        long rowIndex = 0;
+        try (CloseableRowIterator iterator = table.filter(TableFilter.materializeCols(materialized))) {
+            while (iterator.hasNext()) {
+                exec.checkCanceled();
+                final int chunkSize = readChunk(iterator, columns, colIndices, classIndex, classIndices, classes,
+                    values, rowClasses, rowKeys, null);
+                addGroups(groups, classes.size(), exact);
+                final long firstRow = rowIndex;
+                IntStream.range(0, numColumns).parallel().forEach(c -> {
+                    List<Group> columnGroups = groups.get(c);
+                    double[] columnValues = values[c];
+                    for (int i = 0; i < chunkSize; i++) {
+                        columnGroups.get(rowClasses[i]).add(columnValues[i], firstRow + i);
+                    }
+                });
+                rowIndex += chunkSize;
+                scanExec.setProgress(rowIndex / (double)numRows);
+            }
+        }
+
+        List<Group> allGroups = new ArrayList<>();
+        groups.forEach(allGroups::addAll);
+        if (exact) {
+            final String[] keys = rowKeys.toArray(new String[0]);
+            allGroups.parallelStream().forEach(g -> g.computeExact(keys));
+            exec.setProgress(1);
+            return groups;
+        }
+
+        // second pass over the table collects the outliers and whiskers for the estimated quartiles
+        allGroups.parallelStream().forEach(Group::estimateQuartiles);
+        ExecutionMonitor outlierExec = exec.createSubProgress(0.55);
+        rowIndex = 0;
+        try (CloseableRowIterator iterator = table.filter(TableFilter.materializeCols(materialized))) {
+            while (iterator.hasNext()) {
+                exec.checkCanceled();
+                final int chunkSize = readChunk(iterator, columns, colIndices, classIndex, classIndices, classes,
+                    values, rowClasses, null, chunkKeys);
+                IntStream.range(0, numColumns).parallel().forEach(c -> {
+                    List<Group> columnGroups = groups.get(c);
+                    double[] columnValues = values[c];
+                    for (int i = 0; i < chunkSize; i++) {
+                        columnGroups.get(rowClasses[i]).collect(columnValues[i], chunkKeys, i);
+                    }
+                });
+                rowIndex += chunkSize;
+                outlierExec.setProgress(rowIndex / (double)numRows);
+            }
+        }
+        allGroups.forEach(Group::finish);
+        return groups;
+    }
+
+    /** Adds the groups of classes found in the last chunk, statistics that are not conditional have one group. */
+    private static void addGroups(final List<List<Group>> groups, final int numClasses, final boolean exact) {
+        for (List<Group> columnGroups : groups) {
+            while (columnGroups.size() < Math.max(1, numClasses)) {
+                columnGroups.add(new Group(exact));
+            }
+        }
+    }
+
+    /**
+     * Reads the next chunk of rows. Missing values and special doubles are stored as NaN.
+     *
+     * @return the number of rows read
+     */
+    private int readChunk(final CloseableRowIterator iterator, final String[] columns, final int[] colIndices,
+        final int classIndex,
+        final Map<String, Integer> classIndices, final List<String> classes, final double[][] values,
+        final int[] rowClasses, final List<String> rowKeys, final String[] chunkKeys) {
+        int n = 0;
+        while (n < CHUNK_SIZE && iterator.hasNext()) {
+            DataRow row = iterator.next();
+            for (int c = 0; c < colIndices.length; c++) {
+                DataCell cell = row.getCell(colIndices[c]);
+                double value = Double.NaN;
+                if (!cell.isMissing()) {
+                    value = ((DoubleValue)cell).getDoubleValue();
+                    if (Double.isNaN(value) || Double.isInfinite(value)) {
+                        if (m_failOnSpecialDoubles) {
+                            throw new IllegalArgumentException("Column '" + columns[c]
+                                + "' contains the special double value " + value + " in row '" + row.getKey()
+                                + "'.");
+                        }
+                        value = Double.NaN;
+                    }
+                }
+                values[c][n] = value;
+            }
+            if (classIndex >= 0) {
+                DataCell classCell = row.getCell(classIndex);
+                String className = classCell.isMissing() ? MISSING_VALUES_CLASS : classCell.toString();
+                rowClasses[n] = classIndices.computeIfAbsent(className, k -> {
+                    classes.add(k);
+                    return classes.size() - 1;
+                });
+            }
+            if (rowKeys != null) {
+                rowKeys.add(row.getKey().getString());
+            }
+            if (chunkKeys != null) {
+                chunkKeys[n] = row.getKey().getString();
+            }
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Selects the k-th smallest of the first n values, i.e. afterwards <code>values[k]</code> is the k-th smallest
+     * value, all values before are smaller or equal and all values after are larger or equal. The row indices are
+     * permuted along with the values.
+     */
+    static void select(final double[] values, final int[] rows, final int n, final int k) {
+        int lo = 0;
+        int hi = n - 1;
+        while (hi > lo) {
+            int mid = (lo + hi) >>> 1;
+            double pivot = medianOfThree(values[lo], values[mid], values[hi]);
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, rows, i++, j--);
+                }
+            }
+            // [lo, j] <= pivot, (j, i) == pivot, [i, hi] >= pivot
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Computes a quantile of the first n values by selection, interpolating between the order statistics around
+     * position <code>p * (n + 1)</code>.
+     */
+    static double quantile(final double[] values, final int[] rows, final int n, final double p) {
+        double pos = p * (n + 1);
+        if (pos < 1) {
+            select(values, rows, n, 0);
+            return values[0];
+        }
+        if (pos >= n) {
+            select(values, rows, n, n - 1);
+            return values[n - 1];
+        }
+        int lower = (int)Math.floor(pos) - 1;
+        select(values, rows, n, lower);
+        double lowerValue = values[lower];
+        double fraction = pos - Math.floor(pos);
+        if (fraction == 0) {
+            return lowerValue;
+        }
+        // after the selection the next order statistic is the smallest of the following values
+        double upperValue = Double.POSITIVE_INFINITY;
+        for (int i = lower + 1; i < n; i++) {
+            upperValue = Math.min(upperValue, values[i]);
+        }
+        return lowerValue + fraction * (upperValue - lowerValue);
+    }
+
+    private static double medianOfThree(final double a, final double b, final double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(final double[] values, final int[] rows, final int i, final int j) {
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        if (rows != null) {
+            int row = rows[i];
+            rows[i] = rows[j];
+            rows[j] = row;
+        }
+    }
+
+    /** The values of one column and class. */
+    private static final class Group {
+
+        private final boolean m_exact;
+
+        private double[] m_values;
+
+        private int[] m_rows;
+
+        private QuantileSketch m_sketch;
+
+        private long m_numValues;
+
+        private long m_numIgnored;
+
+        private double m_min = Double.POSITIVE_INFINITY;
+
+        private double m_max = Double.NEGATIVE_INFINITY;
+
+        private double m_lowerQuartile;
+
+        private double m_median;
+
+        private double m_upperQuartile;
+
+        private double m_lowerWhisker = Double.POSITIVE_INFINITY;
+
+        private double m_upperWhisker = Double.NEGATIVE_INFINITY;
+
+        private final List<Outlier> m_mildOutliers = new ArrayList<>();
+
+        private final List<Outlier> m_extremeOutliers = new ArrayList<>();
+
+        private Statistics m_statistics;
+
+        Group(final boolean exact) {
+            m_exact = exact;
+            if (exact) {
+                m_values = new double[16];
+                m_rows = new int[16];
+            } else {
+                m_sketch = new QuantileSketch();
+            }
+        }
+
+        void add(final double value, final long row) {
+            if (Double.isNaN(value)) {
+                m_numIgnored++;
+                return;
+            }
+            m_min = Math.min(m_min, value);
+            m_max = Math.max(m_max, value);
+            if (m_exact) {
+                int n = (int)m_numValues;
+                if (n == m_values.length) {
+                    m_values = Arrays.copyOf(m_values, 2 * n);
+                    m_rows = Arrays.copyOf(m_rows, 2 * n);
+                }
+                m_values[n] = value;
+                m_rows[n] = (int)row;
+            } else {
+                m_sketch.update(value);
+            }
+            m_numValues++;
+        }
+
+        void computeExact(final String[] rowKeys) {
+            int n = (int)m_numValues;
+            if (n > 0) {
+                m_median = quantile(m_values, m_rows, n, 0.5);
+                m_lowerQuartile = quantile(m_values, m_rows, n, 0.25);
+                m_upperQuartile = quantile(m_values, m_rows, n, 0.75);
+                String[] keys = new String[1];
+                for (int i = 0; i < n; i++) {
+                    keys[0] = rowKeys[m_rows[i]];
+                    collect(m_values[i], keys, 0);
+                }
+            }
+            finish();
+        }
+
+        void estimateQuartiles() {
+            if (m_numValues > 0) {
+                double[] quartiles = m_sketch.quantiles(0.25, 0.5, 0.75);
+                m_lowerQuartile = quartiles[0];
+                m_median = quartiles[1];
+                m_upperQuartile = quartiles[2];
+            }
+            m_sketch = null;
+        }
+
+        void collect(final double value, final String[] rowKeys, final int keyIndex) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            double iqr = m_upperQuartile - m_lowerQuartile;
+            if (value < m_lowerQuartile - 1.5 * iqr) {
+                Outlier outlier = new Outlier(value, rowKeys[keyIndex]);
+                if (value < m_lowerQuartile - 3 * iqr) {
+                    m_extremeOutliers.add(outlier);
+                } else {
+                    m_mildOutliers.add(outlier);
+                }
+            } else if (value > m_upperQuartile + 1.5 * iqr) {
+                Outlier outlier = new Outlier(value, rowKeys[keyIndex]);
+                if (value > m_upperQuartile + 3 * iqr) {
+                    m_extremeOutliers.add(outlier);
+                } else {
+                    m_mildOutliers.add(outlier);
+                }
+            } else {
+                m_lowerWhisker = Math.min(m_lowerWhisker, value);
+                m_upperWhisker = Math.max(m_upperWhisker, value);
+            }
+        }
+
+        void finish() {
+            if (m_numValues > 0) {
+                // the estimated quartiles of a sketch might leave no value inside the fences
+                double lowerWhisker = m_lowerWhisker <= m_lowerQuartile ? m_lowerWhisker : m_lowerQuartile;
+                double upperWhisker = m_upperWhisker >= m_upperQuartile ? m_upperWhisker : m_upperQuartile;
+                m_statistics = new Statistics(m_min, m_max, lowerWhisker, m_lowerQuartile, m_median,
+                    m_upperQuartile, upperWhisker, m_mildOutliers.toArray(new Outlier[0]),
+                    m_extremeOutliers.toArray(new Outlier[0]));
+            }
+            m_values = null;
+            m_rows = null;
+            m_sketch = null;
+        }
+    }
+
+    /**
+     * Quantile sketch of a stream of values in bounded memory. Values are kept in levels of at most {@link #K}
+     * values, a full level is sorted and every other value is promoted to the next level with twice the weight.
+     */
+    static final class QuantileSketch {
+
+        static final int K = 1024;
+
+        private double[][] m_levels = new double[][]{new double[K]};
+
+        private int[] m_sizes = new int[1];
+
+        // alternates the promoted values instead of choosing them randomly to keep the estimate deterministic
+        private boolean m_odd;
+
+        void update(final double value) {
+            add(0, value);
+        }
+
+        private void add(final int level, final double value) {
+            if (level == m_levels.length) {
+                m_levels = Arrays.copyOf(m_levels, level + 1);
+                m_levels[level] = new double[K];
+                m_sizes = Arrays.copyOf(m_sizes, level + 1);
+            }
+            m_levels[level][m_sizes[level]++] = value;
+            if (m_sizes[level] == K) {
+                double[] full = m_levels[level];
+                Arrays.sort(full);
+                m_levels[level] = new double[K];
+                m_sizes[level] = 0;
+                for (int i = m_odd ? 1 : 0; i < K; i += 2) {
+                    add(level + 1, full[i]);
+                }
+                m_odd = !m_odd;
+            }
+        }
+
+        /**
+         * @param ps the probabilities in ascending order
+         * @return the estimated quantiles
+         */
+        double[] quantiles(final double... ps) {
+            int size = 0;
+            for (int s : m_sizes) {
+                size += s;
+            }
+            double[] values = new double[size];
+            long[] weights = new long[size];
+            int n = 0;
+            for (int level = 0; level < m_levels.length; level++) {
+                for (int i = 0; i < m_sizes[level]; i++) {
+                    values[n] = m_levels[level][i];
+                    weights[n++] = 1L << level;
+                }
+            }
+            Integer[] order = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+            long totalWeight = 0;
+            for (long w : weights) {
+                totalWeight += w;
+            }
+            double[] quantiles = new double[ps.length];
+            long cumulative = 0;
+            int q = 0;
+            for (int i = 0; i < size && q < ps.length; i++) {
+                cumulative += weights[order[i]];
+                while (q < ps.length && cumulative >= ps[q] * totalWeight) {
+                    quantiles[q++] = values[order[i]];
+                }
+            }
+            while (q < ps.length) {
+                quantiles[q++] = values[order[size - 1]];
+            }
+            return quantiles;
+        }
+    }
+
+    /**
+     * Boxplot statistics of a column or of a class of a column, serialized to the view.
+     */
+    @JsonAutoDetect
+    public static final class Statistics {
+
+        private final double m_min;
+
+        private final double m_max;
+
+        private final double m_lowerWhisker;
+
+        private final double m_lowerQuartile;
+
+        private final double m_median;
+
+        private final double m_upperQuartile;
+
+        private final double m_upperWhisker;
+
+        private final Outlier[] m_mildOutliers;
+
+        private final Outlier[] m_extremeOutliers;
+
+        Statistics(final double min, final double max, final double lowerWhisker, final double lowerQuartile,
+            final double median, final double upperQuartile, final double upperWhisker, final Outlier[] mildOutliers,
+            final Outlier[] extremeOutliers) {
+            m_min = min;
+            m_max = max;
+            m_lowerWhisker = lowerWhisker;
+            m_lowerQuartile = lowerQuartile;
+            m_median = median;
+            m_upperQuartile = upperQuartile;
+            m_upperWhisker = upperWhisker;
+            m_mildOutliers = mildOutliers;
+            m_extremeOutliers = extremeOutliers;
+        }
+
+        /**
+         * @return the minimum
+         */
+        public double getMin() {
+            return m_min;
+        }
+
+        /**
+         * @return the maximum
+         */
+        public double getMax() {
+            return m_max;
+        }
+
+        /**
+         * @return the smallest value that is not an outlier
+         */
+        public double getLowerWhisker() {
+            return m_lowerWhisker;
+        }
+
+        /**
+         * @return the lower quartile
+         */
+        public double getLowerQuartile() {
+            return m_lowerQuartile;
+        }
+
+        /**
+         * @return the median
+         */
+        public double getMedian() {
+            return m_median;
+        }
+
+        /**
+         * @return the upper quartile
+         */
+        public double getUpperQuartile() {
+            return m_upperQuartile;
+        }
+
+        /**
+         * @return the largest value that is not an outlier
+         */
+        public double getUpperWhisker() {
+            return m_upperWhisker;
+        }
+
+        /**
+         * @return the values between 1.5 and 3 interquartile ranges outside of the box
+         */
+        public Outlier[] getMildOutliers() {
+            return m_mildOutliers;
+        }
+
+        /**
+         * @return the values more than 3 interquartile ranges outside of the box
+         */
+        public Outlier[] getExtremeOutliers() {
+            return m_extremeOutliers;
+        }
+    }
+
+    /**
+     * An outlier value and the key of its row.
+     */
+    @JsonAutoDetect
+    public static final class Outlier {
+
+        private final double m_value;
+
+        private final String m_rowKey;
+
+        Outlier(final double value, final String rowKey) {
+            m_value = value;
+            m_rowKey = rowKey;
+        }
+
+        /**
+         * @return the value
+         */
+        public double getValue() {
+            return m_value;
+        }
+
+        /**
+         * @return the key of the row
+         */
+        public String getRowKey() {
+            return m_rowKey;
+        }
+    }
+}
@@ -2,8 +2,6 @@
 
 import java.util.LinkedHashMap;
 
-import org.knime.base.node.viz.plotter.box.BoxplotCalculator;
-import org.knime.base.node.viz.plotter.box.BoxplotStatistics;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -11,6 +9,7 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
+import org.knime.dynamic.js.base.boxplot.BoxplotStatisticsCalculator.Statistics;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicJSProcessor;
 
@@ -26,7 +25,6 @@ public class ConditionalBoxplotProcessor_v2 implements DynamicJSProcessor {
     public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exec, DynamicJSConfig config)
         throws Exception {
         BufferedDataTable dt = (BufferedDataTable)inObjects[0];
-        BoxplotCalculator bc = new BoxplotCalculator();
 
         String catCol = ((SettingsModelString)config.getModel("catCol")).getStringValue();
         if (catCol == null) {
@@ -43,8 +41,10 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
         boolean failOnSpecialDoubles =
             ((SettingsModelBoolean)config.getModel("failOnSpecialDoubles")).getBooleanValue();
 
-        LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> stats =
-            bc.calculateMultipleConditional(dt, catCol, numColumns, failOnSpecialDoubles, exec);
+        // single scan of the table, statistics of the columns and classes are computed in parallel
+        BoxplotStatisticsCalculator bc = new BoxplotStatisticsCalculator(failOnSpecialDoubles);
+        LinkedHashMap<String, LinkedHashMap<String, Statistics>> stats =
+            bc.calculateMultipleConditional(dt, catCol, numColumns, exec);
         CondBoxPlotResult res = new CondBoxPlotResult(stats, catCol, bc.getExcludedClasses(), bc.getIgnoredMissVals());
         return new Object[]{res, inObjects[1]};
     }
@@ -52,7 +52,7 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
     @SuppressWarnings("javadoc")
     @JsonAutoDetect
     public static class CondBoxPlotResult {
-        private LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> m_stats;
+        private LinkedHashMap<String, LinkedHashMap<String, Statistics>> m_stats;
 
         private String m_catCol;
 
@@ -63,14 +63,14 @@ public static class CondBoxPlotResult {
         /**
          * @return the stats
          */
-        public LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> getStats() {
+        public LinkedHashMap<String, LinkedHashMap<String, Statistics>> getStats() {
             return m_stats;
         }
 
         /**
          * @param stats the stats to set
          */
-        public void setStats(LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> stats) {
+        public void setStats(LinkedHashMap<String, LinkedHashMap<String, Statistics>> stats) {
             m_stats = stats;
         }
 
@@ -122,7 +122,7 @@ public void setIgnoredMissVals(LinkedHashMap<String, LinkedHashMap<String, Long>
          * @param excludedClasses
          * @param ignoredMissVals
          */
-        public CondBoxPlotResult(LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> stats, String catCol,
+        public CondBoxPlotResult(LinkedHashMap<String, LinkedHashMap<String, Statistics>> stats, String catCol,
             LinkedHashMap<String, String[]> excludedClasses,
             LinkedHashMap<String, LinkedHashMap<String, Long>> ignoredMissVals) {
             m_stats = stats;
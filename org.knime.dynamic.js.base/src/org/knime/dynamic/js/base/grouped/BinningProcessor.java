@@ -3,12 +3,16 @@
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.knime.base.node.preproc.autobinner.apply.AutoBinnerApply;
+import org.knime.base.node.preproc.autobinner.pmml.PMMLDiscretizeBin;
 import org.knime.base.node.preproc.autobinner.pmml.PMMLPreprocDiscretize;
 import org.knime.base.node.preproc.autobinner3.AutoBinner;
 import org.knime.base.node.preproc.autobinner3.AutoBinnerLearnSettings;
@@ -19,13 +23,14 @@
 import org.knime.base.node.preproc.autobinner3.AutoBinnerLearnSettings.PrecisionMode;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.StringValue;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
-import org.knime.core.data.def.IntCell.IntCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.data.def.StringCell.StringCellFactory;
-import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
@@ -33,11 +38,15 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
+import org.knime.core.node.property.hilite.HiLiteTranslator;
 import org.knime.core.node.util.filter.InputFilter;
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.util.UniqueNameGenerator;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.JSONDataTable.Builder;
+import org.knime.js.core.selections.json.JSONSelectionTranslator;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 
@@ -132,9 +141,9 @@ public boolean include(DataColumnSpec name) {
         List<String> binnedNames = op.getConfiguration().getNames();
         assert binnedNames.size() == 1;
         String binnedColName = binnedNames.get(0);
-        List<String> orderedBinNames = op.getConfiguration().getDiscretize(binnedColName).getBins().stream()
-            .map(e -> e.getBinValue()).collect(Collectors.toList());
-        boolean hasNaN = op.getConfiguration().getDiscretize(binnedColName).getBins().stream().anyMatch(bin -> {
+        List<PMMLDiscretizeBin> bins = op.getConfiguration().getDiscretize(binnedColName).getBins();
+        List<String> orderedBinNames = bins.stream().map(e -> e.getBinValue()).collect(Collectors.toList());
+        boolean hasNaN = bins.stream().anyMatch(bin -> {
             return bin.getIntervals().stream().anyMatch(interval -> {
                 double left = interval.getLeftMargin();
                 double right = interval.getRightMargin();
@@ -144,86 +153,89 @@ public boolean include(DataColumnSpec name) {
         if (hasNaN) {
             throw new IllegalArgumentException("Binning created NaN or infinity interval. Result invalid.");
         }
-        AutoBinnerApply applier = new AutoBinnerApply();
-        final ExecutionContext binExec = exec.createSubExecutionContext(0.4);
-        BufferedDataTable outData = applier.execute(op, table, binExec);
+        //Assign each row to its bin and aggregate the bins in a single scan
+        String method = getAggregationMethod(config);
+        String[] freqColumns = isCountMethod(method) ? new String[0] : getFrequencyColumns(table, config);
+        boolean enableSelection = ((SettingsModelBoolean)config.getModel("enableSelection")).getBooleanValue();
+        HistogramCalculator histogram = new HistogramCalculator(bins);
+        final ExecutionContext binExec = exec.createSubExecutionContext(0.8);
+        histogram.calculate(table, m_binColumn, freqColumns, enableSelection, binExec);
         binExec.setProgress(1.0);
 
-        //Group table with bin column according to user settings on GroupedProcessor
-        exec.setMessage("");
-        catCol.setStringValue(binnedColName);
-        final ExecutionContext groupExec = exec.createSubExecutionContext(0.4);
-        GroupingResult groupingResult = super.processInputObjects(new PortObject[]{outData}, groupExec, config, false);
-        groupExec.setProgress(1.0);
-        catCol.setStringValue(m_binColumn);
-        
-        //Add empty bins back to table
-        final BufferedDataTable groupedTable = groupingResult.getDataTable();
-        final int binIndex =
-            Arrays.asList(groupedTable.getDataTableSpec().getColumnNames()).indexOf(binnedColName);
-        if (orderedBinNames.size() != groupedTable.size()) {
-            BufferedDataContainer cont = exec.createDataContainer(groupedTable.getDataTableSpec(), false);
-            try {
-                List<String> containedBins = new ArrayList<String>((int)groupedTable.size());
-                groupedTable.forEach(row -> {
-                    DataCell binCell = row.getCell(binIndex);
-                    if (!binCell.isMissing()) {
-                        containedBins.add(((StringValue)binCell).getStringValue());
-                    }
-                    cont.addRowToTable(row);
-                });
-                final AtomicInteger emptyBinCounter = new AtomicInteger(0);
-                final String keyPrefix = "org.knime.dynamic.js.base.grouped.BinningProcessor - Empty bin ";
-                orderedBinNames.stream().filter(bin -> !containedBins.contains(bin)).forEach(row -> {
-                    List<DataCell> rowList = new ArrayList<DataCell>(groupedTable.getSpec().getNumColumns());
-                    for (int col = 0; col < groupedTable.getSpec().getNumColumns(); col++) {
-                        if (col == binIndex) {
-                            rowList.add(StringCellFactory.create(row));
-                        } else {
-                            rowList.add(IntCellFactory.create(0));
-                        }
-                    }
-                    cont.addRowToTable(new DefaultRow(keyPrefix + emptyBinCounter.getAndIncrement(), rowList));
-                });
-            } finally {
-                if (cont != null) {
-                    cont.close();
+        // Missing values processing
+        if (((SettingsModelBoolean)config.getModel("reportOnMissingValues")).getBooleanValue()) {
+            List<String> missingValues = new ArrayList<String>();
+            for (int i = 0; i < freqColumns.length; i++) {
+                if (histogram.getNumMissingValues(i) > 0) {
+                    missingValues.add(
+                        "    " + freqColumns[i] + " - " + histogram.getNumMissingValues(i) + " missing value(s)");
                 }
             }
-            if (cont != null) {
-                groupingResult.setDataTable(cont.getTable());
+            if (!missingValues.isEmpty()) {
+                setWarningMessage(
+                    "The following data columns have missing values, which were ignored during the aggregation:\n"
+                        + String.join(",\n", missingValues));
             }
         }
-        //Make sure bins are sorted correctly in output table
-        exec.setMessage("Sorting histogram table...");
-        Comparator<DataRow> comp = new Comparator<DataRow>() {
 
-            @Override
-            public int compare(DataRow o1, DataRow o2) {
-                final DataCell c1 = o1.getCell(binIndex);
-                final DataCell c2 = o2.getCell(binIndex);
-                if (!c1.isMissing() && !c2.isMissing()) {
-                    int bin1 = orderedBinNames.indexOf(((StringCell)c1).getStringValue());
-                    int bin2 = orderedBinNames.indexOf(((StringCell)c2).getStringValue());
-                    return Integer.compare(bin1, bin2);
-                } else if (c1.isMissing() && !c2.isMissing()) {
-                    return 1;
-                } else if (!c1.isMissing() && c2.isMissing()) {
-                    return -1;
-                } else {
-                    return 0;
+        //Create histogram table with the bins in order, rows without bin form a trailing missing value bin
+        exec.setMessage("Creating histogram table...");
+        DataColumnSpec[] colSpecs = new DataColumnSpec[Math.max(1, freqColumns.length) + 1];
+        colSpecs[0] = new DataColumnSpecCreator(binnedColName, StringCell.TYPE).createSpec();
+        if (freqColumns.length == 0) {
+            String countColName = new UniqueNameGenerator(Collections.singleton(binnedColName)).newName(binnedColName);
+            colSpecs[1] = new DataColumnSpecCreator(countColName, LongCell.TYPE).createSpec();
+        }
+        for (int i = 0; i < freqColumns.length; i++) {
+            colSpecs[i + 1] = new DataColumnSpecCreator(freqColumns[i], DoubleCell.TYPE).createSpec();
+        }
+        boolean average = isAverageMethod(method);
+        Map<RowKey, Set<RowKey>> hiliteMapping = new HashMap<RowKey, Set<RowKey>>();
+        BufferedDataContainer cont = exec.createDataContainer(new DataTableSpec(colSpecs), false);
+        try {
+            for (int bin = 0; bin <= histogram.getNumBins(); bin++) {
+                long count = histogram.getCount(bin);
+                boolean missingBin = bin == histogram.getNumBins();
+                if (missingBin && count == 0) {
+                    break;
+                }
+                DataCell[] cells = new DataCell[colSpecs.length];
+                cells[0] = missingBin ? DataType.getMissingCell() : new StringCell(orderedBinNames.get(bin));
+                if (freqColumns.length == 0) {
+                    cells[1] = new LongCell(count);
+                }
+                for (int i = 0; i < freqColumns.length; i++) {
+                    long numValues = histogram.getNumValues(i, bin);
+                    if (count == 0) {
+                        cells[i + 1] = new DoubleCell(0);
+                    } else if (numValues == 0) {
+                        cells[i + 1] = DataType.getMissingCell();
+                    } else {
+                        double sum = histogram.getSum(i, bin);
+                        cells[i + 1] = new DoubleCell(average ? sum / numValues : sum);
+                    }
+                }
+                RowKey key = RowKey.createRowKey((long)bin);
+                cont.addRowToTable(new DefaultRow(key, cells));
+                if (enableSelection && count > 0) {
+                    hiliteMapping.put(key, new LinkedHashSet<RowKey>(histogram.getRowKeys(bin)));
                 }
             }
-        };
-        BufferedDataTableSorter sorter = new BufferedDataTableSorter(groupingResult.getDataTable(), comp);
-        sorter.setSortInMemory(true);
-        BufferedDataTable sortedTable = sorter.sort(preprocExec);
+        } finally {
+            cont.close();
+        }
+        BufferedDataTable histogramTable = cont.getTable();
         Builder builder = JSONDataTable.newBuilder()
-                .setDataTable(sortedTable)
+                .setDataTable(histogramTable)
                 .setFirstRow(1)
-                .setMaxRows(Math.toIntExact(sortedTable.size()));
-        BinningResult res = new BinningResult();
+                .setMaxRows(Math.toIntExact(histogramTable.size()));
+        GroupingResult groupingResult = new GroupingResult();
         groupingResult.setTable(builder.build(exec.createSubExecutionContext(0.05)));
+        groupingResult.setUUID(UUID.randomUUID().toString());
+        HiLiteTranslator translator = new HiLiteTranslator();
+        translator.setMapper(new DefaultHiLiteMapper(hiliteMapping));
+        groupingResult.setTranslator(new JSONSelectionTranslator(translator));
+        BinningResult res = new BinningResult();
         res.setGroups(groupingResult);
         res.setBinnedColumn(binnedColName);
         exec.setProgress(1.0);
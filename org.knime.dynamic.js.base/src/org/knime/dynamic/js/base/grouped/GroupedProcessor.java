@@ -16,7 +16,6 @@
 import org.knime.base.node.preproc.groupby.ColumnNamePolicy;
 import org.knime.base.node.preproc.groupby.GroupByTable;
 import org.knime.base.node.preproc.groupby.MemoryGroupByTable;
-import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
@@ -71,11 +70,7 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
     protected GroupingResult processInputObjects(final PortObject[] inObjects, final ExecutionContext exec,
         final DynamicJSConfig config, final boolean serializeTable) throws Exception {
     	BufferedDataTable table = (BufferedDataTable)inObjects[0];
-		//Check aggregation method
-		String method = ((SettingsModelString)config.getModel("aggr")).getStringValue();
-		if (!Arrays.asList(AVAILABLE_METHODS).contains(method)) {
-			throw new IllegalArgumentException("Aggregation method not supported: " + method);
-		}
+		String method = getAggregationMethod(config);
 		
 		//Check category column settings
 		String catColName = ((SettingsModelString)config.getModel("cat")).getStringValue();
@@ -90,28 +85,7 @@ protected GroupingResult processInputObjects(final PortObject[] inObjects, final
 		//Check frequency column(s) settings
 		ColumnAggregator[] colAggregators = null;
 		if (!method.equals(COUNT)) {
-			String[] freqColumns = new String[0];
-			final SettingsModel freqModel = config.getModel("freq");
-			if (freqModel instanceof SettingsModelString) {
-				String freqColName = ((SettingsModelString) freqModel).getStringValue();
-				if (freqColName == null) {
-					throw new IllegalArgumentException("No column selected for frequency values.");
-				}
-				columnIndex = table.getDataTableSpec().findColumnIndex(freqColName);
-				if (columnIndex < 0) {
-					throw new IllegalArgumentException(
-							"Index for frequency column with name " + freqColName + " not found.");
-				}
-				freqColumns = new String[]{freqColName};
-			} else if (freqModel instanceof SettingsModelColumnFilter2) {
-				DataTableSpec inSpec = ((BufferedDataTable) inObjects[0]).getDataTableSpec();
-				FilterResult filterResult = ((SettingsModelColumnFilter2) freqModel).applyTo(inSpec);
-				freqColumns = filterResult.getIncludes();
-				if (freqColumns.length < 1) {
-					throw new IllegalArgumentException(
-							"Frequency column filter include list empty. Select at least one frequency column.");
-				}
-			}
+			String[] freqColumns = getFrequencyColumns(table, config);
 			colAggregators = new ColumnAggregator[freqColumns.length];
 			for (int i = 0; i < freqColumns.length; i++) {
 				AggregationOperator operator = null;
@@ -173,6 +147,65 @@ protected GroupingResult processInputObjects(final PortObject[] inObjects, final
 		return result;
 	}
 	   
+    /**
+     * @param config The configuration object containing the current node settings.
+     * @return the selected aggregation method
+     * @throws IllegalArgumentException if the aggregation method is not supported
+     */
+    protected static String getAggregationMethod(final DynamicJSConfig config) {
+        String method = ((SettingsModelString)config.getModel("aggr")).getStringValue();
+        if (!Arrays.asList(AVAILABLE_METHODS).contains(method)) {
+            throw new IllegalArgumentException("Aggregation method not supported: " + method);
+        }
+        return method;
+    }
+
+    /**
+     * @param method the aggregation method
+     * @return true if the rows are counted, false if the frequency columns are aggregated
+     */
+    protected static boolean isCountMethod(final String method) {
+        return COUNT.equals(method);
+    }
+
+    /**
+     * @param method the aggregation method
+     * @return true if the frequency columns are averaged, false otherwise
+     */
+    protected static boolean isAverageMethod(final String method) {
+        return AVG.equals(method);
+    }
+
+    /**
+     * @param table the input table
+     * @param config The configuration object containing the current node settings.
+     * @return the selected frequency columns
+     * @throws IllegalArgumentException if no or an unknown frequency column is selected
+     */
+    protected static String[] getFrequencyColumns(final BufferedDataTable table, final DynamicJSConfig config) {
+        String[] freqColumns = new String[0];
+        final SettingsModel freqModel = config.getModel("freq");
+        if (freqModel instanceof SettingsModelString) {
+            String freqColName = ((SettingsModelString) freqModel).getStringValue();
+            if (freqColName == null) {
+                throw new IllegalArgumentException("No column selected for frequency values.");
+            }
+            if (table.getDataTableSpec().findColumnIndex(freqColName) < 0) {
+                throw new IllegalArgumentException(
+                        "Index for frequency column with name " + freqColName + " not found.");
+            }
+            freqColumns = new String[]{freqColName};
+        } else if (freqModel instanceof SettingsModelColumnFilter2) {
+            FilterResult filterResult = ((SettingsModelColumnFilter2) freqModel).applyTo(table.getDataTableSpec());
+            freqColumns = filterResult.getIncludes();
+            if (freqColumns.length < 1) {
+                throw new IllegalArgumentException(
+                        "Frequency column filter include list empty. Select at least one frequency column.");
+            }
+        }
+        return freqColumns;
+    }
+
     @JsonAutoDetect
     public static final class GroupingResult {
         
@@ -0,0 +1,214 @@
+package org.knime.dynamic.js.base.grouped;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.base.node.preproc.autobinner.pmml.PMMLDiscretizeBin;
+import org.knime.base.node.preproc.autobinner.pmml.PMMLInterval;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Calculates a histogram of a numeric column for given bins in a single scan of the table.
+ *
+ * <p>
+ * Every row is assigned to the index of the first bin covering its value, bins are found by binary search if their
+ * intervals are sorted. Counts, sums and the number of aggregated values are accumulated in primitive arrays, one
+ * slot per bin and one additional slot for rows whose value is missing or not covered by any bin.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HistogramCalculator {
+
+    private final PMMLDiscretizeBin[] m_bins;
+
+    private final double[] m_rightMargins;
+
+    private final boolean m_sorted;
+
+    private long[] m_counts;
+
+    private double[][] m_sums;
+
+    private long[][] m_numValues;
+
+    private long[] m_numMissingValues;
+
+    private List<List<RowKey>> m_rowKeys;
+
+    /**
+     * @param bins the bins in their output order
+     */
+    public HistogramCalculator(final List<PMMLDiscretizeBin> bins) {
+        m_bins = bins.toArray(new PMMLDiscretizeBin[0]);
+        m_rightMargins = new double[m_bins.length];
+        boolean sorted = true;
+        double previousRight = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < m_bins.length; i++) {
+            List<PMMLInterval> intervals = m_bins[i].getIntervals();
+            if (intervals.size() != 1) {
+                sorted = false;
+                continue;
+            }
+            PMMLInterval interval = intervals.get(0);
+            m_rightMargins[i] = interval.getRightMargin();
+            sorted &= interval.getLeftMargin() >= previousRight && interval.getRightMargin() >= previousRight;
+            previousRight = interval.getRightMargin();
+        }
+        m_sorted = sorted;
+    }
+
+    /**
+     * Scans the table and assigns each row to its bin.
+     *
+     * @param table the input table
+     * @param binColumn the numeric column to bin
+     * @param aggregationColumns the numeric columns whose values are summed per bin, may be empty
+     * @param collectRowKeys whether to collect the row keys per bin
+     * @param exec the execution monitor
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public void calculate(final BufferedDataTable table, final String binColumn, final String[] aggregationColumns,
+        final boolean collectRowKeys, final ExecutionMonitor exec) throws CanceledExecutionException {
+        DataTableSpec spec = table.getDataTableSpec();
+        final int numSlots = m_bins.length + 1;
+        final int binIndex = spec.findColumnIndex(binColumn);
+        final int numAggr = aggregationColumns.length;
+        final int[] aggrIndices = new int[numAggr];
+        final int[] materialized = new int[numAggr + 1];
+        materialized[0] = binIndex;
+        for (int a = 0; a < numAggr; a++) {
+            aggrIndices[a] = spec.findColumnIndex(aggregationColumns[a]);
+            materialized[a + 1] = aggrIndices[a];
+        }
+        m_counts = new long[numSlots];
+        m_sums = new double[numAggr][numSlots];
+        m_numValues = new long[numAggr][numSlots];
+        m_numMissingValues = new long[numAggr];
+        m_rowKeys = null;
+        if (collectRowKeys) {
+            m_rowKeys = new ArrayList<>(numSlots);
+            for (int i = 0; i < numSlots; i++) {
+                m_rowKeys.add(new ArrayList<>());
+            }
+        }
+
+        final double numRows = Math.max(1, table.size());
+        long rowIndex = 0;
+        try (CloseableRowIterator iterator = table.filter(TableFilter.materializeCols(materialized))) {
+            while (iterator.hasNext()) {
+                DataRow row = iterator.next();
+                DataCell binCell = row.getCell(binIndex);
+                int bin = binCell.isMissing() ? -1 : findBin(((DoubleValue)binCell).getDoubleValue());
+                int slot = bin < 0 ? m_bins.length : bin;
+                m_counts[slot]++;
+                for (int a = 0; a < numAggr; a++) {
+                    DataCell cell = row.getCell(aggrIndices[a]);
+                    if (cell.isMissing()) {
+                        m_numMissingValues[a]++;
+                    } else {
+                        m_sums[a][slot] += ((DoubleValue)cell).getDoubleValue();
+                        m_numValues[a][slot]++;
+                    }
+                }
+                if (collectRowKeys) {
+                    m_rowKeys.get(slot).add(row.getKey());
+                }
+                if (++rowIndex % 8192 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / numRows);
+                }
+            }
+        }
+        exec.setProgress(1);
+    }
+
+    /**
+     * @param value the value
+     * @return the index of the first bin covering the value or -1 if no bin covers it
+     */
+    int findBin(final double value) {
+        if (m_sorted && !Double.isNaN(value)) {
+            // first bin whose right margin is not smaller than the value, a value on the open right margin of that
+            // bin belongs to the next one
+            int low = 0;
+            int high = m_rightMargins.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (m_rightMargins[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < Math.min(low + 2, m_bins.length); i++) {
+                if (m_bins[i].covers(value)) {
+                    return i;
+                }
+            }
+        }
+        for (int i = 0; i < m_bins.length; i++) {
+            if (m_bins[i].covers(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of bins, without the slot of missing values
+     */
+    public int getNumBins() {
+        return m_bins.length;
+    }
+
+    /**
+     * @param slot the bin index or {@link #getNumBins()} for rows whose value is missing or not covered by any bin
+     * @return the number of rows in the slot
+     */
+    public long getCount(final int slot) {
+        return m_counts[slot];
+    }
+
+    /**
+     * @param aggregationColumn the index of the aggregation column
+     * @param slot the bin index or {@link #getNumBins()} for rows whose value is missing or not covered by any bin
+     * @return the sum of the non-missing values in the slot
+     */
+    public double getSum(final int aggregationColumn, final int slot) {
+        return m_sums[aggregationColumn][slot];
+    }
+
+    /**
+     * @param aggregationColumn the index of the aggregation column
+     * @param slot the bin index or {@link #getNumBins()} for rows whose value is missing or not covered by any bin
+     * @return the number of non-missing values in the slot
+     */
+    public long getNumValues(final int aggregationColumn, final int slot) {
+        return m_numValues[aggregationColumn][slot];
+    }
+
+    /**
+     * @param aggregationColumn the index of the aggregation column
+     * @return the number of missing values in the aggregation column
+     */
+    public long getNumMissingValues(final int aggregationColumn) {
+        return m_numMissingValues[aggregationColumn];
+    }
+
+    /**
+     * @param slot the bin index or {@link #getNumBins()} for rows whose value is missing or not covered by any bin
+     * @return the keys of the rows in the slot or null if they were not collected
+     */
+    public List<RowKey> getRowKeys(final int slot) {
+        return m_rowKeys == null ? null : m_rowKeys.get(slot);
+    }
+}
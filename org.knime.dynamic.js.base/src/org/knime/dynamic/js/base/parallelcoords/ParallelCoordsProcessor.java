@@ -1,6 +1,4 @@
 package org.knime.dynamic.js.base.parallelcoords;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -8,9 +6,10 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
-import org.knime.dynamic.js.v30.DynamicJSProcessor;
+import org.knime.dynamic.js.v30.DynamicStatefulJSProcessor;
+import org.knime.js.core.JSONDataTable;
 
-public class ParallelCoordsProcessor implements DynamicJSProcessor {
+public class ParallelCoordsProcessor extends DynamicStatefulJSProcessor {
 
     @Override
     public Object[] processInputObjects(final PortObject[] inObjects, final ExecutionContext exec, final DynamicJSConfig config)
@@ -23,29 +22,22 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
             throw new InvalidSettingsException("No columns selected");
         }
 
-        //int filteredCount = 0;
-        DataContainer dc = exec.createDataContainer(dt.getDataTableSpec());
-        for (DataRow row : dt) {
-            boolean ignore = false;
-            for (int i = 0; i < row.getNumCells() && !ignore; i++) {
-                if (row.getCell(i).isMissing()) {
-                    ignore = true;
-                    //filteredCount++;
-                }
-            }
-            if (!ignore) {
-                dc.addRowToTable(row);
-            }
-        }
-        dc.close();
-        /*
-         * TODO: Show warning message
-        if (filteredCount > 0) {
-            setWarningMessage(filteredCount + " rows contain missing values and are ignored.");
+        // rows with missing values in the included columns are skipped while the view table is built, no
+        // intermediate table is created
+        JSONDataTable table = JSONDataTable.newBuilder()
+                .setDataTable(dt)
+                .setFirstRow(1)
+                .setMaxRows(config.getMaxRows())
+                .setIncludeColumns(res.getIncludes())
+                .excludeRowsWithMissingValues(true)
+                .build(exec);
+
+        int removed = table.numberRemovedRowsWithMissingValues();
+        if (removed > 0) {
+            setWarningMessage(removed + " rows contain missing values and are ignored.");
         }
-         */
 
-        return new Object[] {dc.getTable()};
+        return new Object[] {table};
     }
 
 }
@@ -2,9 +2,6 @@
 import java.util.Arrays;
 import java.util.stream.Stream;
 
-import org.knime.base.data.filter.column.FilterColumnTable;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
@@ -46,33 +43,21 @@ public Object[] processInputObjects(PortObject[] inObjects,
         		.distinct()
                 .toArray(String[]::new);
 
-        
-//		JSONDataTable table = JSONDataTable.newBuilder()
-//			.setDataTable(dt)
-//			.setFirstRow(1)
-//			.setMaxRows(config.getMaxRows())
-//			.setIncludeColumns(includeColumns)
-//			.excludeRowsWithMissingValues(false)
-//			// TODO: keep Columns with...
-//			// TODO: Can we exclude here rows where all values missing?
-//			.build(exec);
-//        
-//
-//		int removed = table.numberRemovedRowsWithMissingValues();
-//		if (removed > 0) {
-//			setWarningMessage("Table contained " + removed + " rows with missing values. These rows are ignored in the view.");
-//		}
-//
-//		return new Object[] {table}; //, inObjects[1]};
-        
-        // Deprecated
-        FilterColumnTable ft = new FilterColumnTable(dt, includeColumns);
-        DataContainer dc = exec.createDataContainer(ft.getDataTableSpec());
-        for (DataRow row : ft) {
-      		dc.addRowToTable(row);
+        // the view table is built in a single pass over the input, rows with missing values are kept as the view
+        // fills up shorter paths and defaults missing values to zero
+        JSONDataTable table = JSONDataTable.newBuilder()
+            .setDataTable(dt)
+            .setFirstRow(1)
+            .setMaxRows(config.getMaxRows())
+            .setIncludeColumns(includeColumns)
+            .excludeRowsWithMissingValues(false)
+            .build(exec);
+
+        if (config.getMaxRows() < dt.size()) {
+            setWarningMessage("Only the first " + config.getMaxRows() + " rows are displayed.");
         }
-        dc.close();
-        return new Object[] {dc.getTable(), inObjects[1]}; //, inObjects[1]};
+
+        return new Object[] {table, inObjects[1]};
     }
 
 }
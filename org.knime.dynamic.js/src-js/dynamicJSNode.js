@@ -6,6 +6,8 @@ window.dynamicJSNode = (function () {
     var VAADIN_PREFIX = './VAADIN/src-js/'; // legacy web portal
     var errorRendered = false;
     var renderError;
+    var resolveResources;
+    var initView;
 
     /** @since 4.2 support output type APPEND_SELECTION_COLUMN */
     node.APPEND_SELECTION_GLOBAL_OUT_VALUE_KEY = 'appendSelectionOutColumns';
@@ -21,6 +23,66 @@ window.dynamicJSNode = (function () {
         }
         _innerNamespace = representation.jsNamespace;
 
+        resolveResources(representation, function (resolved) {
+            if (resolved) {
+                initView(representation, value);
+            } else {
+                renderError('The web resources of the view could not be loaded.');
+            }
+        });
+    };
+
+    /* Resources are only referenced by their hash if the node model is configured to do so for hosts answering view
+     * requests, request the contents from the node model in this case. */
+    resolveResources = function (representation, callback) {
+        var jsResources = representation.jsResources || [];
+        var cssResources = representation.cssResources || [];
+        var binaryFileResources = representation.binaryFileResources || {};
+        var binaryPaths = Object.keys(binaryFileResources);
+        if (jsResources.length <= representation.jsCode.length &&
+            cssResources.length <= representation.cssCode.length &&
+            binaryPaths.length <= Object.keys(representation.binaryFiles || {}).length) {
+            callback(true);
+            return;
+        }
+        if (typeof knimeService === 'undefined' || typeof knimeService.requestViewUpdate !== 'function') {
+            callback(false);
+            return;
+        }
+        var hashes = [];
+        var addHash = function (hash) {
+            if (hash && hashes.indexOf(hash) < 0) {
+                hashes.push(hash);
+            }
+        };
+        jsResources.forEach(addHash);
+        cssResources.forEach(addHash);
+        binaryPaths.forEach(function (path) {
+            addHash(binaryFileResources[path]);
+        });
+        var request = {
+            '@class': 'org.knime.dynamic.js.v30.DynamicJSResourceRequest',
+            hashes: hashes
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            var contents = response.contents;
+            representation.jsCode = jsResources.map(function (hash) {
+                return contents[hash];
+            });
+            representation.cssCode = cssResources.map(function (hash) {
+                return contents[hash];
+            });
+            representation.binaryFiles = {};
+            binaryPaths.forEach(function (path) {
+                representation.binaryFiles[path] = contents[binaryFileResources[path]];
+            });
+            callback(true);
+        })['catch'](function () {
+            callback(false);
+        });
+    };
+
+    initView = function (representation, value) {
         // Define endsWith on strings
         String.prototype.endsWith = function (suffix) {
             return this.indexOf(suffix, this.length - suffix.length) !== -1;
@@ -0,0 +1,257 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.dynamic.js;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * On-disk index of validated dynamic JavaScript node configurations. An entry holds the information the
+ * {@link DynamicJSNodeSetFactory} extracts from a <code>node.xml</code> and is only reused if the version of the
+ * contributing bundle and the modification time of the file are unchanged, so warm starts do not need to parse and
+ * validate the node configurations again.
+ *
+ * <p>
+ * The index is stored in the KNIME home directory. Failing to read or write it is not an error, the node
+ * configurations are then read from the files.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class DynamicJSNodeIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DynamicJSNodeIndex.class);
+
+    private static final String INDEX_FILE_NAME = "dynamicJSNodeIndex.xml";
+
+    private static final int INDEX_VERSION = 1;
+
+    private static final String CFG_VERSION = "version";
+    private static final String CFG_NUM_ENTRIES = "numEntries";
+    private static final String CFG_ENTRY = "entry_";
+    private static final String CFG_NODE_ID = "nodeID";
+    private static final String CFG_BUNDLE_VERSION = "bundleVersion";
+    private static final String CFG_LAST_MODIFIED = "lastModified";
+    private static final String CFG_SCHEMA_VERSION = "schemaVersion";
+    private static final String CFG_CATEGORY_PATH = "categoryPath";
+    private static final String CFG_AFTER_ID = "afterID";
+
+    /**
+     * Information about a single validated node configuration.
+     */
+    static final class Entry {
+
+        private final String m_nodeID;
+        private final String m_bundleVersion;
+        private final long m_lastModified;
+        private final String m_schemaVersion;
+        private final String m_categoryPath;
+        private final String m_afterID;
+
+        /**
+         * @param nodeID the id of the node
+         * @param bundleVersion the version of the bundle contributing the node
+         * @param lastModified the modification time of the node configuration file
+         * @param schemaVersion the version of the schema the configuration validated against
+         * @param categoryPath the category path of the node
+         * @param afterID the after id of the node, may be <code>null</code>
+         */
+        Entry(final String nodeID, final String bundleVersion, final long lastModified, final String schemaVersion,
+            final String categoryPath, final String afterID) {
+            m_nodeID = nodeID;
+            m_bundleVersion = bundleVersion;
+            m_lastModified = lastModified;
+            m_schemaVersion = schemaVersion;
+            m_categoryPath = categoryPath;
+            m_afterID = afterID;
+        }
+
+        String getNodeID() {
+            return m_nodeID;
+        }
+
+        String getSchemaVersion() {
+            return m_schemaVersion;
+        }
+
+        String getCategoryPath() {
+            return m_categoryPath;
+        }
+
+        String getAfterID() {
+            return m_afterID;
+        }
+
+        boolean isUpToDate(final String bundleVersion, final long lastModified) {
+            return m_bundleVersion.equals(bundleVersion) && m_lastModified == lastModified;
+        }
+    }
+
+    private final File m_indexFile;
+
+    private final Map<String, Entry> m_entries;
+
+    private DynamicJSNodeIndex(final File indexFile, final Map<String, Entry> entries) {
+        m_indexFile = indexFile;
+        m_entries = entries;
+    }
+
+    /**
+     * Loads the index from the KNIME home directory. If there is no index or it cannot be read, an empty index is
+     * returned.
+     *
+     * @return the index, never <code>null</code>
+     */
+    static DynamicJSNodeIndex load() {
+        File indexFile = null;
+        Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+        try {
+            indexFile = new File(KNIMEConstants.getKNIMEHomeDir(), INDEX_FILE_NAME);
+            if (indexFile.isFile()) {
+                try (InputStream in = new FileInputStream(indexFile)) {
+                    NodeSettingsRO settings = NodeSettings.loadFromXML(in);
+                    if (settings.getInt(CFG_VERSION) == INDEX_VERSION) {
+                        int numEntries = settings.getInt(CFG_NUM_ENTRIES);
+                        for (int i = 0; i < numEntries; i++) {
+                            NodeSettingsRO entrySettings = settings.getNodeSettings(CFG_ENTRY + i);
+                            Entry entry = new Entry(entrySettings.getString(CFG_NODE_ID),
+                                entrySettings.getString(CFG_BUNDLE_VERSION),
+                                entrySettings.getLong(CFG_LAST_MODIFIED),
+                                entrySettings.getString(CFG_SCHEMA_VERSION),
+                                entrySettings.getString(CFG_CATEGORY_PATH),
+                                entrySettings.getString(CFG_AFTER_ID));
+                            entries.put(entry.getNodeID(), entry);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | InvalidSettingsException | RuntimeException e) {
+            LOGGER.debug("Could not read index of dynamic JavaScript nodes, node configurations are read from the "
+                + "files: " + e.getMessage(), e);
+            entries.clear();
+        }
+        return new DynamicJSNodeIndex(indexFile, entries);
+    }
+
+    /**
+     * @param nodeID the id of the node
+     * @param bundleVersion the current version of the bundle contributing the node
+     * @param lastModified the current modification time of the node configuration file
+     * @return the indexed entry or <code>null</code> if there is none or it is outdated
+     */
+    Entry get(final String nodeID, final String bundleVersion, final long lastModified) {
+        Entry entry = m_entries.get(nodeID);
+        return entry != null && entry.isUpToDate(bundleVersion, lastModified) ? entry : null;
+    }
+
+    /**
+     * Replaces the content of the index by the given entries and writes it to disk, if the content has changed.
+     *
+     * @param entries the entries of all currently valid node configurations
+     */
+    void update(final Collection<Entry> entries) {
+        Map<String, Entry> newEntries = new LinkedHashMap<String, Entry>();
+        boolean changed = false;
+        for (Entry entry : entries) {
+            newEntries.put(entry.getNodeID(), entry);
+            changed |= m_entries.get(entry.getNodeID()) != entry;
+        }
+        changed |= !newEntries.keySet().equals(m_entries.keySet());
+        m_entries.clear();
+        m_entries.putAll(newEntries);
+        if (changed && m_indexFile != null) {
+            save();
+        }
+    }
+
+    private void save() {
+        NodeSettings settings = new NodeSettings("dynamicJSNodeIndex");
+        settings.addInt(CFG_VERSION, INDEX_VERSION);
+        settings.addInt(CFG_NUM_ENTRIES, m_entries.size());
+        int i = 0;
+        for (Entry entry : m_entries.values()) {
+            NodeSettingsWO entrySettings = settings.addNodeSettings(CFG_ENTRY + i++);
+            entrySettings.addString(CFG_NODE_ID, entry.m_nodeID);
+            entrySettings.addString(CFG_BUNDLE_VERSION, entry.m_bundleVersion);
+            entrySettings.addLong(CFG_LAST_MODIFIED, entry.m_lastModified);
+            entrySettings.addString(CFG_SCHEMA_VERSION, entry.m_schemaVersion);
+            entrySettings.addString(CFG_CATEGORY_PATH, entry.m_categoryPath);
+            entrySettings.addString(CFG_AFTER_ID, entry.m_afterID);
+        }
+        try {
+            // write to a temporary file first, so that concurrent starts never see a partially written index
+            File tempFile = File.createTempFile(INDEX_FILE_NAME, ".tmp", m_indexFile.getParentFile());
+            try {
+                try (OutputStream out = new FileOutputStream(tempFile)) {
+                    settings.saveToXML(out);
+                }
+                Files.move(tempFile.toPath(), m_indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not write index of dynamic JavaScript nodes: " + e.getMessage(), e);
+        }
+    }
+}
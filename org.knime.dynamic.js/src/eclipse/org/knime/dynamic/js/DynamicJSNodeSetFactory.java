@@ -47,21 +47,23 @@
  */
 package org.knime.dynamic.js;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.xmlbeans.XmlException;
 import org.eclipse.core.runtime.FileLocator;
@@ -76,8 +78,6 @@
 import org.knime.core.node.config.ConfigRO;
 import org.knime.core.util.FileUtil;
 import org.osgi.framework.Bundle;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 /**
  *
@@ -91,6 +91,12 @@ public class DynamicJSNodeSetFactory implements NodeSetFactory {
 	private static final String DYNAMIC_FUNCTION = "js";
 	private static final String CONFIG_ID = "org.knime.dynamic.node.generation.dynamicNodes";
 
+	private static final String SCHEMA_V212 = "2.12";
+	private static final String SCHEMA_V30 = "3.0";
+
+	/** Shared factory, creating stream readers is thread-safe once the factory is configured. */
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
 	/** Config string used for factory creation.
 	 * @since 3.0*/
 	public static final String NODE_DIR_CONF = "nodeDir";
@@ -103,7 +109,8 @@ public class DynamicJSNodeSetFactory implements NodeSetFactory {
 
 	@Override
 	public Collection<String> getNodeFactoryIds() {
-	    Collection<String> factoryIds = new ArrayList<String>();
+	    // collect the node folders of all contributed config folders
+	    List<NodeCandidate> candidates = new ArrayList<NodeCandidate>();
 	    IExtensionRegistry registry = Platform.getExtensionRegistry();
         IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(CONFIG_ID);
         for (IConfigurationElement configElement : configurationElements) {
@@ -115,37 +122,39 @@ public Collection<String> getNodeFactoryIds() {
                     URL configURL = bundle.getEntry(configFolderRelative);
                     File configFolder = FileUtil.resolveToPath(FileLocator.toFileURL(configURL)).toFile();
                     m_configFolders.add(configFolder);
-                    String[] nodeList = configFolder.list(new FilenameFilter() {
-
-                        @Override
-                        public boolean accept(final File dir, final String name) {
-                            File configDir = new File(dir, name);
-                            boolean accept = configDir.isDirectory();
-                            File nodeConfig = new File(configDir, "node.xml");
-                            accept &= nodeConfig.exists();
-                            if (accept) {
-                                try {
-                                    String nodeID = pluginName + ":" + configFolderRelative + ":" + name;
-                                    getFactoryClass(nodeConfig, nodeID);
-                                } catch (XmlException | IOException | ParserConfigurationException | SAXException e) {
-                                    LOGGER.warn("Node config in folder " + configDir
-                                            + " could not be read. " + e.getMessage()
-                                            + " Skipping folder.", e);
-                                    return false;
-                                }
-                            }
-                            return accept;
+                    String bundleVersion = bundle.getVersion().toString();
+                    File[] nodeDirs = configFolder.listFiles(File::isDirectory);
+                    for (File nodeDir : nodeDirs == null ? new File[0] : nodeDirs) {
+                        File nodeConfig = new File(nodeDir, "node.xml");
+                        if (nodeConfig.exists()) {
+                            String nodeID = pluginName + ":" + configFolderRelative + ":" + nodeDir.getName();
+                            candidates.add(new NodeCandidate(nodeID, nodeConfig, bundleVersion));
                         }
-                    });
-                    for (int i = 0; i < nodeList.length; i++) {
-                        nodeList[i] = pluginName + ":" + configFolderRelative + ":" + nodeList[i];
                     }
-                    factoryIds.addAll(Arrays.asList(nodeList));
                 } catch (Exception e) {
                     LOGGER.warn("Error initializing config folder: " + e.getMessage(), e);
                 }
             }
         }
+
+        // read and validate the node configs in parallel, unchanged configs are taken from the index
+        DynamicJSNodeIndex index = DynamicJSNodeIndex.load();
+        List<DynamicJSNodeIndex.Entry> entries = candidates.parallelStream()
+                .map(c -> readNodeConfig(c, index))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Collection<String> factoryIds = new ArrayList<String>(entries.size());
+        for (DynamicJSNodeIndex.Entry entry : entries) {
+            String nodeID = entry.getNodeID();
+            m_factories.put(nodeID, SCHEMA_V212.equals(entry.getSchemaVersion())
+                ? org.knime.dynamic.js.v212.DynamicJSNodeFactory.class
+                : org.knime.dynamic.js.v30.DynamicJSNodeFactory.class);
+            m_paths.put(nodeID, entry.getCategoryPath());
+            m_afterIDs.put(nodeID, entry.getAfterID());
+            factoryIds.add(nodeID);
+        }
+        index.update(entries);
 		return factoryIds;
 	}
 
@@ -171,46 +180,97 @@ public ConfigRO getAdditionalSettings(final String id) {
 		return s;
 	}
 
-    private void getFactoryClass(final File nodeConfig, final String nodeID)
-        throws ParserConfigurationException, SAXException, IOException, XmlException {
-        DocumentBuilderFactory fac = DocumentBuilderFactory.newInstance();
-        fac.setNamespaceAware(true);
-        DocumentBuilder parser = fac.newDocumentBuilder();
-        Document doc;
-        synchronized (parser) {
-            doc = parser.parse(new FileInputStream(nodeConfig));
+    private static DynamicJSNodeIndex.Entry readNodeConfig(final NodeCandidate candidate,
+        final DynamicJSNodeIndex index) {
+        File nodeConfig = candidate.m_nodeConfig;
+        long lastModified = nodeConfig.lastModified();
+        DynamicJSNodeIndex.Entry entry = index.get(candidate.m_nodeID, candidate.m_bundleVersion, lastModified);
+        if (entry != null) {
+            return entry;
         }
+        try {
+            return parseNodeConfig(candidate, lastModified);
+        } catch (XmlException | IOException | XMLStreamException e) {
+            LOGGER.warn("Node config in folder " + nodeConfig.getParentFile()
+                    + " could not be read. " + e.getMessage()
+                    + " Skipping folder.", e);
+            return null;
+        }
+    }
 
-        String namespaceUri = doc.getDocumentElement().getNamespaceURI();
-        if (namespaceUri != null) {
-            if (namespaceUri.equals(
-                org.knime.dynamicjsnode.v212.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
-                org.knime.dynamicjsnode.v212.KnimeNodeDocument node =
-                    org.knime.dynamicjsnode.v212.KnimeNodeDocument.Factory.parse(nodeConfig);
-                String categoryPath = node.getKnimeNode().getCategoryPath();
-                if (!node.validate()) {
-                    throw new XmlException(
-                        "Node config XML did not validate against Dynamic JavaScript Node v2.12 schema.");
-                }
-                m_factories.put(nodeID, org.knime.dynamic.js.v212.DynamicJSNodeFactory.class);
-                m_paths.put(nodeID, categoryPath == null ? "unknown" : categoryPath);
-                m_afterIDs.put(nodeID, node.getKnimeNode().getAfterID());
-            } else if (namespaceUri.equals(
-                org.knime.dynamicjsnode.v30.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
-                org.knime.dynamicjsnode.v30.KnimeNodeDocument node =
-                    org.knime.dynamicjsnode.v30.KnimeNodeDocument.Factory.parse(nodeConfig);
-                String categoryPath = node.getKnimeNode().getCategoryPath();
-                if (!node.validate()) {
-                    throw new XmlException(
-                        "Node config XML did not validate against Dynamic JavaScript Node v3.0 schema.");
+    private static DynamicJSNodeIndex.Entry parseNodeConfig(final NodeCandidate candidate, final long lastModified)
+        throws IOException, XMLStreamException, XmlException {
+        File nodeConfig = candidate.m_nodeConfig;
+        // read the file only once, the namespace is taken from the root element without building a DOM
+        byte[] content = Files.readAllBytes(nodeConfig.toPath());
+        String namespaceUri = getRootNamespace(content);
+        if (namespaceUri == null) {
+            throw new XmlException("No namespace for node description in " + nodeConfig.getCanonicalPath());
+        }
+        String schemaVersion;
+        String categoryPath;
+        String afterID;
+        if (namespaceUri.equals(
+            org.knime.dynamicjsnode.v212.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
+            org.knime.dynamicjsnode.v212.KnimeNodeDocument node =
+                org.knime.dynamicjsnode.v212.KnimeNodeDocument.Factory.parse(new ByteArrayInputStream(content));
+            if (!node.validate()) {
+                throw new XmlException(
+                    "Node config XML did not validate against Dynamic JavaScript Node v2.12 schema.");
+            }
+            schemaVersion = SCHEMA_V212;
+            categoryPath = node.getKnimeNode().getCategoryPath();
+            afterID = node.getKnimeNode().getAfterID();
+        } else if (namespaceUri.equals(
+            org.knime.dynamicjsnode.v30.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
+            org.knime.dynamicjsnode.v30.KnimeNodeDocument node =
+                org.knime.dynamicjsnode.v30.KnimeNodeDocument.Factory.parse(new ByteArrayInputStream(content));
+            if (!node.validate()) {
+                throw new XmlException(
+                    "Node config XML did not validate against Dynamic JavaScript Node v3.0 schema.");
+            }
+            schemaVersion = SCHEMA_V30;
+            categoryPath = node.getKnimeNode().getCategoryPath();
+            afterID = node.getKnimeNode().getAfterID();
+        } else {
+            throw new XmlException("Unsupported namespace for node description in " + nodeConfig.getCanonicalPath()
+                + ": " + namespaceUri);
+        }
+        return new DynamicJSNodeIndex.Entry(candidate.m_nodeID, candidate.m_bundleVersion, lastModified,
+            schemaVersion, categoryPath == null ? "unknown" : categoryPath, afterID);
+    }
+
+    private static String getRootNamespace(final byte[] content) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader.getNamespaceURI();
                 }
-                m_factories.put(nodeID, org.knime.dynamic.js.v30.DynamicJSNodeFactory.class);
-                m_paths.put(nodeID, categoryPath == null ? "unknown" : categoryPath);
-                m_afterIDs.put(nodeID, node.getKnimeNode().getAfterID());
-            } else {
-                throw new XmlException("Unsupported namespace for node description in " + nodeConfig.getCanonicalPath()
-                    + ": " + namespaceUri);
             }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /** A node folder containing a node config, which has not been read yet. */
+    private static final class NodeCandidate {
+        private final String m_nodeID;
+        private final File m_nodeConfig;
+        private final String m_bundleVersion;
+
+        NodeCandidate(final String nodeID, final File nodeConfig, final String bundleVersion) {
+            m_nodeID = nodeID;
+            m_nodeConfig = nodeConfig;
+            m_bundleVersion = bundleVersion;
         }
     }
 }
\ No newline at end of file
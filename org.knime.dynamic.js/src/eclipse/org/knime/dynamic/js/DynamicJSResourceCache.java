@@ -0,0 +1,245 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.dynamic.js;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Process-wide cache of the web resources (JavaScript, CSS and binary files) of dynamic JavaScript nodes. Each
+ * resource file is read once and stored together with the SHA-256 hash of its content, so all node instances of the
+ * same type share a single copy of the resource, and views can reference a resource by its hash instead of carrying
+ * its content.
+ *
+ * <p>
+ * A cached resource is read again if the modification time or the size of the file changed. The contents share a
+ * common memory budget, which can be set in bytes with the system property {@value #PROPERTY_BUDGET}. If the budget
+ * is exceeded, the least recently used contents are evicted and read again from their file when needed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class DynamicJSResourceCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DynamicJSResourceCache.class);
+
+    /** System property for the number of bytes of resource contents which are cached for all dynamic JS nodes. */
+    public static final String PROPERTY_BUDGET = "knime.dynamicjs.resources.cache.bytes";
+
+    /** Default number of bytes of resource contents which are cached for all dynamic JS nodes. */
+    static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+    private static final DynamicJSResourceCache INSTANCE = new DynamicJSResourceCache(readBudget());
+
+    private final long m_budget;
+
+    /** Hash, modification time and size of the read files keyed by the absolute file path and the encoding. */
+    private final Map<String, FileState> m_files = new ConcurrentHashMap<String, FileState>();
+
+    /** Resource contents keyed by their hash, in the order of their last access. */
+    private final Map<String, String> m_contents = new LinkedHashMap<String, String>(16, 0.75f, true);
+
+    private long m_usedBytes;
+
+    DynamicJSResourceCache(final long budget) {
+        m_budget = budget;
+    }
+
+    /**
+     * @return the shared resource cache
+     */
+    public static DynamicJSResourceCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static long readBudget() {
+        String value = System.getProperty(PROPERTY_BUDGET);
+        if (value != null) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid value for system property " + PROPERTY_BUDGET + ": " + value
+                    + ". Using default of " + DEFAULT_BUDGET + " bytes.");
+            }
+        }
+        return DEFAULT_BUDGET;
+    }
+
+    /**
+     * Returns the resource for a file of a node configuration folder, reading it if its content is not cached or if
+     * the file changed since it was read.
+     *
+     * @param rootPath the path of the node configuration folder
+     * @param path the path of the resource file relative to the configuration folder
+     * @param encodeBase64 true if the resource is a binary file whose content is to be Base64 encoded, false if the
+     *            content is text
+     * @return the resource, or null if the file does not exist or could not be read
+     */
+    public Resource getResource(final String rootPath, final String path, final boolean encodeBase64) {
+        File rootFile = new File(rootPath);
+        if (!rootFile.exists() || !rootFile.isDirectory()) {
+            return null;
+        }
+        File file = new File(rootFile, path);
+        if (!file.exists() || !file.isFile()) {
+            LOGGER.error("Specified resource file " + file + " does not exist!");
+            return null;
+        }
+        String key = (encodeBase64 ? "base64:" : "text:") + file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        FileState state = m_files.get(key);
+        if (state != null && state.m_lastModified == lastModified && state.m_length == length) {
+            String content = getContent(state.m_hash);
+            if (content != null) {
+                return new Resource(state.m_hash, content);
+            }
+        }
+        try {
+            byte[] fileBytes = Files.readAllBytes(file.toPath());
+            String content = encodeBase64 ? Base64.encodeBase64String(fileBytes) : new String(fileBytes);
+            String hash = DigestUtils.sha256Hex(content);
+            m_files.put(key, new FileState(hash, lastModified, length));
+            // share the content instance between files with identical content
+            return new Resource(hash, putContent(hash, content));
+        } catch (IOException e) {
+            LOGGER.error("Reading file " + file + " failed: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the content of a resource which has been read by this cache before.
+     *
+     * @param hash the hash of the resource content
+     * @return the content, or null if no resource with the given hash has been read or its content has been evicted
+     */
+    public String getContent(final String hash) {
+        if (hash == null) {
+            return null;
+        }
+        synchronized (m_contents) {
+            return m_contents.get(hash);
+        }
+    }
+
+    private String putContent(final String hash, final String content) {
+        synchronized (m_contents) {
+            String cached = m_contents.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+            m_contents.put(hash, content);
+            m_usedBytes += getSize(content);
+            // the added content is kept even if it exceeds the budget on its own, it is in use
+            Iterator<Map.Entry<String, String>> it = m_contents.entrySet().iterator();
+            while (m_usedBytes > m_budget && m_contents.size() > 1 && it.hasNext()) {
+                Map.Entry<String, String> eldest = it.next();
+                if (!eldest.getKey().equals(hash)) {
+                    m_usedBytes -= getSize(eldest.getValue());
+                    it.remove();
+                }
+            }
+            return content;
+        }
+    }
+
+    private static long getSize(final String content) {
+        return 2L * content.length();
+    }
+
+    private static final class FileState {
+
+        private final String m_hash;
+        private final long m_lastModified;
+        private final long m_length;
+
+        private FileState(final String hash, final long lastModified, final long length) {
+            m_hash = hash;
+            m_lastModified = lastModified;
+            m_length = length;
+        }
+    }
+
+    /**
+     * A cached web resource.
+     */
+    public static final class Resource {
+
+        private final String m_hash;
+        private final String m_content;
+
+        private Resource(final String hash, final String content) {
+            m_hash = hash;
+            m_content = content;
+        }
+
+        /**
+         * @return the SHA-256 hash of the content as hex string
+         */
+        public String getHash() {
+            return m_hash;
+        }
+
+        /**
+         * @return the content of the resource, Base64 encoded for binary files
+         */
+        public String getContent() {
+            return m_content;
+        }
+    }
+}
@@ -48,10 +48,6 @@
 package org.knime.dynamic.js.v212;
 
 import java.awt.Color;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,7 +55,6 @@
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.apache.commons.codec.binary.Base64;
 import org.apache.xmlbeans.XmlObject;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
@@ -111,6 +106,7 @@
 import org.knime.core.node.wizard.CSSModifiable;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.dynamic.js.DynamicJSDependency;
+import org.knime.dynamic.js.DynamicJSResourceCache;
 import org.knime.dynamic.js.SettingsModelSVGOptions;
 import org.knime.dynamic.js.SettingsModelSVGOptions.JSONSVGOptions;
 import org.knime.dynamicjsnode.v212.DynamicJSKnimeNode;
@@ -786,26 +782,10 @@ private void readResourceContents() {
 	}
 
 	private String fileToString(final String path, final boolean encodeBase64) {
-		File rootFile = new File(m_rootPath);
-		if (!rootFile.exists() || !rootFile.isDirectory()) {
-			return null;
-		}
-		File file = new File(rootFile, path);
-		if (!file.exists() || !file.isFile()) {
-			LOGGER.error("Specified resource file " + file + " does not exist!");
-			return null;
-		}
-		try {
-			byte[] fileBytes = Files.readAllBytes(Paths.get(file.getAbsolutePath()));
-			if (encodeBase64) {
-				return Base64.encodeBase64String(fileBytes);
-			} else {
-				return new String(fileBytes);
-			}
-		} catch (IOException e) {
-			LOGGER.error("Reading file " + file + " failed: " + e.getMessage(), e);
-		}
-		return null;
+	    // contents are shared between all node instances
+	    DynamicJSResourceCache.Resource resource =
+	        DynamicJSResourceCache.getInstance().getResource(m_rootPath, path, encodeBase64);
+	    return resource == null ? null : resource.getContent();
 	}
 
 	private List<DynamicJSDependency> getDependencies(final boolean local) {
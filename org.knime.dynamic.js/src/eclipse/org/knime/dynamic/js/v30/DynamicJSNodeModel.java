@@ -48,11 +48,8 @@
 package org.knime.dynamic.js.v30;
 
 import java.awt.Color;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -60,7 +57,6 @@
 import java.util.Map.Entry;
 import java.util.Set;
 
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang.StringUtils;
 import org.apache.xmlbeans.XmlObject;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -87,6 +83,7 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
@@ -101,6 +98,7 @@
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -122,6 +120,7 @@
 import org.knime.core.node.workflow.VariableType.IntType;
 import org.knime.core.node.workflow.VariableType.StringType;
 import org.knime.dynamic.js.DynamicJSDependency;
+import org.knime.dynamic.js.DynamicJSResourceCache;
 import org.knime.dynamic.js.SettingsModelSVGOptions;
 import org.knime.dynamic.js.SettingsModelSVGOptions.JSONSVGOptions;
 import org.knime.dynamicjsnode.v30.DynamicJSKnimeNode;
@@ -146,6 +145,7 @@
 import org.knime.dynamicnode.v30.PortType.Enum;
 import org.knime.js.core.CSSUtils;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.color.JSONColorModel;
 import org.knime.js.core.components.datetime.SettingsModelDateTimeOptions;
 import org.knime.js.core.layout.LayoutTemplateProvider;
@@ -160,10 +160,27 @@
  * @since 3.0
  */
 public class DynamicJSNodeModel extends AbstractSVGWizardNodeModel<DynamicJSViewRepresentation,
-        DynamicJSViewValue> implements LayoutTemplateProvider, CSSModifiable {
+        DynamicJSViewValue> implements LayoutTemplateProvider, CSSModifiable,
+        JSONViewRequestHandler<DynamicJSResourceRequest, DynamicJSResourceResponse> {
 
 	private static final NodeLogger LOGGER = NodeLogger.getLogger(DynamicJSNodeModel.class);
 
+    /**
+     * System property to reference the web resources in the view representation by their hash instead of inlining
+     * their contents, e.g. <code>-Dknime.dynamicjs.resources.byhash=true</code> in the knime.ini. The view then
+     * resolves the hashes with a {@link DynamicJSResourceRequest}, which keeps the saved representations small.
+     *
+     * <p>
+     * The option is off by default as a host doesn't announce whether it answers view requests. Hosts which only
+     * render the saved representation, such as the image generation, reports or older web portal and browser
+     * versions, can't resolve the hashes and would show the view without its scripts and styles. Inlined contents
+     * work in every host, so the property is only to be set if all hosts showing the views handle view requests.
+     */
+    private static final String PROPERTY_REFERENCE_RESOURCES_BY_HASH = "knime.dynamicjs.resources.byhash";
+
+    private static final boolean REFERENCE_RESOURCES_BY_HASH =
+        Boolean.getBoolean(PROPERTY_REFERENCE_RESOURCES_BY_HASH);
+
 	private DynamicJSKnimeNode m_node;
 	private DynamicJSConfig m_config;
 	private final String m_rootPath;
@@ -695,6 +712,10 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
                             viewInObjects.add(processedObject);
                             if (inObjects[i] instanceof BufferedDataTable) {
                                 tableIdsForProcessed[i] = tableId;
+                                // tables built by a processor are used for selection and filtering as well
+                                if (processedObject instanceof JSONDataTable) {
+                                    ((JSONDataTable)processedObject).setId(tableId);
+                                }
                             }
                         }
                     }
@@ -742,7 +763,13 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
                 pOArray[i] = getPortObject(i, inObjects, exec);
             }
         }
-        getViewRepresentation().setRunningInView(true);
+        DynamicJSViewRepresentation representation = getViewRepresentation();
+        representation.setRunningInView(true);
+        if (REFERENCE_RESOURCES_BY_HASH && (representation.getJsResources().length > 0
+            || representation.getCssResources().length > 0 || !representation.getBinaryFileResources().isEmpty())) {
+            // image is created, the view resolves the resources by their hash
+            clearResourceContents(representation);
+        }
         return pOArray;
 	}
 
@@ -959,49 +986,123 @@ private static DynamicOption getOptionForId(final String key, final DynamicOptio
 
     private void readResourceContents() {
 		WebRessources resources = m_node.getResources();
-		List<String> jsCode = new ArrayList<String>();
-		List<String> cssCode = new ArrayList<String>();
-		Map<String, String> binaryFiles = new HashMap<String, String>();
+		List<String> jsResources = new ArrayList<String>();
+		List<String> cssResources = new ArrayList<String>();
+		Map<String, String> binaryFileResources = new HashMap<String, String>();
+		Map<String, String> contents = new HashMap<String, String>();
 		if (resources != null) {
 			for (WebResource res : resources.getResourceArray()) {
+			    DynamicJSResourceCache.Resource resource = getResource(res);
+			    String hash = null;
+			    if (resource != null) {
+			        hash = resource.getHash();
+			        contents.put(hash, resource.getContent());
+			    }
 				if (res.getType().equals(WebResource.Type.JS)) {
-					jsCode.add(fileToString(res.getPath(), false));
+					jsResources.add(hash);
 				} else if (res.getType().equals(WebResource.Type.CSS)) {
-					cssCode.add(fileToString(res.getPath(), false));
+					cssResources.add(hash);
 				} else if (res.getType().equals(WebResource.Type.FILE)) {
-					binaryFiles.put(res.getPath(), fileToString(res.getPath(), true));
+					binaryFileResources.put(res.getPath(), hash);
 				}
 			}
 		}
 		DynamicJSViewRepresentation representation = getViewRepresentation();
-		representation.setJsCode(jsCode.toArray(new String[0]));
-		representation.setCssCode(cssCode.toArray(new String[0]));
-		representation.setBinaryFiles(binaryFiles);
-	}
-
-	private String fileToString(final String path, final boolean encodeBase64) {
-		File rootFile = new File(m_rootPath);
-		if (!rootFile.exists() || !rootFile.isDirectory()) {
-			return null;
-		}
-		File file = new File(rootFile, path);
-		if (!file.exists() || !file.isFile()) {
-			LOGGER.error("Specified resource file " + file + " does not exist!");
-			return null;
-		}
-		try {
-			byte[] fileBytes = Files.readAllBytes(Paths.get(file.getAbsolutePath()));
-			if (encodeBase64) {
-				return Base64.encodeBase64String(fileBytes);
-			} else {
-				return new String(fileBytes);
-			}
-		} catch (IOException e) {
-			LOGGER.error("Reading file " + file + " failed: " + e.getMessage(), e);
+		representation.setJsResources(jsResources.toArray(new String[0]));
+		representation.setCssResources(cssResources.toArray(new String[0]));
+		representation.setBinaryFileResources(binaryFileResources);
+		if (!REFERENCE_RESOURCES_BY_HASH || generateImage()) {
+		    // the host might not answer view requests and the image is rendered from the representation without a
+		    // request handler, inline the shared contents (until the image is created)
+		    setResourceContents(representation, contents);
+		} else {
+		    clearResourceContents(representation);
 		}
-		return null;
 	}
 
+    private DynamicJSResourceCache.Resource getResource(final WebResource res) {
+        return DynamicJSResourceCache.getInstance().getResource(m_rootPath, res.getPath(),
+            res.getType().equals(WebResource.Type.FILE));
+    }
+
+    /**
+     * @return the contents of all web resources of the node keyed by their hash, read through the shared cache
+     */
+    private Map<String, String> readResourceContentsByHash() {
+        Map<String, String> contents = new HashMap<String, String>();
+        WebRessources resources = m_node.getResources();
+        if (resources != null) {
+            for (WebResource res : resources.getResourceArray()) {
+                DynamicJSResourceCache.Resource resource = getResource(res);
+                if (resource != null) {
+                    contents.put(resource.getHash(), resource.getContent());
+                }
+            }
+        }
+        return contents;
+    }
+
+    private static void setResourceContents(final DynamicJSViewRepresentation representation,
+        final Map<String, String> contents) {
+        representation.setJsCode(Arrays.stream(representation.getJsResources()).map(contents::get)
+            .toArray(String[]::new));
+        representation.setCssCode(Arrays.stream(representation.getCssResources()).map(contents::get)
+            .toArray(String[]::new));
+        Map<String, String> binaryFiles = new HashMap<String, String>();
+        for (Entry<String, String> entry : representation.getBinaryFileResources().entrySet()) {
+            binaryFiles.put(entry.getKey(), contents.get(entry.getValue()));
+        }
+        representation.setBinaryFiles(binaryFiles);
+    }
+
+    private static void clearResourceContents(final DynamicJSViewRepresentation representation) {
+        representation.setJsCode(new String[0]);
+        representation.setCssCode(new String[0]);
+        representation.setBinaryFiles(new HashMap<String, String>());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 5.12
+     */
+    @Override
+    public DynamicJSResourceRequest createEmptyViewRequest() {
+        return new DynamicJSResourceRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 5.12
+     */
+    @Override
+    public DynamicJSResourceResponse handleRequest(final DynamicJSResourceRequest request,
+        final ExecutionMonitor exec) throws ViewRequestHandlingException, InterruptedException,
+        CanceledExecutionException {
+        DynamicJSResourceCache cache = DynamicJSResourceCache.getInstance();
+        Map<String, String> contents = new HashMap<String, String>();
+        Map<String, String> nodeContents = null;
+        for (String hash : request.getHashes()) {
+            if (hash == null) {
+                continue;
+            }
+            String content = cache.getContent(hash);
+            if (content == null) {
+                // the content is not cached if the view was loaded from a saved workflow or it has been evicted
+                if (nodeContents == null) {
+                    nodeContents = readResourceContentsByHash();
+                }
+                content = nodeContents.get(hash);
+            }
+            if (content == null) {
+                throw new ViewRequestHandlingException("Web resource with hash " + hash + " is not available.");
+            }
+            contents.put(hash, content);
+        }
+        DynamicJSResourceResponse response = new DynamicJSResourceResponse(request);
+        response.setContents(contents);
+        return response;
+    }
+
 	private List<DynamicJSDependency> getDependencies(final boolean local) {
 		List<DynamicJSDependency> deps = new ArrayList<DynamicJSDependency>();
 		if (m_node.getDependencies() != null) {
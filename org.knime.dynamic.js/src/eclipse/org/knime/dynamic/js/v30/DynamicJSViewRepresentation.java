@@ -106,6 +106,9 @@ public class DynamicJSViewRepresentation extends JSONViewContent {
     private static final String IN_VIEW = "inView";
     private static final String WARN_MESSAGE = "warnMessage";
     private static final String ERROR_MESSAGE = "errorMessage";
+    private static final String JS_RESOURCES = "jsResources";
+    private static final String CSS_RESOURCES = "cssResources";
+    private static final String BINARY_FILE_RESOURCES = "binaryFileResources";
 
     private String m_jsNamespace = new String();
     private String[] m_jsCode = new String[0];
@@ -119,6 +122,9 @@ public class DynamicJSViewRepresentation extends JSONViewContent {
     private Map<String, String> m_binaryFiles = new HashMap<String, String>();
     private String m_warnMessage = new String();
     private String m_errorMessage = new String();
+    private String[] m_jsResources = new String[0];
+    private String[] m_cssResources = new String[0];
+    private Map<String, String> m_binaryFileResources = new HashMap<String, String>();
 
     private boolean m_new = true;
     private boolean m_runningInView = true;
@@ -239,6 +245,66 @@ public void setBinaryFiles(final Map<String, String> binaryFiles) {
 		m_binaryFiles = binaryFiles;
 	}
 
+    /**
+     * @return the hashes of the JavaScript resources, which are resolved by the view with a
+     *         {@link DynamicJSResourceRequest} if they are not contained in {@link #getJsCode()}
+     * @since 5.12
+     */
+    @JsonProperty("jsResources")
+    @JsonSanitizeIgnore
+    public String[] getJsResources() {
+        return m_jsResources;
+    }
+
+    /**
+     * @param jsResources the hashes of the JavaScript resources
+     * @since 5.12
+     */
+    @JsonProperty("jsResources")
+    public void setJsResources(final String[] jsResources) {
+        m_jsResources = jsResources;
+    }
+
+    /**
+     * @return the hashes of the CSS resources, which are resolved by the view with a
+     *         {@link DynamicJSResourceRequest} if they are not contained in {@link #getCssCode()}
+     * @since 5.12
+     */
+    @JsonProperty("cssResources")
+    @JsonSanitizeIgnore
+    public String[] getCssResources() {
+        return m_cssResources;
+    }
+
+    /**
+     * @param cssResources the hashes of the CSS resources
+     * @since 5.12
+     */
+    @JsonProperty("cssResources")
+    public void setCssResources(final String[] cssResources) {
+        m_cssResources = cssResources;
+    }
+
+    /**
+     * @return the hashes of the binary files keyed by their path, which are resolved by the view with a
+     *         {@link DynamicJSResourceRequest} if they are not contained in {@link #getBinaryFiles()}
+     * @since 5.12
+     */
+    @JsonProperty("binaryFileResources")
+    @JsonSanitizeIgnore
+    public Map<String, String> getBinaryFileResources() {
+        return m_binaryFileResources;
+    }
+
+    /**
+     * @param binaryFileResources the hashes of the binary files keyed by their path
+     * @since 5.12
+     */
+    @JsonProperty("binaryFileResources")
+    public void setBinaryFileResources(final Map<String, String> binaryFileResources) {
+        m_binaryFileResources = binaryFileResources;
+    }
+
     /**
      * @since 3.4
      */
@@ -339,6 +405,11 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         //added with 3.4
         settings.addString(WARN_MESSAGE, m_warnMessage);
         settings.addString(ERROR_MESSAGE, m_errorMessage);
+
+        //added with 5.12
+        settings.addStringArray(JS_RESOURCES, m_jsResources);
+        settings.addStringArray(CSS_RESOURCES, m_cssResources);
+        saveMap(settings.addNodeSettings(BINARY_FILE_RESOURCES), m_binaryFileResources, false);
 	}
 
     static void saveMap(final NodeSettingsWO settings, final Map<String, ?> map, final boolean objectMap) {
@@ -451,6 +522,15 @@ public void loadFromNodeSettings(final NodeSettingsRO settings)
         // added with 3.4
         m_warnMessage = settings.getString(WARN_MESSAGE, new String());
         m_errorMessage = settings.getString(ERROR_MESSAGE, new String());
+
+        // added with 5.12
+        m_jsResources = settings.getStringArray(JS_RESOURCES, new String[0]);
+        m_cssResources = settings.getStringArray(CSS_RESOURCES, new String[0]);
+        if (settings.containsKey(BINARY_FILE_RESOURCES)) {
+            m_binaryFileResources = (Map<String, String>)loadMap(settings.getNodeSettings(BINARY_FILE_RESOURCES));
+        } else {
+            m_binaryFileResources = new HashMap<String, String>();
+        }
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -552,6 +632,9 @@ public boolean equals(final Object obj) {
                 .append(m_binaryFiles, other.m_binaryFiles)
                 .append(m_warnMessage, other.m_warnMessage)
                 .append(m_errorMessage, other.m_errorMessage)
+                .append(m_jsResources, other.m_jsResources)
+                .append(m_cssResources, other.m_cssResources)
+                .append(m_binaryFileResources, other.m_binaryFileResources)
                 .append(m_new, other.m_new)
                 .append(m_runningInView, other.m_runningInView)
                 .isEquals();
@@ -576,6 +659,9 @@ public int hashCode() {
                 .append(m_binaryFiles)
                 .append(m_warnMessage)
                 .append(m_errorMessage)
+                .append(m_jsResources)
+                .append(m_cssResources)
+                .append(m_binaryFileResources)
                 .append(m_new)
                 .append(m_runningInView)
                 .toHashCode();
@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.base.filter.value;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Row filter of the value filter nodes, retaining all rows whose value in the filter column matches one of the
+ * selected values. A value matches if its string representation equals a selected value.
+ *
+ * <p>
+ * The selected values are resolved to the matching cells of the column domain once, so rows are checked with a hash
+ * lookup of their cell. Only cells which are not part of the domain are compared by their string representation.
+ * The filter is stateless and can be applied to partitions of a table independently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class ValueFilterRowFilter {
+
+    private final int m_colIndex;
+
+    /** The domain cells whose string representation is a selected value. */
+    private final Set<DataCell> m_selectedCells = new HashSet<DataCell>();
+
+    /** All domain cells, cells outside of the domain are compared by their string representation. */
+    private final Set<DataCell> m_domainCells = new HashSet<DataCell>();
+
+    private final Set<String> m_selectedValues;
+
+    private ValueFilterRowFilter(final int colIndex, final DataColumnSpec colSpec, final Collection<String> values) {
+        m_colIndex = colIndex;
+        m_selectedValues = new HashSet<String>(values);
+        Set<DataCell> domainValues = colSpec.getDomain().getValues();
+        if (domainValues != null) {
+            for (DataCell cell : domainValues) {
+                m_domainCells.add(cell);
+                if (m_selectedValues.contains(cell.toString())) {
+                    m_selectedCells.add(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a row filter for a table.
+     *
+     * @param spec the spec of the table to filter
+     * @param column the name of the filter column
+     * @param values the string representations of the selected values
+     * @return the row filter
+     * @throws InvalidSettingsException if the table does not contain the filter column
+     */
+    public static ValueFilterRowFilter create(final DataTableSpec spec, final String column,
+        final Collection<String> values) throws InvalidSettingsException {
+        int colIndex = spec.findColumnIndex(column);
+        if (colIndex < 0) {
+            throw new InvalidSettingsException("The column '" + column + "' was not found");
+        }
+        return new ValueFilterRowFilter(colIndex, spec.getColumnSpec(colIndex), values);
+    }
+
+    /**
+     * @param row a row of the table
+     * @return true if the value of the row in the filter column is one of the selected values
+     */
+    public boolean include(final DataRow row) {
+        DataCell cell = row.getCell(m_colIndex);
+        if (m_selectedCells.contains(cell)) {
+            return true;
+        }
+        if (m_domainCells.contains(cell)) {
+            return false;
+        }
+        return m_selectedValues.contains(cell.toString());
+    }
+
+    /**
+     * Filters a table.
+     *
+     * @param table the table to filter
+     * @param exec the execution context used to create the output table and to report progress
+     * @return the table containing the included rows
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public BufferedDataTable filter(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        BufferedDataContainer container = exec.createDataContainer(table.getDataTableSpec(), false);
+        final double rowCount = table.size();
+        long rowIndex = 0;
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                if (include(row)) {
+                    container.addRowToTable(row);
+                }
+                rowIndex++;
+                exec.checkCanceled();
+                exec.setProgress(rowIndex / rowCount);
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Filters a stream of rows, closing both the input and the output when done.
+     *
+     * @param input the input rows
+     * @param output the output receiving the included rows
+     * @param exec the execution context used to check for cancellation
+     * @throws InterruptedException if the thread was interrupted while reading or writing rows
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public void filter(final RowInput input, final RowOutput output, final ExecutionContext exec)
+        throws InterruptedException, CanceledExecutionException {
+        try {
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                if (include(row)) {
+                    output.push(row);
+                }
+                exec.checkCanceled();
+            }
+        } finally {
+            input.close();
+        }
+        output.close();
+    }
+}
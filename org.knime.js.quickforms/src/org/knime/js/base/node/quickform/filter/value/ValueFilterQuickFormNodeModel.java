@@ -53,9 +53,7 @@
 import java.util.Map.Entry;
 
 import org.apache.commons.lang.StringUtils;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.ExecutionContext;
@@ -63,6 +61,7 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.js.base.node.base.filter.value.ValueFilterRowFilter;
 import org.knime.js.base.node.quickform.QuickFormNodeModel;
 
 /**
@@ -132,28 +131,9 @@ protected PortObject[] execute(final PortObject[] inObjects,
         getConfig().setFromSpec(m_table.getDataTableSpec());
         Map<String, List<String>> value = createAndPushFlowVariable();
         Entry<String, List<String>> entry = value.entrySet().iterator().next();
-        String column = entry.getKey();
-        List<String> values = entry.getValue();
-        BufferedDataTable inTable = (BufferedDataTable)inObjects[0];
-        BufferedDataContainer container =
-                exec.createDataContainer(inTable.getDataTableSpec(), false);
-        int colIndex;
-        for (colIndex = 0; colIndex < inTable.getDataTableSpec().getNumColumns(); colIndex++) {
-            if (inTable.getDataTableSpec().getColumnSpec(colIndex).getName().equals(column)) {
-                break;
-            }
-        }
-        if (colIndex >= inTable.getDataTableSpec().getNumColumns()) {
-            throw new InvalidSettingsException("The column '" + "' was not found");
-        }
-        inTable.getDataTableSpec().getColumnSpec(column);
-        for (DataRow row : inTable) {
-            if (values.contains(row.getCell(colIndex).toString())) {
-                container.addRowToTable(row);
-            }
-        }
-        container.close();
-        return new PortObject[]{container.getTable()};
+        ValueFilterRowFilter rowFilter =
+            ValueFilterRowFilter.create(m_table.getDataTableSpec(), entry.getKey(), entry.getValue());
+        return new PortObject[]{rowFilter.filter(m_table, exec)};
     }
 
     /**
@@ -57,7 +57,6 @@
 import java.util.Map.Entry;
 
 import org.apache.commons.lang.StringUtils;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
@@ -67,8 +66,17 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.js.base.node.base.filter.value.ValueFilterNodeConfig;
 import org.knime.js.base.node.base.filter.value.ValueFilterNodeValue;
+import org.knime.js.base.node.base.filter.value.ValueFilterRowFilter;
 import org.knime.js.base.node.widget.WidgetNodeModel;
 
 /**
@@ -107,7 +115,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
             }
         }
         if (colIndex >= inTable.getNumColumns()) {
-            throw new InvalidSettingsException("The column '" + "' was not found");
+            throw new InvalidSettingsException("The column '" + column + "' was not found");
         }
         return new DataTableSpec[]{(DataTableSpec)inSpecs[0]};
     }
@@ -133,33 +141,60 @@ private void filterInvalidValues() {
     @Override
     protected PortObject[] performExecute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
         m_table = (BufferedDataTable)inObjects[0];
-        getConfig().getValueFilterConfig().setFromSpec(m_table.getDataTableSpec());
+        ValueFilterRowFilter rowFilter = createRowFilter(m_table.getDataTableSpec());
+        return new PortObject[]{rowFilter.filter(m_table, exec)};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                RowInput input = (RowInput)inputs[0];
+                DataTableSpec spec = input.getDataTableSpec();
+                // the flow variables are pushed when the node is executed, not when the operator is created
+                ValueFilterRowFilter rowFilter = createRowFilter(spec);
+                // the rows are not kept, the possible values of the view are restored from the spec of the table
+                BufferedDataContainer container = exec.createDataContainer(spec, true);
+                container.close();
+                m_table = container.getTable();
+                rowFilter.filter(input, (RowOutput)outputs[0], exec);
+            }
+        };
+    }
+
+    /**
+     * Updates the possible values, pushes the selected values as flow variables and creates the filter for them.
+     */
+    private ValueFilterRowFilter createRowFilter(final DataTableSpec spec) throws InvalidSettingsException {
+        getConfig().getValueFilterConfig().setFromSpec(spec);
         if (getConfig().isIgnoreInvalidValues()) {
             filterInvalidValues();
         }
         Map<String, List<String>> value = createAndPushFlowVariable();
         Entry<String, List<String>> entry = value.entrySet().iterator().next();
-        String column = entry.getKey();
-        List<String> values = entry.getValue();
-        BufferedDataTable inTable = (BufferedDataTable)inObjects[0];
-        BufferedDataContainer container = exec.createDataContainer(inTable.getDataTableSpec(), false);
-        int colIndex;
-        for (colIndex = 0; colIndex < inTable.getDataTableSpec().getNumColumns(); colIndex++) {
-            if (inTable.getDataTableSpec().getColumnSpec(colIndex).getName().equals(column)) {
-                break;
-            }
-        }
-        if (colIndex >= inTable.getDataTableSpec().getNumColumns()) {
-            throw new InvalidSettingsException("The column '" + "' was not found");
-        }
-        inTable.getDataTableSpec().getColumnSpec(column);
-        for (DataRow row : inTable) {
-            if (values.contains(row.getCell(colIndex).toString())) {
-                container.addRowToTable(row);
-            }
-        }
-        container.close();
-        return new PortObject[]{container.getTable()};
+        return ValueFilterRowFilter.create(spec, entry.getKey(), entry.getValue());
     }
 
     /**
@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+package org.knime.js.base.node.base.filter.value;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+
+/**
+ * Tests for {@link ValueFilterRowFilter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ValueFilterRowFilterTest {
+
+    private static DataTableSpec createSpec() {
+        final var stringColSpecCreator = new DataColumnSpecCreator("StringColumn", StringCell.TYPE);
+        stringColSpecCreator.setDomain(new DataColumnDomainCreator(
+            new DataCell[]{new StringCell("A"), new StringCell("B"), new StringCell("C")}).createDomain());
+        // column without domain values
+        final var intColSpecCreator = new DataColumnSpecCreator("IntColumn", IntCell.TYPE);
+        return new DataTableSpec(stringColSpecCreator.createSpec(), intColSpecCreator.createSpec());
+    }
+
+    private static DefaultRow row(final String stringValue, final int intValue) {
+        return new DefaultRow("Row", new StringCell(stringValue), new IntCell(intValue));
+    }
+
+    @Test
+    void testIncludesSelectedDomainValues() throws InvalidSettingsException {
+        final var filter = ValueFilterRowFilter.create(createSpec(), "StringColumn", Arrays.asList("A", "C"));
+        assertTrue(filter.include(row("A", 1)));
+        assertFalse(filter.include(row("B", 1)));
+        assertTrue(filter.include(row("C", 1)));
+    }
+
+    @Test
+    void testComparesValuesOutsideOfDomainByString() throws InvalidSettingsException {
+        final var filter = ValueFilterRowFilter.create(createSpec(), "StringColumn", Arrays.asList("A", "D"));
+        assertTrue(filter.include(row("D", 1)));
+        assertFalse(filter.include(row("E", 1)));
+
+        final var intFilter = ValueFilterRowFilter.create(createSpec(), "IntColumn", Arrays.asList("1", "3"));
+        assertTrue(intFilter.include(row("A", 1)));
+        assertFalse(intFilter.include(row("A", 2)));
+        assertTrue(intFilter.include(row("A", 3)));
+    }
+
+    @Test
+    void testMissingValues() throws InvalidSettingsException {
+        final var filter = ValueFilterRowFilter.create(createSpec(), "StringColumn", Arrays.asList("A"));
+        assertFalse(filter.include(new DefaultRow("Row", DataType.getMissingCell(), new IntCell(1))));
+    }
+
+    @Test
+    void testUnknownColumn() {
+        assertThrows(InvalidSettingsException.class,
+            () -> ValueFilterRowFilter.create(createSpec(), "UnknownColumn", Arrays.asList("A")));
+    }
+}
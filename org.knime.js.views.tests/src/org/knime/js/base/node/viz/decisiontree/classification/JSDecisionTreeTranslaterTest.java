@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+package org.knime.js.base.node.viz.decisiontree.classification;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.base.node.mine.decisiontree2.PMMLBooleanOperator;
+import org.knime.base.node.mine.decisiontree2.PMMLCompoundPredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLOperator;
+import org.knime.base.node.mine.decisiontree2.PMMLPredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLSimplePredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLTruePredicate;
+import org.knime.base.node.mine.decisiontree2.model.DecisionTree;
+import org.knime.base.node.mine.decisiontree2.model.DecisionTreeNode;
+import org.knime.base.node.mine.decisiontree2.model.DecisionTreeNodeLeaf;
+import org.knime.base.node.mine.decisiontree2.model.DecisionTreeNodeSplitPMML;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.js.base.node.viz.decisiontree.classification.JSDecisionTreeTranslater.LeafRows;
+
+/**
+ * Testcases for {@link JSDecisionTreeTranslater}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class JSDecisionTreeTranslaterTest {
+
+    /** More than one chunk and enough rows for several workers. */
+    private static final int NUM_ROWS = 10000;
+
+    private static final DataCell CLASS_A = new StringCell("A");
+
+    private static final DataCell CLASS_B = new StringCell("B");
+
+    /**
+     * Checks that the rows are assigned to the first leaf whose compound predicate covers them, in table order, both
+     * sequentially and concurrently, and that only the requested number of rows is assigned.
+     *
+     * @throws Exception if the table cannot be created or the assignment fails
+     */
+    @Test
+    public void testAssignRows() throws Exception {
+        BufferedDataTable table = createTable();
+        DecisionTree tree = createTree();
+
+        LeafRows leafRows = JSDecisionTreeTranslater.assignRows(tree, table, NUM_ROWS, true, new ExecutionMonitor());
+        List<Integer> expected1 = new ArrayList<>();
+        List<Integer> expected2 = new ArrayList<>();
+        for (int i = 0; i < NUM_ROWS; i++) {
+            (isCovered(i) ? expected1 : expected2).add(i);
+        }
+        assertRows(leafRows, 1, expected1);
+        assertRows(leafRows, 2, expected2);
+
+        // concurrently, each worker with a tree of its own
+        LeafRows concurrentRows = JSDecisionTreeTranslater.assignRows(JSDecisionTreeTranslaterTest::createTree,
+            table, NUM_ROWS, true, new ExecutionMonitor());
+        assertRows(concurrentRows, 1, expected1);
+        assertRows(concurrentRows, 2, expected2);
+
+        LeafRows firstRows = JSDecisionTreeTranslater.assignRows(tree, table, 10, false, new ExecutionMonitor());
+        assertThat(firstRows.getNumRows(1) + firstRows.getNumRows(2), is(10));
+        assertThat(firstRows.getRowKeys(1), is(nullValue()));
+    }
+
+    private static void assertRows(final LeafRows leafRows, final int leaf, final List<Integer> expected) {
+        int[] indices = leafRows.getRowIndices(leaf);
+        String[] keys = leafRows.getRowKeys(leaf);
+        assertThat(leafRows.getNumRows(leaf), is(expected.size()));
+        assertThat(keys.length, is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(indices[i], is(expected.get(i).intValue()));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(keys[i], is(RowKey.createRowKey((long)expected.get(i)).getString()));
+        }
+    }
+
+    private static double valueA(final int row) {
+        return (row % 4) / 4.0;
+    }
+
+    private static double valueB(final int row) {
+        return (row % 7) / 7.0;
+    }
+
+    /** Both parts of the compound predicate of the first leaf have to hold. */
+    private static boolean isCovered(final int row) {
+        return valueA(row) <= 0.5 && valueB(row) <= 0.5;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static BufferedDataTable createTable() throws Exception {
+        ExecutionContext exec = new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory<NodeModel>)(NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(
+                new PortType[0])), MemoryPolicy.CacheOnDisc, new HashMap<>());
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("a", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("b", DoubleCell.TYPE).createSpec());
+        BufferedDataContainer container = exec.createDataContainer(spec);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new DoubleCell(valueA(i)),
+                new DoubleCell(valueB(i))));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static DecisionTree createTree() {
+        PMMLCompoundPredicate and = new PMMLCompoundPredicate(PMMLBooleanOperator.AND);
+        and.addPredicate(new PMMLSimplePredicate("a", PMMLOperator.LESS_OR_EQUAL, "0.5"));
+        and.addPredicate(new PMMLSimplePredicate("b", PMMLOperator.LESS_OR_EQUAL, "0.5"));
+        DecisionTreeNode leaf1 = new DecisionTreeNodeLeaf(1, CLASS_A, classCounts());
+        DecisionTreeNode leaf2 = new DecisionTreeNodeLeaf(2, CLASS_B, classCounts());
+        DecisionTreeNode root = new DecisionTreeNodeSplitPMML(0, CLASS_A, classCounts(), "a",
+            new PMMLPredicate[]{and, new PMMLTruePredicate()}, new DecisionTreeNode[]{leaf1, leaf2});
+        return new DecisionTree(root, "class");
+    }
+
+    private static LinkedHashMap<DataCell, Double> classCounts() {
+        LinkedHashMap<DataCell, Double> classCounts = new LinkedHashMap<>();
+        classCounts.put(CLASS_A, 1.0);
+        classCounts.put(CLASS_B, 1.0);
+        return classCounts;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+
+/**
+ * Testcases for {@link PagedTableBlockStore}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PagedTableBlockStoreTest {
+
+    private static final List<DataRow> ROWS = Collections.emptyList();
+
+    /**
+     * Checks that the least recently used blocks of all owners are evicted once the budget is exceeded.
+     */
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        PagedTableBlockStore store = new PagedTableBlockStore(300);
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+        store.put(owner1, 0, ROWS, 100);
+        store.put(owner2, 0, ROWS, 100);
+        store.put(owner1, 1, ROWS, 100);
+        assertThat(store.getUsedCells(), is(300L));
+
+        // touch the first block, the block of the second owner is now the least recently used one
+        assertThat(store.get(owner1, 0), is(notNullValue()));
+        store.put(owner1, 2, ROWS, 100);
+        assertThat(store.getUsedCells(), is(300L));
+        assertThat(store.contains(owner2, 0), is(false));
+        assertThat(store.contains(owner1, 0), is(true));
+        assertThat(store.contains(owner1, 1), is(true));
+        assertThat(store.contains(owner1, 2), is(true));
+    }
+
+    /**
+     * Checks that a block exceeding the budget on its own is kept until the next block is added.
+     */
+    @Test
+    public void testKeepOversizedBlock() {
+        PagedTableBlockStore store = new PagedTableBlockStore(100);
+        Object owner = new Object();
+        store.put(owner, 0, ROWS, 50);
+        store.put(owner, 1, ROWS, 500);
+        assertThat(store.contains(owner, 0), is(false));
+        assertThat(store.get(owner, 1), is(notNullValue()));
+        assertThat(store.getUsedCells(), is(500L));
+
+        store.put(owner, 2, ROWS, 50);
+        assertThat(store.get(owner, 1), is(nullValue()));
+        assertThat(store.getUsedCells(), is(50L));
+    }
+
+    /**
+     * Checks that replacing a block and removing all blocks of an owner keep the used cells consistent.
+     */
+    @Test
+    public void testReplaceAndRemoveAll() {
+        PagedTableBlockStore store = new PagedTableBlockStore(1000);
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+        store.put(owner1, 0, ROWS, 100);
+        store.put(owner1, 0, ROWS, 200);
+        store.put(owner1, 1, ROWS, 100);
+        store.put(owner2, 0, ROWS, 100);
+        assertThat(store.getUsedCells(), is(400L));
+
+        store.removeAll(owner1);
+        assertThat(store.getUsedCells(), is(100L));
+        assertThat(store.contains(owner1, 0), is(false));
+        assertThat(store.contains(owner2, 0), is(true));
+    }
+}
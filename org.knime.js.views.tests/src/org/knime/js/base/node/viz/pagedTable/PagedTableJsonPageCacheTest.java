@@ -0,0 +1,126 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+import org.knime.js.base.node.viz.pagedTable.PagedTableJsonPageCache.Page;
+
+/**
+ * Testcases for {@link PagedTableJsonPageCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PagedTableJsonPageCacheTest {
+
+    private static PagedTableViewRequest createRequest(final long start, final int length) {
+        PagedTableViewRequest request = new PagedTableViewRequest();
+        request.setStart(start);
+        request.setLength(length);
+        return request;
+    }
+
+    private static Page createPage(final int numChars) {
+        return new Page(new String(new char[numChars]), 100, 100);
+    }
+
+    /**
+     * Checks that pages are found for equal requests of the same view and table only and keep their row counts.
+     */
+    @Test
+    public void testKeys() {
+        PagedTableJsonPageCache cache = new PagedTableJsonPageCache(1000);
+        Object owner = new Object();
+        cache.put(owner, 1, createRequest(0, 10), createPage(10));
+        assertThat(cache.get(owner, 1, createRequest(0, 10)), is(notNullValue()));
+        assertThat(cache.get(owner, 1, createRequest(0, 10)).getRowCount(), is(100L));
+        assertThat(cache.get(owner, 1, createRequest(0, 10)).getTotalRowCount(), is(100L));
+        assertThat(cache.get(owner, 1, createRequest(10, 10)), is(nullValue()));
+        assertThat(cache.get(owner, 2, createRequest(0, 10)), is(nullValue()));
+        assertThat(cache.get(new Object(), 1, createRequest(0, 10)), is(nullValue()));
+
+        PagedTableViewRequest searchRequest = createRequest(0, 10);
+        PagedTableViewRequest.Search search = new PagedTableViewRequest.Search();
+        search.setValue("a");
+        searchRequest.setSearch(search);
+        assertThat(cache.get(owner, 1, searchRequest), is(nullValue()));
+    }
+
+    /**
+     * Checks that the least recently used pages are evicted once the budget is exceeded and that pages exceeding the
+     * budget on their own are not cached.
+     */
+    @Test
+    public void testBudget() {
+        PagedTableJsonPageCache cache = new PagedTableJsonPageCache(600);
+        Object owner = new Object();
+        cache.put(owner, 1, createRequest(0, 10), createPage(100));
+        cache.put(owner, 1, createRequest(10, 10), createPage(100));
+        cache.put(owner, 1, createRequest(20, 10), createPage(100));
+        assertThat(cache.getUsedBytes(), is(600L));
+
+        assertThat(cache.get(owner, 1, createRequest(0, 10)), is(notNullValue()));
+        cache.put(owner, 1, createRequest(30, 10), createPage(100));
+        assertThat(cache.getUsedBytes(), is(600L));
+        assertThat(cache.get(owner, 1, createRequest(10, 10)), is(nullValue()));
+        assertThat(cache.get(owner, 1, createRequest(0, 10)), is(notNullValue()));
+
+        cache.put(owner, 1, createRequest(40, 10), createPage(1000));
+        assertThat(cache.get(owner, 1, createRequest(40, 10)), is(nullValue()));
+        assertThat(cache.getUsedBytes(), is(600L));
+
+        cache.removeAll(owner);
+        assertThat(cache.getUsedBytes(), is(0L));
+        assertThat(new PagedTableJsonPageCache(0).isEnabled(), is(false));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link OrdinalDictionary}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class OrdinalDictionaryTest {
+
+    /**
+     * Checks that a column without possible values has no dictionary.
+     */
+    @Test
+    public void testNoPossibleValues() {
+        assertThat(OrdinalDictionary.of(null), is(nullValue()));
+        assertThat(OrdinalDictionary.of(new LinkedHashSet<Object>()).getOrdinal("a"),
+            is(OrdinalDictionary.UNKNOWN_ORDINAL));
+    }
+
+    /**
+     * Checks that the ordinals follow the iteration order of the possible values and that the symbol map maps them
+     * back to the values.
+     */
+    @Test
+    public void testOrdinalsAndSymbolMap() {
+        OrdinalDictionary dictionary =
+            OrdinalDictionary.of(new LinkedHashSet<Object>(Arrays.asList("c", "Aa", "BB", "a")));
+        assertThat(dictionary.size(), is(4));
+        assertThat(dictionary.getOrdinal("c"), is(0));
+        // "Aa" and "BB" share the same hash code
+        assertThat(dictionary.getOrdinal("Aa"), is(1));
+        assertThat(dictionary.getOrdinal("BB"), is(2));
+        assertThat(dictionary.getOrdinal("a"), is(3));
+        assertThat(dictionary.getOrdinal("b"), is(OrdinalDictionary.UNKNOWN_ORDINAL));
+        assertThat(dictionary.getOrdinal(null), is(OrdinalDictionary.UNKNOWN_ORDINAL));
+
+        Map<String, String> symbolMap = dictionary.getSymbolMap();
+        assertThat(symbolMap.size(), is(4));
+        assertThat(symbolMap.get("0"), is("c"));
+        assertThat(symbolMap.get("3"), is("a"));
+    }
+
+    /**
+     * Assigns ordinals to one million values of a column with 5000 categories, the size of the categorical axes the
+     * dictionary is meant for. With the former linear search through the possible values this took several seconds.
+     */
+    @Test(timeout = 10000)
+    public void testManyCategories() {
+        final int numCategories = 5000;
+        LinkedHashSet<Object> possibleValues = new LinkedHashSet<Object>();
+        for (int i = 0; i < numCategories; i++) {
+            possibleValues.add("Product " + i);
+        }
+        OrdinalDictionary dictionary = OrdinalDictionary.of(possibleValues);
+        Map<String, String> symbolMap = dictionary.getSymbolMap();
+
+        Random random = new Random(42);
+        int numRows = 1000000;
+        int numMismatches = 0;
+        for (int row = 0; row < numRows; row++) {
+            int category = random.nextInt(numCategories + 1);
+            int ordinal = dictionary.getOrdinal("Product " + category);
+            if (category < numCategories) {
+                numMismatches += ordinal == category
+                    && ("Product " + category).equals(symbolMap.get(Integer.toString(ordinal))) ? 0 : 1;
+            } else {
+                numMismatches += ordinal == OrdinalDictionary.UNKNOWN_ORDINAL ? 0 : 1;
+            }
+        }
+        assertThat("Unexpected ordinals", numMismatches, is(0));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.lift;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link LiftStatisticsCalculator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LiftStatisticsCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static void assertValues(final double[] actual, final double... expected) {
+        assertThat(actual.length, is(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat("Value " + i, actual[i], closeTo(expected[i], EPSILON));
+        }
+    }
+
+    /**
+     * Checks the statistics if the rows are evenly distributed to the intervals.
+     */
+    @Test
+    public void testEvenIntervals() {
+        LiftStatisticsCalculator calc = new LiftStatisticsCalculator("response", "probability", "yes", 50, false);
+        calc.computeStatistics(new int[]{0, 1, 5}, 10);
+        assertValues(calc.getLift(), 4 / 3.0, 2 / 3.0);
+        assertValues(calc.getCumulativeLift(), 4 / 3.0, 1);
+        assertValues(calc.getResponse(), 0, 200 / 3.0, 100);
+    }
+
+    /**
+     * Checks that the last interval is smaller if the rows cannot be distributed evenly.
+     */
+    @Test
+    public void testUnevenIntervals() {
+        LiftStatisticsCalculator calc = new LiftStatisticsCalculator("response", "probability", "yes", 25, false);
+        calc.computeStatistics(new int[]{6}, 7);
+        assertValues(calc.getLift(), 0, 0, 0, 3.5);
+        assertValues(calc.getCumulativeLift(), 0, 0, 0, 1);
+        assertValues(calc.getResponse(), 0, 0, 0, 0, 100);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.roc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.knime.js.base.node.viz.plotter.roc.ROCMultiCurveCalculator.MISSING;
+import static org.knime.js.base.node.viz.plotter.roc.ROCMultiCurveCalculator.NEGATIVE;
+import static org.knime.js.base.node.viz.plotter.roc.ROCMultiCurveCalculator.POSITIVE;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link ROCMultiCurveCalculator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ROCMultiCurveCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Checks the points and the area of a curve without ties.
+     */
+    @Test
+    public void testCurve() {
+        JSONROCCurve curve = ROCMultiCurveCalculator.computeCurve("score", new double[]{0.9, 0.8, 0.7, 0.6},
+            new byte[]{POSITIVE, NEGATIVE, POSITIVE, NEGATIVE}, true, -1);
+        assertThat(curve.getName(), is("score"));
+        assertThat(curve.getX(), is(new double[]{0, 0, 0.5, 0.5, 1}));
+        assertThat(curve.getY(), is(new double[]{0, 0.5, 0.5, 1, 1}));
+        assertThat(curve.getArea(), closeTo(0.75, EPSILON));
+    }
+
+    /**
+     * Checks that rows with equal scores result in a point per row in the order of the table.
+     */
+    @Test
+    public void testTies() {
+        JSONROCCurve curve = ROCMultiCurveCalculator.computeCurve("score", new double[]{0.5, 0.5, 0.9, 0.1},
+            new byte[]{POSITIVE, NEGATIVE, POSITIVE, NEGATIVE}, true, -1);
+        assertThat(curve.getX(), is(new double[]{0, 0, 0, 0.5, 1}));
+        assertThat(curve.getY(), is(new double[]{0, 0.5, 1, 1, 1}));
+        assertThat(curve.getArea(), closeTo(1, EPSILON));
+
+        JSONROCCurve reversed = ROCMultiCurveCalculator.computeCurve("score", new double[]{0.5, 0.5, 0.9, 0.1},
+            new byte[]{NEGATIVE, POSITIVE, POSITIVE, NEGATIVE}, true, -1);
+        assertThat(reversed.getX(), is(new double[]{0, 0, 0.5, 0.5, 1}));
+        assertThat(reversed.getY(), is(new double[]{0, 0.5, 0.5, 1, 1}));
+        assertThat(reversed.getArea(), closeTo(0.75, EPSILON));
+    }
+
+    /**
+     * Checks that rows with missing values are either ignored or treated as negative class and lowest score.
+     */
+    @Test
+    public void testMissingValues() {
+        double[] scores = {0.9, Double.NaN, 0.4, 0.2};
+        byte[] classes = {POSITIVE, POSITIVE, MISSING, NEGATIVE};
+        JSONROCCurve ignored = ROCMultiCurveCalculator.computeCurve("score", scores, classes, true, -1);
+        assertThat(ignored.getX(), is(new double[]{0, 0, 1}));
+        assertThat(ignored.getY(), is(new double[]{0, 1, 1}));
+        assertThat(ignored.getArea(), closeTo(1, EPSILON));
+
+        JSONROCCurve included = ROCMultiCurveCalculator.computeCurve("score", scores, classes, false, -1);
+        assertThat(included.getX(), is(new double[]{0, 0, 0.5, 1, 1}));
+        assertThat(included.getY(), is(new double[]{0, 0.5, 0.5, 0.5, 1}));
+        assertThat(included.getArea(), closeTo(0.5, EPSILON));
+    }
+
+    /**
+     * Compares the area of random curves to the fraction of correctly ordered pairs of positive and negative rows,
+     * tied pairs being ordered by their position in the table.
+     */
+    @Test
+    public void testAreaMatchesPairwiseRanking() {
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            int numRows = 1 + random.nextInt(200);
+            double[] scores = new double[numRows];
+            byte[] classes = new byte[numRows];
+            for (int i = 0; i < numRows; i++) {
+                scores[i] = random.nextInt(20) / 10.0;
+                classes[i] = random.nextBoolean() ? POSITIVE : NEGATIVE;
+            }
+            double correct = 0;
+            int pairs = 0;
+            for (int i = 0; i < numRows; i++) {
+                for (int j = 0; j < numRows; j++) {
+                    if (classes[i] == POSITIVE && classes[j] == NEGATIVE) {
+                        pairs++;
+                        correct += scores[i] > scores[j] || (scores[i] == scores[j] && i < j) ? 1 : 0;
+                    }
+                }
+            }
+            if (pairs == 0) {
+                continue;
+            }
+            JSONROCCurve curve = ROCMultiCurveCalculator.computeCurve("score", scores, classes, true, -1);
+            assertThat(curve.getArea(), closeTo(correct / pairs, EPSILON));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Testcases for {@link TableEditorChangesSettingsModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TableEditorChangesSettingsModelTest {
+
+    /**
+     * Checks that changes of all value types survive a save and load round trip, including the row order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSaveLoad() throws Exception {
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<String, Map<String, Object>>();
+        Map<String, Object> row2 = new HashMap<String, Object>();
+        row2.put("int", 42);
+        row2.put("double", 0.5);
+        row2.put("string", "äöü");
+        row2.put("boolean", true);
+        row2.put("missing", null);
+        changes.put("Row2", row2);
+        Map<String, Object> row0 = new HashMap<String, Object>();
+        row0.put("string", "");
+        row0.put("double", Double.NaN);
+        changes.put("Row0", row0);
+
+        TableEditorChangesSettingsModel model = new TableEditorChangesSettingsModel("editorChanges");
+        model.setChanges(changes);
+        NodeSettings settings = new NodeSettings("test");
+        model.saveSettingsTo(settings);
+
+        TableEditorChangesSettingsModel loaded = new TableEditorChangesSettingsModel("editorChanges");
+        loaded.loadSettingsFrom(settings);
+        assertThat(loaded.getChanges(), is(changes));
+        assertThat(loaded.getChanges().keySet(), contains("Row2", "Row0"));
+        assertThat(loaded.getChanges().get("Row2").containsKey("missing"), is(true));
+        assertThat(loaded.getChanges().get("Row2").get("missing"), is(nullValue()));
+    }
+
+    /**
+     * Checks that changes saved with one settings entry per cell can still be loaded.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testLoadLegacySettings() throws Exception {
+        NodeSettings settings = new NodeSettings("test");
+        NodeSettingsWO changesSettings = settings.addNodeSettings("editorChanges");
+        changesSettings.addInt("numRows", 1);
+        NodeSettingsWO rowSettings = changesSettings.addNodeSettings("rowEntry0");
+        rowSettings.addString("rowKey", "Row1");
+        rowSettings.addInt("numCells", 3);
+        NodeSettingsWO cellSettings = rowSettings.addNodeSettings("cellEntry0");
+        cellSettings.addString("colName", "int");
+        cellSettings.addString("type", "int");
+        cellSettings.addInt("value", 7);
+        cellSettings = rowSettings.addNodeSettings("cellEntry1");
+        cellSettings.addString("colName", "string");
+        cellSettings.addString("type", "string");
+        cellSettings.addString("value", "a");
+        cellSettings = rowSettings.addNodeSettings("cellEntry2");
+        cellSettings.addString("colName", "missing");
+        cellSettings.addString("type", "mv");
+
+        TableEditorChangesSettingsModel model = new TableEditorChangesSettingsModel("editorChanges");
+        model.loadSettingsFrom(settings);
+        Map<String, Object> row = model.getChanges().get("Row1");
+        assertThat(row.size(), is(3));
+        assertThat(row.get("int"), is(7));
+        assertThat(row.get("string"), is("a"));
+        assertThat(row.get("missing"), is(nullValue()));
+    }
+
+    /**
+     * Checks that modified binary data is detected by the hash.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = InvalidSettingsException.class)
+    public void testCorruptData() throws Exception {
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<String, Map<String, Object>>();
+        changes.put("Row0", new HashMap<String, Object>(Map.of("int", 1)));
+        TableEditorChangesSettingsModel model = new TableEditorChangesSettingsModel("editorChanges");
+        model.setChanges(changes);
+        NodeSettings settings = new NodeSettings("test");
+        model.saveSettingsTo(settings);
+
+        TableEditorChangesSettingsModel other = new TableEditorChangesSettingsModel("editorChanges");
+        other.setChanges(new LinkedHashMap<String, Map<String, Object>>(
+            Map.of("Row1", new HashMap<String, Object>(Map.of("int", 2)))));
+        NodeSettings otherSettings = new NodeSettings("test");
+        other.saveSettingsTo(otherSettings);
+        // combine the data of one with the hash of the other
+        settings.getNodeSettings("editorChanges").addString("data",
+            otherSettings.getNodeSettings("editorChanges").getString("data"));
+
+        new TableEditorChangesSettingsModel("editorChanges").loadSettingsFrom(settings);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.util.selection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+import org.knime.core.data.RowKey;
+
+/**
+ * Testcases for {@link SelectionIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SelectionIndexTest {
+
+    /**
+     * Checks that a <code>null</code> or empty selection results in an empty index.
+     */
+    @Test
+    public void testEmptySelection() {
+        assertThat(SelectionIndex.of(null).isEmpty(), is(true));
+        assertThat(SelectionIndex.of(new String[0]).isEmpty(), is(true));
+        assertThat(SelectionIndex.of(null).contains("Row0"), is(false));
+        assertThat(SelectionIndex.of(null).contains(new RowKey("Row0")), is(false));
+        assertThat(SelectionIndex.of(null).asList().isEmpty(), is(true));
+    }
+
+    /**
+     * Checks lookups of selected and unselected row keys, including duplicates and colliding hash codes.
+     */
+    @Test
+    public void testContains() {
+        // "Aa" and "BB" share the same hash code
+        SelectionIndex index = SelectionIndex.of(new String[]{"Row1", "Aa", "BB", "Row1", null});
+        assertThat(index.size(), is(3));
+        assertThat(index.contains("Row1"), is(true));
+        assertThat(index.contains("Aa"), is(true));
+        assertThat(index.contains("BB"), is(true));
+        assertThat(index.contains(new RowKey("BB")), is(true));
+        assertThat(index.contains("Row0"), is(false));
+        assertThat(index.contains("C#"), is(false));
+        assertThat(index.contains((String)null), is(false));
+    }
+
+    /**
+     * Checks a large selection against every key of an even larger key range.
+     */
+    @Test
+    public void testLargeSelection() {
+        String[] selection = new String[50000];
+        for (int i = 0; i < selection.length; i++) {
+            selection[i] = "Row" + (2 * i);
+        }
+        SelectionIndex index = SelectionIndex.of(selection);
+        assertThat(index.size(), is(selection.length));
+        for (int i = 0; i < 2 * selection.length; i++) {
+            assertThat("Unexpected lookup result for Row" + i, index.contains("Row" + i), is(i % 2 == 0));
+        }
+    }
+
+    /**
+     * Checks that the list view keeps the original order and answers contains from the index.
+     */
+    @Test
+    public void testAsList() {
+        SelectionIndex index = SelectionIndex.of(new String[]{"Row2", "Row0"});
+        assertThat(index.asList(), contains("Row2", "Row0"));
+        assertThat(index.asList().contains("Row0"), is(true));
+        assertThat(index.asList().contains("Row1"), is(false));
+    }
+}
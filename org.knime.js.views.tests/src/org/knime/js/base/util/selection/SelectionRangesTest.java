@@ -0,0 +1,118 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.util.selection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Testcases for {@link SelectionRanges}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SelectionRangesTest {
+
+    /**
+     * Checks that <code>null</code> or empty ranges result in an empty selection.
+     */
+    @Test
+    public void testEmptySelection() {
+        assertThat(SelectionRanges.of(null).isEmpty(), is(true));
+        assertThat(SelectionRanges.of(new long[0]).isEmpty(), is(true));
+        assertThat(SelectionRanges.of(new long[]{3, 3}).isEmpty(), is(true));
+        assertThat(SelectionRanges.of(null).contains(0), is(false));
+        assertThat(SelectionRanges.of(null).getEnd(), is(0L));
+    }
+
+    /**
+     * Checks that unsorted, overlapping and adjacent ranges are merged.
+     */
+    @Test
+    public void testNormalization() {
+        SelectionRanges ranges = SelectionRanges.of(new long[]{10, 12, 0, 3, 2, 5, 5, 6, 8, 8});
+        assertThat(ranges.toArray(), is(new long[]{0, 6, 10, 12}));
+        assertThat(ranges.size(), is(8L));
+        assertThat(ranges.getEnd(), is(12L));
+        // single rows, duplicates included, as an unmerged selection of a view
+        assertThat(SelectionRanges.of(new long[]{7, 8, 1, 2, 2, 3, 3, 4, 7, 8, 9, 10}).toArray(),
+            is(new long[]{1, 4, 7, 8, 9, 10}));
+    }
+
+    /**
+     * Checks lookups at and around the boundaries of the ranges.
+     */
+    @Test
+    public void testContains() {
+        SelectionRanges ranges = SelectionRanges.of(new long[]{2, 4, 10, 11});
+        boolean[] expected = {false, false, true, true, false, false, false, false, false, false, true, false};
+        for (int i = 0; i < expected.length; i++) {
+            assertThat("Row " + i, ranges.contains(i), is(expected[i]));
+        }
+        assertThat(ranges.contains(-1), is(false));
+        assertThat(ranges.contains(Long.MAX_VALUE), is(false));
+    }
+
+    /**
+     * Checks that invalid ranges are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOddLength() {
+        SelectionRanges.of(new long[]{1, 2, 3});
+    }
+
+    /**
+     * Checks that negative row indices are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIndex() {
+        SelectionRanges.of(new long[]{-1, 2});
+    }
+}
@@ -13,6 +13,7 @@ window.heatmapNamespace = (function () {
         this._tooltip = null;
         this._colorRange = null;
         this._filteredData = null;
+        this._currentFilter = null;
         this._zoomDimensions = null;
         this._cellWidth = null;
         this._cellHeight = null;
@@ -137,6 +138,7 @@ window.heatmapNamespace = (function () {
 
     Heatmap.prototype.onFilterChange = function (data) {
         var self = this;
+        this._currentFilter = data;
         this._filteredData = this._table.getRows().filter(function (row) {
             return self._table.isRowIncludedInFilter(row.rowKey, data);
         });
@@ -209,6 +211,11 @@ window.heatmapNamespace = (function () {
         var progressBar = '<div class="progress-bar">Rendering ...<span class="progress"></span></div>';
         container.innerHTML = svgWrapper + infoWrapperEl + toolTipWrapper + progressBar;
 
+        if (this._representation.enableLazyLoading && this._representation.runningInView) {
+            this.drawLazyPage();
+            return;
+        }
+
         var data = this._filteredData
             ? this.getSelectionData(this._filteredData)
             : this.getSelectionData(this._table.getRows());
@@ -222,6 +229,61 @@ window.heatmapNamespace = (function () {
         this.drawContents(paginationData.rows);
     };
 
+    /**
+     * Request the rows of the current page from the node and draw them, used if lazy loading is enabled.
+     * Filter and 'show selected rows only' are applied to the rows of the current page.
+     * @return {Undefined}
+     */
+    Heatmap.prototype.drawLazyPage = function () {
+        var self = this;
+        var rowCount = this._representation.rowCount;
+        var pageSize = parseInt(this._value.initialPageSize, 10);
+        var pageCount = Math.max(1, Math.ceil(rowCount / pageSize));
+
+        // jump to page 1 if total number of pages exceeds current page
+        this._value.currentPage = this._value.currentPage <= pageCount ? this._value.currentPage : 1;
+
+        var pageRowStartIndex = pageSize * (this._value.currentPage - 1);
+        var pageRowEndIndex = Math.min(pageSize * this._value.currentPage, rowCount);
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.heatmap.HeatMapViewRequest',
+            start: pageRowStartIndex,
+            length: pageSize,
+            includeSvgLabels: Boolean(this._representation.svgLabelColumn),
+            // the color scale needs the range of the page if it is neither custom nor known from the domain
+            includeRange: Boolean(this._representation.rangeFromPage)
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            self._table.setDataTable(response.table);
+            if (typeof response.minValue === 'number') {
+                self._representation.minValue = response.minValue;
+            }
+            if (typeof response.maxValue === 'number') {
+                self._representation.maxValue = response.maxValue;
+            }
+            var rows = self._table.getRows();
+            if (self._currentFilter) {
+                rows = rows.filter(function (row) {
+                    return self._table.isRowIncludedInFilter(row.rowKey, self._currentFilter);
+                });
+            }
+            var paginationData = {
+                totalRowCount: response.rowCount,
+                rows: self.getSelectionData(rows),
+                pageCount: pageCount,
+                pageRowEndIndex: pageRowEndIndex,
+                pageRowStartIndex: pageRowStartIndex,
+                next: pageRowEndIndex < rowCount ? self._value.currentPage + 1 : false,
+                prev: pageRowStartIndex > 0 ? self._value.currentPage - 1 : false
+            };
+            self.drawMetaInfo(paginationData);
+            self.drawContents(paginationData.rows);
+        })['catch'](function () {
+            knimeService.setWarningMessage('Rows of page ' + self._value.currentPage + ' could not be loaded.',
+                'lazyLoading');
+        });
+    };
+
     Heatmap.prototype.getProgressBar = function (totalRowsCount) {
         if (!this._drawCellQueue) {
             return;
@@ -1,4 +1,4 @@
-/* global d3:false, jsfc:false, moment:false, twinlistMultipleSelections:false, DateFormat: false*/
+/* global d3:false, jsfc:false, moment:false, twinlistMultipleSelections:false, DateFormat: false, knimeBinaryKeyedDataset: false*/
 window.knimeLinePlot = (function () {
 
     var view = {};
@@ -29,6 +29,13 @@ window.knimeLinePlot = (function () {
     var errorSvgId = 'errorSvg';
     var MAX_COLUMNS = 200;
 
+    var DOWNSAMPLING_WARNING_ID = 'downsampling';
+    var DOWNSAMPLING_DELAY = 300;
+    var downsamplingTimeout = null;
+    var downsamplingRequestCount = 0;
+    var downsampledBounds = null;
+    var downsampledWidth = 0;
+
     var initialAxisBounds,
 
         /**
@@ -36,7 +43,8 @@ window.knimeLinePlot = (function () {
          */
         drawControls, drawChart, buildXYDataset, tooManyColumnsError, getJsfcColor, createDateFormatter,
         setChartDimensions, checkWarningMessages, updateTitle, updateSubtitle, setTitles, updateXAxisLabel,
-        updateYAxisLabel, updateChart, setAxisBoundsToValue, drawSeries, resize, changeLineSize;
+        updateYAxisLabel, updateChart, setAxisBoundsToValue, drawSeries, resize, changeLineSize, createKeyedDataset,
+        isRangeDownsampled, getPlotWidth, scheduleDownsample, requestDownsample;
 
     // eslint-disable-next-line
     view.init = function (representation, value) {
@@ -54,55 +62,8 @@ window.knimeLinePlot = (function () {
         try {
             // console.time("Parse and build 2DDataset");
             // console.time("Total init time");
-            _keyedDataset = new jsfc.KeyedValues2DDataset();
-            // _keyedDataset.load(_representation.keyedDataset);
-            var columnKey, col, symbolKey, propertyKey, id;
-
-            for (var rowIndex = 0; rowIndex < _representation.keyedDataset.rows.length; rowIndex++) {
-                var rowKey = _representation.keyedDataset.rows[rowIndex].rowKey;
-                var row = _representation.keyedDataset.rows[rowIndex];
-                var properties = row.properties;
-                for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                    columnKey = _representation.keyedDataset.columnKeys[col];
-                    _keyedDataset.add(rowKey, columnKey, row.values[col]);
-                }
-                for (propertyKey in properties) {
-                    _keyedDataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
-                }
-            }
-
-            for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                columnKey = _representation.keyedDataset.columnKeys[col];
-                var symbolProp = _representation.keyedDataset.symbols[col];
-                if (symbolProp) {
-                    var symbols = [];
-                    for (symbolKey in symbolProp) {
-                        symbols.push({
-                            symbol: symbolProp[symbolKey],
-                            value: symbolKey
-                        });
-                    }
-                    _keyedDataset.setColumnProperty(columnKey, 'symbols', symbols);
-                }
-                var columnColor = _representation.keyedDataset.columnColors[col];
-                if (columnColor) {
-                    _keyedDataset.setColumnProperty(columnKey, 'color', columnColor);
-                }
-                var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
-                if (dateTimeFormat) {
-                    _keyedDataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
-                }
-            }
-
-            if (_value.selection) {
-                for (var selection = 0; selection < _value.selection.length; selection++) {
-                    for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                        // Select all cols of selected row
-                        _keyedDataset.select('selection', _value.selection[selection],
-                            _representation.keyedDataset.columnKeys[col]);
-                    }
-                }
-            }
+            _keyedDataset = createKeyedDataset(_representation.keyedDataset, _representation.binaryDataset);
+            var id;
 
             // Set locale for moment.js.
             if (_representation.dateTimeFormats.globalDateTimeLocale !== 'en') {
@@ -166,6 +127,126 @@ window.knimeLinePlot = (function () {
         }
     };
 
+    /**
+     * Creates the dataset of the plot from the rows of the given dataset, i.e. the rows of the representation or of
+     * a downsample requested for the visible range. The column properties are always taken from the representation.
+     */
+    createKeyedDataset = function (keyedDataset, binaryDataset) {
+        var dataset = new jsfc.KeyedValues2DDataset();
+        // dataset.load(keyedDataset);
+        var columnKeys = _representation.keyedDataset.columnKeys;
+        var columnKey, col, symbolKey, propertyKey;
+
+        if (binaryDataset) {
+            // rows are transferred column-wise in a binary encoding
+            knimeBinaryKeyedDataset.addRows(binaryDataset, columnKeys, dataset);
+        }
+        for (var rowIndex = 0; rowIndex < keyedDataset.rows.length; rowIndex++) {
+            var row = keyedDataset.rows[rowIndex];
+            var rowKey = row.rowKey;
+            var properties = row.properties;
+            for (col = 0; col < columnKeys.length; col++) {
+                dataset.add(rowKey, columnKeys[col], row.values[col]);
+            }
+            for (propertyKey in properties) {
+                dataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
+            }
+        }
+
+        for (col = 0; col < columnKeys.length; col++) {
+            columnKey = columnKeys[col];
+            var symbolProp = _representation.keyedDataset.symbols[col];
+            if (symbolProp) {
+                var symbols = [];
+                for (symbolKey in symbolProp) {
+                    symbols.push({
+                        symbol: symbolProp[symbolKey],
+                        value: symbolKey
+                    });
+                }
+                dataset.setColumnProperty(columnKey, 'symbols', symbols);
+            }
+            var columnColor = _representation.keyedDataset.columnColors[col];
+            if (columnColor) {
+                dataset.setColumnProperty(columnKey, 'color', columnColor);
+            }
+            var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
+            if (dateTimeFormat) {
+                dataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
+            }
+        }
+
+        if (_value.selection) {
+            for (var selection = 0; selection < _value.selection.length; selection++) {
+                for (col = 0; col < columnKeys.length; col++) {
+                    // Select all cols of selected row
+                    dataset.select('selection', _value.selection[selection], columnKeys[col]);
+                }
+            }
+        }
+        return dataset;
+    };
+
+    /**
+     * The downsample of the lines is refined for the visible x-range if the x-values are numbers or date&time values.
+     * Rows plotted by their index or by a nominal x-value are downsampled for the full range only.
+     */
+    isRangeDownsampled = function () {
+        return _value.xColumn !== null && !_keyedDataset.getColumnProperty(_value.xColumn, 'symbols');
+    };
+
+    getPlotWidth = function () {
+        var container = document.getElementById(containerID);
+        return Math.max(minWidth, container ? container.clientWidth : _representation.imageWidth);
+    };
+
+    scheduleDownsample = function (fullRange) {
+        if (downsamplingTimeout) {
+            clearTimeout(downsamplingTimeout);
+        }
+        // zooming and panning change the axes many times in a row, only the final range is requested
+        downsamplingTimeout = setTimeout(function () {
+            downsamplingTimeout = null;
+            requestDownsample(fullRange);
+        }, DOWNSAMPLING_DELAY);
+    };
+
+    requestDownsample = function (fullRange) {
+        if (!_representation.enableDownsampling || !knimeService || !knimeService.requestViewUpdate) {
+            return;
+        }
+        var xAxis = chartManager.getChart().getPlot().getXAxis();
+        var rangeDownsampled = !fullRange && isRangeDownsampled();
+        var bounds = {
+            xMin: xAxis.getLowerBound(),
+            xMax: xAxis.getUpperBound()
+        };
+        var width = getPlotWidth();
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.plotter.line.LinePlotViewRequest',
+            xColumn: _value.xColumn,
+            yColumns: _value.yColumns,
+            xMin: rangeDownsampled ? bounds.xMin : null,
+            xMax: rangeDownsampled ? bounds.xMax : null,
+            width: width
+        };
+        var requestCount = ++downsamplingRequestCount;
+        knimeService.requestViewUpdate(request).then(function (response) {
+            if (requestCount !== downsamplingRequestCount) {
+                // a downsample of a more recent range has been requested meanwhile
+                return;
+            }
+            downsampledBounds = bounds;
+            downsampledWidth = width;
+            knimeService.clearWarningMessage(DOWNSAMPLING_WARNING_ID);
+            _keyedDataset = createKeyedDataset(response.keyedDataset, response.binaryDataset);
+            updateChart(true);
+        })['catch'](function () {
+            knimeService.setWarningMessage('The lines could not be downsampled for the visible range.',
+                DOWNSAMPLING_WARNING_ID);
+        });
+    };
+
     buildXYDataset = function () {
         // console.time("Building XYDataset");
         var xyDataset;
@@ -463,6 +544,25 @@ window.knimeLinePlot = (function () {
             yMin: yAxis.getLowerBound(),
             yMax: yAxis.getUpperBound()
         };
+
+        if (_representation.enableDownsampling) {
+            downsampledBounds = {
+                xMin: initialAxisBounds.xMin,
+                xMax: initialAxisBounds.xMax
+            };
+            downsampledWidth = _representation.imageWidth;
+            plot.addListener(function () {
+                var bounds = downsampledBounds;
+                if (isRangeDownsampled() && bounds && (xAxis.getLowerBound() !== bounds.xMin ||
+                        xAxis.getUpperBound() !== bounds.xMax)) {
+                    scheduleDownsample(false);
+                }
+            });
+            if (getPlotWidth() > downsampledWidth) {
+                // the lines have been downsampled to the image width, which is smaller than the view
+                scheduleDownsample(true);
+            }
+        }
     };
 
     checkIncludeOrigin = function (yAxis) {
@@ -495,6 +595,9 @@ window.knimeLinePlot = (function () {
     resize = function (event) {
         setChartDimensions();
         chartManager.refreshDisplay();
+        if (_representation.enableDownsampling && getPlotWidth() > downsampledWidth) {
+            scheduleDownsample(false);
+        }
     };
 
     setChartDimensions = function () {
@@ -508,7 +611,7 @@ window.knimeLinePlot = (function () {
         chartManager.getChart().setSize(w, h, false);
     };
 
-    updateChart = function () {
+    updateChart = function (keepAxisBounds) {
         isEmptyPlot = true;
         var plot = chartManager.getChart().getPlot();
         var dataset;
@@ -531,7 +634,7 @@ window.knimeLinePlot = (function () {
                 plot.getXAxis().setTickLabelFormatOverride(null, false);
             }
         }
-        if (_representation.autoRangeAxes) {
+        if (_representation.autoRangeAxes && !keepAxisBounds) {
             plot.getXAxis().setAutoRange(true, false);
             plot.getYAxis().setAutoRange(true, false);
         }
@@ -647,6 +750,8 @@ window.knimeLinePlot = (function () {
                         chartManager.getChart().getPlot().getXAxis().setLabel(_value.xColumn, false);
                     }
                     updateChart();
+                    // the downsample has been selected along the previous x-values
+                    scheduleDownsample(true);
                 });
                 knimeService.addMenuItem('X Column:', 'long-arrow-right', colSelect);
             }
@@ -679,6 +784,8 @@ window.knimeLinePlot = (function () {
                 ySelect.addValueChangedListener(function () {
                     _value.yColumns = ySelect.getSelections();
                     updateChart();
+                    // the downsample has been selected for the previous y-columns
+                    scheduleDownsample(false);
                 });
                 knimeService.addMenuItem('Y Column:', 'long-arrow-up', ySelectComponent);
                 ySelectComponent.style.fontFamily = defaultFont;
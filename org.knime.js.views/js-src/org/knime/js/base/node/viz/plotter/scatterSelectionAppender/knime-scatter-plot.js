@@ -1,4 +1,4 @@
-/* global d3:false, jsfc:false, moment:false, DateFormat: false, extractXYDatasetFromColumns2D: false*/
+/* global d3:false, jsfc:false, moment:false, DateFormat: false, extractXYDatasetFromColumns2D: false, knimeBinaryKeyedDataset: false*/
 window.knimeScatterPlotSelectionAppender = (function () {
     var view = {};
     var _representation = null;
@@ -29,6 +29,20 @@ window.knimeScatterPlotSelectionAppender = (function () {
     var MISSING_VALUES_NOT_SHOWN_WARNING_ID = 'missingValuesNotShown';
     var NO_DATA_AVAILABLE = 'noDataAvailable';
 
+    var DENSITY_WARNING_ID = 'densityBinning';
+    var DENSITY_DELAY = 300;
+    var DENSITY_CELL_PREFIX = 'cell_';
+    var DENSITY_LOW_COLOR = [198, 219, 239];
+    var DENSITY_HIGH_COLOR = [8, 48, 107];
+    var _densityGrid = null;
+    var densityTimeout = null;
+    var densityRequestCount = 0;
+    var densitySelectionRequestCount = 0;
+    var densityBounds = null;
+    var densitySize = null;
+    var densitySelection = null;
+    var resolvedCells = '';
+
     var initialAxisBounds,
 
         /**
@@ -38,7 +52,9 @@ window.knimeScatterPlotSelectionAppender = (function () {
         checkIncludeOrigin, setChartDimensions, unselectHiddenOrFilteredPoints, publishSelection, resize,
         applyFilter, updateChart, updateTitle, updateSubtitle, setTitles, updateXAxisLabel, updateYAxisLabel,
         selectionChanged, filterChanged, unselect, getSelectionItemsById, extractItemKeyFromRefString,
-        isRowIncludedInFilter, setAxisBoundsToValue, legendInfo, createLegend;
+        isRowIncludedInFilter, setAxisBoundsToValue, setSelectionToValue, getSelectionRanges, legendInfo,
+        createLegend, createKeyedDataset, getCellColor, getAxisBounds, isBinnedRange, getPlotSize, scheduleBinning,
+        requestBinning, getSelectedRowKeys, selectRowKeys, updateDensitySelection, resolveCellSelection;
 
     view.init = function (representation, value) {
         if (!representation.keyedDataset) {
@@ -55,41 +71,13 @@ window.knimeScatterPlotSelectionAppender = (function () {
         try {
             // console.time("Parse and build 2DDataset");
             // console.time("Total init time");
-            _keyedDataset = new jsfc.KeyedValues2DDataset();
-            // _keyedDataset.load(_representation.keyedDataset);
-            var col, columnKey, propertyKey, symbolKey, id;
-
-            for (var rowIndex = 0; rowIndex < _representation.keyedDataset.rows.length; rowIndex++) {
-                var rowKey = _representation.keyedDataset.rows[rowIndex].rowKey;
-                var row = _representation.keyedDataset.rows[rowIndex];
-                var properties = row.properties;
-                for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                    columnKey = _representation.keyedDataset.columnKeys[col];
-                    _keyedDataset.add(rowKey, columnKey, row.values[col]);
-                }
-                for (propertyKey in properties) {
-                    _keyedDataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
-                }
-            }
-
-            for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                columnKey = _representation.keyedDataset.columnKeys[col];
-                var symbolProp = _representation.keyedDataset.symbols[col];
-                if (symbolProp) {
-                    var symbols = [];
-                    for (symbolKey in symbolProp) {
-                        symbols.push({
-                            symbol: symbolProp[symbolKey],
-                            value: symbolKey
-                        });
-                    }
-                    _keyedDataset.setColumnProperty(columnKey, 'symbols', symbols);
-                }
-                var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
-                if (dateTimeFormat) {
-                    _keyedDataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
-                }
+            _densityGrid = _representation.densityGrid;
+            if (_representation.enableDensityBinning) {
+                densitySelection = _value.selection;
             }
+            _keyedDataset = createKeyedDataset(_representation.keyedDataset, _representation.binaryDataset,
+                _densityGrid);
+            var id;
             // console.timeEnd("Parse and build 2DDataset");
 
             // Solution for a bunch of problems related to 0-width range of Y axis
@@ -143,6 +131,170 @@ window.knimeScatterPlotSelectionAppender = (function () {
         }
     };
 
+    /**
+     * Creates the dataset of the plot from the rows of the given dataset, i.e. the rows of the representation or the
+     * points of a range requested from the node. If a density grid is given, its cells are added as rows instead,
+     * located at the centers of the cells and colored by their number of rows. The column properties are always taken
+     * from the representation.
+     */
+    createKeyedDataset = function (keyedDataset, binaryDataset, densityGrid) {
+        var dataset = new jsfc.KeyedValues2DDataset();
+        // dataset.load(keyedDataset);
+        var columnKeys = _representation.keyedDataset.columnKeys;
+        var columnKey, col, symbolKey, propertyKey;
+
+        if (densityGrid) {
+            var maxCount = Math.max.apply(null, densityGrid.counts.concat([1]));
+            var cellWidth = (densityGrid.xMax - densityGrid.xMin) / densityGrid.numXBins;
+            var cellHeight = (densityGrid.yMax - densityGrid.yMin) / densityGrid.numYBins;
+            for (var cell = 0; cell < densityGrid.cells.length; cell++) {
+                var cellIndex = densityGrid.cells[cell];
+                var cellKey = DENSITY_CELL_PREFIX + cellIndex;
+                var x = densityGrid.xMin + (cellIndex % densityGrid.numXBins + 0.5) * cellWidth;
+                var y = densityGrid.yMin + (Math.floor(cellIndex / densityGrid.numXBins) + 0.5) * cellHeight;
+                for (col = 0; col < columnKeys.length; col++) {
+                    columnKey = columnKeys[col];
+                    if (columnKey === densityGrid.xColumn) {
+                        dataset.add(cellKey, columnKey, x);
+                    } else if (columnKey === densityGrid.yColumn) {
+                        dataset.add(cellKey, columnKey, y);
+                    } else {
+                        dataset.add(cellKey, columnKey, null);
+                    }
+                }
+                dataset.setRowProperty(cellKey, 'color', getCellColor(densityGrid.counts[cell], maxCount));
+            }
+        } else {
+            if (binaryDataset) {
+                // rows are transferred column-wise in a binary encoding
+                knimeBinaryKeyedDataset.addRows(binaryDataset, columnKeys, dataset);
+            }
+            for (var rowIndex = 0; rowIndex < keyedDataset.rows.length; rowIndex++) {
+                var row = keyedDataset.rows[rowIndex];
+                var rowKey = row.rowKey;
+                var properties = row.properties;
+                for (col = 0; col < columnKeys.length; col++) {
+                    dataset.add(rowKey, columnKeys[col], row.values[col]);
+                }
+                for (propertyKey in properties) {
+                    dataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
+                }
+            }
+        }
+
+        for (col = 0; col < columnKeys.length; col++) {
+            columnKey = columnKeys[col];
+            var symbolProp = _representation.keyedDataset.symbols[col];
+            if (symbolProp) {
+                var symbols = [];
+                for (symbolKey in symbolProp) {
+                    symbols.push({
+                        symbol: symbolProp[symbolKey],
+                        value: symbolKey
+                    });
+                }
+                dataset.setColumnProperty(columnKey, 'symbols', symbols);
+            }
+            var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
+            if (dateTimeFormat) {
+                dataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
+            }
+        }
+        return dataset;
+    };
+
+    /**
+     * Interpolates the color of a cell of the density grid on a logarithmic scale of its number of rows.
+     */
+    getCellColor = function (count, maxCount) {
+        var t = maxCount > 1 ? Math.log(count) / Math.log(maxCount) : 1;
+        var color = '#';
+        for (var c = 0; c < 3; c++) {
+            var channel = Math.round(DENSITY_LOW_COLOR[c] + t * (DENSITY_HIGH_COLOR[c] - DENSITY_LOW_COLOR[c]));
+            color += (channel < 16 ? '0' : '') + channel.toString(16);
+        }
+        return color;
+    };
+
+    getAxisBounds = function () {
+        var plot = chartManager.getChart().getPlot();
+        return {
+            xMin: plot.getXAxis().getLowerBound(),
+            xMax: plot.getXAxis().getUpperBound(),
+            yMin: plot.getYAxis().getLowerBound(),
+            yMax: plot.getYAxis().getUpperBound()
+        };
+    };
+
+    isBinnedRange = function () {
+        var bounds = getAxisBounds();
+        return densityBounds !== null && bounds.xMin === densityBounds.xMin && bounds.xMax === densityBounds.xMax &&
+            bounds.yMin === densityBounds.yMin && bounds.yMax === densityBounds.yMax;
+    };
+
+    getPlotSize = function () {
+        var container = document.getElementById(containerID);
+        return {
+            width: Math.max(minWidth, container ? container.clientWidth : _representation.imageWidth),
+            height: Math.max(minHeight, container ? container.clientHeight : _representation.imageHeight)
+        };
+    };
+
+    scheduleBinning = function (fullRange) {
+        if (densityTimeout) {
+            clearTimeout(densityTimeout);
+        }
+        // zooming and panning change the axes many times in a row, only the final range is requested
+        densityTimeout = setTimeout(function () {
+            densityTimeout = null;
+            requestBinning(fullRange);
+        }, DENSITY_DELAY);
+    };
+
+    /**
+     * Requests the density grid of the visible range or of the full range of the columns, which is replaced by the
+     * points if there are few enough of them.
+     */
+    requestBinning = function (fullRange) {
+        if (!_representation.enableDensityBinning || !knimeService || !knimeService.requestViewUpdate) {
+            return;
+        }
+        var size = getPlotSize();
+        if (!fullRange && isBinnedRange() && densitySize && size.width <= densitySize.width &&
+                size.height <= densitySize.height) {
+            return;
+        }
+        var bounds = fullRange ? null : getAxisBounds();
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.plotter.scatterSelectionAppender.ScatterPlotViewRequest',
+            xColumn: _value.xColumn,
+            yColumn: _value.yColumn,
+            xMin: bounds ? bounds.xMin : null,
+            xMax: bounds ? bounds.xMax : null,
+            yMin: bounds ? bounds.yMin : null,
+            yMax: bounds ? bounds.yMax : null,
+            width: size.width,
+            height: size.height
+        };
+        var requestCount = ++densityRequestCount;
+        knimeService.requestViewUpdate(request).then(function (response) {
+            if (requestCount !== densityRequestCount) {
+                // the grid of a more recent range has been requested meanwhile
+                return;
+            }
+            knimeService.clearWarningMessage(DENSITY_WARNING_ID);
+            _densityGrid = response.densityGrid;
+            resolvedCells = '';
+            _keyedDataset = createKeyedDataset(response.keyedDataset, response.binaryDataset, response.densityGrid);
+            updateChart(!fullRange);
+            densityBounds = getAxisBounds();
+            densitySize = size;
+        })['catch'](function () {
+            knimeService.setWarningMessage('The points could not be binned for the visible range.',
+                DENSITY_WARNING_ID);
+        });
+    };
+
     buildXYDataset = function () {
         // console.time("Building XYDataset");
         var yCol = null;
@@ -193,7 +345,19 @@ window.knimeScatterPlotSelectionAppender = (function () {
         // Assign selection in _keyedDataset is lost when building XYDataset, therefore we need to assing selection
         // directly to XYDataset.
         // Since their structure model is different, we need to do a conversion
-        if (_value.selection) {
+        if (_representation.enableDensityBinning) {
+            // the cells of the grid are selected by the user only, points by the rows of the selection
+            selectRowKeys(dataset, _densityGrid ? null : densitySelection);
+        } else if (_value.selectionRanges && _value.selectionDatasetId === _representation.datasetFingerprint) {
+            // ranges of row indices of the keyed dataset, which is in the order of the input table
+            var rows = _keyedDataset.data.rows;
+            for (var r = 0; r + 1 < _value.selectionRanges.length; r += 2) {
+                var end = Math.min(_value.selectionRanges[r + 1], rows.length);
+                for (var rowInd = _value.selectionRanges[r]; rowInd < end; rowInd++) {
+                    select(dataset, getRowIndex(rows[rowInd].key));
+                }
+            }
+        } else if (_value.selection) {
             for (var rowKeyInd = 0; rowKeyInd < _value.selection.length; rowKeyInd++) {
                 select(dataset, getRowIndex(_value.selection[rowKeyInd]));
             }
@@ -354,6 +518,30 @@ window.knimeScatterPlotSelectionAppender = (function () {
             yMin: yAxis.getLowerBound(),
             yMax: yAxis.getUpperBound()
         };
+
+        if (_representation.enableDensityBinning) {
+            densityBounds = getAxisBounds();
+            densitySize = {
+                width: _representation.imageWidth,
+                height: _representation.imageHeight
+            };
+            plot.addListener(function () {
+                // the selection is kept in sync without interactivity as well, it is the output of the node
+                if (_densityGrid) {
+                    resolveCellSelection();
+                } else {
+                    updateDensitySelection();
+                }
+                if (densityBounds && !isBinnedRange()) {
+                    scheduleBinning(false);
+                }
+            });
+            var plotSize = getPlotSize();
+            if (plotSize.width > densitySize.width || plotSize.height > densitySize.height) {
+                // the points have been binned for the image size, which is smaller than the view
+                scheduleBinning(false);
+            }
+        }
     };
 
     getJsfcColor = function (colorString) {
@@ -387,6 +575,12 @@ window.knimeScatterPlotSelectionAppender = (function () {
         setChartDimensions();
         chartManager.refreshDisplay();
         applyFilter();
+        if (_representation.enableDensityBinning && densitySize) {
+            var size = getPlotSize();
+            if (size.width > densitySize.width || size.height > densitySize.height) {
+                scheduleBinning(false);
+            }
+        }
     };
 
     setChartDimensions = function () {
@@ -400,12 +594,17 @@ window.knimeScatterPlotSelectionAppender = (function () {
         chartManager.getChart().setSize(w, h);
     };
 
-    updateChart = function () {
+    updateChart = function (keepAxisBounds) {
         var plot = chartManager.getChart().getPlot();
         var oldSelections = plot.getDataset().selections;
         var dataset = buildXYDataset();
         plot.setDataset(dataset, false);
-        dataset.selections = oldSelections;
+        if (_representation.enableDensityBinning) {
+            // the items of the previous dataset may have been other cells or points
+            selectRowKeys(dataset, _densityGrid ? null : densitySelection);
+        } else {
+            dataset.selections = oldSelections;
+        }
         var dateProp;
         if (_value.xColumn) {
             dateProp = _keyedDataset.getColumnProperty(_value.xColumn, 'date');
@@ -423,7 +622,7 @@ window.knimeScatterPlotSelectionAppender = (function () {
                 plot.getYAxis().setTickLabelFormatOverride(null, false);
             }
         }
-        if (_representation.autoRangeAxes) {
+        if (_representation.autoRangeAxes && !keepAxisBounds) {
             plot.getXAxis().setAutoRange(true, false);
             plot.getYAxis().setAutoRange(true, false);
         }
@@ -619,7 +818,13 @@ window.knimeScatterPlotSelectionAppender = (function () {
                         if (!_value.xAxisLabel) {
                             chartManager.getChart().getPlot().getXAxis().setLabel(_value.xColumn, false);
                         }
-                        updateChart();
+                        if (!_densityGrid) {
+                            updateChart();
+                        }
+                        if (_representation.enableDensityBinning) {
+                            // the grid or the points have been determined along the previous x-values
+                            scheduleBinning(true);
+                        }
                     });
                 knimeService.addMenuItem('X Column:', 'long-arrow-right', xSelect);
             }
@@ -630,7 +835,13 @@ window.knimeScatterPlotSelectionAppender = (function () {
                         if (!_value.yAxisLabel) {
                             chartManager.getChart().getPlot().getYAxis().setLabel(_value.yColumn, false);
                         }
-                        updateChart();
+                        if (!_densityGrid) {
+                            updateChart();
+                        }
+                        if (_representation.enableDensityBinning) {
+                            // the grid or the points have been determined along the previous y-values
+                            scheduleBinning(true);
+                        }
                     });
                 knimeService.addMenuItem('Y Column:', 'long-arrow-up', ySelect);
             }
@@ -745,6 +956,10 @@ window.knimeScatterPlotSelectionAppender = (function () {
     };
 
     selectionChanged = function (data) {
+        if (_densityGrid) {
+            // selections of other views are only applied to points, not to the cells of the grid
+            return;
+        }
         var dataset = chartManager.getChart().getPlot().getDataset();
         var removedIds = []; // ids of the points which were unselected (removed from selection)
         var addedIds = []; // ids of the points which were selected (added to selection)
@@ -855,15 +1070,37 @@ window.knimeScatterPlotSelectionAppender = (function () {
             }
             return d3.select(this).classed('hidden');
         });
+        if (_representation.enableDensityBinning) {
+            updateDensitySelection();
+        }
     };
 
     publishSelection = function () {
+        if (_densityGrid) {
+            // the selected cells are resolved to the rows inside of them by the node first
+            resolveCellSelection();
+            return;
+        }
+        if (_representation.enableDensityBinning) {
+            updateDensitySelection();
+        }
         if (_value.publishSelection) {
             knimeService.setSelectedRows(_representation.keyedDataset.id, getSelection(), selectionChanged);
         }
     };
 
     getSelection = function () {
+        if (_representation.enableDensityBinning) {
+            return densitySelection;
+        }
+        return getSelectedRowKeys();
+    };
+
+    /**
+     * @returns {Array<string>} the keys of the selected rows of the plotted dataset, i.e. of points or of cells of
+     *          the density grid, or null if nothing is selected
+     */
+    getSelectedRowKeys = function () {
         var dataset = chartManager.getChart().getPlot().getDataset();
         var selections = dataset.selections;
         var selectionsArray = [];
@@ -889,6 +1126,110 @@ window.knimeScatterPlotSelectionAppender = (function () {
         return selectionIDs;
     };
 
+    /**
+     * Selects the points of the given row keys in the dataset, keys of rows which are not plotted are ignored.
+     *
+     * @param {jsfc.XYDataset} dataset the dataset in which to select the points
+     * @param {Array<string>} rowKeys the row keys, or null to only clear the selection
+     * @returns {undefined}
+     */
+    selectRowKeys = function (dataset, rowKeys) {
+        dataset.clearSelection(SELECTION_ID, false);
+        if (!rowKeys) {
+            return;
+        }
+        var rowIndexByKey = Object.create(null);
+        for (var i = 0; i < indexRowkeyMap.length; i++) {
+            rowIndexByKey[indexRowkeyMap[i]] = i;
+        }
+        for (var k = 0; k < rowKeys.length; k++) {
+            if (typeof rowIndexByKey[rowKeys[k]] !== 'undefined') {
+                select(dataset, String(rowIndexByKey[rowKeys[k]]));
+            }
+        }
+    };
+
+    /**
+     * Updates the selected rows by the selected points. The selection of rows which are not plotted is kept, they
+     * might have been selected in a cell of the grid or as points of another range.
+     *
+     * @returns {undefined}
+     */
+    updateDensitySelection = function () {
+        var selection = getSelectedRowKeys() || [];
+        var plotted = Object.create(null);
+        for (var i = 0; i < indexRowkeyMap.length; i++) {
+            plotted[indexRowkeyMap[i]] = true;
+        }
+        if (densitySelection) {
+            for (var k = 0; k < densitySelection.length; k++) {
+                if (!plotted[densitySelection[k]]) {
+                    selection.push(densitySelection[k]);
+                }
+            }
+        }
+        densitySelection = selection.length > 0 ? selection : null;
+    };
+
+    /**
+     * Requests the keys of the rows inside of the selected cells of the grid, which become the selected rows.
+     *
+     * @returns {undefined}
+     */
+    resolveCellSelection = function () {
+        if (!knimeService || !knimeService.requestViewUpdate) {
+            return;
+        }
+        var cellKeys = getSelectedRowKeys() || [];
+        var cells = [];
+        for (var i = 0; i < cellKeys.length; i++) {
+            cells.push(parseInt(cellKeys[i].substring(DENSITY_CELL_PREFIX.length), 10));
+        }
+        cells.sort(function (a, b) {
+            return a - b;
+        });
+        if (cells.join(',') === resolvedCells) {
+            // the plot changed, but not the selected cells
+            return;
+        }
+        resolvedCells = cells.join(',');
+        var requestCount = ++densitySelectionRequestCount;
+        var publish = function () {
+            if (_value.publishSelection) {
+                knimeService.setSelectedRows(_representation.keyedDataset.id, densitySelection, selectionChanged);
+            }
+        };
+        if (cells.length === 0) {
+            densitySelection = null;
+            publish();
+            return;
+        }
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.plotter.scatterSelectionAppender.ScatterPlotViewRequest',
+            xColumn: _densityGrid.xColumn,
+            yColumn: _densityGrid.yColumn,
+            xMin: _densityGrid.xMin,
+            xMax: _densityGrid.xMax,
+            yMin: _densityGrid.yMin,
+            yMax: _densityGrid.yMax,
+            numXBins: _densityGrid.numXBins,
+            numYBins: _densityGrid.numYBins,
+            selectedCells: cells
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            if (requestCount !== densitySelectionRequestCount) {
+                // other cells have been selected meanwhile
+                return;
+            }
+            knimeService.clearWarningMessage(DENSITY_WARNING_ID);
+            densitySelection = response.rowKeys && response.rowKeys.length > 0 ? response.rowKeys : null;
+            publish();
+        })['catch'](function () {
+            knimeService.setWarningMessage('The rows of the selected cells could not be determined.',
+                DENSITY_WARNING_ID);
+        });
+    };
+
     /**
      * Select the point by its row index in the given dataset without notifying the listeners, which means the point is
      * only added to the selection object, but not visually redrawn
@@ -930,6 +1271,10 @@ window.knimeScatterPlotSelectionAppender = (function () {
     };
 
     filterChanged = function (data) {
+        if (_densityGrid) {
+            // filters are only applied to points, the cells of the grid contain all rows
+            return;
+        }
         var filter = data;
         var rows = _keyedDataset.data.rows;
         var dataset = chartManager.getChart().getPlot().getDataset();
@@ -1095,10 +1440,71 @@ window.knimeScatterPlotSelectionAppender = (function () {
 
     view.getComponentValue = function () {
         setAxisBoundsToValue();
-        _value.selection = getSelection();
+        setSelectionToValue();
         return _value;
     };
 
+    /**
+     * Stores the current selection in the view value. The selection is stored as ranges of row indices of the keyed
+     * dataset, which avoids sending and parsing the keys of all selected rows. The ranges refer to the fingerprint of
+     * the dataset rows, which unlike the table id survives loading the workflow again. The row keys are only stored if
+     * the ranges cannot be determined.
+     *
+     * @returns {undefined}
+     */
+    setSelectionToValue = function () {
+        var selection = getSelection();
+        // the points of a density grid are a subset of the rows, their indices don't refer to the input table
+        var ranges = selection && !_representation.enableDensityBinning ? getSelectionRanges(selection) : null;
+        if (ranges) {
+            _value.selection = null;
+            _value.selectionRanges = ranges;
+            _value.selectionDatasetId = _representation.datasetFingerprint;
+        } else {
+            _value.selection = selection;
+            _value.selectionRanges = null;
+            _value.selectionDatasetId = null;
+        }
+    };
+
+    /**
+     * Converts selected row keys into sorted ranges of row indices of the keyed dataset, given as pairs of the first
+     * (inclusive) and last (exclusive) row index.
+     *
+     * @param {!Array<string>} selection the selected row keys
+     * @returns {Array<number>} the ranges or null if a row key is not part of the dataset
+     */
+    getSelectionRanges = function (selection) {
+        if (!_representation.datasetFingerprint) {
+            return null;
+        }
+        var rows = _keyedDataset.data.rows;
+        var rowIndexByKey = Object.create(null);
+        for (var i = 0; i < rows.length; i++) {
+            rowIndexByKey[rows[i].key] = i;
+        }
+        var indices = [];
+        for (var j = 0; j < selection.length; j++) {
+            var rowIndex = rowIndexByKey[selection[j]];
+            if (typeof rowIndex === 'undefined') {
+                return null;
+            }
+            indices.push(rowIndex);
+        }
+        indices.sort(function (a, b) {
+            return a - b;
+        });
+        var ranges = [];
+        for (var k = 0; k < indices.length; k++) {
+            if (ranges.length > 0 && indices[k] <= ranges[ranges.length - 1]) {
+                ranges[ranges.length - 1] = Math.max(ranges[ranges.length - 1], indices[k] + 1);
+            } else {
+                ranges.push(indices[k], indices[k] + 1);
+            }
+        }
+        return ranges;
+    };
+
     setAxisBoundsToValue = function () {
         var plot = chartManager.getChart().getPlot();
         var xAxis = plot.getXAxis();
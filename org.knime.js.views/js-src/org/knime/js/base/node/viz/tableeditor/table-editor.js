@@ -152,6 +152,11 @@ window.table_editor = (function () {
 
         this._selectedCell = undefined;
         this._curCells = null;
+        // edits which have not been confirmed by the node yet, only used if lazy loading is enabled
+        this._unconfirmedChanges = {};
+        this._postChangesTimeout = null;
+        // identifies the edits posted by this view, the node buffers them until the view value is applied
+        this._editSession = Date.now().toString(36) + '-' + Math.random().toString(36).substring(2);
 
         this._cellClickHandler = this._cellClickHandler.bind(this);
         this._editableCellDoubleClickHandler = this._editableCellDoubleClickHandler.bind(this);
@@ -177,6 +182,133 @@ window.table_editor = (function () {
     TableEditor.prototype._buildDataTableConfig = function () {
         KnimeBaseTableViewer.prototype._buildDataTableConfig.apply(this);
         delete this._dataTableConfig.select;
+        if (this._isLazyLoading()) {
+            // rows of a page are requested from the node when the page is drawn
+            delete this._dataTableConfig.data;
+            this._dataTableConfig.serverSide = true;
+            this._dataTableConfig.ajax = this._loadPage.bind(this);
+        }
+    };
+
+    /**
+     * @override
+     */
+    TableEditor.prototype.getComponentValue = function () {
+        var value = KnimeBaseTableViewer.prototype.getComponentValue.apply(this);
+        if (!this._isLazyLoading()) {
+            return value;
+        }
+        // edits have been posted to the node already, only the unconfirmed ones are part of the value
+        value = $.extend({}, value);
+        value.editorChanges = $.extend({}, value.editorChanges, {
+            changes: this._unconfirmedChanges
+        });
+        value.incrementalEditorChanges = true;
+        value.editSession = this._editSession;
+        return value;
+    };
+
+    TableEditor.prototype._isLazyLoading = function () {
+        return Boolean(this._representation.enableLazyLoading);
+    };
+
+    /**
+     * DataTables ajax function, requests the rows of a page from the node and posts the pending edits with it.
+     */
+    TableEditor.prototype._loadPage = function (data, callback) {
+        var self = this;
+        var request = this._createViewRequest(data.start, data.length);
+        knimeService.requestViewUpdate(request).then(function (response) {
+            self._confirmChanges(request.editorChanges);
+            var table = response.table || $.extend({}, self._representation.table, { rows: [] });
+            self._representation.table = table;
+            self._knimeTable.setDataTable(table);
+            self._applyEditorChangesToRows(table.rows);
+            callback({
+                draw: data.draw,
+                recordsTotal: response.rowCount,
+                recordsFiltered: response.rowCount,
+                data: self._getPageData()
+            });
+        })['catch'](function () {
+            knimeService.setWarningMessage('Rows of the current page could not be loaded.', 'lazyLoading');
+            callback({
+                draw: data.draw,
+                recordsTotal: self._representation.rowCount,
+                recordsFiltered: self._representation.rowCount,
+                data: []
+            });
+        });
+    };
+
+    /**
+     * Converts the rows of the current page into the data format of the DataTables config.
+     */
+    TableEditor.prototype._getPageData = function () {
+        var config = this._dataTableConfig;
+        KnimeBaseTableViewer.prototype._buildDataTableConfig.apply(this);
+        var pageData = this._dataTableConfig.data;
+        this._dataTableConfig = config;
+        return pageData;
+    };
+
+    TableEditor.prototype._createViewRequest = function (start, length) {
+        var editorChanges = null;
+        for (var rowKey in this._unconfirmedChanges) {
+            if (this._unconfirmedChanges.hasOwnProperty(rowKey)) {
+                editorChanges = editorChanges || {};
+                editorChanges[rowKey] = $.extend({}, this._unconfirmedChanges[rowKey]);
+            }
+        }
+        return {
+            '@class': 'org.knime.js.base.node.viz.tableeditor.TableEditorViewRequest',
+            start: start,
+            length: length,
+            editorChanges: editorChanges,
+            tableHash: this._value.tableHash,
+            editSession: this._editSession
+        };
+    };
+
+    /**
+     * Posts the pending edits to the node, they are merged into the saved editor changes when the view is applied.
+     */
+    TableEditor.prototype._postEditorChanges = function () {
+        var self = this;
+        this._postChangesTimeout = null;
+        var request = this._createViewRequest(0, 0);
+        if (!request.editorChanges) {
+            return;
+        }
+        knimeService.requestViewUpdate(request).then(function () {
+            self._confirmChanges(request.editorChanges);
+        })['catch'](function () {
+            // the edits stay unconfirmed and are sent with the next request or the view value
+            knimeService.setWarningMessage('Edited cells could not be sent to the node yet.', 'lazyLoading');
+        });
+    };
+
+    /**
+     * Removes posted edits from the unconfirmed ones, unless the cell has been edited again in the meantime.
+     */
+    TableEditor.prototype._confirmChanges = function (postedChanges) {
+        if (!postedChanges) {
+            return;
+        }
+        for (var rowKey in postedChanges) {
+            var unconfirmedRow = this._unconfirmedChanges[rowKey];
+            if (!postedChanges.hasOwnProperty(rowKey) || !unconfirmedRow) {
+                continue;
+            }
+            for (var colName in postedChanges[rowKey]) {
+                if (unconfirmedRow[colName] === postedChanges[rowKey][colName]) {
+                    delete unconfirmedRow[colName];
+                }
+            }
+            if (Object.keys(unconfirmedRow).length === 0) {
+                delete this._unconfirmedChanges[rowKey];
+            }
+        }
     };
 
     /**
@@ -249,32 +381,38 @@ window.table_editor = (function () {
     };
 
     TableEditor.prototype._applyEditorChanges = function () {
-        if (this._representation.table.dataHash == this._value.tableHash) {
-            var editorChanges = this._value.editorChanges.changes;
-            for ( var rowKey in editorChanges) {
-                var rowFilter = this._representation.table.rows.filter(function (row) {
-                    return row.rowKey === rowKey;
-                });
-                // since not all rows from the input table can be shown, we need to check, if the row is present in the
-                // view
-                if (rowFilter.length > 0) {
-                    var row = rowFilter[0];
-                    var rowEntry = editorChanges[rowKey];
-                    for ( var colName in rowEntry) {
-                        if (this._representation.editableColumns.indexOf(colName) != -1) { // check, if the column is
-                                                                                            // still editable
-                            var colIndex = this._representation.table.spec.colNames.indexOf(colName);
-                            if (colIndex != -1) {
-                                var cellValue = rowEntry[colName];
-                                row.data[colIndex] = cellValue;
-                            }
-                        }
+        // the displayed rows are hashed by the node, older versions hashed the JSON table
+        var dataHash = this._representation.dataHash || this._representation.table.dataHash;
+        var tableHash = this._value.tableHash;
+        var isLegacyHash = typeof tableHash === 'string' && tableHash.indexOf('rows-sha256:') !== 0 &&
+            tableHash == this._representation.table.dataHash;
+        if (dataHash == tableHash || isLegacyHash) {
+            this._value.tableHash = dataHash;
+            this._applyEditorChangesToRows(this._representation.table.rows);
+        } else {
+            this._value.tableHash = dataHash;
+            this._value.editorChanges.changes = {};
+        }
+    };
+
+    TableEditor.prototype._applyEditorChangesToRows = function (rows) {
+        var editorChanges = this._value.editorChanges.changes;
+        // since not all rows from the input table can be shown, only the changes of the given rows are applied
+        for (var i = 0; i < rows.length; i++) {
+            var row = rows[i];
+            if (!editorChanges.hasOwnProperty(row.rowKey)) {
+                continue;
+            }
+            var rowEntry = editorChanges[row.rowKey];
+            for (var colName in rowEntry) {
+                if (this._representation.editableColumns.indexOf(colName) != -1) { // check, if the column is
+                                                                                    // still editable
+                    var colIndex = this._representation.table.spec.colNames.indexOf(colName);
+                    if (colIndex != -1) {
+                        row.data[colIndex] = rowEntry[colName];
                     }
                 }
             }
-        } else {
-            this._value.tableHash = this._representation.table.dataHash;
-            this._value.editorChanges.changes = {};
         }
     };
 
@@ -465,6 +603,16 @@ window.table_editor = (function () {
             this._value.editorChanges.changes[rowKey] = {};
         }
         this._value.editorChanges.changes[rowKey][colName] = newValue;
+        if (this._isLazyLoading()) {
+            if (this._unconfirmedChanges[rowKey] === undefined) {
+                this._unconfirmedChanges[rowKey] = {};
+            }
+            this._unconfirmedChanges[rowKey][colName] = newValue;
+            // edits are posted in batches, e.g. when pasting multiple values
+            if (this._postChangesTimeout === null) {
+                this._postChangesTimeout = setTimeout(this._postEditorChanges.bind(this), 500);
+            }
+        }
 
         cell.invalidate();
     };
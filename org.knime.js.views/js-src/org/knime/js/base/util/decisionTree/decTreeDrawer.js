@@ -222,7 +222,7 @@ function DecTreeDrawer(representation, value) {
     		}
     		return d3.sum(childCounts);
     	} else {
-    		if (!selection.empty() && d.rowKeys.length > 0) {
+    		if (!selection.empty() && d.rowKeys && d.rowKeys.length > 0) {
     			var i, selected = 0;
     			for (i = 0; i < d.rowKeys.length; i++) {
     				if (selection.has(d.rowKeys[i])) {
@@ -232,17 +232,22 @@ function DecTreeDrawer(representation, value) {
     			d.fracSelected = selected / d.rowKeys.length;
     		}
     		leafs.push(d);
-    		return d.rowKeys.length;
+    		return numRows(d);
     	}
     }
     
     applySelectionFromLeafs = function() {
     	var j, nl = leafs.length, totalMatched = 0, nsel = selection.size();
     	for (j = 0; j < nl; j++) {
-    		var i, selected = 0, d = leafs[j], nKeys = d.rowKeys.length;
+    		var i, selected = 0, d = leafs[j], nKeys;
     		if (totalMatched >= nsel) {
     			break;
     		}
+    		if (!d.rowKeys) {
+    			// row keys not loaded yet
+    			continue;
+    		}
+    		nKeys = d.rowKeys.length;
     		for (i = 0; i < nKeys; i++) {
     			if (selection.has(d.rowKeys[i])) {
     				selected++;
@@ -280,6 +285,14 @@ function DecTreeDrawer(representation, value) {
     
     traverseAndCollect(decTree.root, setup);
     
+    // row keys of large tables are not embedded, the node counts the selected rows to show the initial selection
+    if (!selection.empty() && collectLazyLeafs(decTree.root, []).length > 0) {
+    	loadSelectedCounts(function() {
+    		updateSelectionFractions();
+    		dtd.update(decTree.root);
+    	});
+    }
+    
     function getNodeStatus(d) {
     	var nodeId = d.name;
     	if (nodeStatus == undefined || nodeStatus == null || nodeId >= nodeStatus.length
@@ -329,6 +342,74 @@ function DecTreeDrawer(representation, value) {
     	return null;
     }
     
+    function numRows(d) {
+    	return d.rowKeys ? d.rowKeys.length : (d.numRows || 0);
+    }
+    
+    function collectLazyLeafs(d, lazyLeafs) {
+    	var i, children;
+    	if (hasChildren(d)) {
+    		children = getChildren(d);
+    		for (i = 0; i < children.length; i++) {
+    			collectLazyLeafs(children[i], lazyLeafs);
+    		}
+    	} else if (!d.rowKeys) {
+    		lazyLeafs.push(d);
+    	}
+    	return lazyLeafs;
+    }
+    
+    // requests the row keys of all leafs below d that are not embedded in the representation
+    // and calls callback with true once they are available or with false if they could not be loaded
+    function loadRowKeys(d, callback) {
+    	var lazyLeafs = collectLazyLeafs(d, []);
+    	if (lazyLeafs.length == 0) {
+    		callback(true);
+    		return;
+    	}
+    	var request = {
+    		'@class': 'org.knime.js.base.node.viz.decisiontree.classification.DecisionTreeViewRequest',
+    		leafs: lazyLeafs.map(function(leaf) { return leaf.name; })
+    	};
+    	knimeService.requestViewUpdate(request).then(function(response) {
+    		for (var i = 0; i < lazyLeafs.length; i++) {
+    			lazyLeafs[i].rowKeys = response.rowKeys[i];
+    		}
+    		callback(true);
+    	})['catch'](function() {
+    		knimeService.setWarningMessage('Rows of the selected nodes could not be loaded.', 'lazyLoading');
+    		callback(false);
+    	});
+    }
+    
+    // requests the number of selected rows of all leafs whose row keys are not embedded in the representation
+    // and calls callback once they are available or could not be loaded
+    function loadSelectedCounts(callback) {
+    	var lazyLeafs = collectLazyLeafs(decTree.root, []);
+    	var i;
+    	if (lazyLeafs.length == 0 || selection.empty()) {
+    		for (i = 0; i < lazyLeafs.length; i++) {
+    			lazyLeafs[i].numSelected = 0;
+    		}
+    		callback();
+    		return;
+    	}
+    	var request = {
+    		'@class': 'org.knime.js.base.node.viz.decisiontree.classification.DecisionTreeViewRequest',
+    		leafs: lazyLeafs.map(function(leaf) { return leaf.name; }),
+    		selection: selection.values()
+    	};
+    	knimeService.requestViewUpdate(request).then(function(response) {
+    		for (i = 0; i < lazyLeafs.length; i++) {
+    			lazyLeafs[i].numSelected = response.numSelected[i];
+    		}
+    		callback();
+    	})['catch'](function() {
+    		knimeService.setWarningMessage('The selection could not be applied to all nodes.', 'lazyLoading');
+    		callback();
+    	});
+    }
+    
     containedRows = function(d, selected) {
     	var i, children, rowKeys;
     	// if parameter selected is specified set the selected fraction accordingly
@@ -554,10 +635,21 @@ function DecTreeDrawer(representation, value) {
     	} else {
     		selection = d3.set();
     	}
+    	loadSelectedCounts(function() {
+    		updateSelectionFractions();
+    		dtd.update(decTree.root);
+    		checkClearSelectionButton();
+    	});
+    }
+    
+    function updateSelectionFractions() {
     	traverseAndCollect(decTree.root, function(d) {
     		if (hasChildren(d)) {
     			// inner node
     			updateSelectionFractionFromChildren(d);
+    		} else if (!d.rowKeys) {
+    			// leaf whose row keys are not loaded, its selected rows are counted by the node
+    			d.fracSelected = d.numRows > 0 && d.numSelected ? d.numSelected / d.numRows : 0;
     		} else {
     			// leaf
     			var selected = 0;
@@ -575,8 +667,6 @@ function DecTreeDrawer(representation, value) {
     			}
     		}
     	});
-    	dtd.update(decTree.root);
-    	checkClearSelectionButton();
     }
     
     checkClearSelectionButton = function() {
@@ -1071,15 +1161,20 @@ function DecTreeDrawer(representation, value) {
         }
         
         function selectClick(d) {
-        	if (d.fracSelected > 0) {
-        		d.isSelected = false;
-        		unselect(d);
-        	} else {
-        		d.isSelected = true;
-        		select(d);
-        	}
-        	update(d);
-        	checkClearSelectionButton();
+        	loadRowKeys(d, function(loaded) {
+        		if (!loaded) {
+        			return;
+        		}
+        		if (d.fracSelected > 0) {
+        			d.isSelected = false;
+        			unselect(d);
+        		} else {
+        			d.isSelected = true;
+        			select(d);
+        		}
+        		update(d);
+        		checkClearSelectionButton();
+        	});
         }
         
     }
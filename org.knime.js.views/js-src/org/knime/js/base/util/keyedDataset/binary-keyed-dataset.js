@@ -0,0 +1,96 @@
+/**
+ * Decoder for the column-wise binary encoding of the rows of a keyed dataset, as created by
+ * org.knime.js.base.node.viz.plotter.BinaryKeyedDataset.
+ *
+ * Values are decoded into typed arrays, missing values are NaN. Row keys are restored from their prefix and numeric
+ * suffix and row colors from the color palette.
+ */
+window.knimeBinaryKeyedDataset = (function () {
+    var binaryKeyedDataset = {};
+
+    var littleEndian = new Uint8Array(new Uint16Array([1]).buffer)[0] === 1;
+
+    var arrayTypes = {
+        float64: { array: Float64Array, read: 'getFloat64' },
+        float32: { array: Float32Array, read: 'getFloat32' },
+        uint8: { array: Uint8Array, read: 'getUint8' },
+        uint16: { array: Uint16Array, read: 'getUint16' },
+        int32: { array: Int32Array, read: 'getInt32' }
+    };
+
+    var decodeBase64 = function (base64) {
+        var binary = atob(base64);
+        var bytes = new Uint8Array(binary.length);
+        for (var i = 0; i < binary.length; i++) {
+            bytes[i] = binary.charCodeAt(i);
+        }
+        return bytes.buffer;
+    };
+
+    var decodeArray = function (base64, type) {
+        var arrayType = arrayTypes[type];
+        var buffer = decodeBase64(base64);
+        if (littleEndian) {
+            return new arrayType.array(buffer);
+        }
+        // buffers are little-endian, read them value by value on big-endian platforms
+        var view = new DataView(buffer);
+        var array = new arrayType.array(buffer.byteLength / arrayType.array.BYTES_PER_ELEMENT);
+        for (var i = 0; i < array.length; i++) {
+            array[i] = view[arrayType.read](i * arrayType.array.BYTES_PER_ELEMENT, true);
+        }
+        return array;
+    };
+
+    /**
+     * Decodes the binary encoded rows.
+     *
+     * @param {Object} binaryDataset the binary encoded rows
+     * @returns {Object} the number of rows, the typed array of values per column, the row keys and the row colors
+     */
+    binaryKeyedDataset.decode = function (binaryDataset) {
+        var numRows = binaryDataset.numRows;
+        var columns = binaryDataset.columns.map(function (column, col) {
+            return decodeArray(column, binaryDataset.columnTypes[col]);
+        });
+        var prefixIndices = decodeArray(binaryDataset.rowKeyPrefixIndices, binaryDataset.rowKeyPrefixIndexType);
+        var numbers = decodeArray(binaryDataset.rowKeyNumbers, 'int32');
+        var colorIndices = decodeArray(binaryDataset.colorIndices, binaryDataset.colorIndexType);
+        var rowKeys = new Array(numRows);
+        var colors = new Array(numRows);
+        for (var row = 0; row < numRows; row++) {
+            var prefix = binaryDataset.rowKeyPrefixes[prefixIndices[row]];
+            rowKeys[row] = numbers[row] < 0 ? prefix : prefix + numbers[row];
+            colors[row] = binaryDataset.colorPalette[colorIndices[row]];
+        }
+        return {
+            numRows: numRows,
+            columns: columns,
+            rowKeys: rowKeys,
+            colors: colors
+        };
+    };
+
+    /**
+     * Decodes the binary encoded rows and adds them to a jsfc.KeyedValues2DDataset, the same way as the rows of the
+     * JSON keyed dataset.
+     *
+     * @param {Object} binaryDataset the binary encoded rows
+     * @param {Array} columnKeys the column keys of the keyed dataset
+     * @param {jsfc.KeyedValues2DDataset} dataset the dataset to add the rows to
+     * @returns {undefined}
+     */
+    binaryKeyedDataset.addRows = function (binaryDataset, columnKeys, dataset) {
+        var decoded = binaryKeyedDataset.decode(binaryDataset);
+        for (var row = 0; row < decoded.numRows; row++) {
+            var rowKey = decoded.rowKeys[row];
+            for (var col = 0; col < columnKeys.length; col++) {
+                var value = decoded.columns[col][row];
+                dataset.add(rowKey, columnKeys[col], isNaN(value) ? null : value);
+            }
+            dataset.setRowProperty(rowKey, 'color', decoded.colors[row]);
+        }
+    };
+
+    return binaryKeyedDataset;
+})();
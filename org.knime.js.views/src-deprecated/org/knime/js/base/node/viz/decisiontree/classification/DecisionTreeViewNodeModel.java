@@ -49,7 +49,10 @@
 package org.knime.js.base.node.viz.decisiontree.classification;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.knime.base.data.xml.SvgCell;
 import org.knime.base.node.mine.decisiontree2.PMMLDecisionTreeTranslator;
@@ -61,14 +64,20 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectHolder;
 import org.knime.core.node.port.PortObjectSpec;
@@ -82,6 +91,7 @@
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
 import org.knime.core.pmml.PMMLModelType;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -95,16 +105,27 @@
  */
 @Deprecated
 public class DecisionTreeViewNodeModel extends AbstractSVGWizardNodeModel<DecisionTreeViewRepresentation,
-        DecisionTreeViewValue> implements PortObjectHolder, LayoutTemplateProvider, CSSModifiable {
+        DecisionTreeViewValue> implements PortObjectHolder, LayoutTemplateProvider, CSSModifiable,
+        JSONViewRequestHandler<DecisionTreeViewRequest, DecisionTreeViewResponse> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DecisionTreeViewNodeModel.class);
 
     private static final String[] EMPTY_SELECTION = new String[0];
 
+    /**
+     * Row keys are embedded in the view for at most this many rows, otherwise the view requests the row keys of a
+     * leaf when it is selected.
+     */
+    static final int MAX_EMBEDDED_ROW_KEYS = 10000;
+
     private DecisionTreeViewConfig m_config;
 
     private PMMLPortObject m_pmmlTree;
 
     private BufferedDataTable m_table;
 
+    private JSDecisionTreeTranslater.LeafRows m_leafRows;
+
     /**
      * Default constructor for this node model.
      * @param viewName the view name
@@ -257,15 +278,28 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
             // test if re-execute (tree is already set in that case.
             if (getViewRepresentation().getTree() == null) {
                 copyConfigToView();
-                writeTreeToRepresentation();
+                writeTreeToRepresentation(exec);
             }
         }
     }
 
-    private void writeTreeToRepresentation() throws Exception {
+    private DecisionTree createDecisionTree() {
         PMMLDecisionTreeTranslator trans = new PMMLDecisionTreeTranslator();
         m_pmmlTree.initializeModelTranslator(trans);
-        DecisionTree decTree = trans.getDecisionTree();
+        return trans.getDecisionTree();
+    }
+
+    /**
+     * Assigns the rows of the table to the leafs, each worker classifies its rows with a tree of its own.
+     */
+    private JSDecisionTreeTranslater.LeafRows assignRows(final boolean embedRowKeys, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        return JSDecisionTreeTranslater.assignRows(this::createDecisionTree, m_table, m_config.getMaxRows(),
+            embedRowKeys, exec);
+    }
+
+    private void writeTreeToRepresentation(final ExecutionMonitor exec) throws Exception {
+        DecisionTree decTree = createDecisionTree();
 
         JSDecisionTreeTranslater jsTrans = new JSDecisionTreeTranslater();
         JSDecisionTree jsDecTree;
@@ -274,7 +308,10 @@ private void writeTreeToRepresentation() throws Exception {
             if (maxRows < m_table.size()) {
                 setWarningMessage("Only the first " + maxRows + " rows are displayed in the view.");
             }
-            jsDecTree = jsTrans.translate(decTree, m_table, maxRows);
+            // the row keys of large tables are resolved on request, only the row indices are kept per leaf
+            boolean embedRowKeys = Math.min(maxRows, m_table.size()) <= MAX_EMBEDDED_ROW_KEYS;
+            m_leafRows = assignRows(embedRowKeys, exec);
+            jsDecTree = jsTrans.translate(decTree, m_leafRows);
         } else {
             jsDecTree = jsTrans.translate(decTree);
         }
@@ -356,6 +393,110 @@ protected boolean generateImage() {
     protected void performReset() {
         m_pmmlTree = null;
         m_table = null;
+        m_leafRows = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DecisionTreeViewRequest createEmptyViewRequest() {
+        return new DecisionTreeViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DecisionTreeViewResponse handleRequest(final DecisionTreeViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        BufferedDataTable table;
+        JSDecisionTreeTranslater.LeafRows leafRows;
+        synchronized (getLock()) {
+            if (m_leafRows == null && m_table != null && m_pmmlTree != null) {
+                // not restored with the internal port objects, e.g. after the workflow was loaded
+                exec.setMessage("Assigning rows to leafs...");
+                m_leafRows = assignRows(false, exec.createSubProgress(0.5));
+            }
+            table = m_table;
+            leafRows = m_leafRows;
+        }
+        if (table == null || leafRows == null || request.getLeafs() == null) {
+            throw new ViewRequestHandlingException("No rows available for the requested leafs.");
+        }
+        int[] leafs = request.getLeafs();
+        DecisionTreeViewResponse response = new DecisionTreeViewResponse(request);
+        response.setLeafs(leafs);
+        if (request.getSelection() != null) {
+            // the selection is resolved here, so the view does not need the row keys of all leafs to display it
+            Set<String> selection = new HashSet<>(Arrays.asList(request.getSelection()));
+            int[] numSelected = new int[leafs.length];
+            if (!selection.isEmpty()) {
+                readRequestedRows(table, leafRows, leafs, exec, (leaf, row) -> {
+                    if (selection.contains(row.getKey().getString())) {
+                        numSelected[leaf]++;
+                    }
+                });
+            }
+            response.setNumSelected(numSelected);
+        } else {
+            String[][] rowKeys = new String[leafs.length][];
+            for (int i = 0; i < leafs.length; i++) {
+                rowKeys[i] = new String[leafRows.getNumRows(leafs[i])];
+            }
+            int[] next = new int[leafs.length];
+            readRequestedRows(table, leafRows, leafs, exec,
+                (leaf, row) -> rowKeys[leaf][next[leaf]++] = row.getKey().getString());
+            response.setRowKeys(rowKeys);
+        }
+        return response;
+    }
+
+    /**
+     * Reads the rows covered by the requested leafs in a single pass over the spanned rows.
+     */
+    private static void readRequestedRows(final BufferedDataTable table,
+        final JSDecisionTreeTranslater.LeafRows leafRows, final int[] leafs, final ExecutionMonitor exec,
+        final BiConsumer<Integer, DataRow> consumer)
+        throws ViewRequestHandlingException, CanceledExecutionException {
+        int numRows = 0;
+        for (int i = 0; i < leafs.length; i++) {
+            numRows += leafRows.getNumRows(leafs[i]);
+        }
+        if (numRows == 0) {
+            return;
+        }
+        // entries hold the row index in the upper and the position of the leaf in the request in the lower 32 bits,
+        // once sorted the rows of all requested leafs are read in a single pass over the spanned rows
+        long[] entries = new long[numRows];
+        int k = 0;
+        for (int i = 0; i < leafs.length; i++) {
+            for (int rowIndex : leafRows.getRowIndices(leafs[i])) {
+                entries[k++] = ((long)rowIndex << 32) | i;
+            }
+        }
+        Arrays.sort(entries);
+        long from = entries[0] >>> 32;
+        long to = entries[numRows - 1] >>> 32;
+        int e = 0;
+        try (CloseableRowIterator iterator =
+            table.filter(TableFilter.materializeCols().withFromRowIndex(from).withToRowIndex(to))) {
+            for (long rowIndex = from; e < numRows && iterator.hasNext(); rowIndex++) {
+                DataRow row = iterator.next();
+                while (e < numRows && entries[e] >>> 32 == rowIndex) {
+                    consumer.accept((int)entries[e++], row);
+                }
+                if ((rowIndex - from) % 1000 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(e / (double)numRows);
+                }
+            }
+        } catch (CanceledExecutionException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            LOGGER.error("Rows of the decision tree leafs could not be resolved: " + ex.getMessage(), ex);
+            throw new ViewRequestHandlingException(ex);
+        }
     }
 
     /**
@@ -460,6 +601,8 @@ public PortObject[] getInternalPortObjects() {
     public void setInternalPortObjects(final PortObject[] portObjects) {
         DecisionTreeViewRepresentation representation = getViewRepresentation();
         m_pmmlTree = (PMMLPortObject)portObjects[0];
+        // the rows of the leafs are assigned again, at the latest with the first request for them
+        m_leafRows = null;
         if (portObjects.length == 2) {
             m_table = (BufferedDataTable)portObjects[1];
             if (representation != null) {
@@ -468,9 +611,9 @@ public void setInternalPortObjects(final PortObject[] portObjects) {
         }
         if (m_pmmlTree != null && representation != null) {
             try {
-                writeTreeToRepresentation();
+                writeTreeToRepresentation(new ExecutionMonitor());
             } catch (Exception e) {
-                // TODO error handling
+                LOGGER.warn("Decision tree could not be restored: " + e.getMessage(), e);
             }
         }
     }
@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.decisiontree.classification;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewResponse;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Response to a {@link DecisionTreeViewRequest} containing the row keys or the number of selected rows of the
+ * requested leafs.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class DecisionTreeViewResponse extends JSONViewResponse<DecisionTreeViewRequest> {
+
+    private int[] m_leafs;
+    private String[][] m_rowKeys;
+    private int[] m_numSelected;
+
+    /**
+     * @param viewRequest the request this response belongs to
+     */
+    public DecisionTreeViewResponse(final DecisionTreeViewRequest viewRequest) {
+        super(viewRequest);
+    }
+
+    /**
+     * @return the names of the leafs the row keys belong to
+     */
+    public int[] getLeafs() {
+        return m_leafs;
+    }
+
+    /**
+     * @param leafs the names of the leafs the row keys belong to
+     */
+    public void setLeafs(final int[] leafs) {
+        m_leafs = leafs;
+    }
+
+    /**
+     * @return the row keys of each leaf, in the order of {@link #getLeafs()}
+     */
+    public String[][] getRowKeys() {
+        return m_rowKeys;
+    }
+
+    /**
+     * @param rowKeys the row keys of each leaf, in the order of {@link #getLeafs()}
+     */
+    public void setRowKeys(final String[][] rowKeys) {
+        m_rowKeys = rowKeys;
+    }
+
+    /**
+     * @return the number of selected rows of each leaf, in the order of {@link #getLeafs()}
+     */
+    public int[] getNumSelected() {
+        return m_numSelected;
+    }
+
+    /**
+     * @param numSelected the number of selected rows of each leaf, in the order of {@link #getLeafs()}
+     */
+    public void setNumSelected(final int[] numSelected) {
+        m_numSelected = numSelected;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        DecisionTreeViewResponse other = (DecisionTreeViewResponse)obj;
+        return new EqualsBuilder()
+                .append(m_leafs, other.m_leafs)
+                .append(m_rowKeys, other.m_rowKeys)
+                .append(m_numSelected, other.m_numSelected)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_leafs)
+                .append(m_rowKeys)
+                .append(m_numSelected)
+                .toHashCode();
+    }
+}
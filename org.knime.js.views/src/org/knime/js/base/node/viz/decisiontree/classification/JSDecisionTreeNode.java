@@ -40,16 +40,38 @@ public class JSDecisionTreeNode {
 
 	private String[] m_rowKeys;
 
+	/**
+	 * Number of rows covered by a leaf.
+	 * Set even if the row keys are not embedded and have to be requested.
+	 */
+	private Integer m_numRows;
+
+    public JSDecisionTreeNode(final Integer id, final Integer parentId, final JSDecisionTreeNode[] children,
+        final JSNodeContent content, final PMMLPredicate condition, final String[] rowKeys) {
+        this(id, parentId, children, content, condition, rowKeys, rowKeys == null ? null : rowKeys.length);
+    }
+
+    /**
+     * @param id the name of the node
+     * @param parentId the name of the parent node
+     * @param children the child nodes, <code>null</code> for leafs
+     * @param content the class counts of the node
+     * @param condition the condition of the node
+     * @param rowKeys the keys of the rows covered by a leaf, <code>null</code> if they are not embedded
+     * @param numRows the number of rows covered by a leaf
+     * @since 5.12
+     */
 	@JsonCreator
     public JSDecisionTreeNode(@JsonProperty("name") final Integer id, @JsonProperty("parent") final Integer parentId,
         @JsonProperty("children") final JSDecisionTreeNode[] children,
         @JsonProperty("content") final JSNodeContent content, @JsonProperty("condition") final PMMLPredicate condition,
-        @JsonProperty("rowKeys") final String[] rowKeys) {
+        @JsonProperty("rowKeys") final String[] rowKeys, @JsonProperty("numRows") final Integer numRows) {
     	m_name = id;
 		m_parent = parentId;
 		m_children = children;
 		m_content = content;
 		setRowKeys(rowKeys);
+		setNumRows(numRows);
 		setCondition(condition);
 	}
 
@@ -157,4 +179,20 @@ public void setRowKeys(final String[] rowKeys) {
         m_rowKeys = rowKeys;
     }
 
+    /**
+     * @return the number of rows covered by a leaf
+     * @since 5.12
+     */
+    public Integer getNumRows() {
+        return m_numRows;
+    }
+
+    /**
+     * @param numRows the number of rows covered by a leaf
+     * @since 5.12
+     */
+    public void setNumRows(final Integer numRows) {
+        m_numRows = numRows;
+    }
+
 }
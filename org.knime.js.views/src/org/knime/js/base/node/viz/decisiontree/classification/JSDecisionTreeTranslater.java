@@ -3,12 +3,17 @@
  */
 package org.knime.js.base.node.viz.decisiontree.classification;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.knime.base.node.mine.decisiontree2.PMMLPredicate;
 import org.knime.base.node.mine.decisiontree2.model.DecisionTree;
@@ -19,7 +24,10 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
 
 /**
  * Translates a {@link DecisionTree} to a {@link JSDecisionTree}.
@@ -29,6 +37,10 @@
  */
 public class JSDecisionTreeTranslater {
 
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final int MIN_ROWS_PER_WORKER = 1024;
+
     /**
      * Returns a {@link JSDecisionTree} that stores for each row in <b>table</b> the {@link RowKey} in the
      * leaf the row belongs to in <b>decisionTree</b>
@@ -40,42 +52,183 @@ public class JSDecisionTreeTranslater {
      * @throws Exception thrown if something went wrong (e.g. the table is not compatible with the decision tree).
      */
     public JSDecisionTree translate(final DecisionTree decisionTree, final BufferedDataTable table, final int numberOfRows) throws Exception {
-        DataTableSpec tableSpec = table.getDataTableSpec();
-        int counter = 0;
-        for (DataRow row : table) {
-            decisionTree.addCoveredPattern(row, tableSpec);
-            if (++counter >= numberOfRows) {
-                break;
+        return translate(decisionTree, assignRows(decisionTree, table, numberOfRows, true, new ExecutionMonitor()));
+    }
+
+    /**
+     * Returns a {@link JSDecisionTree} whose leafs store the number of rows they cover and, if the row keys were
+     * collected by {@link #assignRows(DecisionTree, BufferedDataTable, int, boolean, ExecutionMonitor)}, their
+     * {@link RowKey}s.
+     *
+     * @param decisionTree the KNIME {@link DecisionTree} to view in the JavaScript view
+     * @param leafRows the rows covered by the leafs of <b>decisionTree</b>
+     * @return JSDecisionTree with the row counts and possibly the {@link RowKey}s stored in the leafs
+     * @since 5.12
+     */
+    public JSDecisionTree translate(final DecisionTree decisionTree, final LeafRows leafRows) {
+        return translate(decisionTree.getRootNode(), leafRows);
+    }
+
+    /**
+     * Assigns the first <b>numberOfRows</b> rows of <b>table</b> to the leafs of <b>decisionTree</b>. The rows are
+     * classified one after the other on the calling thread. Unlike {@code DecisionTree.addCoveredPattern} the tree
+     * is not modified.
+     *
+     * @param decisionTree the KNIME {@link DecisionTree} whose leafs the rows are assigned to
+     * @param table {@link BufferedDataTable} containing rows that can be classified by <b>decisionTree</b>
+     * @param numberOfRows only the first <b>numberOfRows</b> are assigned
+     * @param collectRowKeys whether the {@link RowKey}s of the rows are kept in addition to their indices
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the rows covered by each leaf
+     * @throws CanceledExecutionException if the execution was canceled
+     * @since 5.12
+     */
+    public static LeafRows assignRows(final DecisionTree decisionTree, final BufferedDataTable table,
+        final int numberOfRows, final boolean collectRowKeys, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        return assignRows(new DecisionTree[]{decisionTree}, table, numberOfRows, collectRowKeys, exec);
+    }
+
+    /**
+     * Assigns the first <b>numberOfRows</b> rows of <b>table</b> to the leafs of the trees created by
+     * <b>decisionTrees</b>. The rows are read in chunks whose rows are classified concurrently. The predicates of a
+     * tree cache state while they are evaluated, hence each worker classifies its rows with a tree of its own.
+     *
+     * @param decisionTrees creates a new instance of the KNIME {@link DecisionTree} whose leafs the rows are assigned
+     *            to on each call, e.g. by translating the same PMML model again
+     * @param table {@link BufferedDataTable} containing rows that can be classified by the decision tree
+     * @param numberOfRows only the first <b>numberOfRows</b> are assigned
+     * @param collectRowKeys whether the {@link RowKey}s of the rows are kept in addition to their indices
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the rows covered by each leaf
+     * @throws CanceledExecutionException if the execution was canceled
+     * @since 5.12
+     */
+    public static LeafRows assignRows(final Supplier<DecisionTree> decisionTrees, final BufferedDataTable table,
+        final int numberOfRows, final boolean collectRowKeys, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        // small tables are not worth translating further trees
+        final long numRows = Math.min(numberOfRows, table.size());
+        final int numWorkers = (int)Math.max(1,
+            Math.min(Runtime.getRuntime().availableProcessors(), numRows / MIN_ROWS_PER_WORKER));
+        final DecisionTree[] trees = new DecisionTree[numWorkers];
+        for (int w = 0; w < numWorkers; w++) {
+            trees[w] = decisionTrees.get();
+        }
+        return assignRows(trees, table, numberOfRows, collectRowKeys, exec);
+    }
+
+    /**
+     * Each chunk is split into one slice per tree, the slices are classified concurrently, each with its own tree.
+     */
+    private static LeafRows assignRows(final DecisionTree[] trees, final BufferedDataTable table,
+        final int numberOfRows, final boolean collectRowKeys, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataTableSpec tableSpec = table.getDataTableSpec();
+        final long numRows = Math.min(numberOfRows, table.size());
+        final Map<Integer, IntArrayBuilder> indices = new HashMap<>();
+        final Map<Integer, List<String>> keys = collectRowKeys ? new HashMap<>() : null;
+        final DataRow[] rows = new DataRow[CHUNK_SIZE];
+        final DecisionTreeNode[] leafs = new DecisionTreeNode[CHUNK_SIZE];
+        int rowIndex = 0;
+        try (CloseableRowIterator iterator = table.iterator()) {
+            while (rowIndex < numRows && iterator.hasNext()) {
+                exec.checkCanceled();
+                int chunkSize = 0;
+                while (chunkSize < CHUNK_SIZE && rowIndex + chunkSize < numRows && iterator.hasNext()) {
+                    rows[chunkSize++] = iterator.next();
+                }
+                final int sliceSize = (chunkSize + trees.length - 1) / trees.length;
+                final int size = chunkSize;
+                IntStream.range(0, trees.length).parallel().forEach(w -> {
+                    final DecisionTreeNode rootNode = trees[w].getRootNode();
+                    for (int i = w * sliceSize; i < Math.min(size, (w + 1) * sliceSize); i++) {
+                        leafs[i] = findLeaf(rootNode, rows[i], tableSpec);
+                    }
+                });
+                // indices are appended in table order, hence the indices of each leaf are sorted
+                for (int i = 0; i < chunkSize; i++) {
+                    if (leafs[i] == null) {
+                        continue;
+                    }
+                    Integer leaf = leafs[i].getOwnIndex();
+                    indices.computeIfAbsent(leaf, l -> new IntArrayBuilder()).add(rowIndex + i);
+                    if (keys != null) {
+                        keys.computeIfAbsent(leaf, l -> new ArrayList<>()).add(rows[i].getKey().getString());
+                    }
+                }
+                rowIndex += chunkSize;
+                exec.setProgress(rowIndex / (double)numRows);
+            }
+        }
+        Map<Integer, int[]> rowIndices = new HashMap<>();
+        indices.forEach((leaf, builder) -> rowIndices.put(leaf, builder.build()));
+        Map<Integer, String[]> rowKeys = null;
+        if (keys != null) {
+            rowKeys = new HashMap<>();
+            for (Entry<Integer, List<String>> entry : keys.entrySet()) {
+                rowKeys.put(entry.getKey(), entry.getValue().toArray(new String[0]));
             }
         }
-        return translate(decisionTree);
+        return new LeafRows(rowIndices, rowKeys);
+    }
 
+    /**
+     * Follows the first child whose predicate evaluates to true, as
+     * {@code DecisionTreeNode.addCoveredPattern} does.
+     *
+     * @return the leaf covering the row or <code>null</code> if the row is not covered by any leaf
+     */
+    private static DecisionTreeNode findLeaf(final DecisionTreeNode rootNode, final DataRow row,
+        final DataTableSpec spec) {
+        DecisionTreeNode node = rootNode;
+        while (node instanceof DecisionTreeNodeSplitPMML) {
+            PMMLPredicate[] predicates = ((DecisionTreeNodeSplitPMML)node).getSplitPred();
+            DecisionTreeNode child = null;
+            for (int i = 0; i < predicates.length && child == null; i++) {
+                if (Boolean.TRUE.equals(predicates[i].evaluate(row, spec))) {
+                    child = node.getChildAt(i);
+                }
+            }
+            if (child == null) {
+                return null;
+            }
+            node = child;
+        }
+        return node instanceof DecisionTreeNodeLeaf ? node : null;
     }
 
 	public JSDecisionTree translate(final DecisionTree decisionTree) {
+		return translate(decisionTree.getRootNode(), null);
+	}
 
-		final DecisionTreeNode rootNode = decisionTree.getRootNode();
-		LinkedHashMap<DataCell, Double> rootClassCounts = rootNode.getClassCounts();
-		String[] classNames = new String[rootClassCounts.size()];
-		final Map<DataCell, Integer> classMapper = new HashMap<>();
-		int i = 0;
-		for (final DataCell c : rootClassCounts.keySet()) {
-			classNames[i] = c.toString();
-			classMapper.put(c, i);
-			i++;
-		}
-		final JSDecisionTreeMetaData meta = new JSDecisionTreeMetaData(classNames);
+    private JSDecisionTree translate(final DecisionTreeNode rootNode, final LeafRows leafRows) {
+        LinkedHashMap<DataCell, Double> rootClassCounts = rootNode.getClassCounts();
+        String[] classNames = new String[rootClassCounts.size()];
+        final Map<DataCell, Integer> classMapper = new HashMap<>();
+        int i = 0;
+        for (final DataCell c : rootClassCounts.keySet()) {
+            classNames[i] = c.toString();
+            classMapper.put(c, i);
+            i++;
+        }
+        final JSDecisionTreeMetaData meta = new JSDecisionTreeMetaData(classNames);
 
-		final JSDecisionTreeNode root = translateNode(rootNode, null, null, classMapper);
-		return new JSDecisionTree(root, meta);
-	}
+        final JSDecisionTreeNode root = translateNode(rootNode, null, null, classMapper, leafRows);
+        return new JSDecisionTree(root, meta);
+    }
 
 	private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 			final Integer parentName, final PMMLPredicate condition,
-			final Map<DataCell, Integer> classMapper) {
+			final Map<DataCell, Integer> classMapper, final LeafRows leafRows) {
 		int name = node.getOwnIndex();
 		final JSNodeContent content = translateNodeContent(node, classMapper);
 		if (node instanceof DecisionTreeNodeLeaf) {
+			if (leafRows != null) {
+				// row keys are only available if they were collected, otherwise they are requested by the view
+				return new JSDecisionTreeNode(name, parentName, null, content, condition, leafRows.getRowKeys(name),
+						leafRows.getNumRows(name));
+			}
 		    DecisionTreeNodeLeaf leaf = (DecisionTreeNodeLeaf)node;
 		    Set<RowKey> rowKeys = leaf.coveredPattern();
 		    String[] rowKeyStrings = new String[rowKeys.size()];
@@ -84,7 +237,8 @@ private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 		        rowKeyStrings[i] = iterator.next().getString();
 		    }
 			// stop recursion at leafs
-			return new JSDecisionTreeNode(name, parentName, null, content, condition, rowKeyStrings);
+			return new JSDecisionTreeNode(name, parentName, null, content, condition, rowKeyStrings,
+					rowKeyStrings.length);
 		}
 
 		// deal with children
@@ -93,7 +247,7 @@ private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 		PMMLPredicate[] childConditions = pmmlSplitNode.getSplitPred();
 		JSDecisionTreeNode[] children = new JSDecisionTreeNode[childConditions.length];
 		for (int i = 0; i < childConditions.length; i++) {
-			children[i] = translateNode(node.getChildAt(i), name, childConditions[i], classMapper);
+			children[i] = translateNode(node.getChildAt(i), name, childConditions[i], classMapper, leafRows);
 		}
 		return new JSDecisionTreeNode(name, parentName, children, content, condition, null);
 	}
@@ -108,4 +262,70 @@ private JSNodeContent translateNodeContent(final DecisionTreeNode node, final Ma
 		return new JSNodeContent(majorityClassIdx, classCounts);
 	}
 
+    /**
+     * The rows of a table covered by the leafs of a decision tree. The rows of each leaf are stored as their sorted
+     * indices in the table and optionally as their {@link RowKey}s.
+     *
+     * @since 5.12
+     */
+    public static final class LeafRows {
+
+        private static final int[] NO_ROWS = new int[0];
+
+        private final Map<Integer, int[]> m_rowIndices;
+
+        private final Map<Integer, String[]> m_rowKeys;
+
+        private LeafRows(final Map<Integer, int[]> rowIndices, final Map<Integer, String[]> rowKeys) {
+            m_rowIndices = rowIndices;
+            m_rowKeys = rowKeys;
+        }
+
+        /**
+         * @param leaf the name of the leaf, i.e. its own index in the tree
+         * @return the sorted indices of the rows covered by the leaf, never <code>null</code>
+         */
+        public int[] getRowIndices(final int leaf) {
+            return m_rowIndices.getOrDefault(leaf, NO_ROWS);
+        }
+
+        /**
+         * @param leaf the name of the leaf, i.e. its own index in the tree
+         * @return the number of rows covered by the leaf
+         */
+        public int getNumRows(final int leaf) {
+            return getRowIndices(leaf).length;
+        }
+
+        /**
+         * @param leaf the name of the leaf, i.e. its own index in the tree
+         * @return the keys of the rows covered by the leaf or <code>null</code> if the row keys were not collected
+         */
+        public String[] getRowKeys(final int leaf) {
+            if (m_rowKeys == null) {
+                return null;
+            }
+            return m_rowKeys.getOrDefault(leaf, new String[0]);
+        }
+    }
+
+    /** Growable int array, avoids boxing the row indices of large tables. */
+    private static final class IntArrayBuilder {
+
+        private int[] m_values = new int[16];
+
+        private int m_size;
+
+        void add(final int value) {
+            if (m_size == m_values.length) {
+                m_values = Arrays.copyOf(m_values, m_size * 2);
+            }
+            m_values[m_size++] = value;
+        }
+
+        int[] build() {
+            return Arrays.copyOf(m_values, m_size);
+        }
+    }
+
 }
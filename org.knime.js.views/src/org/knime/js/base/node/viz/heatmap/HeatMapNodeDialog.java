@@ -141,6 +141,7 @@ public class HeatMapNodeDialog extends NodeDialogPane {
     private final JCheckBox m_enablePageSizeChangeCheckBox;
     private final JTextField m_allowedPageSizesTextField;
     private final JCheckBox m_pageSizeShowAllCheckBox;
+    private final JCheckBox m_enableLazyLoadingCheckBox;
     private final JCheckBox m_enableZoomCheckBox;
     private final JCheckBox m_enablePanningCheckBox;
     private final JCheckBox m_showZoomResetButtonCheckBox;
@@ -231,6 +232,8 @@ public void setColor(final Color newValue) {
         m_enablePageSizeChangeCheckBox.addChangeListener(e -> enablePaging());
         m_allowedPageSizesTextField = new JTextField(TEXT_FIELD_SIZE);
         m_pageSizeShowAllCheckBox = new JCheckBox("Add \"All\" option to page sizes");
+        m_enableLazyLoadingCheckBox = new JCheckBox("Load rows of the current page on demand");
+        m_enableLazyLoadingCheckBox.addChangeListener(e -> enablePaging());
         m_enableZoomCheckBox = new JCheckBox("Enable zooming");
         m_enablePanningCheckBox = new JCheckBox("Enable panning");
         m_showZoomResetButtonCheckBox = new JCheckBox("Show zoom reset button");
@@ -294,6 +297,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setEnablePageSizeChange(m_enablePageSizeChangeCheckBox.isSelected());
         m_config.setAllowedPageSizes(getAllowedPageSizes());
         m_config.setEnableShowAll(m_pageSizeShowAllCheckBox.isSelected());
+        m_config.setEnableLazyLoading(m_enableLazyLoadingCheckBox.isSelected());
         m_config.setEnableZoom(m_enableZoomCheckBox.isSelected());
         m_config.setEnablePanning(m_enablePanningCheckBox.isSelected());
         m_config.setShowZoomResetButton(m_showZoomResetButtonCheckBox.isSelected());
@@ -358,6 +362,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         m_enablePageSizeChangeCheckBox.setSelected(m_config.getEnablePageSizeChange());
         m_allowedPageSizesTextField.setText(getAllowedPageSizesString(m_config.getAllowedPageSizes()));
         m_pageSizeShowAllCheckBox.setSelected(m_config.getEnableShowAll());
+        m_enableLazyLoadingCheckBox.setSelected(m_config.getEnableLazyLoading());
         m_enableZoomCheckBox.setSelected(m_config.getEnableZoom());
         m_enablePanningCheckBox.setSelected(m_config.getEnablePanning());
         m_showZoomResetButtonCheckBox.setSelected(m_config.getShowZoomResetButton());
@@ -654,6 +659,9 @@ private JPanel createInteractivityTab() {
         paginationPanel.add(m_pageSizeShowAllCheckBox, paginationPanelConstraints);
         paginationPanelConstraints.gridx = 0;
         paginationPanelConstraints.gridy++;
+        paginationPanel.add(m_enableLazyLoadingCheckBox, paginationPanelConstraints);
+        paginationPanelConstraints.gridx = 0;
+        paginationPanelConstraints.gridy++;
 
         c.gridx = 0;
         c.gridy++;
@@ -720,7 +728,9 @@ private void enablePaging() {
         m_initialPageSizeSpinner.setEnabled(enabled);
         m_enablePageSizeChangeCheckBox.setEnabled(enabled);
         m_allowedPageSizesTextField.setEnabled(enabled && enableSize);
-        m_pageSizeShowAllCheckBox.setEnabled(enabled && enableSize);
+        // showing all rows at once defeats loading them page by page
+        m_pageSizeShowAllCheckBox.setEnabled(enabled && enableSize && !m_enableLazyLoadingCheckBox.isSelected());
+        m_enableLazyLoadingCheckBox.setEnabled(enabled);
     }
 
     private void enableSelection() {
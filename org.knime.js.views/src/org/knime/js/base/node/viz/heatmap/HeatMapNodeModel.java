@@ -54,24 +54,30 @@
 
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.DirectAccessTable;
 import org.knime.core.data.DoubleValue;
+import org.knime.core.data.cache.WindowCacheTable;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -82,7 +88,10 @@
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.selection.SelectionIndex;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONDataTable.Builder;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -95,7 +104,8 @@
  * @author Alison Walter, KNIME GmbH, Konstanz, Germany
  */
 public class HeatMapNodeModel extends AbstractSVGWizardNodeModel<HeatMapViewRepresentation, HeatMapViewValue>
-implements CSSModifiable, BufferedDataTableHolder, LayoutTemplateProvider {
+implements CSSModifiable, BufferedDataTableHolder, LayoutTemplateProvider,
+JSONViewRequestHandler<HeatMapViewRequest, HeatMapViewResponse> {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(HeatMapNodeModel.class);
     private final static String JAVASCRIPT_ID = "org.knime.js.base.node.viz.heatmap";
@@ -103,6 +113,7 @@ public class HeatMapNodeModel extends AbstractSVGWizardNodeModel<HeatMapViewRepr
     private final HeatMapViewConfig m_config;
     private BufferedDataTable m_table;
     private ValueStore m_valueStore;
+    private DirectAccessTable m_cache;
 
     /**
      * @param viewName the name of the view
@@ -124,7 +135,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
             throw new InvalidSettingsException("Given data table contains no numeric columns");
         }
         if (m_config.getEnableSelection()) {
-            final ColumnRearranger createColumnRearranger = createColumnAppender(tableSpec, null);
+            final ColumnRearranger createColumnRearranger = createColumnAppender(tableSpec, SelectionIndex.of(null));
             tableSpec = createColumnRearranger.createSpec();
         }
 
@@ -170,6 +181,9 @@ public HeatMapViewRepresentation getViewRepresentation() {
                     LOGGER.error("Could not create JSON table: " + e.getMessage(), e);
                 }
             }
+            if (m_cache == null && m_table != null && rep.getEnableLazyLoading()) {
+                initializeCache();
+            }
         }
         return rep;
     }
@@ -287,7 +301,10 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
             representation.setEnablePaging(m_config.getEnablePaging());
             representation.setEnablePageSizeChange(m_config.getEnablePageSizeChange());
             representation.setAllowedPageSizes(m_config.getAllowedPageSizes());
-            representation.setEnableShowAll(m_config.getEnableShowAll());
+            representation.setEnableShowAll(m_config.getEnableShowAll() && !isLazyLoading());
+            representation.setEnableLazyLoading(isLazyLoading());
+            representation.setRowCount(m_table.size());
+            representation.setRangeFromPage(isBoundFromPage(true) || isBoundFromPage(false));
             representation.setEnableZoom(m_config.getEnableZoom());
             representation.setEnablePanning(m_config.getEnablePanning());
             representation.setShowZoomResetButton(m_config.getShowZoomResetButton());
@@ -344,7 +361,7 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         BufferedDataTable out = m_table;
         synchronized (getLock()) {
             if (m_config.getEnableSelection()) {
-                final List<String> selection = getViewValue().getSelection() == null ? null : Arrays.asList(getViewValue().getSelection());
+                final SelectionIndex selection = SelectionIndex.of(getViewValue().getSelection());
                 final ColumnRearranger createColumnRearranger =
                     createColumnAppender(m_table.getDataTableSpec(), selection);
                 out = exec.createColumnRearrangeTable(m_table, createColumnRearranger, exec);
@@ -368,6 +385,7 @@ protected boolean generateImage() {
     @Override
     protected void performReset() {
         m_table = null;
+        m_cache = null;
     }
 
     /**
@@ -420,7 +438,7 @@ public JSONLayoutViewContent getLayoutTemplate() {
 
     // -- Helper methods --
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final SelectionIndex selection) {
         String newColName = m_config.getSelectionColumnName();
         if (newColName == null || newColName.trim().isEmpty()) {
             newColName = HeatMapViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
@@ -432,14 +450,7 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
         CellFactory fac = new SingleCellFactory(outColumnSpec) {
             @Override
             public DataCell getCell(final DataRow row) {
-                if (selectionList != null && !selectionList.isEmpty()) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                return BooleanCell.FALSE;
+                return BooleanCellFactory.create(selection.contains(row.getKey()));
             }
         };
         rearranger.append(fac);
@@ -460,26 +471,150 @@ private void copyViewValueToConfig() {
     }
 
     private JSONDataTable createJSONTableFromBufferedDataTable(final ExecutionContext exec) throws CanceledExecutionException {
-        final boolean keepFilterCols = m_config.getSubscribeFilter();
+        final Builder builder = JSONDataTable.newBuilder()
+                .setDataTable(m_table)
+                .setId(getTableId(0))
+                .setFirstRow(1)
+                .keepFilterColumns(m_config.getSubscribeFilter())
+                .setIncludeColumns(getIncludedColumns(true));
+        if (isLazyLoading()) {
+            // only the first page is part of the representation, further pages are requested by the view
+            builder.setMaxRows(m_config.getInitialPageSize());
+        } else {
+            builder.calculateDataHash(true);
+        }
+        return builder.build(exec);
+    }
+
+    private String[] getIncludedColumns(final boolean includeSvgLabels) {
         final FilterResult filter = m_config.getColumns().applyTo(m_table.getDataTableSpec());
         final List<String> include = new ArrayList<>(Arrays.asList(filter.getIncludes()));
-        if (m_config.getEnableShowToolTips() && m_config.getSvgLabelColumn() != null && !m_config.getSvgLabelColumn().isEmpty()) {
+        if (includeSvgLabels && m_config.getEnableShowToolTips() && m_config.getSvgLabelColumn() != null
+            && !m_config.getSvgLabelColumn().isEmpty()) {
             include.add(m_config.getSvgLabelColumn());
         }
         if (m_config.getLabelColumn() != null && !m_config.getLabelColumn().isEmpty() && !include.contains(m_config.getLabelColumn())) {
             include.add(m_config.getLabelColumn());
         }
-        final String[] includeCols = include.toArray(new String[include.size()]);
+        return include.toArray(new String[include.size()]);
+    }
 
-        JSONDataTable jsonTable = JSONDataTable.newBuilder()
-                .setDataTable(m_table)
-                .setId(getTableId(0))
-                .setFirstRow(1)
-                .keepFilterColumns(keepFilterCols)
-                .setIncludeColumns(includeCols)
-                .calculateDataHash(true)
-                .build(exec);
-        return jsonTable;
+    private boolean isLazyLoading() {
+        return m_config.getEnablePaging() && m_config.getEnableLazyLoading();
+    }
+
+    private void initializeCache() {
+        m_cache = new WindowCacheTable(m_table, getIncludedColumns(true));
+        int maxPageSize = m_config.getInitialPageSize();
+        if (m_config.getEnablePageSizeChange() && m_config.getAllowedPageSizes().length > 0) {
+            maxPageSize = Math.max(maxPageSize, Arrays.stream(m_config.getAllowedPageSizes()).max().getAsInt());
+        }
+        // same sizing as the lazy loading table view, the default cache size (500) or 5 times the largest page size
+        ((WindowCacheTable)m_cache).setCacheSize(Math.max(5 * maxPageSize, WindowCacheTable.DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeatMapViewRequest createEmptyViewRequest() {
+        return new HeatMapViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeatMapViewResponse handleRequest(final HeatMapViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final HeatMapViewResponse response = new HeatMapViewResponse(request);
+        try {
+            final DirectAccessTable cache;
+            synchronized (getLock()) {
+                if (m_cache == null && m_table != null) {
+                    initializeCache();
+                }
+                cache = m_cache;
+            }
+            if (cache == null) {
+                throw new IllegalStateException("No table available, node needs to be executed.");
+            }
+            exec.setMessage("Caching rows...");
+            List<DataRow> rows;
+            try {
+                rows = cache.getRows(request.getStart(), request.getLength(), exec.createSubProgress(0.9));
+            } catch (IndexOutOfBoundsException e) {
+                rows = new ArrayList<DataRow>(0);
+            }
+            if (request.getIncludeRange()) {
+                setPageRange(rows, response);
+            }
+            exec.setMessage("Serializing response...");
+            final JSONDataTable table = JSONDataTable.newBuilder()
+                    .setDataTable(m_table)
+                    .setId(getTableId(0))
+                    .keepFilterColumns(m_config.getSubscribeFilter())
+                    .setIncludeColumns(getIncludedColumns(request.getIncludeSvgLabels()))
+                    .setDataRows(rows.stream().toArray(DataRow[]::new))
+                    .setFirstRow(request.getStart() + 1)
+                    .setMaxRows(request.getLength())
+                    .build(exec.createSubProgress(0.1));
+            response.setTable(table);
+            response.setRowCount(m_table.size());
+        } catch (CanceledExecutionException e) {
+            // request was cancelled, no need for special treatment
+            throw e;
+        } catch (Exception e) {
+            // wrap all other exceptions for proper error handling
+            LOGGER.error("Heatmap request could not be processed: " + e.getMessage(), e);
+            response.setError(e.getMessage());
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
+    }
+
+    private void setPageRange(final List<DataRow> rows, final HeatMapViewResponse response) {
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final int[] colIndices = spec.columnsToIndices(m_config.getColumns().applyTo(spec).getIncludes());
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (final DataRow row : rows) {
+            for (final int colIndex : colIndices) {
+                final DataCell cell = row.getCell(colIndex);
+                if (!cell.isMissing() && cell instanceof DoubleValue) {
+                    final double value = ((DoubleValue)cell).getDoubleValue();
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+        }
+        if (min <= max) {
+            if (isBoundFromPage(true)) {
+                response.setMinValue(min);
+            }
+            if (isBoundFromPage(false)) {
+                response.setMaxValue(max);
+            }
+        }
+    }
+
+    /**
+     * @param lower true for the minimum, false for the maximum value
+     * @return true if rows are loaded on demand and the bound is neither custom nor known from the domain of the
+     *         heatmap columns, the view then uses the bound of the rows of the current page
+     */
+    private boolean isBoundFromPage(final boolean lower) {
+        if (!isLazyLoading() || (lower ? m_config.getUseCustomMin() : m_config.getUseCustomMax())) {
+            return false;
+        }
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        for (final String column : m_config.getColumns().applyTo(spec).getIncludes()) {
+            final DataColumnDomain domain = spec.getColumnSpec(column).getDomain();
+            if ((lower ? domain.getLowerBound() : domain.getUpperBound()) != null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private double getMax(final DataTableSpec spec, final DataColumnSpecFilterConfiguration filter,
@@ -241,6 +241,10 @@ public boolean include(final DataColumnSpec name) {
     final static boolean DEFAULT_PAGE_SIZE_SHOW_ALL = false;
     private boolean m_pageSizeShowAll = DEFAULT_PAGE_SIZE_SHOW_ALL;
 
+    final static String CFG_ENABLE_LAZY_LOADING = "enableLazyLoading";
+    final static boolean DEFAULT_ENABLE_LAZY_LOADING = false;
+    private boolean m_enableLazyLoading = DEFAULT_ENABLE_LAZY_LOADING;
+
     // Zooming & Panning
     final static String CFG_ENABLE_ZOOM = "enableZoom";
     final static boolean DEFAULT_ENABLE_ZOOM = true;
@@ -856,6 +860,21 @@ public void setEnableShowAll(final boolean enableShowAll) {
         m_pageSizeShowAll = enableShowAll;
     }
 
+    /**
+     * @return true if the rows of the current page are requested from the node on demand instead of being part of
+     *         the view representation
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
     // -- Zoom & Panning getters & setters
 
     /**
@@ -954,6 +973,7 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addBoolean(CFG_ENABLE_PAGE_SIZE_CHANGE, m_enablePageSizeChange);
         settings.addIntArray(CFG_PAGE_SIZES, m_allowedPageSizes);
         settings.addBoolean(CFG_PAGE_SIZE_SHOW_ALL, m_pageSizeShowAll);
+        settings.addBoolean(CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
 
         settings.addBoolean(CFG_ENABLE_ZOOM, m_enableZoom);
         settings.addBoolean(CFG_ENABLE_PANNING, m_enablePanning);
@@ -1019,6 +1039,8 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
         m_enablePageSizeChange = settings.getBoolean(CFG_ENABLE_PAGE_SIZE_CHANGE);
         m_allowedPageSizes = settings.getIntArray(CFG_PAGE_SIZES);
         m_pageSizeShowAll = settings.getBoolean(CFG_PAGE_SIZE_SHOW_ALL);
+        // added with 5.12
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
 
         m_enableZoom = settings.getBoolean(CFG_ENABLE_ZOOM);
         m_enablePanning = settings.getBoolean(CFG_ENABLE_PANNING);
@@ -1078,6 +1100,7 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         m_enablePageSizeChange = settings.getBoolean(CFG_ENABLE_PAGE_SIZE_CHANGE, DEFAULT_ENABLE_PAGE_SIZE_CHANGE);
         m_allowedPageSizes = settings.getIntArray(CFG_PAGE_SIZES, DEFAULT_PAGE_SIZES);
         m_pageSizeShowAll = settings.getBoolean(CFG_PAGE_SIZE_SHOW_ALL, DEFAULT_PAGE_SIZE_SHOW_ALL);
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
 
         m_enableZoom = settings.getBoolean(CFG_ENABLE_ZOOM, DEFAULT_ENABLE_ZOOM);
         m_enablePanning = settings.getBoolean(CFG_ENABLE_PANNING, DEFAULT_ENABLE_PANNING);
@@ -104,6 +104,11 @@ public class HeatMapViewRepresentation extends JSONViewContent {
     private boolean m_enablePageSizeChange;
     private int[] m_allowedPageSizes;
     private boolean m_pageSizeShowAll;
+    private boolean m_enableLazyLoading;
+    private final static String CFG_ROW_COUNT = "rowCount";
+    private long m_rowCount;
+    private final static String CFG_RANGE_FROM_PAGE = "rangeFromPage";
+    private boolean m_rangeFromPage;
 
     private boolean m_enableZoom;
     private boolean m_enablePanning;
@@ -521,6 +526,49 @@ public void setEnableShowAll(final boolean enableShowAll) {
         m_pageSizeShowAll = enableShowAll;
     }
 
+    /**
+     * @return the enableLazyLoading
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
+    /**
+     * @return the total number of rows of the input table, needed for paging if rows are loaded on demand
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the rowCount to set
+     */
+    public void setRowCount(final long rowCount) {
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * @return true if rows are loaded on demand and the minimum or maximum value is neither custom nor known from the
+     *         domain of the columns, hence it has to be requested with each page
+     */
+    public boolean getRangeFromPage() {
+        return m_rangeFromPage;
+    }
+
+    /**
+     * @param rangeFromPage the rangeFromPage to set
+     */
+    public void setRangeFromPage(final boolean rangeFromPage) {
+        m_rangeFromPage = rangeFromPage;
+    }
+
     // -- Zoom & Panning getters & setters --
 
     /**
@@ -669,6 +717,9 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_PAGE_SIZE_CHANGE, m_enablePageSizeChange);
         settings.addIntArray(HeatMapViewConfig.CFG_PAGE_SIZES, m_allowedPageSizes);
         settings.addBoolean(HeatMapViewConfig.CFG_PAGE_SIZE_SHOW_ALL, m_pageSizeShowAll);
+        settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+        settings.addBoolean(CFG_RANGE_FROM_PAGE, m_rangeFromPage);
 
         settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_ZOOM, m_enableZoom);
         settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_PANNING, m_enablePanning);
@@ -717,6 +768,10 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
         m_enablePageSizeChange = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_PAGE_SIZE_CHANGE);
         m_allowedPageSizes = settings.getIntArray(HeatMapViewConfig.CFG_PAGE_SIZES);
         m_pageSizeShowAll = settings.getBoolean(HeatMapViewConfig.CFG_PAGE_SIZE_SHOW_ALL);
+        // added with 5.12
+        m_enableLazyLoading = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_LAZY_LOADING, false);
+        m_rowCount = settings.getLong(CFG_ROW_COUNT, 0);
+        m_rangeFromPage = settings.getBoolean(CFG_RANGE_FROM_PAGE, false);
 
         m_enableZoom = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_ZOOM);
         m_enablePanning = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_PANNING);
@@ -771,6 +826,9 @@ public boolean equals(final Object obj) {
                 .append(m_enablePageSizeChange, other.getEnablePageSizeChange())
                 .append(m_allowedPageSizes, other.getAllowedPageSizes())
                 .append(m_pageSizeShowAll, other.getEnableShowAll())
+                .append(m_enableLazyLoading, other.getEnableLazyLoading())
+                .append(m_rowCount, other.getRowCount())
+                .append(m_rangeFromPage, other.getRangeFromPage())
                 .append(m_enableZoom, other.getEnableZoom())
                 .append(m_enablePanning, other.getEnablePanning())
                 .append(m_showZoomResetButton, other.getShowZoomResetButton())
@@ -815,6 +873,9 @@ public int hashCode() {
                 .append(m_enablePageSizeChange)
                 .append(m_allowedPageSizes)
                 .append(m_pageSizeShowAll)
+                .append(m_enableLazyLoading)
+                .append(m_rowCount)
+                .append(m_rangeFromPage)
                 .append(m_enableZoom)
                 .append(m_enablePanning)
                 .append(m_showZoomResetButton)
@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.heatmap;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewRequest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Request issued by the heatmap view to fetch the rows of a page if lazy loading is enabled.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class HeatMapViewRequest extends JSONViewRequest {
+
+    private long m_start;
+    private int m_length;
+    private boolean m_includeSvgLabels;
+    private boolean m_includeRange;
+
+    /**
+     * @return the index of the first requested row (0-based)
+     */
+    public long getStart() {
+        return m_start;
+    }
+
+    /**
+     * @param start the start to set
+     */
+    public void setStart(final long start) {
+        m_start = start;
+    }
+
+    /**
+     * @return the number of requested rows
+     */
+    public int getLength() {
+        return m_length;
+    }
+
+    /**
+     * @param length the length to set
+     */
+    public void setLength(final int length) {
+        m_length = length;
+    }
+
+    /**
+     * @return true if the SVG label column is to be included in the response
+     */
+    public boolean getIncludeSvgLabels() {
+        return m_includeSvgLabels;
+    }
+
+    /**
+     * @param includeSvgLabels the includeSvgLabels to set
+     */
+    public void setIncludeSvgLabels(final boolean includeSvgLabels) {
+        m_includeSvgLabels = includeSvgLabels;
+    }
+
+    /**
+     * @return true if the minimum and maximum of the heatmap columns on the requested page are to be included in the
+     *         response
+     */
+    public boolean getIncludeRange() {
+        return m_includeRange;
+    }
+
+    /**
+     * @param includeRange the includeRange to set
+     */
+    public void setIncludeRange(final boolean includeRange) {
+        m_includeRange = includeRange;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        HeatMapViewRequest other = (HeatMapViewRequest)obj;
+        return new EqualsBuilder()
+                .append(m_start, other.m_start)
+                .append(m_length, other.m_length)
+                .append(m_includeSvgLabels, other.m_includeSvgLabels)
+                .append(m_includeRange, other.m_includeRange)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_start)
+                .append(m_length)
+                .append(m_includeSvgLabels)
+                .append(m_includeRange)
+                .toHashCode();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Row blocks of all {@link PagedTableRowCache}s in this process, sharing a common memory budget. If the budget is
+ * exceeded, the least recently used blocks are evicted, regardless of the view they belong to.
+ *
+ * <p>
+ * The budget is given in cells and can be set with the system property {@value #PROPERTY_BUDGET}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PagedTableBlockStore {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PagedTableBlockStore.class);
+
+    /** System property for the number of cells which are cached for all paged table views. */
+    static final String PROPERTY_BUDGET = "knime.js.pagedtable.cache.cells";
+
+    /** Default number of cells which are cached for all paged table views. */
+    static final long DEFAULT_BUDGET = 5_000_000;
+
+    private static final PagedTableBlockStore INSTANCE = new PagedTableBlockStore(readBudget());
+
+    private final long m_budget;
+
+    private final Map<BlockKey, Block> m_blocks = new LinkedHashMap<BlockKey, Block>(16, 0.75f, true);
+
+    private long m_usedCells;
+
+    PagedTableBlockStore(final long budget) {
+        m_budget = budget;
+    }
+
+    /**
+     * @return the store shared by all paged table views
+     */
+    static PagedTableBlockStore getInstance() {
+        return INSTANCE;
+    }
+
+    private static long readBudget() {
+        String value = System.getProperty(PROPERTY_BUDGET);
+        if (value != null) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid value for system property " + PROPERTY_BUDGET + ": " + value
+                    + ". Using default of " + DEFAULT_BUDGET + " cells.");
+            }
+        }
+        return DEFAULT_BUDGET;
+    }
+
+    /**
+     * @param owner the cache the block belongs to
+     * @param index the index of the block
+     * @return the rows of the block, or null if it is not cached
+     */
+    synchronized List<DataRow> get(final Object owner, final long index) {
+        Block block = m_blocks.get(new BlockKey(owner, index));
+        return block == null ? null : block.m_rows;
+    }
+
+    /**
+     * Checks if a block is cached without marking it as used.
+     *
+     * @param owner the cache the block belongs to
+     * @param index the index of the block
+     * @return true if the block is cached
+     */
+    synchronized boolean contains(final Object owner, final long index) {
+        return m_blocks.containsKey(new BlockKey(owner, index));
+    }
+
+    /**
+     * Adds a block and evicts the least recently used blocks if the budget is exceeded. The added block itself is
+     * kept, even if it exceeds the budget on its own.
+     *
+     * @param owner the cache the block belongs to
+     * @param index the index of the block
+     * @param rows the rows of the block
+     * @param numCells the number of cells in the block
+     */
+    synchronized void put(final Object owner, final long index, final List<DataRow> rows, final long numCells) {
+        BlockKey key = new BlockKey(owner, index);
+        Block previous = m_blocks.put(key, new Block(rows, numCells));
+        if (previous != null) {
+            m_usedCells -= previous.m_numCells;
+        }
+        m_usedCells += numCells;
+        Iterator<Map.Entry<BlockKey, Block>> it = m_blocks.entrySet().iterator();
+        while (m_usedCells > m_budget && it.hasNext()) {
+            Map.Entry<BlockKey, Block> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                break;
+            }
+            m_usedCells -= eldest.getValue().m_numCells;
+            it.remove();
+        }
+    }
+
+    /**
+     * Removes all blocks of a cache.
+     *
+     * @param owner the cache
+     */
+    synchronized void removeAll(final Object owner) {
+        Iterator<Map.Entry<BlockKey, Block>> it = m_blocks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<BlockKey, Block> entry = it.next();
+            if (entry.getKey().m_owner == owner) {
+                m_usedCells -= entry.getValue().m_numCells;
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached cells
+     */
+    synchronized long getUsedCells() {
+        return m_usedCells;
+    }
+
+    private static final class BlockKey {
+
+        private final Object m_owner;
+
+        private final long m_index;
+
+        BlockKey(final Object owner, final long index) {
+            m_owner = owner;
+            m_index = index;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof BlockKey)) {
+                return false;
+            }
+            BlockKey other = (BlockKey)obj;
+            return m_owner == other.m_owner && m_index == other.m_index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(m_owner) + Long.hashCode(m_index);
+        }
+    }
+
+    private static final class Block {
+
+        private final List<DataRow> m_rows;
+
+        private final long m_numCells;
+
+        Block(final List<DataRow> rows, final long numCells) {
+            m_rows = rows;
+            m_numCells = numCells;
+        }
+    }
+}
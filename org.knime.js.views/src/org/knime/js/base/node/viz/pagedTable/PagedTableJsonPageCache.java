@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Already serialized tables of paged table responses of all paged table views in this process, sharing a common
+ * memory budget. Pages are keyed by the view they belong to, the id of the displayed table and the request, so
+ * subsequent requests for the same page neither read the table nor serialize rows again. If the budget is exceeded,
+ * the least recently used pages are evicted.
+ *
+ * <p>
+ * The budget is given in bytes and can be set with the system property {@value #PROPERTY_BUDGET}, a budget of 0
+ * disables the cache.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PagedTableJsonPageCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PagedTableJsonPageCache.class);
+
+    /** System property for the number of bytes of serialized pages which are cached for all paged table views. */
+    static final String PROPERTY_BUDGET = "knime.js.pagedtable.cache.bytes";
+
+    /** Default number of bytes of serialized pages which are cached for all paged table views. */
+    static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+    private static final PagedTableJsonPageCache INSTANCE = new PagedTableJsonPageCache(readBudget());
+
+    private final long m_budget;
+
+    private final Map<PageKey, Page> m_pages = new LinkedHashMap<PageKey, Page>(16, 0.75f, true);
+
+    private long m_usedBytes;
+
+    PagedTableJsonPageCache(final long budget) {
+        m_budget = budget;
+    }
+
+    /**
+     * @return the cache shared by all paged table views
+     */
+    static PagedTableJsonPageCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static long readBudget() {
+        String value = System.getProperty(PROPERTY_BUDGET);
+        if (value != null) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid value for system property " + PROPERTY_BUDGET + ": " + value
+                    + ". Using default of " + DEFAULT_BUDGET + " bytes.");
+            }
+        }
+        return DEFAULT_BUDGET;
+    }
+
+    /**
+     * @return true if pages are cached, false if the cache is disabled
+     */
+    boolean isEnabled() {
+        return m_budget > 0;
+    }
+
+    /**
+     * @param owner the view the page belongs to
+     * @param tableId the id of the displayed table
+     * @param request the request of the page
+     * @return the cached page, or null if it is not cached
+     */
+    synchronized Page get(final Object owner, final int tableId, final PagedTableViewRequest request) {
+        return m_pages.get(new PageKey(owner, tableId, request));
+    }
+
+    /**
+     * Adds a page and evicts the least recently used pages if the budget is exceeded. Pages exceeding the budget on
+     * their own are not added.
+     *
+     * @param owner the view the page belongs to
+     * @param tableId the id of the displayed table
+     * @param request the request of the page, must not be changed afterwards
+     * @param page the page
+     */
+    synchronized void put(final Object owner, final int tableId, final PagedTableViewRequest request,
+        final Page page) {
+        if (page.getNumBytes() > m_budget) {
+            return;
+        }
+        Page previous = m_pages.put(new PageKey(owner, tableId, request), page);
+        if (previous != null) {
+            m_usedBytes -= previous.getNumBytes();
+        }
+        m_usedBytes += page.getNumBytes();
+        Iterator<Page> it = m_pages.values().iterator();
+        while (m_usedBytes > m_budget && it.hasNext()) {
+            m_usedBytes -= it.next().getNumBytes();
+            it.remove();
+        }
+    }
+
+    /**
+     * Removes all pages of a view.
+     *
+     * @param owner the view
+     */
+    synchronized void removeAll(final Object owner) {
+        Iterator<Map.Entry<PageKey, Page>> it = m_pages.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<PageKey, Page> entry = it.next();
+            if (entry.getKey().m_owner == owner) {
+                m_usedBytes -= entry.getValue().getNumBytes();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes of the cached pages
+     */
+    synchronized long getUsedBytes() {
+        return m_usedBytes;
+    }
+
+    /**
+     * A serialized table of a response together with the row counts of the response.
+     */
+    static final class Page {
+
+        private final String m_tableJSON;
+
+        private final long m_rowCount;
+
+        private final long m_totalRowCount;
+
+        /**
+         * @param tableJSON the serialized table
+         * @param rowCount the number of rows matching the search of the request
+         * @param totalRowCount the number of rows of the table
+         */
+        Page(final String tableJSON, final long rowCount, final long totalRowCount) {
+            m_tableJSON = tableJSON;
+            m_rowCount = rowCount;
+            m_totalRowCount = totalRowCount;
+        }
+
+        String getTableJSON() {
+            return m_tableJSON;
+        }
+
+        long getRowCount() {
+            return m_rowCount;
+        }
+
+        long getTotalRowCount() {
+            return m_totalRowCount;
+        }
+
+        long getNumBytes() {
+            // strings are stored with two bytes per character at most
+            return 2L * m_tableJSON.length();
+        }
+    }
+
+    private static final class PageKey {
+
+        private final Object m_owner;
+
+        private final int m_tableId;
+
+        private final PagedTableViewRequest m_request;
+
+        PageKey(final Object owner, final int tableId, final PagedTableViewRequest request) {
+            m_owner = owner;
+            m_tableId = tableId;
+            m_request = request;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof PageKey)) {
+                return false;
+            }
+            PageKey other = (PageKey)obj;
+            return m_owner == other.m_owner && m_tableId == other.m_tableId
+                && Objects.equals(m_request, other.m_request);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(m_owner) + m_tableId) + Objects.hashCode(m_request);
+        }
+    }
+}
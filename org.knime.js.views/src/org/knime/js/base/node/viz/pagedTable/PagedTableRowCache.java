@@ -0,0 +1,348 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Row cache of a paged table view. The rows are read in blocks of fixed size which are kept in the
+ * {@link PagedTableBlockStore} shared by all paged table views. After a page was requested, the blocks before and
+ * after it are read in the background, starting with the block in the direction of the last page flip.
+ *
+ * <p>
+ * Blocks of a {@link BufferedDataTable} are read with a row range filter, which seeks directly to the first row of
+ * the block. Other tables can only be iterated, for them the iterators positioned after the last block they read are
+ * kept as checkpoints, so reading the next block continues from there instead of from the start of the table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PagedTableRowCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PagedTableRowCache.class);
+
+    /** Maximum number of iterators kept as checkpoints for tables without random access. */
+    private static final int MAX_CHECKPOINTS = 4;
+
+    private final DataTable m_table;
+
+    private final long m_rowCount;
+
+    private final int[] m_includedColumns;
+
+    private final int m_numCells;
+
+    private final int m_blockSize;
+
+    private final PagedTableBlockStore m_store;
+
+    private final List<Checkpoint> m_checkpoints = new ArrayList<Checkpoint>();
+
+    /** Guards reading from the table and the checkpoints. */
+    private final Object m_readLock = new Object();
+
+    private long m_lastBlock = -1;
+
+    private boolean m_disposed;
+
+    /**
+     * @param table the table to cache
+     * @param rowCount the number of rows of the table
+     * @param includedColumns the names of the columns to read, null for all columns
+     * @param blockSize the number of rows per block
+     */
+    PagedTableRowCache(final DataTable table, final long rowCount, final String[] includedColumns,
+        final int blockSize) {
+        this(table, rowCount, includedColumns, blockSize, PagedTableBlockStore.getInstance());
+    }
+
+    PagedTableRowCache(final DataTable table, final long rowCount, final String[] includedColumns,
+        final int blockSize, final PagedTableBlockStore store) {
+        CheckUtils.checkArgument(blockSize > 0, "Block size must be positive: %d", blockSize);
+        m_table = table;
+        m_rowCount = rowCount;
+        DataTableSpec spec = table.getDataTableSpec();
+        if (includedColumns == null) {
+            m_includedColumns = null;
+            m_numCells = spec.getNumColumns() + 1;
+        } else {
+            m_includedColumns = spec.columnsToIndices(includedColumns);
+            m_numCells = m_includedColumns.length + 1;
+        }
+        m_blockSize = blockSize;
+        m_store = store;
+    }
+
+    /**
+     * @return the number of rows of the table
+     */
+    long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * Returns the rows of a page, reading the blocks which are not cached.
+     *
+     * @param start the index of the first row
+     * @param length the maximum number of rows
+     * @param exec the monitor for cancellation
+     * @return the page
+     * @throws CanceledExecutionException if reading the rows was canceled
+     */
+    Page getRows(final long start, final int length, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (start < 0 || length <= 0 || start >= m_rowCount) {
+            return new Page(Collections.<DataRow> emptyList(), 0, 0);
+        }
+        final long end = Math.min(start + length, m_rowCount);
+        final long firstBlock = start / m_blockSize;
+        final long lastBlock = (end - 1) / m_blockSize;
+        final List<DataRow> rows = new ArrayList<DataRow>((int)(end - start));
+        int hits = 0;
+        int misses = 0;
+        for (long block = firstBlock; block <= lastBlock; block++) {
+            List<DataRow> blockRows = m_store.get(this, block);
+            if (blockRows == null) {
+                misses++;
+                blockRows = readBlock(block, exec);
+            } else {
+                hits++;
+            }
+            long blockStart = block * m_blockSize;
+            int from = (int)(Math.max(start, blockStart) - blockStart);
+            int to = (int)(Math.min(end, blockStart + blockRows.size()) - blockStart);
+            rows.addAll(blockRows.subList(from, Math.max(from, to)));
+        }
+        prefetch(firstBlock, lastBlock);
+        return new Page(rows, hits, misses);
+    }
+
+    private void prefetch(final long firstBlock, final long lastBlock) {
+        final boolean backwards;
+        synchronized (m_readLock) {
+            backwards = m_lastBlock > lastBlock;
+            m_lastBlock = lastBlock;
+        }
+        final long numBlocks = (m_rowCount + m_blockSize - 1) / m_blockSize;
+        final long next = lastBlock + 1;
+        final long previous = firstBlock - 1;
+        final long[] blocks = backwards ? new long[]{previous, next} : new long[]{next, previous};
+        for (long block : blocks) {
+            if (block >= 0 && block < numBlocks && !m_store.contains(this, block)) {
+                KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.runnableWithContext(() -> {
+                    try {
+                        if (!m_store.contains(this, block)) {
+                            readBlock(block, new ExecutionMonitor());
+                        }
+                    } catch (Exception e) {
+                        LOGGER.debug("Prefetching rows of paged table failed: " + e.getMessage(), e);
+                    }
+                }));
+            }
+        }
+    }
+
+    private List<DataRow> readBlock(final long block, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        synchronized (m_readLock) {
+            if (m_disposed) {
+                return Collections.emptyList();
+            }
+            // the block might have been read by a prefetch in the meantime
+            List<DataRow> rows = m_store.get(this, block);
+            if (rows != null) {
+                return rows;
+            }
+            long from = block * m_blockSize;
+            long to = Math.min(from + m_blockSize, m_rowCount);
+            rows = m_table instanceof BufferedDataTable ? readRange((BufferedDataTable)m_table, from, to, exec)
+                : readFromCheckpoint(from, to, exec);
+            rows = Collections.unmodifiableList(rows);
+            m_store.put(this, block, rows, (long)rows.size() * m_numCells);
+            return rows;
+        }
+    }
+
+    private List<DataRow> readRange(final BufferedDataTable table, final long from, final long to,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        TableFilter filter = m_includedColumns == null ? TableFilter.filterRangeOfRows(from, to - 1)
+            : TableFilter.materializeCols(m_includedColumns).withFromRowIndex(from).withToRowIndex(to - 1);
+        List<DataRow> rows = new ArrayList<DataRow>((int)(to - from));
+        try (CloseableRowIterator it = table.filter(filter)) {
+            while (it.hasNext()) {
+                rows.add(it.next());
+                exec.checkCanceled();
+            }
+        }
+        return rows;
+    }
+
+    private List<DataRow> readFromCheckpoint(final long from, final long to, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        // continue from the checkpoint closest before the block
+        Checkpoint checkpoint = null;
+        for (Checkpoint c : m_checkpoints) {
+            if (c.m_position <= from && (checkpoint == null || c.m_position > checkpoint.m_position)) {
+                checkpoint = c;
+            }
+        }
+        if (checkpoint == null) {
+            if (m_checkpoints.size() >= MAX_CHECKPOINTS) {
+                // all checkpoints are behind the block, drop the one furthest into the table
+                Checkpoint furthest =
+                    Collections.max(m_checkpoints, (a, b) -> Long.compare(a.m_position, b.m_position));
+                furthest.close();
+                m_checkpoints.remove(furthest);
+            }
+            checkpoint = new Checkpoint(m_table.iterator());
+            m_checkpoints.add(checkpoint);
+        }
+        RowIterator it = checkpoint.m_iterator;
+        while (checkpoint.m_position < from && it.hasNext()) {
+            it.next();
+            checkpoint.m_position++;
+            if (checkpoint.m_position % 1000 == 0) {
+                exec.checkCanceled();
+            }
+        }
+        List<DataRow> rows = new ArrayList<DataRow>((int)(to - from));
+        while (checkpoint.m_position < to && it.hasNext()) {
+            rows.add(it.next());
+            checkpoint.m_position++;
+        }
+        exec.checkCanceled();
+        return rows;
+    }
+
+    /**
+     * Removes the blocks of this cache from the shared store and closes all open iterators.
+     */
+    void dispose() {
+        synchronized (m_readLock) {
+            m_disposed = true;
+            m_checkpoints.forEach(Checkpoint::close);
+            m_checkpoints.clear();
+        }
+        m_store.removeAll(this);
+    }
+
+    /**
+     * An iterator and the index of the row it returns next.
+     */
+    private static final class Checkpoint {
+
+        private final RowIterator m_iterator;
+
+        private long m_position;
+
+        Checkpoint(final RowIterator iterator) {
+            m_iterator = iterator;
+        }
+
+        void close() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+    }
+
+    /**
+     * The rows of a requested page together with the number of blocks which were cached and which had to be read.
+     */
+    static final class Page {
+
+        private final List<DataRow> m_rows;
+
+        private final int m_cacheHits;
+
+        private final int m_cacheMisses;
+
+        Page(final List<DataRow> rows, final int cacheHits, final int cacheMisses) {
+            m_rows = rows;
+            m_cacheHits = cacheHits;
+            m_cacheMisses = cacheMisses;
+        }
+
+        /**
+         * @return the rows of the page
+         */
+        List<DataRow> getRows() {
+            return m_rows;
+        }
+
+        /**
+         * @return the number of blocks of the page which were cached
+         */
+        int getCacheHits() {
+            return m_cacheHits;
+        }
+
+        /**
+         * @return the number of blocks of the page which had to be read
+         */
+        int getCacheMisses() {
+            return m_cacheMisses;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.sort.DataTableSorter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Column;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Order;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Search;
+
+/**
+ * Sorted and searched views of the table shown by the lazy loading table view. A view is created once per ordering
+ * and search and kept together with a {@link PagedTableRowCache} on it, so following page requests for the same
+ * ordering and search only need to read the rows of the page.
+ *
+ * <p>
+ * Columns are referenced by the name (or, if not set, the data property) of the DataTables column a request refers
+ * to. Orderings and searches on columns which are not part of the table are ignored. Searching is case-insensitive
+ * and matches if the string representation of a cell contains the search value or, for regex searches, contains a
+ * match of the pattern. The global search also matches the row key.
+ *
+ * <p>
+ * Sorted and searched tables are written to temporary containers. They are cleared once neither the kept sorted
+ * tables nor a kept view nor a view under creation refer to them anymore. Views are created without holding the lock
+ * of the cache, so page requests for cached views are not blocked while a table is sorted.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PagedTableViewCache {
+
+    /** The number of sorted tables and of searched views which are kept. */
+    private static final int MAX_CACHED_VIEWS = 4;
+
+    private final BufferedDataTable m_table;
+
+    private final String[] m_includedColumns;
+
+    /** The indices of the columns matched by the global search. */
+    private final int[] m_searchableColumns;
+
+    private final int m_blockSize;
+
+    private final Map<String, DataTable> m_sortedTables = new LinkedHashMap<String, DataTable>(16, 0.75f, true);
+
+    private final Map<String, View> m_views = new LinkedHashMap<String, View>(16, 0.75f, true);
+
+    /** The number of views under creation reading a table, keyed by the table. */
+    private final Map<DataTable, Integer> m_tablesInUse = new HashMap<DataTable, Integer>();
+
+    /**
+     * @param table the table shown by the view
+     * @param includedColumns the columns contained in the pages, null for all columns
+     * @param blockSize the number of rows per block of the row caches of the views
+     */
+    PagedTableViewCache(final BufferedDataTable table, final String[] includedColumns, final int blockSize) {
+        m_table = table;
+        m_includedColumns = includedColumns;
+        m_blockSize = blockSize;
+        DataTableSpec spec = table.getDataTableSpec();
+        if (includedColumns == null) {
+            m_searchableColumns = new int[spec.getNumColumns()];
+            Arrays.setAll(m_searchableColumns, i -> i);
+        } else {
+            m_searchableColumns = Arrays.stream(includedColumns).mapToInt(spec::findColumnIndex).filter(i -> i >= 0)
+                .toArray();
+        }
+    }
+
+    /**
+     * Disposes the row caches of all views and clears the sorted and searched tables.
+     */
+    synchronized void dispose() {
+        List<DataTable> tables = new ArrayList<DataTable>(m_sortedTables.values());
+        for (View view : m_views.values()) {
+            view.getCache().dispose();
+            tables.add(view.m_table);
+        }
+        m_views.clear();
+        m_sortedTables.clear();
+        tables.forEach(this::clearIfUnused);
+    }
+
+    /**
+     * Returns the view of the table for the ordering and search of a request, creating it if it is not cached.
+     *
+     * @param request the request
+     * @param exec the monitor for progress and cancellation while a view is created
+     * @return the view, or null if the request neither orders nor searches the table
+     * @throws CanceledExecutionException if the creation of the view was canceled
+     */
+    View getView(final PagedTableViewRequest request, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final Column[] columns = request.getColumns() == null ? new Column[0] : request.getColumns();
+
+        // resolve ordering
+        final List<String> sortColumns = new ArrayList<String>();
+        final List<Boolean> sortAscending = new ArrayList<Boolean>();
+        if (request.getOrder() != null) {
+            for (Order order : request.getOrder()) {
+                String column = getColumnName(spec, columns, order.getColumn());
+                if (column != null && !sortColumns.contains(column)) {
+                    sortColumns.add(column);
+                    sortAscending.add(!"desc".equalsIgnoreCase(order.getDir()));
+                }
+            }
+        }
+
+        // resolve searches, column index -1 is the global search
+        final List<Integer> searchColumns = new ArrayList<Integer>();
+        final List<Search> searches = new ArrayList<Search>();
+        if (isSet(request.getSearch())) {
+            searchColumns.add(-1);
+            searches.add(request.getSearch());
+        }
+        for (Column column : columns) {
+            if (column != null && column.isSearchable() && isSet(column.getSearch())) {
+                int colIndex = spec.findColumnIndex(getColumnName(column));
+                if (colIndex >= 0) {
+                    searchColumns.add(colIndex);
+                    searches.add(column.getSearch());
+                }
+            }
+        }
+        if (sortColumns.isEmpty() && searches.isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder sortKeyBuilder = new StringBuilder();
+        for (int i = 0; i < sortColumns.size(); i++) {
+            sortKeyBuilder.append(sortColumns.get(i)).append('\0').append(sortAscending.get(i)).append('\0');
+        }
+        final String sortKey = sortKeyBuilder.toString();
+        final StringBuilder viewKeyBuilder = new StringBuilder(sortKey).append('\1');
+        for (int i = 0; i < searches.size(); i++) {
+            viewKeyBuilder.append(searchColumns.get(i)).append('\0').append(searches.get(i).isRegex()).append('\0')
+                .append(searches.get(i).getValue()).append('\0');
+        }
+        final String viewKey = viewKeyBuilder.toString();
+
+        DataTable sortedTable;
+        synchronized (this) {
+            View view = m_views.get(viewKey);
+            if (view != null) {
+                return view;
+            }
+            sortedTable = sortColumns.isEmpty() ? m_table : m_sortedTables.get(sortKey);
+            if (sortedTable != null) {
+                acquire(sortedTable);
+            }
+        }
+
+        // sorting and searching does not hold the lock, a view created concurrently for the same key is dropped
+        DataTable table = sortedTable;
+        ContainerTable searchedTable = null;
+        try {
+            if (table == null) {
+                exec.setMessage("Sorting table...");
+                boolean[] ascending = new boolean[sortAscending.size()];
+                for (int i = 0; i < ascending.length; i++) {
+                    ascending[i] = sortAscending.get(i);
+                }
+                table = new DataTableSorter(m_table, m_table.size(), sortColumns, ascending)
+                    .sort(exec.createSubProgress(searches.isEmpty() ? 1 : 0.5));
+            }
+            long rowCount = m_table.size();
+            if (!searches.isEmpty()) {
+                exec.setMessage("Searching table...");
+                searchedTable = search(table, searchColumns, searches,
+                    exec.createSubProgress(sortColumns.isEmpty() ? 1 : 0.5));
+                rowCount = searchedTable.size();
+            }
+            DataTable viewTable = searchedTable == null ? table : searchedTable;
+            synchronized (this) {
+                if (sortedTable == null && !m_sortedTables.containsKey(sortKey)) {
+                    m_sortedTables.put(sortKey, table);
+                }
+                View view = m_views.get(viewKey);
+                if (view == null) {
+                    view = new View(new PagedTableRowCache(viewTable, rowCount, m_includedColumns, m_blockSize),
+                        viewTable);
+                    m_views.put(viewKey, view);
+                    searchedTable = null;
+                }
+                evict();
+                return view;
+            }
+        } finally {
+            synchronized (this) {
+                if (sortedTable != null) {
+                    release(sortedTable);
+                }
+                // tables created for a view which is not kept
+                if (searchedTable != null) {
+                    clearIfUnused(searchedTable);
+                }
+                if (table != sortedTable) {
+                    clearIfUnused(table);
+                }
+            }
+        }
+    }
+
+    private ContainerTable search(final DataTable table, final List<Integer> searchColumns, final List<Search> searches,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        // the sorted table is filtered, so the search result keeps its order
+        DataContainer container = new DataContainer(table.getDataTableSpec());
+        Matcher[] matchers = createMatchers(searches);
+        final double numRows = m_table.size();
+        long rowIndex = 0;
+        RowIterator it = table.iterator();
+        try {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                if (matches(row, searchColumns, matchers)) {
+                    container.addRowToTable(row);
+                }
+                exec.checkCanceled();
+                exec.setProgress(++rowIndex / numRows);
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+
+    /**
+     * Removes the least recently used sorted tables and views exceeding {@link #MAX_CACHED_VIEWS}.
+     */
+    private void evict() {
+        List<DataTable> evicted = new ArrayList<DataTable>();
+        Iterator<DataTable> tableIt = m_sortedTables.values().iterator();
+        while (m_sortedTables.size() > MAX_CACHED_VIEWS) {
+            evicted.add(tableIt.next());
+            tableIt.remove();
+        }
+        Iterator<View> viewIt = m_views.values().iterator();
+        while (m_views.size() > MAX_CACHED_VIEWS) {
+            View view = viewIt.next();
+            viewIt.remove();
+            // no rows are read from the table after the cache is disposed
+            view.getCache().dispose();
+            evicted.add(view.m_table);
+        }
+        evicted.forEach(this::clearIfUnused);
+    }
+
+    private void acquire(final DataTable table) {
+        m_tablesInUse.merge(table, 1, Integer::sum);
+    }
+
+    private void release(final DataTable table) {
+        m_tablesInUse.computeIfPresent(table, (t, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Clears a sorted or searched table if it is neither kept nor read while a view is created.
+     */
+    private void clearIfUnused(final DataTable table) {
+        if (table == m_table || !(table instanceof ContainerTable) || m_tablesInUse.containsKey(table)
+            || m_sortedTables.containsValue(table)) {
+            return;
+        }
+        for (View view : m_views.values()) {
+            if (view.m_table == table) {
+                return;
+            }
+        }
+        ((ContainerTable)table).clear();
+    }
+
+    private boolean matches(final DataRow row, final List<Integer> searchColumns, final Matcher[] matchers) {
+        for (int i = 0; i < matchers.length; i++) {
+            int colIndex = searchColumns.get(i);
+            if (colIndex >= 0) {
+                if (!matchers[i].matches(row.getCell(colIndex).toString())) {
+                    return false;
+                }
+            } else if (!matchesAnyColumn(row, matchers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesAnyColumn(final DataRow row, final Matcher matcher) {
+        if (matcher.matches(row.getKey().getString())) {
+            return true;
+        }
+        for (int colIndex : m_searchableColumns) {
+            if (matcher.matches(row.getCell(colIndex).toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Matcher[] createMatchers(final List<Search> searches) {
+        Matcher[] matchers = new Matcher[searches.size()];
+        for (int i = 0; i < matchers.length; i++) {
+            Search search = searches.get(i);
+            if (search.isRegex()) {
+                Pattern pattern;
+                try {
+                    pattern = Pattern.compile(search.getValue(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                } catch (PatternSyntaxException e) {
+                    // incomplete expressions while typing are matched literally
+                    pattern = Pattern.compile(Pattern.quote(search.getValue()), Pattern.CASE_INSENSITIVE);
+                }
+                final Pattern p = pattern;
+                matchers[i] = value -> p.matcher(value).find();
+            } else {
+                final String term = search.getValue().toLowerCase(Locale.ROOT);
+                matchers[i] = value -> value.toLowerCase(Locale.ROOT).contains(term);
+            }
+        }
+        return matchers;
+    }
+
+    private static boolean isSet(final Search search) {
+        return search != null && StringUtils.isNotEmpty(search.getValue());
+    }
+
+    private static String getColumnName(final DataTableSpec spec, final Column[] columns, final String index) {
+        try {
+            int i = Integer.parseInt(index);
+            if (i >= 0 && i < columns.length && columns[i] != null && columns[i].isOrderable()) {
+                String name = getColumnName(columns[i]);
+                return spec.containsName(name) ? name : null;
+            }
+        } catch (NumberFormatException e) {
+            // not a column index
+        }
+        return null;
+    }
+
+    private static String getColumnName(final Column column) {
+        return StringUtils.isNotEmpty(column.getName()) ? column.getName() : column.getData();
+    }
+
+    /**
+     * Matches the string representation of a cell.
+     */
+    @FunctionalInterface
+    private interface Matcher {
+        boolean matches(String value);
+    }
+
+    /**
+     * A sorted and/or searched view of the table.
+     */
+    static final class View {
+
+        private final PagedTableRowCache m_cache;
+
+        private final DataTable m_table;
+
+        private View(final PagedTableRowCache cache, final DataTable table) {
+            m_cache = cache;
+            m_table = table;
+        }
+
+        /**
+         * @return the cache to read the rows of a page from
+         */
+        PagedTableRowCache getCache() {
+            return m_cache;
+        }
+    }
+}
@@ -47,13 +47,10 @@
  */
 package org.knime.js.base.node.viz.pagedTable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.knime.core.data.DataRow;
-import org.knime.core.data.DirectAccessTable;
-import org.knime.core.data.cache.WindowCacheTable;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -64,6 +61,7 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
+import org.knime.js.base.util.selection.SelectionIndex;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.JSONDataTable.Builder;
 import org.knime.js.core.JSONViewRequestHandler;
@@ -80,7 +78,10 @@ public class PagedTableViewNodeModel extends AbstractTableNodeModel<PagedTableVi
         PagedTableViewValue> implements JSONViewRequestHandler<PagedTableViewRequest, PagedTableViewResponse> {
 
     private static NodeLogger LOGGER = NodeLogger.getLogger(PagedTableViewNodeModel.class);
-    private DirectAccessTable m_cache;
+    private static final int MIN_BLOCK_SIZE = 100;
+
+    private PagedTableRowCache m_cache;
+    private PagedTableViewCache m_viewCache;
 
     /**
      * @param viewName The name of the interactive view
@@ -156,7 +157,8 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
                 List<String> selectionList = null;
                 if (viewValue != null) {
                     if (viewValue.getSettings().getSelection() != null) {
-                        selectionList = Arrays.asList(viewValue.getSettings().getSelection());
+                        // list view backed by a hash index, the appender calls contains once per row
+                        selectionList = SelectionIndex.of(viewValue.getSettings().getSelection()).asList();
                     }
                 }
                 ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
@@ -171,7 +173,7 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
     }
 
     private void initializeCache(final PagedTableViewRepresentation rep) {
-        if (rep == null || rep.getSettings() == null) {
+        if (rep == null || rep.getSettings() == null || m_table == null) {
             return;
         }
         TableRepresentationSettings settings = rep.getSettings();
@@ -179,15 +181,16 @@ private void initializeCache(final PagedTableViewRepresentation rep) {
         if (rep.getSettings().getTable() != null) {
             includedColumns = settings.getTable().getSpec().getColNames();
         }
-        m_cache = new WindowCacheTable(m_table, includedColumns);
         int maxPageSize = settings.getInitialPageSize();
         if (settings.getEnablePageSizeChange()) {
             maxPageSize = Arrays.stream(settings.getAllowedPageSizes()).max().getAsInt();
         }
-        // we either take the default cache size (500), or if larger, 5 times the largest page size
-        // that is available for selection in the view
-        ((WindowCacheTable)m_cache)
-            .setCacheSize(Math.max(5 * maxPageSize, WindowCacheTable.DEFAULT_CACHE_SIZE));
+        // rows are cached in blocks of the largest page size that is available for selection in the view, but at
+        // least 100 rows, the blocks before and after a requested page are prefetched
+        int blockSize = Math.max(maxPageSize, MIN_BLOCK_SIZE);
+        m_cache = new PagedTableRowCache(m_table, m_table.size(), includedColumns, blockSize);
+        // sorted and searched views are created on request
+        m_viewCache = new PagedTableViewCache(m_table, includedColumns, blockSize);
     }
 
     /**
@@ -203,7 +206,15 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
      */
     @Override
     protected void performReset() {
-        m_cache = null;
+        if (m_cache != null) {
+            PagedTableJsonPageCache.getInstance().removeAll(m_cache);
+            m_cache.dispose();
+            m_cache = null;
+        }
+        if (m_viewCache != null) {
+            m_viewCache.dispose();
+            m_viewCache = null;
+        }
         super.performReset();
     }
 
@@ -223,20 +234,45 @@ public PagedTableViewResponse handleRequest(final PagedTableViewRequest request,
         throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
         PagedTableViewResponse response = new PagedTableViewResponse(request);
         try {
-            ExecutionMonitor cacheProgress = exec.createSubProgress(0.95);
-            exec.setMessage("Caching rows...");
-            List<DataRow> rows;
-            try {
-                rows = m_cache.getRows(request.getStart(), request.getLength(), cacheProgress);
-            } catch (IndexOutOfBoundsException e) {
-                rows = new ArrayList<DataRow>(0);
+            PagedTableRowCache cache = m_cache;
+            // serialized pages are cached per executed view, i.e. per row cache of the input table
+            PagedTableJsonPageCache pageCache = PagedTableJsonPageCache.getInstance();
+            int tableId = m_table.getBufferedTableId();
+            PagedTableJsonPageCache.Page cachedPage =
+                pageCache.isEnabled() ? pageCache.get(m_cache, tableId, request) : null;
+            if (cachedPage != null) {
+                response.setRowCount(cachedPage.getRowCount());
+                response.setTotalRowCount(cachedPage.getTotalRowCount());
+                response.setTableJSON(cachedPage.getTableJSON());
+                return response;
             }
+            PagedTableViewCache.View view =
+                m_viewCache == null ? null : m_viewCache.getView(request, exec.createSubProgress(0.5));
+            if (view != null) {
+                cache = view.getCache();
+            }
+            // the pager needs the number of rows matching the search to offer the right pages
+            response.setRowCount(cache.getRowCount());
+            response.setTotalRowCount(m_table.size());
+            ExecutionMonitor cacheProgress = exec.createSubProgress(view == null ? 0.95 : 0.45);
+            exec.setMessage("Caching rows...");
+            PagedTableRowCache.Page page = cache.getRows(request.getStart(), request.getLength(), cacheProgress);
+            response.setCacheHits(page.getCacheHits());
+            response.setCacheMisses(page.getCacheMisses());
+            List<DataRow> rows = page.getRows();
             Builder tableBuilder = getJsonDataTableBuilder(m_table);
             tableBuilder.setDataRows(rows.stream().toArray(DataRow[]::new));
             tableBuilder.setFirstRow(request.getStart() + 1);
             tableBuilder.setMaxRows(request.getLength());
             exec.setMessage("Serializing response...");
             response.setTable(tableBuilder.build(exec.createSubProgress(0.05)));
+            if (pageCache.isEnabled()) {
+                // serialize once, the response is written with the serialized table
+                String tableJSON = response.getTableJSON();
+                response.setTableJSON(tableJSON);
+                pageCache.put(m_cache, tableId, request,
+                    new PagedTableJsonPageCache.Page(tableJSON, response.getRowCount(), response.getTotalRowCount()));
+            }
         } catch (CanceledExecutionException e) {
             // request was cancelled, no need for special treatment
             throw e;
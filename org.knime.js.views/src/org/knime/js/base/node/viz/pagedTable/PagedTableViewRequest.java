@@ -178,7 +178,10 @@ public int hashCode() {
                 .toHashCode();
     }
 
-    private static class Search {
+    /**
+     * Search parameters of a request, either global or for a single column.
+     */
+    public static class Search {
         private String m_value;
         private boolean m_regex;
 
@@ -243,7 +246,10 @@ public int hashCode() {
         }
     }
 
-    private static class Order {
+    /**
+     * Ordering of a request, referencing a column by its index in {@link PagedTableViewRequest#getColumns()}.
+     */
+    public static class Order {
         private String m_column;
         private String m_dir;
 
@@ -308,7 +314,10 @@ public int hashCode() {
         }
     }
 
-    private static class Column {
+    /**
+     * Column parameters of a request.
+     */
+    public static class Column {
         private String m_data;
         private String m_name;
         private boolean m_searchable;
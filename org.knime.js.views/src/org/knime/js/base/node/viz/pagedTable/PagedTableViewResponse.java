@@ -51,10 +51,16 @@
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewContent;
 import org.knime.js.core.JSONViewResponse;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  *
@@ -64,12 +70,21 @@
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
 public class PagedTableViewResponse extends JSONViewResponse<PagedTableViewRequest> {
 
+    private static final ObjectMapper MAPPER = JSONViewContent.createObjectMapper();
+
     private JSONDataTable m_table;
+    private String m_tableJSON;
     private String m_error;
+    private long m_rowCount = -1;
+    private long m_totalRowCount = -1;
+    private int m_cacheHits;
+    private int m_cacheMisses;
 
     /**
-     * @return the table
+     * @return the table, null if the response was created from an already serialized table
+     * @see #getTableJSON()
      */
+    @JsonIgnore
     public JSONDataTable getTable() {
         return m_table;
     }
@@ -77,8 +92,36 @@ public JSONDataTable getTable() {
     /**
      * @param table the table to set
      */
+    @JsonProperty("table")
     public void setTable(final JSONDataTable table) {
         m_table = table;
+        m_tableJSON = null;
+    }
+
+    /**
+     * @return the serialized table, which is written to the response as is
+     * @throws JsonProcessingException if the table cannot be serialized
+     * @since 5.12
+     */
+    @JsonProperty("table")
+    @JsonRawValue
+    public String getTableJSON() throws JsonProcessingException {
+        if (m_tableJSON == null && m_table != null) {
+            return MAPPER.writeValueAsString(m_table);
+        }
+        return m_tableJSON;
+    }
+
+    /**
+     * Sets an already serialized table, which is sent without serializing it again.
+     *
+     * @param tableJSON the serialized table to set
+     * @since 5.12
+     */
+    @JsonIgnore
+    public void setTableJSON(final String tableJSON) {
+        m_tableJSON = tableJSON;
+        m_table = null;
     }
 
     /**
@@ -96,6 +139,70 @@ public void setError(final String error) {
     }
 
 
+    /**
+     * @return the number of rows matching the search of the request, -1 if not known
+     * @since 5.12
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the rowCount to set
+     * @since 5.12
+     */
+    public void setRowCount(final long rowCount) {
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * @return the number of rows of the table, -1 if not known
+     * @since 5.12
+     */
+    public long getTotalRowCount() {
+        return m_totalRowCount;
+    }
+
+    /**
+     * @param totalRowCount the totalRowCount to set
+     * @since 5.12
+     */
+    public void setTotalRowCount(final long totalRowCount) {
+        m_totalRowCount = totalRowCount;
+    }
+
+    /**
+     * @return the number of row blocks of the requested page which were cached
+     * @since 5.12
+     */
+    public int getCacheHits() {
+        return m_cacheHits;
+    }
+
+    /**
+     * @param cacheHits the cacheHits to set
+     * @since 5.12
+     */
+    public void setCacheHits(final int cacheHits) {
+        m_cacheHits = cacheHits;
+    }
+
+    /**
+     * @return the number of row blocks of the requested page which had to be read from the table
+     * @since 5.12
+     */
+    public int getCacheMisses() {
+        return m_cacheMisses;
+    }
+
+    /**
+     * @param cacheMisses the cacheMisses to set
+     * @since 5.12
+     */
+    public void setCacheMisses(final int cacheMisses) {
+        m_cacheMisses = cacheMisses;
+    }
+
     /**
      * @param viewRequest
      */
@@ -120,7 +227,12 @@ public boolean equals(final Object obj) {
         PagedTableViewResponse other = (PagedTableViewResponse)obj;
         return new EqualsBuilder()
                 .append(m_table, other.m_table)
+                .append(m_tableJSON, other.m_tableJSON)
                 .append(m_error, other.m_error)
+                .append(m_rowCount, other.m_rowCount)
+                .append(m_totalRowCount, other.m_totalRowCount)
+                .append(m_cacheHits, other.m_cacheHits)
+                .append(m_cacheMisses, other.m_cacheMisses)
                 .isEquals();
     }
 
@@ -131,7 +243,12 @@ public boolean equals(final Object obj) {
     public int hashCode() {
         return new HashCodeBuilder()
                 .append(m_table)
+                .append(m_tableJSON)
                 .append(m_error)
+                .append(m_rowCount)
+                .append(m_totalRowCount)
+                .append(m_cacheHits)
+                .append(m_cacheMisses)
                 .toHashCode();
     }
 
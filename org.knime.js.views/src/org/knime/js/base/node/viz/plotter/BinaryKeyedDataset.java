@@ -0,0 +1,473 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+
+/**
+ * Columnar binary encoding of the rows of a {@link org.knime.js.core.datasets.JSONKeyedValues2DDataset}, which is
+ * transferred to the view instead of one JSON object per row.
+ *
+ * <p>
+ * The values of each column are encoded as a base64 string of little-endian {@code float64} values, or
+ * {@code float32} values if all values of the column can be represented without loss of precision. Missing values are
+ * encoded as NaN. Row keys are split into a prefix and a numeric suffix, the prefixes are stored in a dictionary and
+ * referenced by index. Row colors are stored in a palette and referenced by index as well. Indices are encoded as
+ * {@code uint8}, {@code uint16} or {@code int32}, depending on the size of the dictionary. The view decodes the
+ * buffers into typed arrays.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+@JsonAutoDetect
+public class BinaryKeyedDataset {
+
+    /** Type of columns encoded with double precision. */
+    public static final String FLOAT64 = "float64";
+
+    /** Type of columns encoded with single precision. */
+    public static final String FLOAT32 = "float32";
+
+    /** Type of index buffers with less than 2^8 distinct entries. */
+    public static final String UINT8 = "uint8";
+
+    /** Type of index buffers with less than 2^16 distinct entries. */
+    public static final String UINT16 = "uint16";
+
+    /** Type of int buffers. */
+    public static final String INT32 = "int32";
+
+    private static final String CFG_NUM_ROWS = "numRows";
+
+    private static final String CFG_COLUMN_TYPES = "columnTypes";
+
+    private static final String CFG_COLUMNS = "columns";
+
+    private static final String CFG_ROW_KEY_PREFIXES = "rowKeyPrefixes";
+
+    private static final String CFG_ROW_KEY_PREFIX_INDEX_TYPE = "rowKeyPrefixIndexType";
+
+    private static final String CFG_ROW_KEY_PREFIX_INDICES = "rowKeyPrefixIndices";
+
+    private static final String CFG_ROW_KEY_NUMBERS = "rowKeyNumbers";
+
+    private static final String CFG_COLOR_PALETTE = "colorPalette";
+
+    private static final String CFG_COLOR_INDEX_TYPE = "colorIndexType";
+
+    private static final String CFG_COLOR_INDICES = "colorIndices";
+
+    /** Maximum number of digits of a numeric row key suffix, the suffix must fit into an int. */
+    private static final int MAX_SUFFIX_DIGITS = 9;
+
+    private int m_numRows;
+
+    private String[] m_columnTypes;
+
+    private String[] m_columns;
+
+    private String[] m_rowKeyPrefixes;
+
+    private String m_rowKeyPrefixIndexType;
+
+    private String m_rowKeyPrefixIndices;
+
+    private String m_rowKeyNumbers;
+
+    private String[] m_colorPalette;
+
+    private String m_colorIndexType;
+
+    private String m_colorIndices;
+
+    /**
+     * Encodes the given rows.
+     *
+     * @param values the values per column and row, {@link Double#NaN} for missing values
+     * @param rowKeys the row keys
+     * @param rowColors the CSS colors of the rows
+     * @param numRows the number of rows
+     * @return the encoded rows
+     */
+    public static BinaryKeyedDataset encode(final double[][] values, final String[] rowKeys,
+        final String[] rowColors, final int numRows) {
+        final BinaryKeyedDataset dataset = new BinaryKeyedDataset();
+        dataset.m_numRows = numRows;
+        dataset.m_columnTypes = new String[values.length];
+        dataset.m_columns = new String[values.length];
+        for (int col = 0; col < values.length; col++) {
+            final boolean singlePrecision = isSinglePrecision(values[col], numRows);
+            dataset.m_columnTypes[col] = singlePrecision ? FLOAT32 : FLOAT64;
+            dataset.m_columns[col] = encodeColumn(values[col], numRows, singlePrecision);
+        }
+
+        // row keys are mostly a common prefix and a counter, e.g. Row0, Row1, ...
+        final Map<String, Integer> prefixes = new LinkedHashMap<>();
+        final int[] prefixIndices = new int[numRows];
+        final int[] numbers = new int[numRows];
+        for (int row = 0; row < numRows; row++) {
+            final String rowKey = rowKeys[row];
+            final int suffixStart = getNumericSuffixStart(rowKey);
+            final String prefix = suffixStart < 0 ? rowKey : rowKey.substring(0, suffixStart);
+            numbers[row] = suffixStart < 0 ? -1 : Integer.parseInt(rowKey.substring(suffixStart));
+            prefixIndices[row] = prefixes.computeIfAbsent(prefix, p -> prefixes.size());
+        }
+        dataset.m_rowKeyPrefixes = prefixes.keySet().toArray(new String[0]);
+        dataset.m_rowKeyPrefixIndexType = getIndexType(prefixes.size());
+        dataset.m_rowKeyPrefixIndices = encodeIndices(prefixIndices, dataset.m_rowKeyPrefixIndexType);
+        dataset.m_rowKeyNumbers = encodeIndices(numbers, INT32);
+
+        final Map<String, Integer> palette = new HashMap<>();
+        final int[] colorIndices = new int[numRows];
+        for (int row = 0; row < numRows; row++) {
+            colorIndices[row] = palette.computeIfAbsent(rowColors[row], c -> palette.size());
+        }
+        dataset.m_colorPalette = new String[palette.size()];
+        palette.forEach((color, index) -> dataset.m_colorPalette[index] = color);
+        dataset.m_colorIndexType = getIndexType(palette.size());
+        dataset.m_colorIndices = encodeIndices(colorIndices, dataset.m_colorIndexType);
+        return dataset;
+    }
+
+    private static boolean isSinglePrecision(final double[] values, final int numRows) {
+        for (int row = 0; row < numRows; row++) {
+            final double value = values[row];
+            if (!Double.isNaN(value) && (double)(float)value != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encodeColumn(final double[] values, final int numRows, final boolean singlePrecision) {
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(numRows * (singlePrecision ? Float.BYTES : Double.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int row = 0; row < numRows; row++) {
+            if (singlePrecision) {
+                buffer.putFloat((float)values[row]);
+            } else {
+                buffer.putDouble(values[row]);
+            }
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    /**
+     * @return the start of the numeric suffix of the row key, or -1 if the suffix can't be restored from its number
+     */
+    private static int getNumericSuffixStart(final String rowKey) {
+        int start = rowKey.length();
+        while (start > 0 && Character.isDigit(rowKey.charAt(start - 1)) && rowKey.charAt(start - 1) < 128) {
+            start--;
+        }
+        final int numDigits = rowKey.length() - start;
+        if (numDigits == 0 || numDigits > MAX_SUFFIX_DIGITS || (numDigits > 1 && rowKey.charAt(start) == '0')) {
+            return -1;
+        }
+        return start;
+    }
+
+    private static String getIndexType(final int numDistinct) {
+        if (numDistinct <= 1 << 8) {
+            return UINT8;
+        } else if (numDistinct <= 1 << 16) {
+            return UINT16;
+        }
+        return INT32;
+    }
+
+    private static String encodeIndices(final int[] indices, final String type) {
+        final int numBytes = UINT8.equals(type) ? 1 : UINT16.equals(type) ? 2 : 4;
+        final ByteBuffer buffer = ByteBuffer.allocate(indices.length * numBytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int index : indices) {
+            if (numBytes == 1) {
+                buffer.put((byte)index);
+            } else if (numBytes == 2) {
+                buffer.putShort((short)index);
+            } else {
+                buffer.putInt(index);
+            }
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getNumRows() {
+        return m_numRows;
+    }
+
+    /**
+     * @param numRows the number of rows to set
+     */
+    public void setNumRows(final int numRows) {
+        m_numRows = numRows;
+    }
+
+    /**
+     * @return the type of each column, either {@link #FLOAT64} or {@link #FLOAT32}
+     */
+    public String[] getColumnTypes() {
+        return m_columnTypes;
+    }
+
+    /**
+     * @param columnTypes the column types to set
+     */
+    public void setColumnTypes(final String[] columnTypes) {
+        m_columnTypes = columnTypes;
+    }
+
+    /**
+     * @return the base64 encoded values of each column
+     */
+    public String[] getColumns() {
+        return m_columns;
+    }
+
+    /**
+     * @param columns the encoded columns to set
+     */
+    public void setColumns(final String[] columns) {
+        m_columns = columns;
+    }
+
+    /**
+     * @return the distinct row key prefixes
+     */
+    public String[] getRowKeyPrefixes() {
+        return m_rowKeyPrefixes;
+    }
+
+    /**
+     * @param rowKeyPrefixes the row key prefixes to set
+     */
+    public void setRowKeyPrefixes(final String[] rowKeyPrefixes) {
+        m_rowKeyPrefixes = rowKeyPrefixes;
+    }
+
+    /**
+     * @return the type of the row key prefix indices
+     */
+    public String getRowKeyPrefixIndexType() {
+        return m_rowKeyPrefixIndexType;
+    }
+
+    /**
+     * @param rowKeyPrefixIndexType the type of the row key prefix indices to set
+     */
+    public void setRowKeyPrefixIndexType(final String rowKeyPrefixIndexType) {
+        m_rowKeyPrefixIndexType = rowKeyPrefixIndexType;
+    }
+
+    /**
+     * @return the base64 encoded index of the prefix of each row key
+     */
+    public String getRowKeyPrefixIndices() {
+        return m_rowKeyPrefixIndices;
+    }
+
+    /**
+     * @param rowKeyPrefixIndices the encoded row key prefix indices to set
+     */
+    public void setRowKeyPrefixIndices(final String rowKeyPrefixIndices) {
+        m_rowKeyPrefixIndices = rowKeyPrefixIndices;
+    }
+
+    /**
+     * @return the base64 encoded {@code int32} numeric suffix of each row key, -1 if the row key is its prefix
+     */
+    public String getRowKeyNumbers() {
+        return m_rowKeyNumbers;
+    }
+
+    /**
+     * @param rowKeyNumbers the encoded row key numbers to set
+     */
+    public void setRowKeyNumbers(final String rowKeyNumbers) {
+        m_rowKeyNumbers = rowKeyNumbers;
+    }
+
+    /**
+     * @return the distinct row colors
+     */
+    public String[] getColorPalette() {
+        return m_colorPalette;
+    }
+
+    /**
+     * @param colorPalette the color palette to set
+     */
+    public void setColorPalette(final String[] colorPalette) {
+        m_colorPalette = colorPalette;
+    }
+
+    /**
+     * @return the type of the color indices
+     */
+    public String getColorIndexType() {
+        return m_colorIndexType;
+    }
+
+    /**
+     * @param colorIndexType the type of the color indices to set
+     */
+    public void setColorIndexType(final String colorIndexType) {
+        m_colorIndexType = colorIndexType;
+    }
+
+    /**
+     * @return the base64 encoded palette index of the color of each row
+     */
+    public String getColorIndices() {
+        return m_colorIndices;
+    }
+
+    /**
+     * @param colorIndices the encoded color indices to set
+     */
+    public void setColorIndices(final String colorIndices) {
+        m_colorIndices = colorIndices;
+    }
+
+    /**
+     * @param settings the settings to save to
+     */
+    public void saveToNodeSettings(final NodeSettingsWO settings) {
+        settings.addInt(CFG_NUM_ROWS, m_numRows);
+        settings.addStringArray(CFG_COLUMN_TYPES, m_columnTypes);
+        settings.addStringArray(CFG_COLUMNS, m_columns);
+        settings.addStringArray(CFG_ROW_KEY_PREFIXES, m_rowKeyPrefixes);
+        settings.addString(CFG_ROW_KEY_PREFIX_INDEX_TYPE, m_rowKeyPrefixIndexType);
+        settings.addString(CFG_ROW_KEY_PREFIX_INDICES, m_rowKeyPrefixIndices);
+        settings.addString(CFG_ROW_KEY_NUMBERS, m_rowKeyNumbers);
+        settings.addStringArray(CFG_COLOR_PALETTE, m_colorPalette);
+        settings.addString(CFG_COLOR_INDEX_TYPE, m_colorIndexType);
+        settings.addString(CFG_COLOR_INDICES, m_colorIndices);
+    }
+
+    /**
+     * @param settings the settings to load from
+     * @throws InvalidSettingsException if the settings are incomplete
+     */
+    public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_numRows = settings.getInt(CFG_NUM_ROWS);
+        m_columnTypes = settings.getStringArray(CFG_COLUMN_TYPES);
+        m_columns = settings.getStringArray(CFG_COLUMNS);
+        m_rowKeyPrefixes = settings.getStringArray(CFG_ROW_KEY_PREFIXES);
+        m_rowKeyPrefixIndexType = settings.getString(CFG_ROW_KEY_PREFIX_INDEX_TYPE);
+        m_rowKeyPrefixIndices = settings.getString(CFG_ROW_KEY_PREFIX_INDICES);
+        m_rowKeyNumbers = settings.getString(CFG_ROW_KEY_NUMBERS);
+        m_colorPalette = settings.getStringArray(CFG_COLOR_PALETTE);
+        m_colorIndexType = settings.getString(CFG_COLOR_INDEX_TYPE);
+        m_colorIndices = settings.getString(CFG_COLOR_INDICES);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        BinaryKeyedDataset other = (BinaryKeyedDataset)obj;
+        return new EqualsBuilder()
+                .append(m_numRows, other.m_numRows)
+                .append(m_columnTypes, other.m_columnTypes)
+                .append(m_columns, other.m_columns)
+                .append(m_rowKeyPrefixes, other.m_rowKeyPrefixes)
+                .append(m_rowKeyPrefixIndexType, other.m_rowKeyPrefixIndexType)
+                .append(m_rowKeyPrefixIndices, other.m_rowKeyPrefixIndices)
+                .append(m_rowKeyNumbers, other.m_rowKeyNumbers)
+                .append(m_colorPalette, other.m_colorPalette)
+                .append(m_colorIndexType, other.m_colorIndexType)
+                .append(m_colorIndices, other.m_colorIndices)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_numRows)
+                .append(m_columnTypes)
+                .append(m_columns)
+                .append(m_rowKeyPrefixes)
+                .append(m_rowKeyPrefixIndexType)
+                .append(m_rowKeyPrefixIndices)
+                .append(m_rowKeyNumbers)
+                .append(m_colorPalette)
+                .append(m_colorIndexType)
+                .append(m_colorIndices)
+                .toHashCode();
+    }
+}
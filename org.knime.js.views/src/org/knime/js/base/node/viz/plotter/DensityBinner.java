@@ -0,0 +1,275 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.node.viz.plotter.KeyedDatasetBuilder.ColumnKind;
+
+/**
+ * Bins the points of a scatter plot into a {@link DensityGrid} in a single scan of the table.
+ *
+ * <p>
+ * The x- and y-values are the values plotted by the view, i.e. numbers, epoch milliseconds of date&amp;time values
+ * and the ordinals of nominal values. The number of rows per cell is counted in a primitive array with one slot per
+ * cell. While there are not more rows inside of the binned range than the given maximum number of points, their
+ * indices are collected as well, so that the points themselves can be plotted instead of the grid.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class DensityBinner {
+
+    private final BufferedDataTable m_table;
+
+    private final String m_xColumn;
+
+    private final String m_yColumn;
+
+    private final int m_xIndex;
+
+    private final int m_yIndex;
+
+    private final ColumnKind m_xKind;
+
+    private final ColumnKind m_yKind;
+
+    private final OrdinalDictionary m_xDictionary;
+
+    private final OrdinalDictionary m_yDictionary;
+
+    private final LocalDate m_today = LocalDate.now();
+
+    private DensityGrid m_grid;
+
+    private long[] m_rowIndices;
+
+    /**
+     * @param table the table to bin
+     * @param xColumn the name of the x-column
+     * @param yColumn the name of the y-column
+     * @throws IllegalArgumentException if one of the columns is not part of the table
+     */
+    public DensityBinner(final BufferedDataTable table, final String xColumn, final String yColumn) {
+        final DataTableSpec spec = table.getDataTableSpec();
+        m_table = table;
+        m_xColumn = xColumn;
+        m_yColumn = yColumn;
+        m_xIndex = spec.findColumnIndex(xColumn);
+        m_yIndex = spec.findColumnIndex(yColumn);
+        if (m_xIndex < 0 || m_yIndex < 0) {
+            throw new IllegalArgumentException(
+                "Column '" + (m_xIndex < 0 ? xColumn : yColumn) + "' is not available in the input table.");
+        }
+        m_xKind = KeyedDatasetBuilder.getColumnKind(spec.getColumnSpec(m_xIndex).getType());
+        m_yKind = KeyedDatasetBuilder.getColumnKind(spec.getColumnSpec(m_yIndex).getType());
+        m_xDictionary = getDictionary(spec.getColumnSpec(m_xIndex), m_xKind);
+        m_yDictionary = getDictionary(spec.getColumnSpec(m_yIndex), m_yKind);
+    }
+
+    private static OrdinalDictionary getDictionary(final DataColumnSpec colSpec, final ColumnKind kind) {
+        if (kind == ColumnKind.STRING && colSpec.getDomain().hasValues()) {
+            return OrdinalDictionary.of(colSpec.getDomain().getValues());
+        }
+        return null;
+    }
+
+    /**
+     * Scans the table and counts the rows per cell.
+     *
+     * @param xMin the lower bound of the x-range, {@link Double#NaN} for the full range
+     * @param xMax the upper bound of the x-range, {@link Double#NaN} for the full range
+     * @param yMin the lower bound of the y-range, {@link Double#NaN} for the full range
+     * @param yMax the upper bound of the y-range, {@link Double#NaN} for the full range
+     * @param numXBins the number of bins of the x-range
+     * @param numYBins the number of bins of the y-range
+     * @param maxPoints the largest number of rows inside of the range which are plotted as points instead of a grid
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    public void bin(final double xMin, final double xMax, final double yMin, final double yMax, final int numXBins,
+        final int numYBins, final int maxPoints, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final double[] xRange = getRange(xMin, xMax, m_xIndex, m_xKind, m_xDictionary, exec.createSubProgress(0.1));
+        final double[] yRange = getRange(yMin, yMax, m_yIndex, m_yKind, m_yDictionary, exec.createSubProgress(0.1));
+        final DensityGrid grid = new DensityGrid();
+        grid.setxColumn(m_xColumn);
+        grid.setyColumn(m_yColumn);
+        grid.setxMin(xRange[0]);
+        grid.setxMax(xRange[1]);
+        grid.setyMin(yRange[0]);
+        grid.setyMax(yRange[1]);
+        grid.setNumXBins(Math.max(1, numXBins));
+        grid.setNumYBins(Math.max(1, numYBins));
+
+        final int[] counts = new int[grid.getNumXBins() * grid.getNumYBins()];
+        final long[] rowIndices = new long[Math.max(0, maxPoints)];
+        long numPoints = 0;
+        final ExecutionMonitor readMonitor = exec.createSubProgress(0.8);
+        final double numRows = Math.max(1, m_table.size());
+        long rowIndex = 0;
+        try (CloseableRowIterator it = m_table.filter(TableFilter.materializeCols(m_xIndex, m_yIndex))) {
+            while (it.hasNext()) {
+                final int cell = getCell(it.next(), grid);
+                if (cell >= 0) {
+                    counts[cell]++;
+                    if (numPoints < rowIndices.length) {
+                        rowIndices[(int)numPoints] = rowIndex;
+                    }
+                    numPoints++;
+                }
+                if (++rowIndex % 8192 == 0) {
+                    readMonitor.checkCanceled();
+                    readMonitor.setProgress(rowIndex / numRows,
+                        "Binning points, processing row " + rowIndex + " of " + (long)numRows + ".");
+                }
+            }
+        }
+
+        if (numPoints <= rowIndices.length) {
+            // few enough points to plot them directly
+            m_grid = null;
+            m_rowIndices = Arrays.copyOf(rowIndices, (int)numPoints);
+        } else {
+            m_rowIndices = null;
+            final int numCells = (int)Arrays.stream(counts).filter(c -> c > 0).count();
+            final int[] cells = new int[numCells];
+            final int[] cellCounts = new int[numCells];
+            for (int cell = 0, i = 0; cell < counts.length; cell++) {
+                if (counts[cell] > 0) {
+                    cells[i] = cell;
+                    cellCounts[i++] = counts[cell];
+                }
+            }
+            grid.setCells(cells);
+            grid.setCounts(cellCounts);
+            grid.setNumPoints(numPoints);
+            m_grid = grid;
+        }
+        exec.setProgress(1);
+    }
+
+    private double[] getRange(final double min, final double max, final int colIndex, final ColumnKind kind,
+        final OrdinalDictionary dictionary, final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (!Double.isNaN(min) && !Double.isNaN(max)) {
+            exec.setProgress(1);
+            return new double[]{min, max};
+        }
+        final double[] range = KeyedDatasetBuilder.getPlotRange(m_table, colIndex, kind, dictionary, m_today, exec);
+        return new double[]{Double.isNaN(min) ? range[0] : min, Double.isNaN(max) ? range[1] : max};
+    }
+
+    private int getCell(final DataRow row, final DensityGrid grid) {
+        final double x = KeyedDatasetBuilder.toFinitePlotValue(row.getCell(m_xIndex), m_xKind, m_xDictionary, m_today);
+        final double y = KeyedDatasetBuilder.toFinitePlotValue(row.getCell(m_yIndex), m_yKind, m_yDictionary, m_today);
+        return grid.getCell(x, y);
+    }
+
+    /**
+     * @return the grid of the last call of {@link #bin}, or {@code null} if the points are plotted directly
+     */
+    public DensityGrid getGrid() {
+        return m_grid;
+    }
+
+    /**
+     * @return the ascending indices of the rows inside of the range of the last call of {@link #bin}, or
+     *         {@code null} if there are too many of them and the grid is plotted instead
+     */
+    public long[] getRowIndices() {
+        return m_rowIndices;
+    }
+
+    /**
+     * Determines the rows of the given cells, e.g. to resolve the selection of cells in the view.
+     *
+     * @param grid the grid the cells refer to, only its range and number of bins are used
+     * @param cells the indices of the cells
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the keys of the rows inside of the cells
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    public String[] getRowKeys(final DensityGrid grid, final int[] cells, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final boolean[] selected = new boolean[grid.getNumXBins() * grid.getNumYBins()];
+        for (int cell : cells) {
+            if (cell >= 0 && cell < selected.length) {
+                selected[cell] = true;
+            }
+        }
+        final List<String> rowKeys = new ArrayList<>();
+        final double numRows = Math.max(1, m_table.size());
+        long rowIndex = 0;
+        try (CloseableRowIterator it = m_table.filter(TableFilter.materializeCols(m_xIndex, m_yIndex))) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final int cell = getCell(row, grid);
+                if (cell >= 0 && selected[cell]) {
+                    rowKeys.add(row.getKey().getString());
+                }
+                if (++rowIndex % 8192 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / numRows);
+                }
+            }
+        }
+        exec.setProgress(1);
+        return rowKeys.toArray(new String[0]);
+    }
+}
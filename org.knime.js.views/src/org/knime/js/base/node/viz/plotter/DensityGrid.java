@@ -0,0 +1,384 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+
+/**
+ * The number of rows per cell of a rectangular grid over the plotted x- and y-range of a scatter plot, which is
+ * transferred to the view instead of the points if there are too many of them.
+ *
+ * <p>
+ * The grid has {@code numXBins} equal-width columns and {@code numYBins} equal-height rows. A cell is referenced by its
+ * index {@code yBin * numXBins + xBin}. Only the non-empty cells are stored, as the sorted cell indices and the number
+ * of rows of each cell.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+@JsonAutoDetect
+public class DensityGrid {
+
+    private static final String CFG_X_COLUMN = "xColumn";
+
+    private static final String CFG_Y_COLUMN = "yColumn";
+
+    private static final String CFG_X_MIN = "xMin";
+
+    private static final String CFG_X_MAX = "xMax";
+
+    private static final String CFG_Y_MIN = "yMin";
+
+    private static final String CFG_Y_MAX = "yMax";
+
+    private static final String CFG_NUM_X_BINS = "numXBins";
+
+    private static final String CFG_NUM_Y_BINS = "numYBins";
+
+    private static final String CFG_CELLS = "cells";
+
+    private static final String CFG_COUNTS = "counts";
+
+    private static final String CFG_NUM_POINTS = "numPoints";
+
+    private String m_xColumn;
+
+    private String m_yColumn;
+
+    private double m_xMin;
+
+    private double m_xMax;
+
+    private double m_yMin;
+
+    private double m_yMax;
+
+    private int m_numXBins;
+
+    private int m_numYBins;
+
+    private int[] m_cells;
+
+    private int[] m_counts;
+
+    private long m_numPoints;
+
+    /**
+     * @param value the value
+     * @param min the lower bound of the range
+     * @param max the upper bound of the range
+     * @param numBins the number of bins of the range
+     * @return the index of the bin containing the value or -1 if the value is outside of the range
+     */
+    public static int getBin(final double value, final double min, final double max, final int numBins) {
+        if (Double.isNaN(value) || value < min || value > max) {
+            return -1;
+        }
+        if (max <= min) {
+            return 0;
+        }
+        return Math.min(numBins - 1, (int)((value - min) / (max - min) * numBins));
+    }
+
+    /**
+     * @param x the x-value
+     * @param y the y-value
+     * @return the index of the cell containing the point or -1 if the point is outside of the grid
+     */
+    public int getCell(final double x, final double y) {
+        final int xBin = getBin(x, m_xMin, m_xMax, m_numXBins);
+        final int yBin = getBin(y, m_yMin, m_yMax, m_numYBins);
+        return xBin < 0 || yBin < 0 ? -1 : yBin * m_numXBins + xBin;
+    }
+
+    /**
+     * @return the name of the binned x-column
+     */
+    public String getxColumn() {
+        return m_xColumn;
+    }
+
+    /**
+     * @param xColumn the xColumn to set
+     */
+    public void setxColumn(final String xColumn) {
+        m_xColumn = xColumn;
+    }
+
+    /**
+     * @return the name of the binned y-column
+     */
+    public String getyColumn() {
+        return m_yColumn;
+    }
+
+    /**
+     * @param yColumn the yColumn to set
+     */
+    public void setyColumn(final String yColumn) {
+        m_yColumn = yColumn;
+    }
+
+    /**
+     * @return the lower bound of the x-range
+     */
+    public double getxMin() {
+        return m_xMin;
+    }
+
+    /**
+     * @param xMin the xMin to set
+     */
+    public void setxMin(final double xMin) {
+        m_xMin = xMin;
+    }
+
+    /**
+     * @return the upper bound of the x-range
+     */
+    public double getxMax() {
+        return m_xMax;
+    }
+
+    /**
+     * @param xMax the xMax to set
+     */
+    public void setxMax(final double xMax) {
+        m_xMax = xMax;
+    }
+
+    /**
+     * @return the lower bound of the y-range
+     */
+    public double getyMin() {
+        return m_yMin;
+    }
+
+    /**
+     * @param yMin the yMin to set
+     */
+    public void setyMin(final double yMin) {
+        m_yMin = yMin;
+    }
+
+    /**
+     * @return the upper bound of the y-range
+     */
+    public double getyMax() {
+        return m_yMax;
+    }
+
+    /**
+     * @param yMax the yMax to set
+     */
+    public void setyMax(final double yMax) {
+        m_yMax = yMax;
+    }
+
+    /**
+     * @return the number of bins of the x-range
+     */
+    public int getNumXBins() {
+        return m_numXBins;
+    }
+
+    /**
+     * @param numXBins the numXBins to set
+     */
+    public void setNumXBins(final int numXBins) {
+        m_numXBins = numXBins;
+    }
+
+    /**
+     * @return the number of bins of the y-range
+     */
+    public int getNumYBins() {
+        return m_numYBins;
+    }
+
+    /**
+     * @param numYBins the numYBins to set
+     */
+    public void setNumYBins(final int numYBins) {
+        m_numYBins = numYBins;
+    }
+
+    /**
+     * @return the sorted indices of the non-empty cells
+     */
+    public int[] getCells() {
+        return m_cells;
+    }
+
+    /**
+     * @param cells the cells to set
+     */
+    public void setCells(final int[] cells) {
+        m_cells = cells;
+    }
+
+    /**
+     * @return the number of rows of each non-empty cell
+     */
+    public int[] getCounts() {
+        return m_counts;
+    }
+
+    /**
+     * @param counts the counts to set
+     */
+    public void setCounts(final int[] counts) {
+        m_counts = counts;
+    }
+
+    /**
+     * @return the number of rows inside of the grid
+     */
+    public long getNumPoints() {
+        return m_numPoints;
+    }
+
+    /**
+     * @param numPoints the numPoints to set
+     */
+    public void setNumPoints(final long numPoints) {
+        m_numPoints = numPoints;
+    }
+
+    /**
+     * @param settings the settings to save to
+     */
+    public void saveToNodeSettings(final NodeSettingsWO settings) {
+        settings.addString(CFG_X_COLUMN, m_xColumn);
+        settings.addString(CFG_Y_COLUMN, m_yColumn);
+        settings.addDouble(CFG_X_MIN, m_xMin);
+        settings.addDouble(CFG_X_MAX, m_xMax);
+        settings.addDouble(CFG_Y_MIN, m_yMin);
+        settings.addDouble(CFG_Y_MAX, m_yMax);
+        settings.addInt(CFG_NUM_X_BINS, m_numXBins);
+        settings.addInt(CFG_NUM_Y_BINS, m_numYBins);
+        settings.addIntArray(CFG_CELLS, m_cells);
+        settings.addIntArray(CFG_COUNTS, m_counts);
+        settings.addLong(CFG_NUM_POINTS, m_numPoints);
+    }
+
+    /**
+     * @param settings the settings to load from
+     * @throws InvalidSettingsException if the settings are incomplete
+     */
+    public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_xColumn = settings.getString(CFG_X_COLUMN);
+        m_yColumn = settings.getString(CFG_Y_COLUMN);
+        m_xMin = settings.getDouble(CFG_X_MIN);
+        m_xMax = settings.getDouble(CFG_X_MAX);
+        m_yMin = settings.getDouble(CFG_Y_MIN);
+        m_yMax = settings.getDouble(CFG_Y_MAX);
+        m_numXBins = settings.getInt(CFG_NUM_X_BINS);
+        m_numYBins = settings.getInt(CFG_NUM_Y_BINS);
+        m_cells = settings.getIntArray(CFG_CELLS);
+        m_counts = settings.getIntArray(CFG_COUNTS);
+        m_numPoints = settings.getLong(CFG_NUM_POINTS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        DensityGrid other = (DensityGrid)obj;
+        return new EqualsBuilder()
+                .append(m_xColumn, other.m_xColumn)
+                .append(m_yColumn, other.m_yColumn)
+                .append(m_xMin, other.m_xMin)
+                .append(m_xMax, other.m_xMax)
+                .append(m_yMin, other.m_yMin)
+                .append(m_yMax, other.m_yMax)
+                .append(m_numXBins, other.m_numXBins)
+                .append(m_numYBins, other.m_numYBins)
+                .append(m_cells, other.m_cells)
+                .append(m_counts, other.m_counts)
+                .append(m_numPoints, other.m_numPoints)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_xColumn)
+                .append(m_yColumn)
+                .append(m_xMin)
+                .append(m_xMax)
+                .append(m_yMin)
+                .append(m_yMax)
+                .append(m_numXBins)
+                .append(m_numYBins)
+                .append(m_cells)
+                .append(m_counts)
+                .append(m_numPoints)
+                .toHashCode();
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.core.CSSUtils;
+import org.knime.js.core.JSONDataTableSpec;
+import org.knime.js.core.JSONDataTableSpec.JSTypes;
+import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
+import org.knime.js.core.datasets.JSONKeyedValuesRow;
+
+/**
+ * Builds the {@link JSONKeyedValues2DDataset} of the scatter and line plot in a single pass over the input table.
+ *
+ * <p>
+ * All columns compatible to {@link DoubleValue} or {@link StringValue} are read straight from the data cells into one
+ * primitive {@code double} array per column: numbers are taken from the {@link DoubleValue}, date&amp;time cells are
+ * converted to epoch milliseconds and strings are mapped to the ordinal of their value in the column domain using an
+ * {@link OrdinalDictionary}. Compared to creating a filtered copy of the table and a
+ * {@link org.knime.js.core.JSONDataTable} from it, no intermediate table and no boxed rows are created and
+ * date&amp;time values are not formatted and parsed again. Missing and unsupported values are kept as
+ * {@link Double#NaN} and end up as {@code null} in the dataset.
+ *
+ * <p>
+ * If the binary encoding is enabled, the rows are not added to the dataset but encoded column by column into a
+ * {@link BinaryKeyedDataset}, which is transferred to the view alongside the dataset.
+ *
+ * <p>
+ * After {@link #build(ExecutionMonitor)} the JSON spec of the plotted columns and the columns containing missing
+ * values are available from the builder.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class KeyedDatasetBuilder {
+
+    enum ColumnKind {
+            NUMBER, LOCAL_DATE_TIME, LOCAL_DATE, LOCAL_TIME, ZONED_DATE_TIME, DATE_AND_TIME, STRING, UNSUPPORTED
+    }
+
+    private BufferedDataTable m_table;
+
+    private String m_id;
+
+    private int m_maxRows = Integer.MAX_VALUE;
+
+    private boolean m_omitNonFiniteValues = false;
+
+    private boolean m_binaryEncoding = false;
+
+    private long[] m_rowIndices;
+
+    private BinaryKeyedDataset m_binaryDataset;
+
+    private JSONDataTableSpec m_spec;
+
+    private boolean[] m_containsMissingValues;
+
+    private boolean m_hasUnsupportedValues;
+
+    private String m_rowKeysFingerprint;
+
+    private KeyedDatasetBuilder() {
+        // use newBuilder()
+    }
+
+    /**
+     * @return a new builder instance
+     */
+    public static KeyedDatasetBuilder newBuilder() {
+        return new KeyedDatasetBuilder();
+    }
+
+    /**
+     * @param table the table to create the dataset from
+     * @return this builder
+     */
+    public KeyedDatasetBuilder setDataTable(final BufferedDataTable table) {
+        m_table = table;
+        return this;
+    }
+
+    /**
+     * @param id the id of the dataset
+     * @return this builder
+     */
+    public KeyedDatasetBuilder setId(final String id) {
+        m_id = id;
+        return this;
+    }
+
+    /**
+     * @param maxRows the maximum number of rows to read from the table, starting with the first row
+     * @return this builder
+     */
+    public KeyedDatasetBuilder setMaxRows(final int maxRows) {
+        m_maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * @param rowIndices the ascending indices of the rows to read, e.g. of a downsample, or {@code null} to read the
+     *            rows up to the maximum number of rows
+     * @return this builder
+     * @since 5.12
+     */
+    public KeyedDatasetBuilder setRowIndices(final long[] rowIndices) {
+        m_rowIndices = rowIndices;
+        return this;
+    }
+
+    /**
+     * @param omitNonFiniteValues if {@code true}, infinite values are treated as unsupported and omitted from the
+     *            dataset, otherwise they are kept
+     * @return this builder
+     */
+    public KeyedDatasetBuilder setOmitNonFiniteValues(final boolean omitNonFiniteValues) {
+        m_omitNonFiniteValues = omitNonFiniteValues;
+        return this;
+    }
+
+    /**
+     * @param binaryEncoding if {@code true}, the rows are encoded into a {@link BinaryKeyedDataset} and the created
+     *            dataset does not contain any rows
+     * @return this builder
+     * @since 5.12
+     */
+    public KeyedDatasetBuilder setBinaryEncoding(final boolean binaryEncoding) {
+        m_binaryEncoding = binaryEncoding;
+        return this;
+    }
+
+    /**
+     * Reads the table and creates the dataset. Symbols are set for string columns with possible values and the
+     * date&amp;time format is set for date&amp;time columns.
+     *
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the created dataset
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    public JSONKeyedValues2DDataset build(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTableSpec inSpec = m_table.getDataTableSpec();
+        final int[] colIndices = getIncludedColumnIndices(inSpec);
+        final int numColumns = colIndices.length;
+        final int numRows = m_rowIndices != null ? m_rowIndices.length
+            : (int)Math.min(m_table.size(), Math.max(m_maxRows, 0));
+
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[numColumns];
+        final ColumnKind[] kinds = new ColumnKind[numColumns];
+        for (int col = 0; col < numColumns; col++) {
+            colSpecs[col] = inSpec.getColumnSpec(colIndices[col]);
+            kinds[col] = getColumnKind(colSpecs[col].getType());
+        }
+        m_spec = new JSONDataTableSpec(new DataTableSpec(inSpec.getName(), colSpecs), numRows);
+        final OrdinalDictionary[] dictionaries = new OrdinalDictionary[numColumns];
+        for (int col = 0; col < numColumns; col++) {
+            if (kinds[col] == ColumnKind.STRING || m_spec.getColTypes()[col].equals(JSTypes.STRING)) {
+                dictionaries[col] = OrdinalDictionary.of(m_spec.getPossibleValues().get(col));
+            }
+        }
+
+        final double[][] values = new double[numColumns][numRows];
+        final String[] rowKeys = new String[numRows];
+        final String[] rowColors = new String[numRows];
+        m_containsMissingValues = new boolean[numColumns];
+        m_hasUnsupportedValues = false;
+        // time columns are plotted on the current day, same as in the view
+        final LocalDate today = LocalDate.now();
+
+        final ExecutionMonitor readMonitor = exec.createSubProgress(0.9);
+        if (numRows > 0) {
+            final long firstRow = m_rowIndices == null ? 0 : m_rowIndices[0];
+            final long lastRow = m_rowIndices == null ? numRows - 1L : m_rowIndices[numRows - 1];
+            final TableFilter filter =
+                TableFilter.materializeCols(colIndices).withFromRowIndex(firstRow).withToRowIndex(lastRow);
+            try (CloseableRowIterator it = m_table.filter(filter)) {
+                long rowIndex = firstRow - 1;
+                for (int rowID = 0; rowID < numRows && it.hasNext(); rowID++) {
+                    DataRow row = it.next();
+                    rowIndex++;
+                    if (m_rowIndices != null) {
+                        // skip the rows between the requested ones
+                        while (rowIndex < m_rowIndices[rowID] && it.hasNext()) {
+                            row = it.next();
+                            rowIndex++;
+                        }
+                    }
+                    rowKeys[rowID] = row.getKey().getString();
+                    rowColors[rowID] = CSSUtils.cssHexStringFromColor(inSpec.getRowColor(row).getColor());
+                    for (int col = 0; col < numColumns; col++) {
+                        values[col][rowID] =
+                            readValue(row.getCell(colIndices[col]), kinds[col], col, dictionaries[col], today);
+                    }
+                    readMonitor.checkCanceled();
+                    readMonitor.setProgress(((double)rowID) / numRows,
+                        "Reading data, processing row " + rowID + " of " + numRows + ".");
+                }
+            }
+        }
+
+        long keysHash = 17;
+        for (int rowID = 0; rowID < numRows; rowID++) {
+            keysHash = 31 * keysHash + (rowKeys[rowID] == null ? 0 : rowKeys[rowID].hashCode());
+        }
+        m_rowKeysFingerprint = numRows + "-" + Long.toHexString(keysHash);
+
+        final ExecutionMonitor datasetMonitor = exec.createSubProgress(0.1);
+        m_binaryDataset = null;
+        if (m_binaryEncoding) {
+            datasetMonitor.setMessage("Encoding dataset...");
+            m_binaryDataset = BinaryKeyedDataset.encode(values, rowKeys, rowColors, numRows);
+        }
+        final JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[m_binaryEncoding ? 0 : numRows];
+        for (int rowID = 0; rowID < rowValues.length; rowID++) {
+            final Double[] rowData = new Double[numColumns];
+            for (int col = 0; col < numColumns; col++) {
+                final double value = values[col][rowID];
+                rowData[col] = Double.isNaN(value) ? null : value;
+            }
+            rowValues[rowID] = new JSONKeyedValuesRow(rowKeys[rowID], rowData);
+            rowValues[rowID].setColor(rowColors[rowID]);
+            datasetMonitor.setProgress(((double)rowID) / numRows,
+                "Creating dataset, processing row " + rowID + " of " + numRows + ".");
+        }
+
+        final JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(m_id, m_spec.getColNames(), rowValues);
+        for (int col = 0; col < numColumns; col++) {
+            if (m_spec.getColTypes()[col].equals(JSTypes.STRING) && dictionaries[col] != null) {
+                dataset.setSymbol(dictionaries[col].getSymbolMap(), col);
+            }
+            if (m_spec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
+                dataset.setDateTimeFormat(m_spec.getKnimeTypes()[col], col);
+            }
+        }
+        exec.setProgress(1);
+        return dataset;
+    }
+
+    /**
+     * @return the binary encoded rows, available after {@link #build(ExecutionMonitor)} if the binary encoding is
+     *         enabled, {@code null} otherwise
+     * @since 5.12
+     */
+    public BinaryKeyedDataset getBinaryDataset() {
+        return m_binaryDataset;
+    }
+
+    /**
+     * @return a fingerprint of the number and the keys of the rows contained in the dataset, available after
+     *         {@link #build(ExecutionMonitor)}. It depends on the data only, i.e. it is the same if the same rows are
+     *         read again after the workflow was loaded.
+     * @since 5.12
+     */
+    public String getRowKeysFingerprint() {
+        return m_rowKeysFingerprint;
+    }
+
+    /**
+     * @return the JSON spec of the columns contained in the dataset, available after {@link #build(ExecutionMonitor)}
+     */
+    public JSONDataTableSpec getSpec() {
+        return m_spec;
+    }
+
+    /**
+     * @return the names of the columns which contain missing values in the read rows, available after
+     *         {@link #build(ExecutionMonitor)}
+     */
+    public String[] getMissingValueColumns() {
+        final String[] colNames = m_spec.getColNames();
+        int count = 0;
+        for (boolean containsMissing : m_containsMissingValues) {
+            count += containsMissing ? 1 : 0;
+        }
+        final String[] missingValueColumns = new String[count];
+        for (int col = 0, i = 0; col < colNames.length; col++) {
+            if (m_containsMissingValues[col]) {
+                missingValueColumns[i++] = colNames[col];
+            }
+        }
+        return missingValueColumns;
+    }
+
+    /**
+     * @return {@code true} if any of the read values was missing or unsupported and has been omitted, available
+     *         after {@link #build(ExecutionMonitor)}
+     */
+    public boolean hasUnsupportedValues() {
+        return m_hasUnsupportedValues;
+    }
+
+    private double readValue(final DataCell cell, final ColumnKind kind, final int col,
+        final OrdinalDictionary dictionary, final LocalDate today) {
+        if (cell.isMissing()) {
+            m_containsMissingValues[col] = true;
+            m_hasUnsupportedValues = true;
+            return Double.NaN;
+        }
+        if (kind == ColumnKind.NUMBER && cell instanceof DoubleValue) {
+            final double value = ((DoubleValue)cell).getDoubleValue();
+            if (Double.isNaN(value) || (m_omitNonFiniteValues && Double.isInfinite(value))) {
+                m_hasUnsupportedValues = true;
+                return Double.NaN;
+            }
+            return value;
+        }
+        return toPlotValue(cell, kind, dictionary, today);
+    }
+
+    /**
+     * Converts a non-missing cell into the value plotted by the view.
+     *
+     * @return the plotted value or {@link Double#NaN} if the cell is not supported
+     */
+    static double toPlotValue(final DataCell cell, final ColumnKind kind, final OrdinalDictionary dictionary,
+        final LocalDate today) {
+        switch (kind) {
+            case NUMBER:
+                if (cell instanceof DoubleValue) {
+                    return ((DoubleValue)cell).getDoubleValue();
+                }
+                break;
+            case LOCAL_DATE_TIME:
+                if (cell instanceof LocalDateTimeValue) {
+                    return ((LocalDateTimeValue)cell).getLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+                }
+                break;
+            case LOCAL_DATE:
+                if (cell instanceof LocalDateValue) {
+                    return ((LocalDateValue)cell).getLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant()
+                        .toEpochMilli();
+                }
+                break;
+            case LOCAL_TIME:
+                if (cell instanceof LocalTimeValue) {
+                    return ((LocalTimeValue)cell).getLocalTime().atDate(today).toInstant(ZoneOffset.UTC)
+                        .toEpochMilli();
+                }
+                break;
+            case ZONED_DATE_TIME:
+                if (cell instanceof ZonedDateTimeValue) {
+                    return ((ZonedDateTimeValue)cell).getZonedDateTime().toInstant().toEpochMilli();
+                }
+                break;
+            case DATE_AND_TIME:
+                if (cell instanceof DateAndTimeValue) {
+                    return ((DateAndTimeValue)cell).getUTCTimeInMillis();
+                }
+                break;
+            case STRING:
+                if (cell instanceof StringValue) {
+                    return dictionary == null ? OrdinalDictionary.UNKNOWN_ORDINAL
+                        : dictionary.getOrdinal(((StringValue)cell).getStringValue());
+                }
+                break;
+            default:
+                break;
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Converts a cell into the value plotted by the view.
+     *
+     * @return the plotted value or {@link Double#NaN} if the cell is missing, not supported or infinite
+     */
+    static double toFinitePlotValue(final DataCell cell, final ColumnKind kind, final OrdinalDictionary dictionary,
+        final LocalDate today) {
+        if (cell.isMissing()) {
+            return Double.NaN;
+        }
+        final double value = toPlotValue(cell, kind, dictionary, today);
+        return Double.isInfinite(value) ? Double.NaN : value;
+    }
+
+    /**
+     * Determines the range of the plotted values of a column, from the possible values or the domain bounds if
+     * available, otherwise by reading the column.
+     *
+     * @return the smallest and largest plotted value, {@link Double#NaN} if the column has no plotted values
+     */
+    static double[] getPlotRange(final BufferedDataTable table, final int colIndex, final ColumnKind kind,
+        final OrdinalDictionary dictionary, final LocalDate today, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (dictionary != null) {
+            exec.setProgress(1);
+            return new double[]{0, Math.max(0, dictionary.size() - 1)};
+        }
+        final DataColumnDomain domain = table.getDataTableSpec().getColumnSpec(colIndex).getDomain();
+        if (domain.hasBounds()) {
+            final double lower = toFinitePlotValue(domain.getLowerBound(), kind, null, today);
+            final double upper = toFinitePlotValue(domain.getUpperBound(), kind, null, today);
+            if (!Double.isNaN(lower) && !Double.isNaN(upper)) {
+                exec.setProgress(1);
+                return new double[]{lower, upper};
+            }
+        }
+        double min = Double.NaN;
+        double max = Double.NaN;
+        long rowIndex = 0;
+        final double numRows = Math.max(1, table.size());
+        try (CloseableRowIterator it = table.filter(TableFilter.materializeCols(colIndex))) {
+            while (it.hasNext()) {
+                final double value = toFinitePlotValue(it.next().getCell(colIndex), kind, dictionary, today);
+                if (!Double.isNaN(value)) {
+                    min = Double.isNaN(min) ? value : Math.min(min, value);
+                    max = Double.isNaN(max) ? value : Math.max(max, value);
+                }
+                if (++rowIndex % 8192 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / numRows);
+                }
+            }
+        }
+        exec.setProgress(1);
+        return new double[]{min, max};
+    }
+
+    private static int[] getIncludedColumnIndices(final DataTableSpec spec) {
+        return IntStream.range(0, spec.getNumColumns())
+            .filter(i -> spec.getColumnSpec(i).getType().isCompatible(DoubleValue.class)
+                || spec.getColumnSpec(i).getType().isCompatible(StringValue.class))
+            .toArray();
+    }
+
+    static ColumnKind getColumnKind(final DataType type) {
+        // order matters, most date&time and boolean cells are also string or double compatible
+        if (type.isCompatible(BooleanValue.class)) {
+            return ColumnKind.UNSUPPORTED;
+        } else if (type.isCompatible(LocalDateTimeValue.class)) {
+            return ColumnKind.LOCAL_DATE_TIME;
+        } else if (type.isCompatible(LocalDateValue.class)) {
+            return ColumnKind.LOCAL_DATE;
+        } else if (type.isCompatible(LocalTimeValue.class)) {
+            return ColumnKind.LOCAL_TIME;
+        } else if (type.isCompatible(ZonedDateTimeValue.class)) {
+            return ColumnKind.ZONED_DATE_TIME;
+        } else if (type.isCompatible(DateAndTimeValue.class)) {
+            return ColumnKind.DATE_AND_TIME;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            return ColumnKind.NUMBER;
+        } else if (type.isCompatible(StringValue.class)) {
+            return ColumnKind.STRING;
+        }
+        return ColumnKind.UNSUPPORTED;
+    }
+}
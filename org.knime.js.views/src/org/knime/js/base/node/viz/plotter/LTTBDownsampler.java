@@ -0,0 +1,397 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.node.viz.plotter.KeyedDatasetBuilder.ColumnKind;
+
+/**
+ * Selects the rows of a line plot with the Largest-Triangle-Three-Buckets (LTTB) algorithm, so that the lines drawn
+ * from a downsample of a few points per pixel look like the lines drawn from all rows.
+ *
+ * <p>
+ * The table is read once: the x-range is divided into twice as many equal-width buckets as points are requested and
+ * for every y-column the rows with the smallest and the largest value per bucket are kept as candidates, together with
+ * the first row per bucket whose value is missing, so that gaps in the lines are preserved. Of the rows with a missing
+ * x-value only the first one is kept, so that the missing values are still reported. LTTB is then run on the
+ * candidates of each y-column and the selected rows of all columns are merged. Only a few candidates per bucket are
+ * held in memory, regardless of the size of the table.
+ *
+ * <p>
+ * The x-values are the values plotted by the view, i.e. numbers and epoch milliseconds of date&amp;time values. If no
+ * x-column is given or the x-column is nominal the rows are plotted by their position and the row index is used.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class LTTBDownsampler {
+
+    /** The number of candidate buckets per requested point. */
+    private static final int BUCKETS_PER_POINT = 2;
+
+    private static final int MIN_POINTS = 3;
+
+    private LTTBDownsampler() {
+        // utility class
+    }
+
+    /**
+     * Downsamples the lines of the given y-columns.
+     *
+     * @param table the table to downsample
+     * @param xColumn the name of the x-column, {@code null} to plot the rows by their index
+     * @param yColumns the names of the y-columns
+     * @param xMin the lower bound of the x-range to downsample, {@link Double#NaN} for the full range
+     * @param xMax the upper bound of the x-range to downsample, {@link Double#NaN} for the full range
+     * @param numPoints the number of points per y-column, usually the width of the plot in pixels
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the ascending indices of the selected rows, including the closest rows outside of the x-range so that
+     *         the lines are continued to the borders of the plot
+     * @throws CanceledExecutionException if the execution has been canceled
+     */
+    public static long[] downsample(final BufferedDataTable table, final String xColumn, final String[] yColumns,
+        final double xMin, final double xMax, final int numPoints, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final long numRows = table.size();
+        final int threshold = Math.max(numPoints, MIN_POINTS);
+        if (numRows <= threshold) {
+            exec.setProgress(1);
+            return LongStream.range(0, numRows).toArray();
+        }
+        final DataTableSpec spec = table.getDataTableSpec();
+        int xIndex = xColumn == null ? -1 : spec.findColumnIndex(xColumn);
+        final ColumnKind xKind =
+            xIndex < 0 ? null : KeyedDatasetBuilder.getColumnKind(spec.getColumnSpec(xIndex).getType());
+        if (xKind == null || xKind == ColumnKind.STRING || xKind == ColumnKind.UNSUPPORTED) {
+            // nominal x-values are plotted by the position of their row
+            xIndex = -1;
+        }
+        final int[] yIndices = Arrays.stream(yColumns == null ? new String[0] : yColumns)
+            .mapToInt(spec::findColumnIndex).filter(i -> i >= 0 && KeyedDatasetBuilder
+                .getColumnKind(spec.getColumnSpec(i).getType()) != ColumnKind.UNSUPPORTED)
+            .toArray();
+        final ColumnKind[] yKinds = new ColumnKind[yIndices.length];
+        final OrdinalDictionary[] yDictionaries = new OrdinalDictionary[yIndices.length];
+        for (int c = 0; c < yIndices.length; c++) {
+            final DataColumnSpec colSpec = spec.getColumnSpec(yIndices[c]);
+            yKinds[c] = KeyedDatasetBuilder.getColumnKind(colSpec.getType());
+            if (yKinds[c] == ColumnKind.STRING && colSpec.getDomain().hasValues()) {
+                yDictionaries[c] = OrdinalDictionary.of(colSpec.getDomain().getValues());
+            }
+        }
+        // time columns are plotted on the current day, same as in the view
+        final LocalDate today = LocalDate.now();
+
+        double lower = xMin;
+        double upper = xMax;
+        if (xIndex < 0) {
+            lower = Double.isNaN(lower) ? 0 : Math.max(0, Math.floor(lower));
+            upper = Double.isNaN(upper) ? numRows - 1d : Math.min(numRows - 1d, Math.ceil(upper));
+        } else if (Double.isNaN(lower) || Double.isNaN(upper)) {
+            final double[] range = KeyedDatasetBuilder.getPlotRange(table, xIndex, xKind, null, today,
+                exec.createSubProgress(0.3));
+            lower = Double.isNaN(lower) ? range[0] : lower;
+            upper = Double.isNaN(upper) ? range[1] : upper;
+        }
+        if (Double.isNaN(lower) || Double.isNaN(upper) || lower > upper) {
+            exec.setProgress(1);
+            return new long[0];
+        }
+
+        final Candidates candidates = new Candidates(yIndices.length, threshold * BUCKETS_PER_POINT, lower, upper);
+        final int[] materialized = new int[yIndices.length + (xIndex < 0 ? 0 : 1)];
+        System.arraycopy(yIndices, 0, materialized, 0, yIndices.length);
+        if (xIndex >= 0) {
+            materialized[yIndices.length] = xIndex;
+        }
+        TableFilter filter = TableFilter.materializeCols(materialized);
+        long rowIndex = 0;
+        if (xIndex < 0) {
+            // the rows outside of the x-range are read to continue the lines to the borders of the plot
+            rowIndex = Math.max(0, (long)lower - 1);
+            filter = filter.withFromRowIndex(rowIndex).withToRowIndex(Math.min(numRows - 1, (long)upper + 1));
+        }
+        final ExecutionMonitor readMonitor = exec.createSubProgress(xIndex < 0 ? 0.9 : 0.6);
+        final double[] yValues = new double[yIndices.length];
+        try (CloseableRowIterator it = table.filter(filter)) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final double x = xIndex < 0 ? rowIndex
+                    : KeyedDatasetBuilder.toFinitePlotValue(row.getCell(xIndex), xKind, null, today);
+                if (!Double.isNaN(x)) {
+                    for (int c = 0; c < yIndices.length; c++) {
+                        yValues[c] = KeyedDatasetBuilder.toFinitePlotValue(row.getCell(yIndices[c]), yKinds[c],
+                            yDictionaries[c], today);
+                    }
+                    candidates.add(rowIndex, x, yValues);
+                } else {
+                    candidates.addMissingX(rowIndex);
+                }
+                if (++rowIndex % 8192 == 0) {
+                    readMonitor.checkCanceled();
+                    readMonitor.setProgress(rowIndex / (double)numRows,
+                        "Downsampling lines, processing row " + rowIndex + " of " + numRows + ".");
+                }
+            }
+        }
+        final long[] selected = candidates.select(threshold);
+        exec.setProgress(1);
+        return selected;
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets on points sorted by x.
+     *
+     * @param xs the x-values of the points
+     * @param ys the y-values of the points
+     * @param numPoints the number of points to select
+     * @return the ascending indices of the selected points
+     */
+    static int[] lttb(final double[] xs, final double[] ys, final int numPoints) {
+        final int length = xs.length;
+        if (numPoints >= length || numPoints < MIN_POINTS) {
+            return IntStream.range(0, length).toArray();
+        }
+        final int[] selected = new int[numPoints];
+        // the first and the last point are always kept, the others are divided into equally sized buckets
+        final double bucketSize = (length - 2) / (double)(numPoints - 2);
+        int a = 0;
+        for (int i = 0; i < numPoints - 2; i++) {
+            // average of the next bucket is the third point of the triangle
+            final int nextStart = (int)Math.floor((i + 1) * bucketSize) + 1;
+            final int nextEnd = Math.min((int)Math.floor((i + 2) * bucketSize) + 1, length);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += xs[j];
+                avgY += ys[j];
+            }
+            final int nextLength = Math.max(1, nextEnd - nextStart);
+            avgX /= nextLength;
+            avgY /= nextLength;
+
+            final int start = (int)Math.floor(i * bucketSize) + 1;
+            final int end = (int)Math.floor((i + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int j = start; j < end; j++) {
+                final double area =
+                    Math.abs((xs[a] - avgX) * (ys[j] - ys[a]) - (xs[a] - xs[j]) * (avgY - ys[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            selected[i + 1] = maxIndex;
+            a = maxIndex;
+        }
+        selected[numPoints - 1] = length - 1;
+        return selected;
+    }
+
+    /**
+     * The candidate rows per bucket and y-column: the rows with the smallest and largest value, the first row with a
+     * missing value, the closest rows outside of the x-range and the first row with a missing x-value.
+     */
+    private static final class Candidates {
+
+        private final int m_numColumns;
+
+        private final int m_numBuckets;
+
+        private final double m_lower;
+
+        private final double m_upper;
+
+        private final long[] m_minRows;
+
+        private final double[] m_minXs;
+
+        private final double[] m_minYs;
+
+        private final long[] m_maxRows;
+
+        private final double[] m_maxXs;
+
+        private final double[] m_maxYs;
+
+        private final long[] m_missingRows;
+
+        private long m_rowBefore = -1;
+
+        private double m_xBefore = Double.NEGATIVE_INFINITY;
+
+        private long m_rowAfter = -1;
+
+        private double m_xAfter = Double.POSITIVE_INFINITY;
+
+        private long m_missingXRow = -1;
+
+        Candidates(final int numColumns, final int numBuckets, final double lower, final double upper) {
+            m_numColumns = numColumns;
+            m_numBuckets = numBuckets;
+            m_lower = lower;
+            m_upper = upper;
+            final int size = numColumns * numBuckets;
+            m_minRows = new long[size];
+            m_minXs = new double[size];
+            m_minYs = new double[size];
+            m_maxRows = new long[size];
+            m_maxXs = new double[size];
+            m_maxYs = new double[size];
+            m_missingRows = new long[size];
+            Arrays.fill(m_minRows, -1);
+            Arrays.fill(m_maxRows, -1);
+            Arrays.fill(m_missingRows, -1);
+        }
+
+        void addMissingX(final long row) {
+            if (m_missingXRow < 0) {
+                m_missingXRow = row;
+            }
+        }
+
+        void add(final long row, final double x, final double[] ys) {
+            if (x < m_lower) {
+                if (x > m_xBefore) {
+                    m_xBefore = x;
+                    m_rowBefore = row;
+                }
+                return;
+            }
+            if (x > m_upper) {
+                if (x < m_xAfter) {
+                    m_xAfter = x;
+                    m_rowAfter = row;
+                }
+                return;
+            }
+            final int bucket = m_upper > m_lower
+                ? Math.min(m_numBuckets - 1, (int)((x - m_lower) / (m_upper - m_lower) * m_numBuckets)) : 0;
+            for (int c = 0; c < m_numColumns; c++) {
+                final int i = c * m_numBuckets + bucket;
+                final double y = ys[c];
+                if (Double.isNaN(y)) {
+                    if (m_missingRows[i] < 0) {
+                        m_missingRows[i] = row;
+                    }
+                    continue;
+                }
+                if (m_minRows[i] < 0 || y < m_minYs[i]) {
+                    m_minRows[i] = row;
+                    m_minXs[i] = x;
+                    m_minYs[i] = y;
+                }
+                if (m_maxRows[i] < 0 || y > m_maxYs[i]) {
+                    m_maxRows[i] = row;
+                    m_maxXs[i] = x;
+                    m_maxYs[i] = y;
+                }
+            }
+        }
+
+        long[] select(final int numPoints) {
+            final LongStream.Builder rows = LongStream.builder();
+            if (m_rowBefore >= 0) {
+                rows.add(m_rowBefore);
+            }
+            if (m_rowAfter >= 0) {
+                rows.add(m_rowAfter);
+            }
+            if (m_missingXRow >= 0) {
+                rows.add(m_missingXRow);
+            }
+            final long[] candidateRows = new long[2 * m_numBuckets];
+            final double[] xs = new double[2 * m_numBuckets];
+            final double[] ys = new double[2 * m_numBuckets];
+            for (int c = 0; c < m_numColumns; c++) {
+                int length = 0;
+                for (int b = 0; b < m_numBuckets; b++) {
+                    final int i = c * m_numBuckets + b;
+                    if (m_missingRows[i] >= 0) {
+                        rows.add(m_missingRows[i]);
+                    }
+                    if (m_minRows[i] < 0) {
+                        continue;
+                    }
+                    // the candidates of a bucket are added in the order of their x-values
+                    final boolean minFirst = m_minXs[i] <= m_maxXs[i];
+                    length = addCandidate(candidateRows, xs, ys, length, minFirst, i);
+                    if (m_minRows[i] != m_maxRows[i]) {
+                        length = addCandidate(candidateRows, xs, ys, length, !minFirst, i);
+                    }
+                }
+                for (int index : lttb(Arrays.copyOf(xs, length), Arrays.copyOf(ys, length), numPoints)) {
+                    rows.add(candidateRows[index]);
+                }
+            }
+            return rows.build().sorted().distinct().toArray();
+        }
+
+        private int addCandidate(final long[] candidateRows, final double[] xs, final double[] ys, final int length,
+            final boolean min, final int i) {
+            candidateRows[length] = min ? m_minRows[i] : m_maxRows[i];
+            xs[length] = min ? m_minXs[i] : m_maxXs[i];
+            ys[length] = min ? m_minYs[i] : m_maxYs[i];
+            return length + 1;
+        }
+    }
+}
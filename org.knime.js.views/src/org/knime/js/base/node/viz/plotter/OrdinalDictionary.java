@@ -0,0 +1,133 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary of the possible values of a nominal column, which are plotted on a categorical axis by their ordinal.
+ * The dictionary is created once from the column domain and maps a value to its ordinal with a hash lookup, so
+ * assigning ordinals to the cells of a table is linear in the number of rows regardless of the number of distinct
+ * values. The symbol map of the dataset, which maps the ordinals back to the values, is created from the same
+ * dictionary.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class OrdinalDictionary {
+
+    /** Ordinal of values that are not part of the dictionary. */
+    public static final int UNKNOWN_ORDINAL = -1;
+
+    private final String[] m_values;
+
+    private final Map<String, Integer> m_ordinals;
+
+    private OrdinalDictionary(final String[] values) {
+        m_values = values;
+        m_ordinals = new HashMap<String, Integer>((int)(values.length / 0.75f) + 1);
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) {
+                m_ordinals.putIfAbsent(values[ordinal], ordinal);
+            }
+        }
+    }
+
+    /**
+     * Creates a dictionary from the possible values of a column, e.g. the possible values of a
+     * {@link org.knime.js.core.JSONDataTableSpec}. The ordinal of a value is its position in the iteration order of
+     * the collection.
+     *
+     * @param possibleValues the possible values of the column, may be {@code null}
+     * @return the dictionary or {@code null} if the column has no possible values
+     */
+    public static OrdinalDictionary of(final Collection<?> possibleValues) {
+        if (possibleValues == null) {
+            return null;
+        }
+        final String[] values = new String[possibleValues.size()];
+        int ordinal = 0;
+        for (Object value : possibleValues) {
+            values[ordinal++] = value == null ? null : value.toString();
+        }
+        return new OrdinalDictionary(values);
+    }
+
+    /**
+     * @param value the value to look up
+     * @return the ordinal of the value or {@link #UNKNOWN_ORDINAL} if the value is not part of the dictionary
+     */
+    public int getOrdinal(final String value) {
+        if (value == null) {
+            return UNKNOWN_ORDINAL;
+        }
+        final Integer ordinal = m_ordinals.get(value);
+        return ordinal == null ? UNKNOWN_ORDINAL : ordinal;
+    }
+
+    /**
+     * @return the number of values in the dictionary
+     */
+    public int size() {
+        return m_values.length;
+    }
+
+    /**
+     * @return the symbol map of the dictionary as used by the keyed datasets, mapping the string representation of
+     *         each ordinal to its value
+     */
+    public Map<String, String> getSymbolMap() {
+        final Map<String, String> symbolMap = new HashMap<String, String>((int)(m_values.length / 0.75f) + 1);
+        for (int ordinal = 0; ordinal < m_values.length; ordinal++) {
+            symbolMap.put(Integer.toString(ordinal), m_values[ordinal]);
+        }
+        return symbolMap;
+    }
+}
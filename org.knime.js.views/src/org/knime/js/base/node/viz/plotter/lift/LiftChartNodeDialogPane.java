@@ -154,6 +154,7 @@ public class LiftChartNodeDialogPane extends NodeDialogPane {
     private final JCheckBox m_showWarningInViewCheckBox;
 
     private final JCheckBox m_ignoreMissingValuesCheckBox;
+    private final JCheckBox m_sortOutputTableCheckBox;
 
     /**
      * Creates a new dialog pane.
@@ -239,6 +240,7 @@ public void stateChanged(final ChangeEvent e) {
         m_showWarningInViewCheckBox = new JCheckBox("Show warnings in view");
 
         m_ignoreMissingValuesCheckBox = new JCheckBox("Ignore missing values");
+        m_sortOutputTableCheckBox = new JCheckBox("Sort output table by probability");
 
         addTab("Data Options", initLiftSettingsPanel());
         addTab("General Plot Options", initGeneralPanel());
@@ -377,6 +379,8 @@ private Component initLiftSettingsPanel() {
         c.gridx = 0;
         c.gridy++;
         panel.add(m_ignoreMissingValuesCheckBox, c);
+        c.gridy++;
+        panel.add(m_sortOutputTableCheckBox, c);
 
         return panel;
     }
@@ -575,6 +579,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         m_showWarningInViewCheckBox.setSelected(m_config.getShowWarningInView());
 
         m_ignoreMissingValuesCheckBox.setSelected(m_config.getIgnoreMissingValues());
+        m_sortOutputTableCheckBox.setSelected(m_config.getSortOutputTable());
     }
 
     private List<String> getPossibleLabels(final String resColumn) {
@@ -647,6 +652,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setShowWarningInView(m_showWarningInViewCheckBox.isSelected());
 
         m_config.setIgnoreMissingValues(m_ignoreMissingValuesCheckBox.isSelected());
+        m_config.setSortOutputTable(m_sortOutputTableCheckBox.isSelected());
 
         m_config.saveSettings(settings);
     }
@@ -49,9 +49,7 @@
 package org.knime.js.base.node.viz.plotter.lift;
 
 import org.knime.base.data.xml.SvgCell;
-import org.knime.base.node.viz.liftchart.LiftCalculator;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.NominalValue;
@@ -264,27 +262,16 @@ protected void performExecuteCreateView(final PortObject[] inData, final Executi
 
             if (representation.getLiftValues() == null) {
                 copyConfigToView();
-                LiftCalculator calc = new LiftCalculator(m_config.getResponseColumn(), m_config.getProbabilityColumn(),
-                                                     m_config.getResponseLabel(), m_config.getIntervalWidth(), m_config.getIgnoreMissingValues());
-                String warnMsg = calc.calculateLiftTables(table, exec);
-                m_table = calc.getSortedInput();
+                LiftStatisticsCalculator calc = new LiftStatisticsCalculator(m_config.getResponseColumn(),
+                    m_config.getProbabilityColumn(), m_config.getResponseLabel(), m_config.getIntervalWidth(),
+                    m_config.getIgnoreMissingValues());
+                // the whole input table is only sorted if it is returned, otherwise only the probabilities are sorted
+                String warnMsg = calc.calculate(table, m_config.getSortOutputTable(), exec);
+                m_table = m_config.getSortOutputTable() ? calc.getSortedInput() : table;
                 representation.setBaseline(1.0);
-                double[] lift = new double[calc.getLiftTable().getRowCount()];
-                double[] cumLift = new double[calc.getLiftTable().getRowCount()];
-                double[] response = new double[calc.getResponseTable().getRowCount()];
-
-                int counter = 0;
-                for (DataRow row : calc.getLiftTable()) {
-                    lift[counter] = ((DoubleValue)row.getCell(0)).getDoubleValue();
-                    cumLift[counter] = ((DoubleValue)row.getCell(2)).getDoubleValue();
-                    counter++;
-                }
-                counter = 0;
-                for (DataRow row : calc.getResponseTable()) {
-                    response[counter] = ((DoubleValue)row.getCell(0)).getDoubleValue();
-                    counter++;
-                }
-
+                double[] lift = calc.getLift();
+                double[] cumLift = calc.getCumulativeLift();
+                double[] response = calc.getResponse();
                 if (warnMsg != null && !warnMsg.isEmpty()) {
                     setWarningMessage(warnMsg);
                     if (m_config.getShowWarningInView()) {
@@ -116,6 +116,7 @@ public static String mapSmoothingValueToInput(final String val) {
     final static boolean DEFAULT_SHOW_WARNING_IN_VIEW = true;
     final static boolean DEFAULT_IGNORE_MISSING_VALUES = false;
     final static String DEFAULT_CUSTOM_CSS = "";
+    final static boolean DEFAULT_SORT_OUTPUT_TABLE = true;
 
     static final String TITLE_LIFT = "titleLift";
     static final String SUBTITLE_LIFT = "subtitleLift";
@@ -146,6 +147,7 @@ public static String mapSmoothingValueToInput(final String val) {
     static final String SHOW_GAIN_CHART = "showGain";
     static final String SHOW_WARNING_IN_VIEW = "showWarningInView";
     static final String IGNORE_MISSING_VALUES = "ignoreMissingValues";
+    static final String SORT_OUTPUT_TABLE = "sortOutputTable";
 
     static final String ENABLE_CONTROLS = "enableControls";
     static final String ENABLE_VIEW_TOGGLE = "enableViewToggle";
@@ -187,6 +189,7 @@ public static String mapSmoothingValueToInput(final String val) {
     private String m_smoothing = "linear";
     private boolean m_showWarningInView = DEFAULT_SHOW_WARNING_IN_VIEW;
     private boolean m_ignoreMissingValues = DEFAULT_IGNORE_MISSING_VALUES;
+    private boolean m_sortOutputTable = DEFAULT_SORT_OUTPUT_TABLE;
 
     private boolean m_enableControls = true;
     private boolean m_enableViewToggle = true;
@@ -688,6 +691,20 @@ public void setIgnoreMissingValues(final boolean ignoreMissingValues) {
         m_ignoreMissingValues = ignoreMissingValues;
     }
 
+    /**
+     * @return true if the output table is the input table sorted by probability, false if it is the input table
+     */
+    public boolean getSortOutputTable() {
+        return m_sortOutputTable;
+    }
+
+    /**
+     * @param sortOutputTable the sortOutputTable to set
+     */
+    public void setSortOutputTable(final boolean sortOutputTable) {
+        m_sortOutputTable = sortOutputTable;
+    }
+
     /**
      * @param showWarningInView the showWarningInView to set
      */
@@ -802,6 +819,9 @@ public void saveSettings(final NodeSettingsWO settings) {
 
         //added with 3.6
         settings.addString(CUSTOM_CSS, m_customCSS);
+
+        //added with 5.12
+        settings.addBoolean(SORT_OUTPUT_TABLE, m_sortOutputTable);
     }
 
     /** Loads parameters in NodeModel.
@@ -855,6 +875,9 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
 
         //added with 3.6
         m_customCSS = settings.getString(CUSTOM_CSS, DEFAULT_CUSTOM_CSS);
+
+        //added with 5.12
+        m_sortOutputTable = settings.getBoolean(SORT_OUTPUT_TABLE, DEFAULT_SORT_OUTPUT_TABLE);
     }
 
     /** Loads parameters in Dialog.
@@ -925,5 +948,8 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
 
         //added with 3.6
         m_customCSS = settings.getString(CUSTOM_CSS, DEFAULT_CUSTOM_CSS);
+
+        //added with 5.12
+        m_sortOutputTable = settings.getBoolean(SORT_OUTPUT_TABLE, DEFAULT_SORT_OUTPUT_TABLE);
     }
 }
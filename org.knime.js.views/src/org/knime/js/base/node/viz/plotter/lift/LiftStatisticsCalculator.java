@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.lift;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Computes the lift and cumulative gain statistics of the lift chart with a single sort. Unless the sorted input
+ * table is requested as output, only the probability and the response column are sorted, which avoids a second,
+ * sorted copy of the whole input table. The sorter works out of core, so the memory needed is independent of the
+ * number of rows except for the ranks of the positive rows.
+ *
+ * <p>
+ * The statistics are the same as the ones of {@link org.knime.base.node.viz.liftchart.LiftCalculator}: the rows are
+ * sorted by descending probability, rows with a missing response are skipped and rows with a missing probability
+ * are either skipped or sorted to the end.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LiftStatisticsCalculator {
+
+    private final String m_responseColumn;
+
+    private final String m_probabilityColumn;
+
+    private final String m_responseLabel;
+
+    private final double m_intervalWidth;
+
+    private final boolean m_ignoreMissingValues;
+
+    private double[] m_lift;
+
+    private double[] m_cumulativeLift;
+
+    private double[] m_response;
+
+    private BufferedDataTable m_sortedInput;
+
+    /**
+     * @param responseColumn the name of the response column
+     * @param probabilityColumn the name of the probability column
+     * @param responseLabel the value of a positive response
+     * @param intervalWidth the width of the intervals in percent
+     * @param ignoreMissingValues true if rows with missing probability are skipped, false if they are sorted to the
+     *            end
+     */
+    LiftStatisticsCalculator(final String responseColumn, final String probabilityColumn,
+        final String responseLabel, final double intervalWidth, final boolean ignoreMissingValues) {
+        m_responseColumn = responseColumn;
+        m_probabilityColumn = probabilityColumn;
+        m_responseLabel = responseLabel;
+        m_intervalWidth = intervalWidth;
+        m_ignoreMissingValues = ignoreMissingValues;
+    }
+
+    /**
+     * Computes the statistics.
+     *
+     * @param table the input table
+     * @param createSortedInput true if the whole input table is sorted by probability to be returned by
+     *            {@link #getSortedInput()}, false if only the probability and response columns are sorted
+     * @param exec the execution context
+     * @return a warning message or null
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    String calculate(final BufferedDataTable table, final boolean createSortedInput, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        BufferedDataTable sorted;
+        if (createSortedInput) {
+            exec.setMessage("Sorting input table");
+            sorted = new BufferedDataTableSorter(table, Collections.singletonList(m_probabilityColumn),
+                new boolean[]{false}).sort(exec.createSubExecutionContext(0.8));
+        } else {
+            exec.setMessage("Sorting probabilities");
+            ColumnRearranger rearranger = new ColumnRearranger(spec);
+            rearranger.keepOnly(m_probabilityColumn, m_responseColumn);
+            BufferedDataTable pairs =
+                exec.createColumnRearrangeTable(table, rearranger, exec.createSubExecutionContext(0));
+            sorted = new BufferedDataTableSorter(pairs, Collections.singletonList(m_probabilityColumn),
+                new boolean[]{false}).sort(exec.createSubExecutionContext(0.8));
+        }
+
+        exec.setMessage("Counting responses");
+        final DataTableSpec sortedSpec = sorted.getDataTableSpec();
+        final int responseIndex = sortedSpec.findColumnIndex(m_responseColumn);
+        final int probabilityIndex = sortedSpec.findColumnIndex(m_probabilityColumn);
+        final double numRows = Math.max(1, sorted.size());
+        String warning = null;
+        int[] positiveRanks = new int[64];
+        int numPositives = 0;
+        int numValidRows = 0;
+        long rowCount = 0;
+        try (CloseableRowIterator it = sorted.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                if (++rowCount % 1000 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(0.8 + 0.2 * rowCount / numRows);
+                }
+                final DataCell response = row.getCell(responseIndex);
+                if (response.isMissing()) {
+                    continue;
+                }
+                if (row.getCell(probabilityIndex).isMissing()) {
+                    if (m_ignoreMissingValues) {
+                        continue;
+                    }
+                    warning = "Table contains missing values in the probability column, "
+                        + "they are sorted to the end.";
+                }
+                if (response.toString().equals(m_responseLabel)) {
+                    if (numPositives == positiveRanks.length) {
+                        positiveRanks = Arrays.copyOf(positiveRanks, 2 * numPositives);
+                    }
+                    positiveRanks[numPositives++] = numValidRows;
+                }
+                numValidRows++;
+            }
+        }
+        if (createSortedInput) {
+            m_sortedInput = sorted;
+        } else {
+            m_sortedInput = null;
+            exec.clearTable(sorted);
+        }
+        if (numValidRows == 0) {
+            warning = "Table contains no rows with a response.";
+        }
+        computeStatistics(Arrays.copyOf(positiveRanks, numPositives), numValidRows);
+        return warning;
+    }
+
+    /**
+     * Counts the positive responses per interval of the rows sorted by descending probability.
+     *
+     * @param positiveRanks the ranks of the rows with a positive response in ascending order
+     * @param numRows the number of rows
+     */
+    void computeStatistics(final int[] positiveRanks, final int numRows) {
+        final int numParts = (int)Math.ceil(100.0 / m_intervalWidth);
+        final int partWidth = Math.max(1, (int)Math.ceil(numRows / (double)numParts));
+        final int[] counter = new int[numParts];
+        for (int rank : positiveRanks) {
+            counter[rank / partWidth]++;
+        }
+        final double avgResponse = positiveRanks.length / (double)numRows;
+        m_lift = new double[numParts];
+        m_cumulativeLift = new double[numParts];
+        m_response = new double[numParts + 1];
+        long cumulativeCounter = 0;
+        for (int i = 0; i < numParts; i++) {
+            cumulativeCounter += counter[i];
+            m_lift[i] = ((double)counter[i] / partWidth) / avgResponse;
+            // the last interval may be smaller than the others
+            final long number = Math.min((long)partWidth * (i + 1), numRows);
+            m_cumulativeLift[i] = ((double)cumulativeCounter / number) / avgResponse;
+            m_response[i + 1] = (double)cumulativeCounter / positiveRanks.length * 100;
+        }
+    }
+
+    /**
+     * @return the lift of each interval
+     */
+    double[] getLift() {
+        return m_lift;
+    }
+
+    /**
+     * @return the cumulative lift up to each interval
+     */
+    double[] getCumulativeLift() {
+        return m_cumulativeLift;
+    }
+
+    /**
+     * @return the percentage of all positive responses up to each interval, starting with 0
+     */
+    double[] getResponse() {
+        return m_response;
+    }
+
+    /**
+     * @return the input table sorted by descending probability, null if it was not requested
+     */
+    BufferedDataTable getSortedInput() {
+        return m_sortedInput;
+    }
+}
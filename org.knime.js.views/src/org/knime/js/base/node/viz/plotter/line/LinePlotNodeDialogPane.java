@@ -120,6 +120,8 @@ public class LinePlotNodeDialogPane extends NodeDialogPane {
     private final JComboBox<String> m_missingValueMethodComboBox;
     private final JCheckBox m_showWarningInViewCheckBox;
     private final JCheckBox m_reportOnMissingValuesCheckBox;
+    private final JCheckBox m_binaryDataEncodingCheckBox;
+    private final JCheckBox m_enableDownsamplingCheckBox;
 
     private final JSpinner m_maxRowsSpinner;
     //private final JTextField m_appendedColumnName;
@@ -199,6 +201,8 @@ public LinePlotNodeDialogPane() {
 
         m_showWarningInViewCheckBox = new JCheckBox("Show warnings in view");
         m_reportOnMissingValuesCheckBox = new JCheckBox("Report on missing values");
+        m_binaryDataEncodingCheckBox = new JCheckBox("Transfer data to the view in binary format");
+        m_enableDownsamplingCheckBox = new JCheckBox("Downsample lines to the width of the plot");
 
         m_enableViewConfigCheckBox.addChangeListener(new ChangeListener() {
 
@@ -244,6 +248,14 @@ public void stateChanged(final ChangeEvent e) {
                 }
             }
         });
+        m_enableDownsamplingCheckBox.addChangeListener(new ChangeListener() {
+
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                // the maximum number of rows does not apply to downsampled lines
+                m_maxRowsSpinner.setEnabled(!m_enableDownsamplingCheckBox.isSelected());
+            }
+        });
         addTab("Options", initOptionsPanel());
         addTab("Axis Configuration", initAxisPanel());
         addTab("General Plot Options", initGeneralPanel());
@@ -288,6 +300,10 @@ private Component initOptionsPanel() {
 
         panel.add(m_reportOnMissingValuesCheckBox, c);
         c.gridy++;
+        panel.add(m_binaryDataEncodingCheckBox, c);
+        c.gridy++;
+        panel.add(m_enableDownsamplingCheckBox, c);
+        c.gridy++;
         JPanel missingValuePanel = new JPanel(new GridBagLayout());
         missingValuePanel.setBorder(BorderFactory.createTitledBorder("Missing value handling (y-axis)"));
         panel.add(missingValuePanel, c);
@@ -633,6 +649,9 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
 
         m_showWarningInViewCheckBox.setSelected(m_config.getShowWarningInView());
         m_reportOnMissingValuesCheckBox.setSelected(m_config.getReportOnMissingValues());
+        m_binaryDataEncodingCheckBox.setSelected(m_config.getBinaryDataEncoding());
+        m_enableDownsamplingCheckBox.setSelected(m_config.getEnableDownsampling());
+        m_maxRowsSpinner.setEnabled(!m_config.getEnableDownsampling());
 
         enableViewControls();
         enableCrosshairControls();
@@ -697,6 +716,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
 
         m_config.setShowWarningInView(m_showWarningInViewCheckBox.isSelected());
         m_config.setReportOnMissingValues(m_reportOnMissingValuesCheckBox.isSelected());
+        m_config.setBinaryDataEncoding(m_binaryDataEncodingCheckBox.isSelected());
+        m_config.setEnableDownsampling(m_enableDownsamplingCheckBox.isSelected());
 
         m_config.saveSettings(settings);
     }
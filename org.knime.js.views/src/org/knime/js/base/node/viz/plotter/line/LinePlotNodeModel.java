@@ -48,18 +48,9 @@
  */
 package org.knime.js.base.node.viz.plotter.line;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
 
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
@@ -74,7 +65,9 @@
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -82,6 +75,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -91,12 +85,13 @@
 import org.knime.core.node.util.filter.NameFilterConfiguration.EnforceOption;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.node.web.ValidationError;
+import org.knime.js.base.node.viz.plotter.KeyedDatasetBuilder;
+import org.knime.js.base.node.viz.plotter.LTTBDownsampler;
+import org.knime.js.base.util.selection.SelectionIndex;
 import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.JSONDataTableRow;
 import org.knime.js.core.JSONDataTableSpec;
-import org.knime.js.core.JSONDataTableSpec.JSTypes;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
-import org.knime.js.core.datasets.JSONKeyedValuesRow;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -108,7 +103,8 @@
  * @author Christian Albrecht, KNIME AG, Zurich, Switzerland, University of Konstanz
  */
 final class LinePlotNodeModel extends AbstractSVGWizardNodeModel<LinePlotViewRepresentation,
-        LinePlotViewValue> implements LayoutTemplateProvider/*, CSSModifiable*/ {
+        LinePlotViewValue> implements LayoutTemplateProvider, BufferedDataTableHolder,
+        JSONViewRequestHandler<LinePlotViewRequest, LinePlotViewResponse>/*, CSSModifiable*/ {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(LinePlotNodeModel.class);
 
@@ -121,6 +117,9 @@ final class LinePlotNodeModel extends AbstractSVGWizardNodeModel<LinePlotViewRep
     static final String ROWS_LIMITATION_WARNING_ID = "rowsLimitation";
     static final String SKIP_Y_COLUMNS_WARNING_ID = "skipYColumns";
 
+    /** The largest number of points per line of a downsample, regardless of the width of the plot. */
+    private static final int MAX_DOWNSAMPLING_POINTS = 10000;
+
     /**
      * Creates a new model instance.
      */
@@ -152,7 +151,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         DataTableSpec out = tableSpec;
         if (m_config.getEnableSelection()) {
-            ColumnRearranger rearranger = createColumnAppender(tableSpec, null);
+            ColumnRearranger rearranger = createColumnAppender(tableSpec, SelectionIndex.of(null));
             out = rearranger.createSpec();
         }
 
@@ -167,7 +166,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         return new PortObjectSpec[]{imageSpec, out};
     }
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final SelectionIndex selection) {
         String newColName = m_config.getSelectionColumnName();
         if (newColName == null || newColName.trim().isEmpty()) {
             newColName = LinePlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
@@ -182,15 +181,10 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
 
             @Override
             public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
+                if (!m_config.getEnableDownsampling() && ++m_rowIndex > m_config.getMaxRows()) {
                     return DataType.getMissingCell();
                 }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    }
-                }
-                return BooleanCell.FALSE;
+                return BooleanCellFactory.create(selection.contains(row.getKey()));
             }
         };
         rearranger.append(fac);
@@ -321,11 +315,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
 
             LinePlotViewValue viewValue = getViewValue();
             if (m_config.getEnableSelection()) {
-                List<String> selectionList = null;
-                if (viewValue != null && viewValue.getSelection() != null) {
-                    selectionList = Arrays.asList(viewValue.getSelection());
-                }
-                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
+                SelectionIndex selection = SelectionIndex.of(viewValue == null ? null : viewValue.getSelection());
+                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selection);
                 out = exec.createColumnRearrangeTable(m_table, rearranger, exec);
             }
         }
@@ -337,11 +328,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         createKeyedDataset(final BufferedDataTable colorTable, final ExecutionContext exec)
             throws CanceledExecutionException {
 
-        ColumnRearranger c = createNumericColumnRearranger(m_table.getDataTableSpec());
-        BufferedDataTable filteredTable = exec.createColumnRearrangeTable(m_table, c, exec.createSubProgress(0.1));
-        exec.setProgress(0.1);
         //construct dataset
-        if (m_config.getMaxRows() < filteredTable.size()) {
+        if (!m_config.getEnableDownsampling() && m_config.getMaxRows() < m_table.size()) {
             String msg = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
             setWarningMessage(msg);
             if (m_config.getShowWarningInView()) {
@@ -349,12 +337,22 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
             }
         }
 
-        JSONDataTable.Builder builder = JSONDataTable.newBuilder()
-                .setDataTable(filteredTable)
+        final KeyedDatasetBuilder builder = KeyedDatasetBuilder.newBuilder()
+                .setDataTable(m_table)
                 .setId(getTableId(0))
-                .setFirstRow(1)
-                .setMaxRows(m_config.getMaxRows());
-        final JSONDataTable table = builder.build(exec.createSubProgress(0.79));
+                .setMaxRows(m_config.getMaxRows())
+                .setBinaryEncoding(m_config.getBinaryDataEncoding());
+        double datasetFraction = 0.99;
+        if (m_config.getEnableDownsampling()) {
+            // the lines of the initial y-columns are downsampled to the width of the image
+            final LinePlotViewValue viewValue = getViewValue();
+            builder.setRowIndices(LTTBDownsampler.downsample(m_table, viewValue.getxColumn(),
+                viewValue.getyColumns(), Double.NaN, Double.NaN, getNumDownsamplingPoints(m_config.getImageWidth()),
+                exec.createSubProgress(0.7)));
+            datasetFraction = 0.29;
+        }
+        final JSONKeyedValues2DDataset dataset = builder.build(exec.createSubProgress(datasetFraction));
+        getViewRepresentation().setBinaryDataset(builder.getBinaryDataset());
 
         JSONDataTable jsonColorTable = null;
         if (colorTable != null) {
@@ -364,53 +362,10 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
                     .setFirstRow(1)
                     .build(exec.createSilentSubProgress(0.01));
         }
-        exec.setProgress(0.9);
-        ExecutionMonitor datasetExecutionMonitor = exec.createSubProgress(0.1);
-        final JSONDataTableSpec tableSpec = table.getSpec();
-        int numColumns = tableSpec.getNumColumns();
-        String[] rowKeys = new String[tableSpec.getNumRows()];
-        JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[tableSpec.getNumRows()];
-        JSONDataTableRow[] tableRows = table.getRows();
-        for (int rowID = 0; rowID < rowValues.length; rowID++) {
-            JSONDataTableRow currentRow = tableRows[rowID];
-            rowKeys[rowID] = currentRow.getRowKey();
-            Double[] rowData = new Double[numColumns];
-            Object[] tableData = currentRow.getData();
-            for (int colID = 0; colID < numColumns; colID++) {
-                if (tableData[colID] instanceof Double) {
-                    rowData[colID] = (Double)tableData[colID];
-                } else if (tableData[colID] instanceof Long) {
-                    rowData[colID] = ((Long)tableData[colID]).doubleValue();
-                } else if (tableData[colID] instanceof String) {
-                    String data = (String) tableData[colID];
-                    if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Local)")) {
-                        rowData[colID] = ((Long)LocalDateTime.parse(data).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date")) {
-                        rowData[colID] = ((Long)LocalDate.parse(data).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Time")) {
-                        rowData[colID] = ((Long)LocalTime.parse(data).atDate(LocalDate.now()).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Zoned)")) {
-                        rowData[colID] = ((Long)ZonedDateTime.parse(data).toInstant().toEpochMilli()).doubleValue();
-                    } else {
-                        // String
-                        rowData[colID] = ((Integer)getOrdinalFromStringValue(data, table, colID)).doubleValue();
-                    }
-                }
-            }
-            rowValues[rowID] = new JSONKeyedValuesRow(currentRow.getRowKey(), rowData);
-            rowValues[rowID].setColor(tableSpec.getRowColorValues()[rowID]);
-            datasetExecutionMonitor.setProgress(((double)rowID) / rowValues.length, "Creating dataset, processing row "
-                + rowID + " of " + rowValues.length + ".");
-        }
-
-        JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(getTableId(0), tableSpec.getColNames(), rowValues);
+        final JSONDataTableSpec tableSpec = builder.getSpec();
 
         // Write which columns have missing values
-        boolean[] flags = table.getSpec().getContainsMissingValues();
-        String[] missingValueColumns = IntStream.range(0, flags.length)
-            .filter(i -> flags[i])
-            .mapToObj(i -> table.getSpec().getColNames()[i])
-            .toArray(String[]::new);
+        String[] missingValueColumns = builder.getMissingValueColumns();
         dataset.setMissingValueColumns(missingValueColumns);
         if (Arrays.asList(missingValueColumns).contains(m_config.getxColumn()) && getViewRepresentation().getReportOnMissingValues()) {
             setWarningMessage("Missing values of the X axis column will be removed in the view");
@@ -434,13 +389,6 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
             if (colColor != null) {
                 dataset.setColumnColor(colColor, col);
             }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.STRING)
-                && tableSpec.getPossibleValues().get(col) != null) {
-                dataset.setSymbol(getSymbolMap(tableSpec.getPossibleValues().get(col)), col);
-            }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
-                dataset.setDateTimeFormat(tableSpec.getKnimeTypes()[col], col);
-            }
         }
         if (colorExceptionCount > 0) {
             setWarningMessage("There was a problem processing the colors "
@@ -462,39 +410,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         return dataset;
     }
 
-    private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
-        ColumnRearranger c = new ColumnRearranger(in);
-        for (DataColumnSpec colSpec : in) {
-            DataType type = colSpec.getType();
-            if (!type.isCompatible(DoubleValue.class) && !type.isCompatible(StringValue.class)) {
-                c.remove(colSpec.getName());
-            }
-        }
-        return c;
-    }
-
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        }
-        return -1;
-    }
-
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value : linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
-        }
-        return symbolMap;
+    private static int getNumDownsamplingPoints(final int width) {
+        return Math.min(Math.max(width, 1), MAX_DOWNSAMPLING_POINTS);
     }
 
     private String getColorForColumn(final String colKey, final JSONDataTable colorTable) {
@@ -519,6 +436,78 @@ protected void performReset() {
         m_table = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        return new BufferedDataTable[]{m_table};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        // workflows saved before the table was kept for downsampling requests have no internal tables
+        m_table = tables == null || tables.length == 0 ? null : tables[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LinePlotViewRequest createEmptyViewRequest() {
+        return new LinePlotViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LinePlotViewResponse handleRequest(final LinePlotViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final LinePlotViewResponse response = new LinePlotViewResponse(request);
+        try {
+            final BufferedDataTable table;
+            final boolean viewCreated;
+            synchronized (getLock()) {
+                table = m_table;
+                viewCreated = getViewRepresentation().getKeyedDataset() != null;
+            }
+            if (table == null && viewCreated) {
+                throw new IllegalStateException("The rows of the line plot are not available for downsampling, "
+                    + "the workflow was probably saved with an older version. Re-execute the node to refine the "
+                    + "downsampling when zooming.");
+            }
+            if (table == null) {
+                throw new IllegalStateException("No table available, node needs to be executed.");
+            }
+            exec.setMessage("Downsampling lines...");
+            final long[] rowIndices = LTTBDownsampler.downsample(table, request.getxColumn(), request.getyColumns(),
+                request.getxMin() == null ? Double.NaN : request.getxMin(),
+                request.getxMax() == null ? Double.NaN : request.getxMax(),
+                getNumDownsamplingPoints(request.getWidth()), exec.createSubProgress(0.7));
+            exec.setMessage("Creating dataset...");
+            final KeyedDatasetBuilder builder = KeyedDatasetBuilder.newBuilder()
+                    .setDataTable(table)
+                    .setId(getTableId(0))
+                    .setRowIndices(rowIndices)
+                    .setBinaryEncoding(m_config.getBinaryDataEncoding());
+            response.setKeyedDataset(builder.build(exec.createSubProgress(0.3)));
+            response.setBinaryDataset(builder.getBinaryDataset());
+        } catch (CanceledExecutionException e) {
+            // request was cancelled, no need for special treatment
+            throw e;
+        } catch (Exception e) {
+            // wrap all other exceptions for proper error handling
+            LOGGER.error("Line plot request could not be processed: " + e.getMessage(), e);
+            response.setError(e.getMessage());
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -620,6 +609,9 @@ private static void copyConfigToViewRepresentation(final LinePlotViewConfig conf
 
         // added with 4.4
         representation.setEnableLineSizeChange(config.getEnableLineSizeChange());
+
+        // added with 5.12
+        representation.setEnableDownsampling(config.getEnableDownsampling());
     }
 
     private static void copyConfigToViewValue(final ValueStore valStore, final DataTableSpec spec,
@@ -89,6 +89,10 @@ public final class LinePlotViewConfig {
     static final String AUTO_RANGE_AXES = "autoRange";
     static final String ENFORCE_ORIGIN = "enforceOrigin";
     static final boolean DEFAULT_ENFORCE_ORIGIN = false;
+    static final String BINARY_DATA_ENCODING = "binaryDataEncoding";
+    static final boolean DEFAULT_BINARY_DATA_ENCODING = false;
+    static final String ENABLE_DOWNSAMPLING = "enableDownsampling";
+    static final boolean DEFAULT_ENABLE_DOWNSAMPLING = false;
     static final String USE_DOMAIN_INFO = "useDomainInformation";
     static final String SHOW_GRID = "showGrid";
     static final String SHOW_CROSSHAIR = "showCrosshair";
@@ -143,6 +147,8 @@ public final class LinePlotViewConfig {
     private boolean m_showLegend = true;
     private boolean m_autoRangeAxes = true;
     private boolean m_enforceOrigin = false;
+    private boolean m_binaryDataEncoding = DEFAULT_BINARY_DATA_ENCODING;
+    private boolean m_enableDownsampling = DEFAULT_ENABLE_DOWNSAMPLING;
     private boolean m_useDomainInfo = false;
     private boolean m_showGrid = true;
     private boolean m_showCrosshair = false;
@@ -263,6 +269,34 @@ public void setEnforceOrigin(final boolean enforceOrigin) {
         m_enforceOrigin = enforceOrigin;
     }
 
+    /**
+     * @return true if the plotted rows are transferred to the view in a binary encoding
+     */
+    public boolean getBinaryDataEncoding() {
+        return m_binaryDataEncoding;
+    }
+
+    /**
+     * @param binaryDataEncoding true if the plotted rows should be transferred to the view in a binary encoding
+     */
+    public void setBinaryDataEncoding(final boolean binaryDataEncoding) {
+        m_binaryDataEncoding = binaryDataEncoding;
+    }
+
+    /**
+     * @return true if the lines are downsampled to the width of the plot instead of plotting the first rows
+     */
+    public boolean getEnableDownsampling() {
+        return m_enableDownsampling;
+    }
+
+    /**
+     * @param enableDownsampling true if the lines should be downsampled to the width of the plot
+     */
+    public void setEnableDownsampling(final boolean enableDownsampling) {
+        m_enableDownsampling = enableDownsampling;
+    }
+
     /**
      * @return the autoRangeAxes
      */
@@ -1078,6 +1112,10 @@ public void saveSettings(final NodeSettingsWO settings) {
         //added with 4.4
         settings.addBoolean(ENABLE_LINE_SIZE_CHANGE, getEnableLineSizeChange());
         settings.addInt(LINE_SIZE, getLineSize());
+
+        //added with 5.12
+        settings.addBoolean(BINARY_DATA_ENCODING, getBinaryDataEncoding());
+        settings.addBoolean(ENABLE_DOWNSAMPLING, getEnableDownsampling());
     }
 
     /** Loads parameters in NodeModel.
@@ -1168,6 +1206,10 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
         setEnableLineSizeChange(settings.getBoolean(ENABLE_LINE_SIZE_CHANGE, DEFAULT_LINE_SIZE_CHANGE));
         setLineSize(settings.getInt(LINE_SIZE, DEFAULT_LINE_SIZE));
 
+        //added with 5.12
+        setBinaryDataEncoding(settings.getBoolean(BINARY_DATA_ENCODING, DEFAULT_BINARY_DATA_ENCODING));
+        setEnableDownsampling(settings.getBoolean(ENABLE_DOWNSAMPLING, DEFAULT_ENABLE_DOWNSAMPLING));
+
     }
 
     /** Loads parameters in Dialog.
@@ -1276,5 +1318,9 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         //added with 4.4
         setEnableLineSizeChange(settings.getBoolean(ENABLE_LINE_SIZE_CHANGE, DEFAULT_LINE_SIZE_CHANGE));
         setLineSize(settings.getInt(LINE_SIZE, DEFAULT_LINE_SIZE));
+
+        //added with 5.12
+        setBinaryDataEncoding(settings.getBoolean(BINARY_DATA_ENCODING, DEFAULT_BINARY_DATA_ENCODING));
+        setEnableDownsampling(settings.getBoolean(ENABLE_DOWNSAMPLING, DEFAULT_ENABLE_DOWNSAMPLING));
     }
 }
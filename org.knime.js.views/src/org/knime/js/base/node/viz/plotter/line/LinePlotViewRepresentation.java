@@ -57,6 +57,7 @@
 import org.knime.js.core.components.datetime.ConversionDateTimeFormat;
 import org.knime.js.core.components.datetime.SettingsModelDateTimeOptions;
 import org.knime.js.core.components.datetime.SettingsModelDateTimeOptions.JSONDateTimeOptions;
+import org.knime.js.base.node.viz.plotter.BinaryKeyedDataset;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
 import org.knime.js.core.warnings.JSONWarnings;
 
@@ -72,6 +73,8 @@
 public class LinePlotViewRepresentation extends JSONViewContent {
 
     private JSONKeyedValues2DDataset m_keyedDataset;
+    private BinaryKeyedDataset m_binaryDataset;
+    private boolean m_enableDownsampling;
 
     private boolean m_showLegend;
     private boolean m_autoRangeAxes;
@@ -132,6 +135,38 @@ public void setKeyedDataset(final JSONKeyedValues2DDataset keyedDataset) {
         m_keyedDataset = keyedDataset;
     }
 
+    /**
+     * @return the binary encoded rows of the keyed dataset, or null if the rows are part of the keyed dataset
+     * @since 5.12
+     */
+    public BinaryKeyedDataset getBinaryDataset() {
+        return m_binaryDataset;
+    }
+
+    /**
+     * @param binaryDataset the binary encoded rows of the keyed dataset to set
+     * @since 5.12
+     */
+    public void setBinaryDataset(final BinaryKeyedDataset binaryDataset) {
+        m_binaryDataset = binaryDataset;
+    }
+
+    /**
+     * @return true if the keyed dataset contains a downsample of the lines, which is refined by view requests
+     * @since 5.12
+     */
+    public boolean getEnableDownsampling() {
+        return m_enableDownsampling;
+    }
+
+    /**
+     * @param enableDownsampling true if the keyed dataset contains a downsample of the lines
+     * @since 5.12
+     */
+    public void setEnableDownsampling(final boolean enableDownsampling) {
+        m_enableDownsampling = enableDownsampling;
+    }
+
     /**
      * @return the showLegend
      */
@@ -695,6 +730,13 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
 
         //added with 4.4
         settings.addBoolean(LinePlotViewConfig.ENABLE_LINE_SIZE_CHANGE, getEnableLineSizeChange());
+
+        //added with 5.12
+        settings.addBoolean("hasBinaryDataset", m_binaryDataset != null);
+        if (m_binaryDataset != null) {
+            m_binaryDataset.saveToNodeSettings(settings.addNodeSettings("binaryDataset"));
+        }
+        settings.addBoolean(LinePlotViewConfig.ENABLE_DOWNSAMPLING, getEnableDownsampling());
     }
 
     /**
@@ -769,6 +811,15 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
 
         // added with 4.4
         setEnableLineSizeChange(settings.getBoolean(LinePlotViewConfig.ENABLE_LINE_SIZE_CHANGE, LinePlotViewConfig.DEFAULT_LINE_SIZE_CHANGE));
+
+        // added with 5.12
+        m_binaryDataset = null;
+        if (settings.getBoolean("hasBinaryDataset", false)) {
+            m_binaryDataset = new BinaryKeyedDataset();
+            m_binaryDataset.loadFromNodeSettings(settings.getNodeSettings("binaryDataset"));
+        }
+        setEnableDownsampling(settings.getBoolean(LinePlotViewConfig.ENABLE_DOWNSAMPLING,
+            LinePlotViewConfig.DEFAULT_ENABLE_DOWNSAMPLING));
     }
 
     /**
@@ -788,6 +839,8 @@ public boolean equals(final Object obj) {
         LinePlotViewRepresentation other = (LinePlotViewRepresentation)obj;
         return new EqualsBuilder()
                 .append(m_keyedDataset, other.m_keyedDataset)
+                .append(m_binaryDataset, other.m_binaryDataset)
+                .append(m_enableDownsampling, other.m_enableDownsampling)
                 .append(m_showLegend, other.m_showLegend)
                 .append(m_autoRangeAxes, other.m_autoRangeAxes)
                 .append(m_enforceOrigin, other.m_enforceOrigin)
@@ -834,6 +887,8 @@ public boolean equals(final Object obj) {
     public int hashCode() {
         return new HashCodeBuilder()
                 .append(m_keyedDataset)
+                .append(m_binaryDataset)
+                .append(m_enableDownsampling)
                 .append(m_showLegend)
                 .append(m_autoRangeAxes)
                 .append(m_enforceOrigin)
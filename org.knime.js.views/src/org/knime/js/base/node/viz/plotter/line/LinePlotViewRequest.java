@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.line;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewRequest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Request issued by the line plot view to fetch a downsample of the lines for the visible x-range, e.g. after zooming.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class LinePlotViewRequest extends JSONViewRequest {
+
+    private String m_xColumn;
+    private String[] m_yColumns;
+    private Double m_xMin;
+    private Double m_xMax;
+    private int m_width;
+
+    /**
+     * @return the name of the x-column, or null if the rows are plotted by their index
+     */
+    public String getxColumn() {
+        return m_xColumn;
+    }
+
+    /**
+     * @param xColumn the xColumn to set
+     */
+    public void setxColumn(final String xColumn) {
+        m_xColumn = xColumn;
+    }
+
+    /**
+     * @return the names of the plotted y-columns
+     */
+    public String[] getyColumns() {
+        return m_yColumns;
+    }
+
+    /**
+     * @param yColumns the yColumns to set
+     */
+    public void setyColumns(final String[] yColumns) {
+        m_yColumns = yColumns;
+    }
+
+    /**
+     * @return the lower bound of the visible x-range, or null for the full range
+     */
+    public Double getxMin() {
+        return m_xMin;
+    }
+
+    /**
+     * @param xMin the xMin to set
+     */
+    public void setxMin(final Double xMin) {
+        m_xMin = xMin;
+    }
+
+    /**
+     * @return the upper bound of the visible x-range, or null for the full range
+     */
+    public Double getxMax() {
+        return m_xMax;
+    }
+
+    /**
+     * @param xMax the xMax to set
+     */
+    public void setxMax(final Double xMax) {
+        m_xMax = xMax;
+    }
+
+    /**
+     * @return the width of the data area of the plot in pixels
+     */
+    public int getWidth() {
+        return m_width;
+    }
+
+    /**
+     * @param width the width to set
+     */
+    public void setWidth(final int width) {
+        m_width = width;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        LinePlotViewRequest other = (LinePlotViewRequest)obj;
+        return new EqualsBuilder()
+                .append(m_xColumn, other.m_xColumn)
+                .append(m_yColumns, other.m_yColumns)
+                .append(m_xMin, other.m_xMin)
+                .append(m_xMax, other.m_xMax)
+                .append(m_width, other.m_width)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_xColumn)
+                .append(m_yColumns)
+                .append(m_xMin)
+                .append(m_xMax)
+                .append(m_width)
+                .toHashCode();
+    }
+}
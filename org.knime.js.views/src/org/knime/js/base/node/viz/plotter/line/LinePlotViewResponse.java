@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.line;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.base.node.viz.plotter.BinaryKeyedDataset;
+import org.knime.js.core.JSONViewResponse;
+import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Response to a {@link LinePlotViewRequest}, containing the rows of the downsample of the requested x-range.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class LinePlotViewResponse extends JSONViewResponse<LinePlotViewRequest> {
+
+    private JSONKeyedValues2DDataset m_keyedDataset;
+    private BinaryKeyedDataset m_binaryDataset;
+    private String m_error;
+
+    /**
+     * @param viewRequest the request this response belongs to
+     */
+    public LinePlotViewResponse(final LinePlotViewRequest viewRequest) {
+        super(viewRequest);
+    }
+
+    /**
+     * @return the dataset containing the rows of the downsample, without rows if they are binary encoded
+     */
+    public JSONKeyedValues2DDataset getKeyedDataset() {
+        return m_keyedDataset;
+    }
+
+    /**
+     * @param keyedDataset the keyedDataset to set
+     */
+    public void setKeyedDataset(final JSONKeyedValues2DDataset keyedDataset) {
+        m_keyedDataset = keyedDataset;
+    }
+
+    /**
+     * @return the binary encoded rows of the downsample, or null if the rows are part of the keyed dataset
+     */
+    public BinaryKeyedDataset getBinaryDataset() {
+        return m_binaryDataset;
+    }
+
+    /**
+     * @param binaryDataset the binaryDataset to set
+     */
+    public void setBinaryDataset(final BinaryKeyedDataset binaryDataset) {
+        m_binaryDataset = binaryDataset;
+    }
+
+    /**
+     * @return the error
+     */
+    public String getError() {
+        return m_error;
+    }
+
+    /**
+     * @param error the error to set
+     */
+    public void setError(final String error) {
+        m_error = error;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        LinePlotViewResponse other = (LinePlotViewResponse)obj;
+        return new EqualsBuilder()
+                .append(m_keyedDataset, other.m_keyedDataset)
+                .append(m_binaryDataset, other.m_binaryDataset)
+                .append(m_error, other.m_error)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_keyedDataset)
+                .append(m_binaryDataset)
+                .append(m_error)
+                .toHashCode();
+    }
+}
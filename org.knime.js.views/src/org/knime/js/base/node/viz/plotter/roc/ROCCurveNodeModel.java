@@ -51,9 +51,7 @@
 import java.awt.Color;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 
 import org.knime.base.data.xml.SvgCell;
 import org.knime.base.node.viz.roc.ROCCalculator;
@@ -236,20 +234,16 @@ protected void performExecuteCreateView(final PortObject[] inData, final Executi
                 // Fix for AP-5696: JS ROC Plot chokes if some of the previously selected cols are no longer available
                 FilterResult res = m_config.getRocSettings().getNumericCols().applyTo(table.getSpec());
 
-                ROCCalculator calc = new ROCCalculator(Arrays.asList(res.getIncludes()),
+                // all score columns are read in one pass and the curves are computed in parallel
+                ROCMultiCurveCalculator calc = new ROCMultiCurveCalculator(Arrays.asList(res.getIncludes()),
                     m_config.getRocSettings().getClassColumn(), m_config.getRocSettings().getMaxPoints(),
                     m_config.getRocSettings().getPositiveClass().toString(),
                     m_config.getIgnoreMissingValues());
 
                 calc.calculateCurveData(table, exec);
 
-                // Make curves serializable
-                List<ROCCurve> calcCurves = calc.getOutputCurves();
-                JSONROCCurve[] curves = new JSONROCCurve[calcCurves.size()];
-                for (int i = 0; i < calcCurves.size(); i++) {
-                    curves[i] = new JSONROCCurve(calcCurves.get(i));
-                }
-                representation.setCurves(curves);
+                List<JSONROCCurve> calcCurves = calc.getOutputCurves();
+                representation.setCurves(calcCurves.toArray(new JSONROCCurve[0]));
 
                 if (colorTable != null) {
                     HashMap<String, String> colors = new HashMap<>();
@@ -351,30 +345,6 @@ private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
         return c;
     }
 
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        }
-        return -1;
-    }
-
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value : linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
-        }
-        return symbolMap;
-    }
-
     private String getColorForColumn(final String colKey, final JSONDataTable colorTable) {
         if (colKey != null && colorTable != null) {
             for (int row = 0; row < colorTable.getRows().length; row++) {
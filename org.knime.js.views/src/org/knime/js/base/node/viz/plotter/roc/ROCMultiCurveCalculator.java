@@ -0,0 +1,374 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.roc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import org.knime.base.node.viz.roc.ROCCalculator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Computes the ROC curves of several score columns at once. Instead of sorting the table once per score column, the
+ * class column and the score columns are read into primitive arrays in a single pass over the table and the curves
+ * are then computed in parallel.
+ *
+ * <p>
+ * As {@link ROCCalculator}, a point is added for every row in the order of the descending scores, rows with equal
+ * scores are kept in the order of the table and rows with a missing score come last.
+ *
+ * <p>
+ * If the values of all score columns don't fit into {@link #MAX_CACHED_VALUES}, the score columns are processed in
+ * batches, each of them reading the table once. The number of curves computed at the same time is limited by the
+ * number of processors and by {@link #MAX_CURVE_VALUES}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ROCMultiCurveCalculator {
+
+    /** The maximum number of score values which are held in memory at the same time. */
+    static final long MAX_CACHED_VALUES = 50_000_000L;
+
+    /**
+     * The maximum number of values which are allocated at the same time by the curves computed in parallel. A curve
+     * needs four values per row, two row indices and the two coordinates of its point.
+     */
+    static final long MAX_CURVE_VALUES = 30_000_000L;
+
+    /** Class of a row which doesn't belong to the positive class. */
+    static final byte NEGATIVE = 0;
+
+    /** Class of a row which belongs to the positive class. */
+    static final byte POSITIVE = 1;
+
+    /** Class of a row with a missing class value. */
+    static final byte MISSING = 2;
+
+    private final List<String> m_curves;
+
+    private final String m_classCol;
+
+    private final int m_maxPoints;
+
+    private final String m_posClass;
+
+    private final boolean m_ignoreMissingValues;
+
+    private final List<JSONROCCurve> m_outCurves = new ArrayList<JSONROCCurve>();
+
+    private BufferedDataTable m_outTable;
+
+    private String m_warningMessage;
+
+    private boolean m_hasMissingValues;
+
+    /**
+     * @param curves the names of the score columns
+     * @param classCol the name of the class column
+     * @param maxPoints the maximum number of points of each curve, -1 to disable downsampling
+     * @param posClass the value of the positive class
+     * @param ignoreMissingValues true if rows with missing class or score values are ignored, false if they are
+     *            treated as negative rows or rows with the lowest score respectively
+     */
+    ROCMultiCurveCalculator(final List<String> curves, final String classCol, final int maxPoints,
+        final String posClass, final boolean ignoreMissingValues) {
+        m_curves = curves;
+        m_classCol = classCol;
+        m_maxPoints = maxPoints;
+        m_posClass = posClass;
+        m_ignoreMissingValues = ignoreMissingValues;
+    }
+
+    /**
+     * Computes the curves and the table with the area under each curve.
+     *
+     * @param table the table with the class and score columns
+     * @param exec the execution context, used to create the output table
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    void calculateCurveData(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        m_outCurves.clear();
+        m_warningMessage = null;
+        m_hasMissingValues = false;
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int classIndex = spec.findColumnIndex(m_classCol);
+        final int[] scoreIndices = m_curves.stream().mapToInt(spec::findColumnIndex).toArray();
+        if (table.size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                "The ROC curve can be computed for at most " + (Integer.MAX_VALUE - 8) + " rows.");
+        }
+        final int numRows = (int)table.size();
+        final int batchSize =
+            (int)Math.max(1, Math.min(scoreIndices.length, MAX_CACHED_VALUES / Math.max(1, numRows)));
+
+        final BufferedDataContainer outCont = exec.createDataContainer(ROCCalculator.OUT_SPEC);
+        byte[] classes = null;
+        for (int from = 0; from < scoreIndices.length; from += batchSize) {
+            final int to = Math.min(scoreIndices.length, from + batchSize);
+            final double batchFraction = (to - from) / (double)scoreIndices.length;
+            exec.setMessage("Reading scores");
+            final double[][] scores = new double[to - from][numRows];
+            classes = readColumns(table, numRows, classIndex, Arrays.copyOfRange(scoreIndices, from, to), classes,
+                scores, exec.createSubProgress(0.5 * batchFraction));
+
+            exec.setMessage("Calculating curves");
+            final ExecutionMonitor curveProgress = exec.createSubProgress(0.5 * batchFraction);
+            final JSONROCCurve[] curves = new JSONROCCurve[scores.length];
+            final AtomicInteger done = new AtomicInteger();
+            final AtomicInteger next = new AtomicInteger();
+            final int parallelism = (int)Math.max(1, Math.min(
+                Math.min(scores.length, Runtime.getRuntime().availableProcessors()),
+                MAX_CURVE_VALUES / (4L * Math.max(1, numRows))));
+            final BooleanSupplier canceled = () -> {
+                try {
+                    curveProgress.checkCanceled();
+                    return false;
+                } catch (CanceledExecutionException e) {
+                    return true;
+                }
+            };
+            final byte[] batchClasses = classes;
+            // each worker takes the next curve until all curves are computed
+            IntStream.range(0, parallelism).parallel().forEach(w -> {
+                for (int i = next.getAndIncrement(); i < scores.length && !canceled.getAsBoolean();
+                        i = next.getAndIncrement()) {
+                    curves[i] = computeCurve(m_curves.get(from + i), scores[i], batchClasses, m_ignoreMissingValues,
+                        m_maxPoints);
+                    curveProgress.setProgress(done.incrementAndGet() / (double)scores.length);
+                }
+            });
+            exec.checkCanceled();
+            for (JSONROCCurve curve : curves) {
+                m_outCurves.add(curve);
+                outCont.addRowToTable(new DefaultRow(new RowKey(curve.getName()), new DoubleCell(curve.getArea())));
+            }
+        }
+        outCont.close();
+        m_outTable = outCont.getTable();
+        if (m_hasMissingValues && !m_ignoreMissingValues) {
+            m_warningMessage = "Table contains missing values. Rows with a missing class are treated as negative, "
+                + "missing scores as lowest score.";
+        }
+    }
+
+    /**
+     * Reads the class column, unless it has been read for a previous batch, and the score columns in one pass.
+     * Missing scores and missing classes are stored as {@link Double#NaN} and {@link #MISSING} respectively.
+     */
+    private byte[] readColumns(final BufferedDataTable table, final int numRows, final int classIndex,
+        final int[] scoreIndices, final byte[] classes, final double[][] scores, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final boolean readClasses = classes == null;
+        final byte[] result = readClasses ? new byte[numRows] : classes;
+        final int[] materialized = Arrays.copyOf(scoreIndices, scoreIndices.length + 1);
+        materialized[scoreIndices.length] = classIndex;
+        int row = 0;
+        try (CloseableRowIterator it = table.filter(TableFilter.materializeCols(materialized))) {
+            while (it.hasNext()) {
+                final DataRow dataRow = it.next();
+                if (readClasses) {
+                    final DataCell classCell = dataRow.getCell(classIndex);
+                    if (classCell.isMissing()) {
+                        result[row] = MISSING;
+                        m_hasMissingValues = true;
+                    } else {
+                        result[row] = classCell.toString().equals(m_posClass) ? POSITIVE : NEGATIVE;
+                    }
+                }
+                for (int c = 0; c < scoreIndices.length; c++) {
+                    final DataCell scoreCell = dataRow.getCell(scoreIndices[c]);
+                    if (scoreCell.isMissing()) {
+                        scores[c][row] = Double.NaN;
+                        m_hasMissingValues = true;
+                    } else {
+                        scores[c][row] = ((DoubleValue)scoreCell).getDoubleValue();
+                    }
+                }
+                row++;
+                if ((row & 0xFFF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(row / (double)numRows);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes a single ROC curve. The indices of the rows are sorted by descending score and a point is added for
+     * every row, equal scores are kept in the order of the rows and missing scores are sorted last. Apart from the
+     * scores, only two arrays of row indices and the two arrays of the points are allocated.
+     *
+     * @param name the name of the curve
+     * @param scores the scores of all rows, {@link Double#NaN} for missing scores
+     * @param classes the classes of all rows
+     * @param ignoreMissingValues true if rows with missing class or score are ignored, false if a missing class is
+     *            treated as negative class and missing scores are treated as lowest score
+     * @param maxPoints the maximum number of points of the curve, -1 to disable downsampling
+     * @return the curve
+     */
+    static JSONROCCurve computeCurve(final String name, final double[] scores, final byte[] classes,
+        final boolean ignoreMissingValues, final int maxPoints) {
+        final int[] order = new int[scores.length];
+        int numRows = 0;
+        int numPos = 0;
+        int numNeg = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (ignoreMissingValues && (Double.isNaN(scores[i]) || classes[i] == MISSING)) {
+                continue;
+            }
+            order[numRows++] = i;
+            if (classes[i] == POSITIVE) {
+                numPos++;
+            } else {
+                numNeg++;
+            }
+        }
+        sortByDescendingScore(order, numRows, scores);
+
+        final double totalPos = Math.max(1, numPos);
+        final double totalNeg = Math.max(1, numNeg);
+        final double[] x = new double[numRows + 1];
+        final double[] y = new double[numRows + 1];
+        int tp = 0;
+        int fp = 0;
+        double area = 0;
+        for (int k = 0; k < numRows; k++) {
+            if (classes[order[k]] == POSITIVE) {
+                tp++;
+            } else {
+                fp++;
+            }
+            x[k + 1] = fp / totalNeg;
+            y[k + 1] = tp / totalPos;
+            area += (x[k + 1] - x[k]) * (y[k + 1] + y[k]) / 2;
+        }
+        return new JSONROCCurve(name, x, y, area, maxPoints);
+    }
+
+    /**
+     * Sorts the first <code>length</code> row indices by descending score with a stable bottom-up merge sort, rows
+     * with equal scores keep their order and {@link Double#NaN} scores are sorted last.
+     */
+    private static void sortByDescendingScore(final int[] order, final int length, final double[] scores) {
+        int[] src = order;
+        int[] dst = new int[length];
+        for (long width = 1; width < length; width *= 2) {
+            for (long start = 0; start < length; start += 2 * width) {
+                final int mid = (int)Math.min(start + width, length);
+                final int end = (int)Math.min(start + 2 * width, length);
+                int a = (int)start;
+                int b = mid;
+                int k = (int)start;
+                while (a < mid && b < end) {
+                    // only take the right row first if it has a strictly higher score, keeping the sort stable
+                    dst[k++] = isHigher(scores[src[b]], scores[src[a]]) ? src[b++] : src[a++];
+                }
+                while (a < mid) {
+                    dst[k++] = src[a++];
+                }
+                while (b < end) {
+                    dst[k++] = src[b++];
+                }
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, length);
+        }
+    }
+
+    /**
+     * @return true if the first score is higher than the second one, {@link Double#NaN} is the lowest score
+     */
+    private static boolean isHigher(final double score, final double other) {
+        return !Double.isNaN(score) && (Double.isNaN(other) || score > other);
+    }
+
+    /**
+     * @return the computed curves in the order of the score columns
+     */
+    List<JSONROCCurve> getOutputCurves() {
+        return m_outCurves;
+    }
+
+    /**
+     * @return the table with the area under each curve
+     */
+    BufferedDataTable getOutputTable() {
+        return m_outTable;
+    }
+
+    /**
+     * @return a warning which occurred during the calculation, or null
+     */
+    String getWarningMessage() {
+        return m_warningMessage;
+    }
+}
@@ -53,11 +53,8 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.data.DataColumnSpec;
@@ -79,6 +76,7 @@
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.WizardNode;
 import org.knime.core.node.wizard.WizardViewCreator;
+import org.knime.js.base.node.viz.plotter.OrdinalDictionary;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.JSONDataTable.JSONDataTableRow;
 import org.knime.js.core.JSONDataTableSpec;
@@ -160,6 +158,10 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                 String[] rowKeys = new String[tableSpec.getNumRows()];
                 JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[tableSpec.getNumRows()];
                 JSONDataTableRow[] tableRows = table.getRows();
+                OrdinalDictionary[] dictionaries = new OrdinalDictionary[numColumns];
+                for (int colID = 0; colID < numColumns; colID++) {
+                    dictionaries[colID] = OrdinalDictionary.of(tableSpec.getPossibleValues().get(colID));
+                }
                 for (int rowID = 0; rowID < rowValues.length; rowID++) {
                     JSONDataTableRow currentRow = tableRows[rowID];
                     rowKeys[rowID] = currentRow.getRowKey();
@@ -169,7 +171,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                         if (tableData[colID] instanceof Double) {
                             rowData[colID] = (Double)tableData[colID];
                         } else if (tableData[colID] instanceof String) {
-                            rowData[colID] = ((Integer)getOrdinalFromStringValue((String)tableData[colID], table, colID)).doubleValue();
+                            rowData[colID] = (double)(dictionaries[colID] == null ? OrdinalDictionary.UNKNOWN_ORDINAL
+                                : dictionaries[colID].getOrdinal((String)tableData[colID]));
                         }
                     }
                     rowValues[rowID] = new JSONKeyedValuesRow(currentRow.getRowKey(), rowData);
@@ -182,9 +185,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
                 JSONKeyedValues2DDataset dataset =
                     new JSONKeyedValues2DDataset(tableId, tableSpec.getColNames(), rowValues);
                 for (int col = 0; col < tableSpec.getNumColumns(); col++) {
-                    if (tableSpec.getColTypes()[col].equals(JSTypes.STRING)
-                        && tableSpec.getPossibleValues().get(col) != null) {
-                        dataset.setSymbol(getSymbolMap(tableSpec.getPossibleValues().get(col)), col);
+                    if (tableSpec.getColTypes()[col].equals(JSTypes.STRING) && dictionaries[col] != null) {
+                        dataset.setSymbol(dictionaries[col].getSymbolMap(), col);
                     }
                 }
                 m_representation.setKeyedDataset(dataset);
@@ -214,30 +216,6 @@ private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
         return c;
     }
 
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        }
-        return -1;
-    }
-
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value: linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
-        }
-        return symbolMap;
-    }
-
     /**
      * {@inheritDoc}
      */
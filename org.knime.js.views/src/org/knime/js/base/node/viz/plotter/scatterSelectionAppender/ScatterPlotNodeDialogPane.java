@@ -140,6 +140,9 @@ public class ScatterPlotNodeDialogPane extends NodeDialogPane {
     private final DialogComponentColorChooser m_backgroundColorChooser;
     private final JCheckBox m_showWarningInViewCheckBox;
     private final JCheckBox m_reportOnMissingValuesCheckBox;
+    private final JCheckBox m_binaryDataEncodingCheckBox;
+    private final JCheckBox m_enableDensityBinningCheckBox;
+    private final JSpinner m_densityRawPointsThresholdSpinner;
     private final DialogComponentDateTimeOptions m_dateTimeFormats;
 
     /**
@@ -206,6 +209,11 @@ public ScatterPlotNodeDialogPane() {
 
         m_showWarningInViewCheckBox = new JCheckBox("Show warnings in view");
         m_reportOnMissingValuesCheckBox = new JCheckBox("Report on missing values");
+        m_binaryDataEncodingCheckBox = new JCheckBox("Transfer data to the view in binary format");
+        m_enableDensityBinningCheckBox = new JCheckBox("Bin points into a density grid");
+        m_densityRawPointsThresholdSpinner =
+            new JSpinner(new SpinnerNumberModel(ScatterPlotViewConfig.DEFAULT_DENSITY_RAW_POINTS_THRESHOLD, 0,
+                Integer.MAX_VALUE, 100));
 
         m_enableViewConfigCheckBox.addChangeListener(new ChangeListener() {
 
@@ -228,6 +236,13 @@ public void stateChanged(final ChangeEvent e) {
                 enableSelectionControls();
             }
         });
+        m_enableDensityBinningCheckBox.addChangeListener(new ChangeListener() {
+
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                enableDensityBinningControls();
+            }
+        });
         m_showGridCheckBox.addChangeListener(new ChangeListener() {
 
             @Override
@@ -280,6 +295,16 @@ private Component initOptionsPanel() {
         c.gridx = 0;
         c.gridy++;
         panel.add(m_reportOnMissingValuesCheckBox, c);
+        c.gridy++;
+        panel.add(m_binaryDataEncodingCheckBox, c);
+        c.gridy++;
+        panel.add(m_enableDensityBinningCheckBox, c);
+        c.gridy++;
+        c.gridwidth = 1;
+        panel.add(new JLabel("Plot points below number of visible rows: "), c);
+        c.gridx++;
+        m_densityRawPointsThresholdSpinner.setPreferredSize(new Dimension(100, TEXT_FIELD_SIZE));
+        panel.add(m_densityRawPointsThresholdSpinner, c);
 
         return panel;
     }
@@ -573,6 +598,13 @@ private void enableCrosshairControls() {
         m_snapToPointsCheckBox.setEnabled(enable);
     }
 
+    private void enableDensityBinningControls() {
+        boolean enable = m_enableDensityBinningCheckBox.isSelected();
+        m_densityRawPointsThresholdSpinner.setEnabled(enable);
+        // the maximum number of rows does not apply to binned points
+        m_maxRowsSpinner.setEnabled(!enable);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -651,6 +683,10 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
 
         m_showWarningInViewCheckBox.setSelected(m_config.getShowWarningInView());
         m_reportOnMissingValuesCheckBox.setSelected(m_config.getReportOnMissingValues());
+        m_binaryDataEncodingCheckBox.setSelected(m_config.getBinaryDataEncoding());
+        m_enableDensityBinningCheckBox.setSelected(m_config.getEnableDensityBinning());
+        m_densityRawPointsThresholdSpinner.setValue(m_config.getDensityRawPointsThreshold());
+        enableDensityBinningControls();
 
         m_dateTimeFormats.loadSettingsFromModel(m_config.getDateTimeFormats());
 
@@ -717,6 +753,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
 
         m_config.setShowWarningInView(m_showWarningInViewCheckBox.isSelected());
         m_config.setReportOnMissingValues(m_reportOnMissingValuesCheckBox.isSelected());
+        m_config.setBinaryDataEncoding(m_binaryDataEncodingCheckBox.isSelected());
+        m_config.setEnableDensityBinning(m_enableDensityBinningCheckBox.isSelected());
+        m_config.setDensityRawPointsThreshold((Integer)m_densityRawPointsThresholdSpinner.getValue());
 
         m_config.setDateTimeFormats((SettingsModelDateTimeOptions)m_dateTimeFormats.getModel());
 
@@ -48,18 +48,10 @@
  */
 package org.knime.js.base.node.viz.plotter.scatterSelectionAppender;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
@@ -76,8 +68,10 @@
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.data.property.filter.FilterHandler;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -85,6 +79,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -92,13 +87,15 @@
 import org.knime.core.node.port.image.ImagePortObjectSpec;
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.core.node.web.ValidationError;
-import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.JSONDataTableRow;
+import org.knime.js.base.node.viz.plotter.DensityBinner;
+import org.knime.js.base.node.viz.plotter.DensityGrid;
+import org.knime.js.base.node.viz.plotter.KeyedDatasetBuilder;
+import org.knime.js.base.util.selection.SelectionIndex;
+import org.knime.js.base.util.selection.SelectionRanges;
 import org.knime.js.core.JSONDataTableSpec;
-import org.knime.js.core.JSONDataTableSpec.JSTypes;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.color.JSONColorModel;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
-import org.knime.js.core.datasets.JSONKeyedValuesRow;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -110,7 +107,8 @@
  * @author Christian Albrecht, KNIME AG, Zurich, Switzerland
  */
 public class ScatterPlotNodeModel extends AbstractSVGWizardNodeModel<ScatterPlotViewRepresentation,
-        ScatterPlotViewValue> implements LayoutTemplateProvider/*,CSSModifiable*/ {
+        ScatterPlotViewValue> implements LayoutTemplateProvider, BufferedDataTableHolder,
+        JSONViewRequestHandler<ScatterPlotViewRequest, ScatterPlotViewResponse>/*,CSSModifiable*/ {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(ScatterPlotNodeModel.class);
 
@@ -122,6 +120,12 @@ public class ScatterPlotNodeModel extends AbstractSVGWizardNodeModel<ScatterPlot
 
     static final String ROWS_LIMITATION_WARNING_ID = "rowsLimitation";
 
+    /** The width and height of a cell of the density grid in pixels. */
+    private static final int DENSITY_BIN_SIZE = 8;
+
+    /** The largest number of bins per axis of the density grid, regardless of the size of the plot. */
+    private static final int MAX_DENSITY_BINS = 512;
+
     /**
      * Creates a new model instance.
      * @param viewName the view name
@@ -153,7 +157,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         DataTableSpec out = tableSpec;
         if (m_config.getEnableSelection()) {
-            ColumnRearranger rearranger = createColumnAppender(tableSpec, null);
+            ColumnRearranger rearranger = createColumnAppender(tableSpec, SelectionIndex.of(null), null);
             out = rearranger.createSpec();
         }
 
@@ -166,7 +170,12 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         return new PortObjectSpec[]{imageSpec, out};
     }
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
+    /**
+     * @param selection the selected row keys, used if no selection ranges are given
+     * @param selectionRanges the selected row indices, or null if the selection is given by row keys
+     */
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final SelectionIndex selection,
+        final SelectionRanges selectionRanges) {
         String newColName = m_config.getSelectionColumnName();
         if (newColName == null || newColName.trim().isEmpty()) {
             newColName = ScatterPlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
@@ -181,15 +190,14 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
 
             @Override
             public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
+                // the maximum number of rows does not apply to binned points
+                if (++m_rowIndex > m_config.getMaxRows() && !m_config.getEnableDensityBinning()) {
                     return DataType.getMissingCell();
                 }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    }
+                if (selectionRanges != null) {
+                    return BooleanCellFactory.create(selectionRanges.contains(m_rowIndex - 1));
                 }
-                return BooleanCell.FALSE;
+                return BooleanCellFactory.create(selection.contains(row.getKey()));
             }
         };
         rearranger.append(fac);
@@ -321,11 +329,11 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
 
             ScatterPlotViewValue viewValue = getViewValue();
             if (m_config.getEnableSelection()) {
-                List<String> selectionList = null;
-                if (viewValue != null && viewValue.getSelection() != null) {
-                    selectionList = Arrays.asList(viewValue.getSelection());
-                }
-                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
+                SelectionRanges selectionRanges = getSelectionRanges(viewValue);
+                SelectionIndex selection = SelectionIndex
+                    .of(viewValue == null || selectionRanges != null ? null : viewValue.getSelection());
+                ColumnRearranger rearranger =
+                    createColumnAppender(m_table.getDataTableSpec(), selection, selectionRanges);
                 out = exec.createColumnRearrangeTable(m_table, rearranger, exec);
             }
             setSubscriptionFilterIds(m_table.getDataTableSpec());
@@ -334,6 +342,27 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         return new PortObject[]{svgImageFromView, out};
     }
 
+    /**
+     * @return the selection ranges of the view value, or null if there are none or they don't refer to the rows of
+     *         the current dataset, in which case the selected row keys are used. The rows are identified by their
+     *         fingerprint since the table id changes whenever the workflow is loaded.
+     */
+    private SelectionRanges getSelectionRanges(final ScatterPlotViewValue viewValue) {
+        // the points of a density grid are a subset of the rows, their indices don't refer to the input table
+        if (viewValue == null || viewValue.getSelectionRanges() == null || m_config.getEnableDensityBinning()
+            || getViewRepresentation().getDatasetFingerprint() == null
+            || !getViewRepresentation().getDatasetFingerprint().equals(viewValue.getSelectionDatasetId())) {
+            return null;
+        }
+        try {
+            SelectionRanges ranges = SelectionRanges.of(viewValue.getSelectionRanges());
+            return ranges.getEnd() <= m_table.size() ? ranges : null;
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Invalid selection ranges, falling back to the selected row keys: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
     private void setSubscriptionFilterIds(final DataTableSpec spec) {
         ScatterPlotViewRepresentation viewRepresentation = getViewRepresentation();
         if (viewRepresentation != null) {
@@ -349,86 +378,45 @@ private void setSubscriptionFilterIds(final DataTableSpec spec) {
     }
 
     private JSONKeyedValues2DDataset createKeyedDataset(final ExecutionContext exec) throws CanceledExecutionException {
-        ColumnRearranger c = createNumericColumnRearranger(m_table.getDataTableSpec());
-        BufferedDataTable filteredTable = exec.createColumnRearrangeTable(m_table, c, exec.createSubProgress(0.1));
-        exec.setProgress(0.1);
         //construct dataset
-        if (m_config.getMaxRows() < filteredTable.size()) {
+        if (!m_config.getEnableDensityBinning() && m_config.getMaxRows() < m_table.size()) {
             String msg = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
             setWarningMessage(msg);
             if (m_config.getShowWarningInView()) {
                 getViewRepresentation().getWarnings().setWarningMessage(msg, ROWS_LIMITATION_WARNING_ID);
             }
         }
-        final JSONDataTable table = JSONDataTable.newBuilder()
-                .setDataTable(filteredTable)
+        final KeyedDatasetBuilder builder = KeyedDatasetBuilder.newBuilder()
+                .setDataTable(m_table)
                 .setId(getTableId(0))
-                .setFirstRow(1)
                 .setMaxRows(m_config.getMaxRows())
-                .build(exec.createSubProgress(0.8));
-        exec.setProgress(0.9);
-        ExecutionMonitor datasetExecutionMonitor = exec.createSubProgress(0.1);
-        final JSONDataTableSpec tableSpec = table.getSpec();
-        int numColumns = tableSpec.getNumColumns();
-        String[] rowKeys = new String[tableSpec.getNumRows()];
-        JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[tableSpec.getNumRows()];
-        JSONDataTableRow[] tableRows = table.getRows();
-        boolean hasUnsupportedValues = false;  // NaN or Inf
-        for (int rowID = 0; rowID < rowValues.length; rowID++) {
-            JSONDataTableRow currentRow = tableRows[rowID];
-            rowKeys[rowID] = currentRow.getRowKey();
-            Double[] rowData = new Double[numColumns];
-            Object[] tableData = currentRow.getData();
-            for (int colID = 0; colID < numColumns; colID++) {
-                if (tableData[colID] == null) {
-                    hasUnsupportedValues = true;
-                    rowData[colID] = null;
-                } else if (tableData[colID] instanceof Double) {
-                    Double value = (Double)tableData[colID];
-                    if (Double.isNaN(value) || Double.isInfinite(value)) {
-                        hasUnsupportedValues = true;
-                        value = null;
-                    }
-                    rowData[colID] = value;
-                } else if (tableData[colID] instanceof Long) {
-                    rowData[colID] = ((Long)tableData[colID]).doubleValue();
-                } else if (tableData[colID] instanceof String) {
-                    String data = (String)tableData[colID];
-                    if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Local)")) {
-                        rowData[colID] = ((Long)LocalDateTime.parse(data).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date")) {
-                        rowData[colID] = ((Long)LocalDate.parse(data).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Time")) {
-                        rowData[colID] = ((Long)LocalTime.parse(data).atDate(LocalDate.now()).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Zoned)")) {
-                        rowData[colID] = ((Long)ZonedDateTime.parse(data).toInstant().toEpochMilli()).doubleValue();
-                    } else {
-                        // String
-                        rowData[colID] = ((Integer)getOrdinalFromStringValue(data, table, colID)).doubleValue();
-                    }
-                }
-            }
-            rowValues[rowID] = new JSONKeyedValuesRow(currentRow.getRowKey(), rowData);
-            rowValues[rowID].setColor(tableSpec.getRowColorValues()[rowID]);
-            datasetExecutionMonitor.setProgress(((double)rowID) / rowValues.length, "Creating dataset, processing row "
-                + rowID + " of " + rowValues.length + ".");
+                .setOmitNonFiniteValues(true)
+                .setBinaryEncoding(m_config.getBinaryDataEncoding());
+        ExecutionMonitor datasetMonitor = exec;
+        if (m_config.getEnableDensityBinning()) {
+            // the initial columns are binned in the range of the initial axes, or plotted as points if few enough
+            final ScatterPlotViewValue viewValue = getViewValue();
+            setDensityColumns(viewValue);
+            final DensityBinner binner =
+                new DensityBinner(m_table, viewValue.getxColumn(), viewValue.getyColumn());
+            binner.bin(toBound(viewValue.getxAxisMin()), toBound(viewValue.getxAxisMax()),
+                toBound(viewValue.getyAxisMin()), toBound(viewValue.getyAxisMax()),
+                getNumDensityBins(m_config.getImageWidth()), getNumDensityBins(m_config.getImageHeight()),
+                m_config.getDensityRawPointsThreshold(), exec.createSubProgress(0.7));
+            final DensityGrid grid = binner.getGrid();
+            builder.setRowIndices(grid == null ? binner.getRowIndices() : new long[0]);
+            getViewRepresentation().setDensityGrid(grid);
+            datasetMonitor = exec.createSubProgress(0.3);
         }
+        final JSONKeyedValues2DDataset dataset = builder.build(datasetMonitor);
+        final JSONDataTableSpec tableSpec = builder.getSpec();
+        getViewRepresentation().setBinaryDataset(builder.getBinaryDataset());
+        getViewRepresentation().setDatasetFingerprint(builder.getRowKeysFingerprint());
 
-        if (hasUnsupportedValues && getViewRepresentation().getReportOnMissingValues()) {
+        if (builder.hasUnsupportedValues() && getViewRepresentation().getReportOnMissingValues()) {
             setWarningMessage("Table contains missing or unsupported values - these values will be omitted.");
         }
 
-        JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(getTableId(0), tableSpec.getColNames(), rowValues);
-        for (int col = 0; col < tableSpec.getNumColumns(); col++) {
-            if (tableSpec.getColTypes()[col].equals(JSTypes.STRING)
-                && tableSpec.getPossibleValues().get(col) != null) {
-                dataset.setSymbol(getSymbolMap(tableSpec.getPossibleValues().get(col)), col);
-            }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
-                dataset.setDateTimeFormat(tableSpec.getKnimeTypes()[col], col);
-            }
-        }
-
         JSONColorModel[] colorModels = tableSpec.getColorModels();
         if (colorModels != null && colorModels.length > 0) {
             dataset.setColorModels(colorModels);
@@ -447,39 +435,32 @@ private JSONKeyedValues2DDataset createKeyedDataset(final ExecutionContext exec)
         return dataset;
     }
 
-    private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
-        ColumnRearranger c = new ColumnRearranger(in);
-        for (DataColumnSpec colSpec : in) {
-            DataType type = colSpec.getType();
-            if (!type.isCompatible(DoubleValue.class) && !type.isCompatible(StringValue.class)) {
-                c.remove(colSpec.getName());
+    /**
+     * Sets the initial x- and y-column of the view if they are not available, same as after creating the dataset.
+     */
+    private void setDensityColumns(final ScatterPlotViewValue viewValue) {
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final List<String> allowedCols = new ArrayList<String>();
+        for (DataColumnSpec colSpec : spec) {
+            if (colSpec.getType().isCompatible(DoubleValue.class)
+                || colSpec.getType().isCompatible(StringValue.class)) {
+                allowedCols.add(colSpec.getName());
             }
         }
-        return c;
+        if (StringUtils.isEmpty(viewValue.getxColumn()) || !allowedCols.contains(viewValue.getxColumn())) {
+            viewValue.setxColumn(allowedCols.get(0));
+        }
+        if (StringUtils.isEmpty(viewValue.getyColumn()) || !allowedCols.contains(viewValue.getyColumn())) {
+            viewValue.setyColumn(allowedCols.get(allowedCols.size() > 1 ? 1 : 0));
+        }
     }
 
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        }
-        return -1;
+    private static double toBound(final Double bound) {
+        return bound == null ? Double.NaN : bound;
     }
 
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value : linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
-        }
-        return symbolMap;
+    private static int getNumDensityBins(final int size) {
+        return Math.min(Math.max(size / DENSITY_BIN_SIZE, 1), MAX_DENSITY_BINS);
     }
 
     /**
@@ -490,6 +471,89 @@ protected void performReset() {
         m_table = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        return new BufferedDataTable[]{m_table};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        // workflows saved before the table was kept for density binning requests have no internal tables
+        m_table = tables == null || tables.length == 0 ? null : tables[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScatterPlotViewRequest createEmptyViewRequest() {
+        return new ScatterPlotViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScatterPlotViewResponse handleRequest(final ScatterPlotViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final ScatterPlotViewResponse response = new ScatterPlotViewResponse(request);
+        try {
+            final BufferedDataTable table;
+            synchronized (getLock()) {
+                table = m_table;
+            }
+            if (table == null) {
+                throw new IllegalStateException("No table available, node needs to be executed.");
+            }
+            final DensityBinner binner = new DensityBinner(table, request.getxColumn(), request.getyColumn());
+            if (request.getSelectedCells() != null) {
+                // resolve the selected cells of the grid the view shows to the rows inside of them
+                exec.setMessage("Resolving selection...");
+                final DensityGrid grid = new DensityGrid();
+                grid.setxMin(request.getxMin());
+                grid.setxMax(request.getxMax());
+                grid.setyMin(request.getyMin());
+                grid.setyMax(request.getyMax());
+                grid.setNumXBins(request.getNumXBins());
+                grid.setNumYBins(request.getNumYBins());
+                response.setRowKeys(binner.getRowKeys(grid, request.getSelectedCells(), exec));
+                return response;
+            }
+            exec.setMessage("Binning points...");
+            binner.bin(toBound(request.getxMin()), toBound(request.getxMax()), toBound(request.getyMin()),
+                toBound(request.getyMax()), getNumDensityBins(request.getWidth()),
+                getNumDensityBins(request.getHeight()), m_config.getDensityRawPointsThreshold(),
+                exec.createSubProgress(0.7));
+            response.setDensityGrid(binner.getGrid());
+            if (binner.getGrid() == null) {
+                exec.setMessage("Creating dataset...");
+                final KeyedDatasetBuilder builder = KeyedDatasetBuilder.newBuilder()
+                        .setDataTable(table)
+                        .setId(getTableId(0))
+                        .setRowIndices(binner.getRowIndices())
+                        .setOmitNonFiniteValues(true)
+                        .setBinaryEncoding(m_config.getBinaryDataEncoding());
+                response.setKeyedDataset(builder.build(exec.createSubProgress(0.3)));
+                response.setBinaryDataset(builder.getBinaryDataset());
+            }
+        } catch (CanceledExecutionException e) {
+            // request was cancelled, no need for special treatment
+            throw e;
+        } catch (Exception e) {
+            // wrap all other exceptions for proper error handling
+            LOGGER.error("Scatter plot request could not be processed: " + e.getMessage(), e);
+            response.setError(e.getMessage());
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -649,6 +713,9 @@ private static void copyConfigToViewRepresentation(final ScatterPlotViewConfig c
 
         // added with 4.1
         representation.setEnforceOrigin(config.isEnforceOrigin());
+
+        // added with 5.12
+        representation.setEnableDensityBinning(config.getEnableDensityBinning());
     }
 
     private void copyValueToConfig() {
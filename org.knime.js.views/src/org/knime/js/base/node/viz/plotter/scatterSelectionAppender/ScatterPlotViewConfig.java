@@ -90,6 +90,12 @@ final class ScatterPlotViewConfig {
     static final String AUTO_RANGE_AXES = "autoRange";
     static final String ENFORCE_ORIGIN = "enforceOrigin";
     static final boolean DEFAULT_ENFORCE_ORIGIN = false;
+    static final String BINARY_DATA_ENCODING = "binaryDataEncoding";
+    static final boolean DEFAULT_BINARY_DATA_ENCODING = false;
+    static final String ENABLE_DENSITY_BINNING = "enableDensityBinning";
+    static final boolean DEFAULT_ENABLE_DENSITY_BINNING = false;
+    static final String DENSITY_RAW_POINTS_THRESHOLD = "densityRawPointsThreshold";
+    static final int DEFAULT_DENSITY_RAW_POINTS_THRESHOLD = 5000;
     static final String USE_DOMAIN_INFO = "useDomainInformation";
     static final String SHOW_GRID = "showGrid";
     static final String SHOW_CROSSHAIR = "showCrosshair";
@@ -146,6 +152,9 @@ final class ScatterPlotViewConfig {
     private boolean m_displayFullscreenButton = DEFAULT_DISPLAY_FULLSCREEN_BUTTON;
     private boolean m_autoRangeAxes = true;
     private boolean m_enforceOrigin = false;
+    private boolean m_binaryDataEncoding = DEFAULT_BINARY_DATA_ENCODING;
+    private boolean m_enableDensityBinning = DEFAULT_ENABLE_DENSITY_BINNING;
+    private int m_densityRawPointsThreshold = DEFAULT_DENSITY_RAW_POINTS_THRESHOLD;
     private boolean m_useDomainInfo = false;
     private boolean m_showGrid = true;
     private boolean m_showCrosshair = false;
@@ -252,6 +261,50 @@ public void setEnforceOrigin(final boolean enforceOrigin) {
         m_enforceOrigin = enforceOrigin;
     }
 
+    /**
+     * @return true if the plotted rows are transferred to the view in a binary encoding
+     */
+    public boolean getBinaryDataEncoding() {
+        return m_binaryDataEncoding;
+    }
+
+    /**
+     * @param binaryDataEncoding true if the plotted rows should be transferred to the view in a binary encoding
+     */
+    public void setBinaryDataEncoding(final boolean binaryDataEncoding) {
+        m_binaryDataEncoding = binaryDataEncoding;
+    }
+
+    /**
+     * @return true if the points are binned into a density grid which is refined when zooming into the view
+     */
+    public boolean getEnableDensityBinning() {
+        return m_enableDensityBinning;
+    }
+
+    /**
+     * @param enableDensityBinning true if the points should be binned into a density grid which is refined when
+     *            zooming into the view
+     */
+    public void setEnableDensityBinning(final boolean enableDensityBinning) {
+        m_enableDensityBinning = enableDensityBinning;
+    }
+
+    /**
+     * @return the largest number of points in the visible range which are plotted directly instead of being binned
+     */
+    public int getDensityRawPointsThreshold() {
+        return m_densityRawPointsThreshold;
+    }
+
+    /**
+     * @param densityRawPointsThreshold the largest number of points in the visible range which are plotted directly
+     *            instead of being binned
+     */
+    public void setDensityRawPointsThreshold(final int densityRawPointsThreshold) {
+        m_densityRawPointsThreshold = densityRawPointsThreshold;
+    }
+
     /**
      * @return the displayFullscreenButton
      */
@@ -1048,6 +1101,11 @@ public void saveSettings(final NodeSettingsWO settings) {
 
         //added with 4.4
         settings.addBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, getShowSelectedRowsOnly());
+
+        //added with 5.12
+        settings.addBoolean(BINARY_DATA_ENCODING, getBinaryDataEncoding());
+        settings.addBoolean(ENABLE_DENSITY_BINNING, getEnableDensityBinning());
+        settings.addInt(DENSITY_RAW_POINTS_THRESHOLD, getDensityRawPointsThreshold());
     }
 
     /** Loads parameters in NodeModel.
@@ -1141,6 +1199,12 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
 
         //added with 4.4
         setShowSelectedRowsOnly(settings.getBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, DEFAULT_SHOW_SELECTED_ROWS_ONLY));
+
+        //added with 5.12
+        setBinaryDataEncoding(settings.getBoolean(BINARY_DATA_ENCODING, DEFAULT_BINARY_DATA_ENCODING));
+        setEnableDensityBinning(settings.getBoolean(ENABLE_DENSITY_BINNING, DEFAULT_ENABLE_DENSITY_BINNING));
+        setDensityRawPointsThreshold(
+            settings.getInt(DENSITY_RAW_POINTS_THRESHOLD, DEFAULT_DENSITY_RAW_POINTS_THRESHOLD));
     }
 
     /** Loads parameters in Dialog.
@@ -1252,5 +1316,11 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
 
         //added with 4.4
         setShowSelectedRowsOnly(settings.getBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, DEFAULT_SHOW_SELECTED_ROWS_ONLY));
+
+        //added with 5.12
+        setBinaryDataEncoding(settings.getBoolean(BINARY_DATA_ENCODING, DEFAULT_BINARY_DATA_ENCODING));
+        setEnableDensityBinning(settings.getBoolean(ENABLE_DENSITY_BINNING, DEFAULT_ENABLE_DENSITY_BINNING));
+        setDensityRawPointsThreshold(
+            settings.getInt(DENSITY_RAW_POINTS_THRESHOLD, DEFAULT_DENSITY_RAW_POINTS_THRESHOLD));
     }
 }
@@ -57,6 +57,8 @@
 import org.knime.js.core.components.datetime.ConversionDateTimeFormat;
 import org.knime.js.core.components.datetime.SettingsModelDateTimeOptions;
 import org.knime.js.core.components.datetime.SettingsModelDateTimeOptions.JSONDateTimeOptions;
+import org.knime.js.base.node.viz.plotter.BinaryKeyedDataset;
+import org.knime.js.base.node.viz.plotter.DensityGrid;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
 import org.knime.js.core.warnings.JSONWarnings;
 
@@ -72,6 +74,10 @@
 public class ScatterPlotViewRepresentation extends JSONViewContent {
 
     private JSONKeyedValues2DDataset m_keyedDataset;
+    private BinaryKeyedDataset m_binaryDataset;
+    private DensityGrid m_densityGrid;
+    private boolean m_enableDensityBinning;
+    private String m_datasetFingerprint;
 
     private boolean m_showLegend;
     private boolean m_displayFullscreenButton;
@@ -134,6 +140,73 @@ public void setKeyedDataset(final JSONKeyedValues2DDataset keyedDataset) {
         m_keyedDataset = keyedDataset;
     }
 
+    /**
+     * @return the binary encoded rows of the keyed dataset, or null if the rows are part of the keyed dataset
+     * @since 5.12
+     */
+    public BinaryKeyedDataset getBinaryDataset() {
+        return m_binaryDataset;
+    }
+
+    /**
+     * @param binaryDataset the binary encoded rows of the keyed dataset to set
+     * @since 5.12
+     */
+    public void setBinaryDataset(final BinaryKeyedDataset binaryDataset) {
+        m_binaryDataset = binaryDataset;
+    }
+
+    /**
+     * @return the density grid of the points, or null if the points are part of the keyed dataset
+     * @since 5.12
+     */
+    public DensityGrid getDensityGrid() {
+        return m_densityGrid;
+    }
+
+    /**
+     * @param densityGrid the density grid of the points to set
+     * @since 5.12
+     */
+    public void setDensityGrid(final DensityGrid densityGrid) {
+        m_densityGrid = densityGrid;
+    }
+
+    /**
+     * @return true if the points are binned into a density grid, which is refined by view requests
+     * @since 5.12
+     */
+    public boolean getEnableDensityBinning() {
+        return m_enableDensityBinning;
+    }
+
+    /**
+     * @param enableDensityBinning true if the points are binned into a density grid
+     * @since 5.12
+     */
+    public void setEnableDensityBinning(final boolean enableDensityBinning) {
+        m_enableDensityBinning = enableDensityBinning;
+    }
+
+    /**
+     * @return the fingerprint of the row keys of the keyed dataset, see
+     *         {@link org.knime.js.base.node.viz.plotter.KeyedDatasetBuilder#getRowKeysFingerprint()}. Unlike the
+     *         table id it stays the same if the workflow is loaded again, hence it identifies the rows selection
+     *         ranges refer to.
+     * @since 5.12
+     */
+    public String getDatasetFingerprint() {
+        return m_datasetFingerprint;
+    }
+
+    /**
+     * @param datasetFingerprint the fingerprint of the row keys of the keyed dataset to set
+     * @since 5.12
+     */
+    public void setDatasetFingerprint(final String datasetFingerprint) {
+        m_datasetFingerprint = datasetFingerprint;
+    }
+
     /**
      * @return the showLegend
      */
@@ -711,6 +784,18 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
 
         //added with 4.1
         settings.addBoolean(ScatterPlotViewConfig.ENFORCE_ORIGIN, isEnforceOrigin());
+
+        //added with 5.12
+        settings.addBoolean("hasBinaryDataset", m_binaryDataset != null);
+        if (m_binaryDataset != null) {
+            m_binaryDataset.saveToNodeSettings(settings.addNodeSettings("binaryDataset"));
+        }
+        settings.addBoolean(ScatterPlotViewConfig.ENABLE_DENSITY_BINNING, getEnableDensityBinning());
+        settings.addBoolean("hasDensityGrid", m_densityGrid != null);
+        if (m_densityGrid != null) {
+            m_densityGrid.saveToNodeSettings(settings.addNodeSettings("densityGrid"));
+        }
+        settings.addString("datasetFingerprint", m_datasetFingerprint);
     }
 
     /**
@@ -784,6 +869,21 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
 
         // added with 4.1
         setEnforceOrigin(settings.getBoolean(ScatterPlotViewConfig.ENFORCE_ORIGIN, ScatterPlotViewConfig.DEFAULT_ENFORCE_ORIGIN));
+
+        // added with 5.12
+        m_binaryDataset = null;
+        if (settings.getBoolean("hasBinaryDataset", false)) {
+            m_binaryDataset = new BinaryKeyedDataset();
+            m_binaryDataset.loadFromNodeSettings(settings.getNodeSettings("binaryDataset"));
+        }
+        setEnableDensityBinning(settings.getBoolean(ScatterPlotViewConfig.ENABLE_DENSITY_BINNING,
+            ScatterPlotViewConfig.DEFAULT_ENABLE_DENSITY_BINNING));
+        m_densityGrid = null;
+        if (settings.getBoolean("hasDensityGrid", false)) {
+            m_densityGrid = new DensityGrid();
+            m_densityGrid.loadFromNodeSettings(settings.getNodeSettings("densityGrid"));
+        }
+        m_datasetFingerprint = settings.getString("datasetFingerprint", null);
     }
 
     /**
@@ -803,6 +903,10 @@ public boolean equals(final Object obj) {
         ScatterPlotViewRepresentation other = (ScatterPlotViewRepresentation)obj;
         return new EqualsBuilder()
                 .append(m_keyedDataset, other.m_keyedDataset)
+                .append(m_binaryDataset, other.m_binaryDataset)
+                .append(m_densityGrid, other.m_densityGrid)
+                .append(m_enableDensityBinning, other.m_enableDensityBinning)
+                .append(m_datasetFingerprint, other.m_datasetFingerprint)
                 .append(m_showLegend, other.m_showLegend)
                 .append(m_displayFullscreenButton, other.m_displayFullscreenButton)
                 .append(m_autoRangeAxes, other.m_autoRangeAxes)
@@ -850,6 +954,10 @@ public boolean equals(final Object obj) {
     public int hashCode() {
         return new HashCodeBuilder()
                 .append(m_keyedDataset)
+                .append(m_binaryDataset)
+                .append(m_densityGrid)
+                .append(m_enableDensityBinning)
+                .append(m_datasetFingerprint)
                 .append(m_showLegend)
                 .append(m_displayFullscreenButton)
                 .append(m_autoRangeAxes)
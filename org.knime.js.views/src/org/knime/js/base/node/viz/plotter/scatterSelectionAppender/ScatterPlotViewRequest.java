@@ -0,0 +1,283 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.plotter.scatterSelectionAppender;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewRequest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Request issued by the scatter plot view to fetch the density grid or the points of the visible range, e.g. after
+ * zooming, or to resolve the selection of cells of the grid to the keys of the rows inside of them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class ScatterPlotViewRequest extends JSONViewRequest {
+
+    private String m_xColumn;
+    private String m_yColumn;
+    private Double m_xMin;
+    private Double m_xMax;
+    private Double m_yMin;
+    private Double m_yMax;
+    private int m_width;
+    private int m_height;
+    private int[] m_selectedCells;
+    private int m_numXBins;
+    private int m_numYBins;
+
+    /**
+     * @return the name of the x-column
+     */
+    public String getxColumn() {
+        return m_xColumn;
+    }
+
+    /**
+     * @param xColumn the xColumn to set
+     */
+    public void setxColumn(final String xColumn) {
+        m_xColumn = xColumn;
+    }
+
+    /**
+     * @return the name of the y-column
+     */
+    public String getyColumn() {
+        return m_yColumn;
+    }
+
+    /**
+     * @param yColumn the yColumn to set
+     */
+    public void setyColumn(final String yColumn) {
+        m_yColumn = yColumn;
+    }
+
+    /**
+     * @return the lower bound of the visible x-range, or null for the full range
+     */
+    public Double getxMin() {
+        return m_xMin;
+    }
+
+    /**
+     * @param xMin the xMin to set
+     */
+    public void setxMin(final Double xMin) {
+        m_xMin = xMin;
+    }
+
+    /**
+     * @return the upper bound of the visible x-range, or null for the full range
+     */
+    public Double getxMax() {
+        return m_xMax;
+    }
+
+    /**
+     * @param xMax the xMax to set
+     */
+    public void setxMax(final Double xMax) {
+        m_xMax = xMax;
+    }
+
+    /**
+     * @return the lower bound of the visible y-range, or null for the full range
+     */
+    public Double getyMin() {
+        return m_yMin;
+    }
+
+    /**
+     * @param yMin the yMin to set
+     */
+    public void setyMin(final Double yMin) {
+        m_yMin = yMin;
+    }
+
+    /**
+     * @return the upper bound of the visible y-range, or null for the full range
+     */
+    public Double getyMax() {
+        return m_yMax;
+    }
+
+    /**
+     * @param yMax the yMax to set
+     */
+    public void setyMax(final Double yMax) {
+        m_yMax = yMax;
+    }
+
+    /**
+     * @return the width of the data area of the plot in pixels
+     */
+    public int getWidth() {
+        return m_width;
+    }
+
+    /**
+     * @param width the width to set
+     */
+    public void setWidth(final int width) {
+        m_width = width;
+    }
+
+    /**
+     * @return the height of the data area of the plot in pixels
+     */
+    public int getHeight() {
+        return m_height;
+    }
+
+    /**
+     * @param height the height to set
+     */
+    public void setHeight(final int height) {
+        m_height = height;
+    }
+
+    /**
+     * @return the indices of the selected cells of the grid, or null if the grid is requested
+     */
+    public int[] getSelectedCells() {
+        return m_selectedCells;
+    }
+
+    /**
+     * @param selectedCells the selectedCells to set
+     */
+    public void setSelectedCells(final int[] selectedCells) {
+        m_selectedCells = selectedCells;
+    }
+
+    /**
+     * @return the number of x-bins of the grid the selected cells refer to
+     */
+    public int getNumXBins() {
+        return m_numXBins;
+    }
+
+    /**
+     * @param numXBins the numXBins to set
+     */
+    public void setNumXBins(final int numXBins) {
+        m_numXBins = numXBins;
+    }
+
+    /**
+     * @return the number of y-bins of the grid the selected cells refer to
+     */
+    public int getNumYBins() {
+        return m_numYBins;
+    }
+
+    /**
+     * @param numYBins the numYBins to set
+     */
+    public void setNumYBins(final int numYBins) {
+        m_numYBins = numYBins;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        ScatterPlotViewRequest other = (ScatterPlotViewRequest)obj;
+        return new EqualsBuilder()
+                .append(m_xColumn, other.m_xColumn)
+                .append(m_yColumn, other.m_yColumn)
+                .append(m_xMin, other.m_xMin)
+                .append(m_xMax, other.m_xMax)
+                .append(m_yMin, other.m_yMin)
+                .append(m_yMax, other.m_yMax)
+                .append(m_width, other.m_width)
+                .append(m_height, other.m_height)
+                .append(m_selectedCells, other.m_selectedCells)
+                .append(m_numXBins, other.m_numXBins)
+                .append(m_numYBins, other.m_numYBins)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_xColumn)
+                .append(m_yColumn)
+                .append(m_xMin)
+                .append(m_xMax)
+                .append(m_yMin)
+                .append(m_yMax)
+                .append(m_width)
+                .append(m_height)
+                .append(m_selectedCells)
+                .append(m_numXBins)
+                .append(m_numYBins)
+                .toHashCode();
+    }
+}
@@ -67,6 +67,8 @@
 public class ScatterPlotViewValue extends JSONViewContent {
 
     static final String SELECTED_KEYS = "selectedKeys";
+    static final String SELECTED_RANGES = "selectedRanges";
+    static final String SELECTION_DATASET_ID = "selectionDatasetId";
 
     private static final String CFG_SHOW_SELECTED_ONLY = "showSelectedOnly";
     private static final boolean DEFAULT_SHOW_SELECTED_ONLY = false;
@@ -88,6 +90,8 @@ public class ScatterPlotViewValue extends JSONViewContent {
     private boolean m_showSelectedOnly;
     private boolean m_subscribeFilter;
     private String[] m_selection;
+    private long[] m_selectionRanges;
+    private String m_selectionDatasetId;
 
     /**
      * @return the chartTitle
@@ -313,6 +317,40 @@ public void setSelection(final String[] selection) {
         m_selection = selection;
     }
 
+    /**
+     * @return the selection as ranges of row indices of the displayed table, see
+     *         {@link org.knime.js.base.util.selection.SelectionRanges}, or null if the selection is given by row keys
+     * @since 5.12
+     */
+    public long[] getSelectionRanges() {
+        return m_selectionRanges;
+    }
+
+    /**
+     * @param selectionRanges the selectionRanges to set
+     * @since 5.12
+     */
+    public void setSelectionRanges(final long[] selectionRanges) {
+        m_selectionRanges = selectionRanges;
+    }
+
+    /**
+     * @return the fingerprint of the rows the selection ranges refer to, see
+     *         {@link ScatterPlotViewRepresentation#getDatasetFingerprint()}
+     * @since 5.12
+     */
+    public String getSelectionDatasetId() {
+        return m_selectionDatasetId;
+    }
+
+    /**
+     * @param selectionDatasetId the selectionDatasetId to set
+     * @since 5.12
+     */
+    public void setSelectionDatasetId(final String selectionDatasetId) {
+        m_selectionDatasetId = selectionDatasetId;
+    }
+
     /**
      * @return the showSelectedOnly
      */
@@ -356,6 +394,10 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
 
         // added with 4.4
         settings.addBoolean(ScatterPlotViewConfig.CFG_SHOW_SELECTED_ROWS_ONLY, getShowSelectedOnly());
+
+        // added with 5.12
+        settings.addLongArray(SELECTED_RANGES, m_selectionRanges);
+        settings.addString(SELECTION_DATASET_ID, m_selectionDatasetId);
     }
 
     /**
@@ -392,6 +434,10 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
 
         // added with 4.4
         setShowSelectedOnly(settings.getBoolean(ScatterPlotViewConfig.CFG_SHOW_SELECTED_ROWS_ONLY, ScatterPlotViewConfig.DEFAULT_ENABLE_SHOW_SELECTED_ONLY));
+
+        // added with 5.12
+        setSelectionRanges(settings.getLongArray(SELECTED_RANGES, null));
+        setSelectionDatasetId(settings.getString(SELECTION_DATASET_ID, null));
     }
 
     /**
@@ -427,6 +473,8 @@ public boolean equals(final Object obj) {
                 .append(m_showSelectedOnly, other.m_showSelectedOnly)
                 .append(m_subscribeFilter, other.m_subscribeFilter)
                 .append(m_selection, other.m_selection)
+                .append(m_selectionRanges, other.m_selectionRanges)
+                .append(m_selectionDatasetId, other.m_selectionDatasetId)
                 .isEquals();
     }
 
@@ -453,6 +501,8 @@ public int hashCode() {
                 .append(m_showSelectedOnly)
                 .append(m_subscribeFilter)
                 .append(m_selection)
+                .append(m_selectionRanges)
+                .append(m_selectionDatasetId)
                 .toHashCode();
     }
 
@@ -0,0 +1,290 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Columnar binary encoding of the table editor changes. Row keys and column names are dictionary encoded, i.e. each
+ * distinct value is written once and the cells refer to it by index, and the edited values are written as one array
+ * per value type. The result is deflate-compressed.
+ *
+ * <p>
+ * Layout (all numbers big-endian, strings as length-prefixed UTF-8):
+ *
+ * <pre>
+ * int version
+ * int numColumns, String[numColumns] columnNames
+ * int numRows, String[numRows] rowKeys, int[numRows] numCellsPerRow
+ * int numCells, int[numCells] columnIndices, byte[numCells] valueTypes
+ * int numInts, int[numInts] intValues
+ * int numDoubles, double[numDoubles] doubleValues
+ * int numStrings, String[numStrings] stringValues
+ * int numBooleans, boolean[numBooleans] booleanValues
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TableEditorChangesCodec {
+
+    private static final int VERSION = 1;
+
+    private static final byte TYPE_MISSING = 0;
+
+    private static final byte TYPE_INT = 1;
+
+    private static final byte TYPE_DOUBLE = 2;
+
+    private static final byte TYPE_STRING = 3;
+
+    private static final byte TYPE_BOOLEAN = 4;
+
+    private TableEditorChangesCodec() {
+        // utility class
+    }
+
+    /**
+     * @param changes the changes, a map from row key to a map from column name to value
+     * @return the encoded changes
+     * @throws IOException if the changes cannot be written
+     */
+    static byte[] encode(final Map<String, Map<String, Object>> changes) throws IOException {
+        Map<String, Integer> columnIndices = new LinkedHashMap<String, Integer>();
+        int numCells = 0;
+        for (Map<String, Object> rowChanges : changes.values()) {
+            for (String colName : rowChanges.keySet()) {
+                columnIndices.putIfAbsent(colName, columnIndices.size());
+            }
+            numCells += rowChanges.size();
+        }
+
+        int[] cellColumns = new int[numCells];
+        byte[] cellTypes = new byte[numCells];
+        // typed value arrays, sized for the worst case of all cells having the same type
+        int[] intValues = new int[numCells];
+        int numInts = 0;
+        double[] doubleValues = new double[numCells];
+        int numDoubles = 0;
+        String[] stringValues = new String[numCells];
+        int numStrings = 0;
+        boolean[] booleanValues = new boolean[numCells];
+        int numBooleans = 0;
+        int cell = 0;
+        for (Map<String, Object> rowChanges : changes.values()) {
+            for (Map.Entry<String, Object> cellEntry : rowChanges.entrySet()) {
+                cellColumns[cell] = columnIndices.get(cellEntry.getKey());
+                Object value = cellEntry.getValue();
+                if (value == null) {
+                    cellTypes[cell] = TYPE_MISSING;
+                } else if (value instanceof Integer) {
+                    cellTypes[cell] = TYPE_INT;
+                    intValues[numInts++] = (Integer)value;
+                } else if (value instanceof Double) {
+                    cellTypes[cell] = TYPE_DOUBLE;
+                    doubleValues[numDoubles++] = (Double)value;
+                } else if (value instanceof Boolean) {
+                    cellTypes[cell] = TYPE_BOOLEAN;
+                    booleanValues[numBooleans++] = (Boolean)value;
+                } else {
+                    cellTypes[cell] = TYPE_STRING;
+                    stringValues[numStrings++] = value.toString();
+                }
+                cell++;
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(bytes)))) {
+            out.writeInt(VERSION);
+            out.writeInt(columnIndices.size());
+            for (String colName : columnIndices.keySet()) {
+                writeString(out, colName);
+            }
+            out.writeInt(changes.size());
+            for (String rowKey : changes.keySet()) {
+                writeString(out, rowKey);
+            }
+            for (Map<String, Object> rowChanges : changes.values()) {
+                out.writeInt(rowChanges.size());
+            }
+            out.writeInt(numCells);
+            for (int colIndex : cellColumns) {
+                out.writeInt(colIndex);
+            }
+            out.write(cellTypes);
+            out.writeInt(numInts);
+            for (int i = 0; i < numInts; i++) {
+                out.writeInt(intValues[i]);
+            }
+            out.writeInt(numDoubles);
+            for (int i = 0; i < numDoubles; i++) {
+                out.writeDouble(doubleValues[i]);
+            }
+            out.writeInt(numStrings);
+            for (int i = 0; i < numStrings; i++) {
+                writeString(out, stringValues[i]);
+            }
+            out.writeInt(numBooleans);
+            for (int i = 0; i < numBooleans; i++) {
+                out.writeBoolean(booleanValues[i]);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param data the encoded changes
+     * @return the changes, a map from row key to a map from column name to value
+     * @throws IOException if the data cannot be read or has an unsupported version
+     */
+    static Map<String, Map<String, Object>> decode(final byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(data))))) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version of the table editor changes: " + version);
+            }
+            String[] columnNames = new String[in.readInt()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = readString(in);
+            }
+            String[] rowKeys = new String[in.readInt()];
+            for (int i = 0; i < rowKeys.length; i++) {
+                rowKeys[i] = readString(in);
+            }
+            int[] numCellsPerRow = new int[rowKeys.length];
+            for (int i = 0; i < rowKeys.length; i++) {
+                numCellsPerRow[i] = in.readInt();
+            }
+            int[] cellColumns = new int[in.readInt()];
+            for (int i = 0; i < cellColumns.length; i++) {
+                cellColumns[i] = in.readInt();
+            }
+            byte[] cellTypes = new byte[cellColumns.length];
+            in.readFully(cellTypes);
+            int[] intValues = new int[in.readInt()];
+            for (int i = 0; i < intValues.length; i++) {
+                intValues[i] = in.readInt();
+            }
+            double[] doubleValues = new double[in.readInt()];
+            for (int i = 0; i < doubleValues.length; i++) {
+                doubleValues[i] = in.readDouble();
+            }
+            String[] stringValues = new String[in.readInt()];
+            for (int i = 0; i < stringValues.length; i++) {
+                stringValues[i] = readString(in);
+            }
+            boolean[] booleanValues = new boolean[in.readInt()];
+            for (int i = 0; i < booleanValues.length; i++) {
+                booleanValues[i] = in.readBoolean();
+            }
+
+            Map<String, Map<String, Object>> changes = new LinkedHashMap<String, Map<String, Object>>(rowKeys.length);
+            int cell = 0;
+            int intIndex = 0;
+            int doubleIndex = 0;
+            int stringIndex = 0;
+            int booleanIndex = 0;
+            for (int row = 0; row < rowKeys.length; row++) {
+                Map<String, Object> rowMap = new HashMap<String, Object>(numCellsPerRow[row]);
+                for (int j = 0; j < numCellsPerRow[row]; j++, cell++) {
+                    Object value;
+                    switch (cellTypes[cell]) {
+                        case TYPE_MISSING:
+                            value = null;
+                            break;
+                        case TYPE_INT:
+                            value = intValues[intIndex++];
+                            break;
+                        case TYPE_DOUBLE:
+                            value = doubleValues[doubleIndex++];
+                            break;
+                        case TYPE_STRING:
+                            value = stringValues[stringIndex++];
+                            break;
+                        case TYPE_BOOLEAN:
+                            value = booleanValues[booleanIndex++];
+                            break;
+                        default:
+                            throw new IOException("Unknown value type: " + cellTypes[cell]);
+                    }
+                    rowMap.put(columnNames[cellColumns[cell]], value);
+                }
+                changes.put(rowKeys[row], rowMap);
+            }
+            return changes;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt table editor changes: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -48,10 +48,13 @@
  */
 package org.knime.js.base.node.viz.tableeditor;
 
+import java.io.IOException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.knime.core.node.InvalidSettingsException;
@@ -74,6 +77,12 @@
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
 public class TableEditorChangesSettingsModel extends SettingsModel {
 
+    // added with 5.12, changes are stored as a single binary blob instead of one settings entry per cell
+    private static final String CFG_ENCODING = "encoding";
+    private static final String ENCODING_COLUMNAR = "columnar_v1";
+    private static final String CFG_HASH = "hash";
+    private static final String CFG_DATA = "data";
+
     // map from Row Key to a map from Column Name to Data Value
     private Map<String, Map<String, Object>> m_changes;
 
@@ -153,6 +162,22 @@ public void setChanges(final Map<String, Map<String, Object>> changes) {
         m_changes = changes;
     }
 
+    /**
+     * Merges the given changes into the current ones, values of cells which have been edited before are replaced.
+     *
+     * @param changes the changes to merge, a map from row key to a map from column name to value
+     * @since 5.12
+     */
+    public void mergeChanges(final Map<String, Map<String, Object>> changes) {
+        if (m_changes == null) {
+            m_changes = new LinkedHashMap<String, Map<String, Object>>();
+        }
+        for (Map.Entry<String, Map<String, Object>> rowChanges : changes.entrySet()) {
+            m_changes.computeIfAbsent(rowChanges.getKey(), k -> new HashMap<String, Object>())
+                .putAll(rowChanges.getValue());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -203,6 +228,32 @@ protected void saveSettingsForModel(final NodeSettingsWO settings) {
 
     private void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         NodeSettingsRO editChangesSettings = settings.getNodeSettings(m_configName);
+        if (!editChangesSettings.containsKey(CFG_ENCODING)) {
+            loadLegacySettings(editChangesSettings);
+            return;
+        }
+        String encoding = editChangesSettings.getString(CFG_ENCODING);
+        if (!ENCODING_COLUMNAR.equals(encoding)) {
+            throw new InvalidSettingsException("Unsupported encoding of the table editor changes: " + encoding);
+        }
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(editChangesSettings.getString(CFG_DATA));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Table editor changes are not properly encoded: " + e.getMessage(), e);
+        }
+        if (!DigestUtils.sha256Hex(data).equals(editChangesSettings.getString(CFG_HASH))) {
+            throw new InvalidSettingsException("Table editor changes are corrupt, the hash does not match.");
+        }
+        try {
+            m_changes = TableEditorChangesCodec.decode(data);
+        } catch (IOException e) {
+            throw new InvalidSettingsException("Could not read table editor changes: " + e.getMessage(), e);
+        }
+    }
+
+    /** Loads the layout used up to 5.11, which stores every edited cell as separate settings entry. */
+    private void loadLegacySettings(final NodeSettingsRO editChangesSettings) throws InvalidSettingsException {
         int numRows = editChangesSettings.getInt("numRows");
         m_changes = new LinkedHashMap<String, Map<String, Object>>(numRows);
         for (int i = 0; i < numRows; i++) {
@@ -236,34 +287,18 @@ private void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsE
     }
 
     private void saveSettings(final NodeSettingsWO settings) {
+        byte[] data;
+        try {
+            data = TableEditorChangesCodec.encode(m_changes);
+        } catch (IOException e) {
+            // only happens if the in-memory stream fails
+            throw new IllegalStateException("Could not write table editor changes: " + e.getMessage(), e);
+        }
         NodeSettingsWO editChangesSettings = settings.addNodeSettings(m_configName);
+        editChangesSettings.addString(CFG_ENCODING, ENCODING_COLUMNAR);
         editChangesSettings.addInt("numRows", m_changes.size());
-        int rowCnt = 0;
-        for (Map.Entry<String, Map<String, Object>> rowEntry : m_changes.entrySet()) {
-            NodeSettingsWO rowSettings = editChangesSettings.addNodeSettings("rowEntry" + rowCnt);
-            rowSettings.addString("rowKey", rowEntry.getKey());
-            rowSettings.addInt("numCells", rowEntry.getValue().size());
-            int cellCnt = 0;
-            for (Map.Entry<String, Object> cellEntry : rowEntry.getValue().entrySet()) {
-                NodeSettingsWO cellSettings = rowSettings.addNodeSettings("cellEntry" + cellCnt);
-                cellSettings.addString("colName", cellEntry.getKey());
-                Object value = cellEntry.getValue();
-                if (value == null) {
-                    cellSettings.addString("type", "mv");  // missing value
-                } else if (value instanceof Integer) {
-                    cellSettings.addString("type", "int");
-                    cellSettings.addInt("value", (Integer)value);
-                } else if (value instanceof Double) {
-                    cellSettings.addString("type", "double");
-                    cellSettings.addDouble("value", (Double)value);
-                } else if (value instanceof String) {
-                    cellSettings.addString("type", "string");
-                    cellSettings.addString("value", value.toString());
-                }
-                cellCnt++;
-            }
-            rowCnt++;
-        }
+        editChangesSettings.addString(CFG_HASH, DigestUtils.sha256Hex(data));
+        editChangesSettings.addString(CFG_DATA, Base64.getEncoder().encodeToString(data));
     }
 
     /**
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Hash of the rows displayed in the table editor, used to check whether saved editor changes still belong to the
+ * input table.
+ *
+ * <p>
+ * The hash is computed directly over the rows of the input table. Rows are read in chunks, the segments of a chunk
+ * are hashed in parallel and the final hash is computed over the hashes of all segments in their order, so it does
+ * not depend on the number of threads. An instance remembers a fingerprint of the table it was computed for, the id,
+ * size and spec of the table. The node keeps it across resets, so it is reused when the node is executed again and
+ * the upstream nodes were not, i.e. the input is still the same table. It is only kept in memory, as table ids are not
+ * unique across sessions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TableEditorDataHash {
+
+    /** Prefix of hashes computed over the rows, hashes of the JSON table written by older versions do not have it. */
+    static final String PREFIX = "rows-sha256:";
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private static final int SEGMENTS_PER_CHUNK = 16;
+
+    private final int m_tableId;
+
+    private final long m_tableSize;
+
+    private final DataTableSpec m_spec;
+
+    private final String[] m_columns;
+
+    private final long m_numRows;
+
+    private final String m_hash;
+
+    private TableEditorDataHash(final BufferedDataTable table, final String[] columns, final long numRows,
+        final String hash) {
+        m_tableId = table.getBufferedTableId();
+        m_tableSize = table.size();
+        m_spec = table.getDataTableSpec();
+        m_columns = columns;
+        m_numRows = numRows;
+        m_hash = hash;
+    }
+
+    /**
+     * @return the hash, starting with {@link #PREFIX}
+     */
+    String getHash() {
+        return m_hash;
+    }
+
+    /**
+     * @param table the input table
+     * @param columns the displayed columns
+     * @param numRows the number of displayed rows
+     * @return true if this hash was computed for the same rows and columns of a table with the same id, size and
+     *         spec, i.e. the same table of this session
+     */
+    boolean isHashOf(final BufferedDataTable table, final String[] columns, final long numRows) {
+        return table.getBufferedTableId() == m_tableId && table.size() == m_tableSize && numRows == m_numRows
+            && Arrays.equals(columns, m_columns) && table.getDataTableSpec().equals(m_spec);
+    }
+
+    /**
+     * @param hash a hash saved with the editor changes
+     * @return true if the hash was computed over the rows, false if it is a hash of the JSON table
+     */
+    static boolean isRowHash(final String hash) {
+        return hash != null && hash.startsWith(PREFIX);
+    }
+
+    /**
+     * @param table the input table
+     * @param columns the displayed columns
+     * @param numRows the number of displayed rows
+     * @param exec the execution monitor, may be null
+     * @return the hash of the row keys and cells of the displayed rows
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    static TableEditorDataHash compute(final BufferedDataTable table, final String[] columns, final long numRows,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        DataTableSpec spec = table.getDataTableSpec();
+        final int[] colIndices = spec.columnsToIndices(columns);
+        final int chunkSize = SEGMENT_SIZE * SEGMENTS_PER_CHUNK;
+        final DataRow[] rows = new DataRow[chunkSize];
+        final byte[][] segmentHashes = new byte[SEGMENTS_PER_CHUNK][];
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        long rowIndex = 0;
+        if (numRows > 0) {
+            try (CloseableRowIterator iterator =
+                table.filter(TableFilter.materializeCols(colIndices).withToRowIndex(numRows - 1))) {
+                while (iterator.hasNext() && rowIndex < numRows) {
+                    if (exec != null) {
+                        exec.checkCanceled();
+                    }
+                    int numChunkRows = 0;
+                    while (numChunkRows < chunkSize && rowIndex + numChunkRows < numRows && iterator.hasNext()) {
+                        rows[numChunkRows++] = iterator.next();
+                    }
+                    final int length = numChunkRows;
+                    final int numSegments = (length + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+                    IntStream.range(0, numSegments).parallel().forEach(s -> segmentHashes[s] =
+                        hashSegment(rows, s * SEGMENT_SIZE, Math.min(length, (s + 1) * SEGMENT_SIZE), colIndices));
+                    for (int s = 0; s < numSegments; s++) {
+                        digest.update(segmentHashes[s]);
+                    }
+                    Arrays.fill(rows, 0, length, null);
+                    rowIndex += length;
+                    if (exec != null) {
+                        exec.setProgress(rowIndex / (double)numRows);
+                    }
+                }
+            }
+        }
+        return new TableEditorDataHash(table, columns.clone(), numRows, PREFIX + Hex.encodeHexString(digest.digest()));
+    }
+
+    private static byte[] hashSegment(final DataRow[] rows, final int from, final int to, final int[] colIndices) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        for (int i = from; i < to; i++) {
+            DataRow row = rows[i];
+            digest.update(row.getKey().getString().getBytes(StandardCharsets.UTF_8));
+            for (int colIndex : colIndices) {
+                digest.update((byte)0);
+                digest.update(row.getCell(colIndex).toString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte)'\n');
+        }
+        return digest.digest();
+    }
+}
@@ -101,6 +101,10 @@ public class TableEditorViewConfig {
     private final static boolean DEFAULT_ENABLE_JUMP_TO_PAGE = false;
     private boolean m_enableJumpToPage = DEFAULT_ENABLE_JUMP_TO_PAGE;
 
+    final static String CFG_ENABLE_LAZY_LOADING = "enableLazyLoading";
+    final static boolean DEFAULT_ENABLE_LAZY_LOADING = false;
+    private boolean m_enableLazyLoading = DEFAULT_ENABLE_LAZY_LOADING;
+
     final static String CFG_DISPLAY_ROW_COLORS = "displayRowColors";
     private final static boolean DEFAULT_DISPLAY_ROW_COLORS = true;
     private boolean m_displayRowColors = DEFAULT_DISPLAY_ROW_COLORS;
@@ -362,6 +366,21 @@ public void setEnableJumpToPage(final boolean enableJumpToPage) {
         m_enableJumpToPage = enableJumpToPage;
     }
 
+    /**
+     * @return true if the rows of the current page are requested from the node on demand instead of being part of
+     *         the view representation
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
     /**
      * @return the displayRowColors
      */
@@ -880,6 +899,9 @@ public void saveSettings(final NodeSettingsWO settings) {
         //added with 4.7
         settings.addBoolean(CFG_USE_INCOMING_TABLE_DOMAIN, m_useIncomingTableDomain);
 
+        //added with 5.12
+        settings.addBoolean(CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
+
         // editor settings
         m_editableColumnsFilterConfig.saveConfiguration(settings);
         m_editorChanges.setConfigName(TableEditorViewConfig.CFG_EDITOR_CHANGES);  // assign the config name in case it has not been assigned by using serialization constructor
@@ -954,6 +976,9 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
         m_useIncomingTableDomain =
                 settings.getBoolean(CFG_USE_INCOMING_TABLE_DOMAIN, DEFAULT_USE_INCOMING_TABLE_DOMAIN);
 
+        //added with 5.12
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
+
         // editor settings
         m_editableColumnsFilterConfig.loadConfigurationInModel(settings);
         m_editorChanges.loadSettingsFrom(settings);
@@ -1029,6 +1054,9 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         m_useIncomingTableDomain =
                 settings.getBoolean(CFG_USE_INCOMING_TABLE_DOMAIN, DEFAULT_USE_INCOMING_TABLE_DOMAIN);
 
+        //added with 5.12
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
+
         // editor settings
         m_editableColumnsFilterConfig.loadConfigurationInDialog(settings, spec);
         try {
@@ -98,6 +98,7 @@ public class TableEditorViewNodeDialogPane extends NodeDialogPane {
     private final JTextField m_allowedPageSizesField;
     private final JCheckBox m_enableShowAllCheckBox;
     private final JCheckBox m_enableJumpToPageCheckBox;
+    private final JCheckBox m_enableLazyLoadingCheckBox;
     private final JCheckBox m_displayRowColorsCheckBox;
     private final JCheckBox m_displayRowIdsCheckBox;
     private final JCheckBox m_displayColumnHeadersCheckBox;
@@ -157,6 +158,14 @@ public void stateChanged(final ChangeEvent e) {
         m_allowedPageSizesField = new JTextField(20);
         m_enableShowAllCheckBox = new JCheckBox("Add \"All\" option to page sizes");
         m_enableJumpToPageCheckBox = new JCheckBox("Display field to jump to a page directly");
+        m_enableLazyLoadingCheckBox = new JCheckBox("Load rows of the current page on demand");
+        m_enableLazyLoadingCheckBox.addChangeListener(new ChangeListener() {
+
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                enablePagingFields();
+            }
+        });
         m_displayRowColorsCheckBox = new JCheckBox("Display row colors");
         m_displayRowIdsCheckBox = new JCheckBox("Display row keys");
         m_displayColumnHeadersCheckBox = new JCheckBox("Display column headers");
@@ -340,6 +349,8 @@ private JPanel initInteractivity() {
         gbcP.gridy++;
         gbcP.gridwidth = 2;
         pagingPanel.add(m_enableShowAllCheckBox, gbcP);
+        gbcP.gridy++;
+        pagingPanel.add(m_enableLazyLoadingCheckBox, gbcP);
         //gbcP.gridy++;
         //pagingPanel.add(m_enableJumpToPageCheckBox, gbcP);
 
@@ -506,6 +517,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         m_allowedPageSizesField.setText(getAllowedPageSizesString(m_config.getAllowedPageSizes()));
         m_enableShowAllCheckBox.setSelected(m_config.getPageSizeShowAll());
         m_enableJumpToPageCheckBox.setSelected(m_config.getEnableJumpToPage());
+        m_enableLazyLoadingCheckBox.setSelected(m_config.getEnableLazyLoading());
         m_displayRowColorsCheckBox.setSelected(m_config.getDisplayRowColors());
         m_displayRowIdsCheckBox.setSelected(m_config.getDisplayRowIds());
         m_displayColumnHeadersCheckBox.setSelected(m_config.getDisplayColumnHeaders());
@@ -563,6 +575,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setAllowedPageSizes(getAllowedPageSizes());
         m_config.setPageSizeShowAll(m_enableShowAllCheckBox.isSelected());
         m_config.setEnableJumpToPage(m_enableJumpToPageCheckBox.isSelected());
+        m_config.setEnableLazyLoading(m_enableLazyLoadingCheckBox.isSelected());
         m_config.setDisplayRowColors(m_displayRowColorsCheckBox.isSelected());
         m_config.setDisplayRowIds(m_displayRowIdsCheckBox.isSelected());
         m_config.setDisplayColumnHeaders(m_displayColumnHeadersCheckBox.isSelected());
@@ -635,8 +648,10 @@ private void enablePagingFields() {
         m_initialPageSizeSpinner.setEnabled(enableGlobal);
         m_enablePageSizeChangeCheckBox.setEnabled(enableGlobal);
         m_allowedPageSizesField.setEnabled(enableGlobal && enableSizeChange);
-        m_enableShowAllCheckBox.setEnabled(enableGlobal && enableSizeChange);
+        m_enableShowAllCheckBox.setEnabled(
+            enableGlobal && enableSizeChange && !m_enableLazyLoadingCheckBox.isSelected());
         m_enableJumpToPageCheckBox.setEnabled(enableGlobal);
+        m_enableLazyLoadingCheckBox.setEnabled(enableGlobal);
     }
 
     private void enableSelectionFields() {
@@ -49,9 +49,13 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -64,36 +68,41 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.DirectAccessTable;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.IntValue;
 import org.knime.core.data.LongValue;
+import org.knime.core.data.cache.WindowCacheTable;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.property.filter.FilterHandler;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.selection.SelectionIndex;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -104,12 +113,32 @@
  * @author Christian Albrecht, KNIME.com GmbH, Konstanz, Germany
  */
 public class TableEditorViewNodeModel extends AbstractWizardNodeModel<TableEditorViewRepresentation,
-        TableEditorViewValue> implements BufferedDataTableHolder, CSSModifiable, LayoutTemplateProvider {
+        TableEditorViewValue> implements BufferedDataTableHolder, CSSModifiable, LayoutTemplateProvider,
+        JSONViewRequestHandler<TableEditorViewRequest, TableEditorViewResponse> {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(TableEditorViewNodeModel.class);
 
+    /** maximum number of edit sessions buffered at once, the least recently used one is dropped beyond that */
+    private static final int MAX_POSTED_SESSIONS = 16;
+
     private final TableEditorViewConfig m_config;
     private BufferedDataTable m_table;
+    private DirectAccessTable m_cache;
+    /** hash of the displayed rows of the input table, kept in memory across resets to reuse it for the same input */
+    private TableEditorDataHash m_dataHash;
+    /**
+     * edits posted by the views with requests, keyed by the edit session of the view, merged and removed when applied;
+     * access ordered and bounded, as sessions of closed views are never applied
+     */
+    private final Map<String, PostedEditorChanges> m_postedChanges =
+        new LinkedHashMap<String, PostedEditorChanges>(MAX_POSTED_SESSIONS, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, PostedEditorChanges> eldest) {
+                return size() > MAX_POSTED_SESSIONS;
+            }
+        };
 
     /**
      * @param viewName The name of the interactive view
@@ -135,13 +164,13 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         DataTableSpec tableSpec = (DataTableSpec)inSpecs[0];
         m_config.loadDefaultsForColDropdownConfig(tableSpec);
         if (m_config.getEnableSelection()) {
-            ColumnRearranger rearranger = createColumnAppender(tableSpec, null);
+            ColumnRearranger rearranger = createColumnAppender(tableSpec, SelectionIndex.of(null));
             tableSpec = rearranger.createSpec();
         }
         return new PortObjectSpec[]{tableSpec};
     }
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final SelectionIndex selection) {
         String newColName = m_config.getSelectionColumnName();
         if (newColName == null || newColName.trim().isEmpty()) {
             newColName = TableEditorViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
@@ -159,16 +188,7 @@ public DataCell getCell(final DataRow row) {
                 if (++m_rowIndex > m_config.getMaxRows()) {
                     return DataType.getMissingCell();
                 }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                            /*return selectAll ? BooleanCell.FALSE : BooleanCell.TRUE;*/
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                /*return selectAll ? BooleanCell.TRUE : BooleanCell.FALSE;*/
-                return BooleanCell.FALSE;
+                return BooleanCellFactory.create(selection.contains(row.getKey()));
             }
         };
         rearranger.append(fac);
@@ -211,6 +231,9 @@ public TableEditorViewRepresentation getViewRepresentation() {
                 try {
                     JSONDataTable jT = createJSONTableFromBufferedDataTable(m_table, null);
                     rep.setTable(jT);
+                    if (rep.getDataHash() == null) {
+                        rep.setDataHash(calculateDataHash(m_table, null));
+                    }
                 } catch (Exception e) {
                     LOGGER.error("Could not create JSON table: " + e.getMessage(), e);
                 }
@@ -274,6 +297,7 @@ public BufferedDataTable[] getInternalTables() {
     @Override
     public void setInternalTables(final BufferedDataTable[] tables) {
         m_table = tables[0];
+        m_cache = null;
     }
 
     /**
@@ -291,84 +315,29 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
                 JSONDataTable jsonTable = createJSONTableFromBufferedDataTable(m_table, exec.createSubExecutionContext(0.5));
                 viewRepresentation.setTable(jsonTable);
                 copyConfigToRepresentation();
+                // the displayed rows are hashed directly, the hash is reused if the input table has not changed
+                viewRepresentation.setDataHash(calculateDataHash(m_table, exec.createSubProgress(0.2)));
             }
 
             out = m_table;
             TableEditorViewValue viewValue = getViewValue();
 
             // apply edit changes
-            Optional<String> dataHash = viewRepresentation.getTable().getDataHash();
-            boolean isSameHash = dataHash.isPresent() ? dataHash.get().equals(viewValue.getTableHash()) : false;
-            if (viewValue != null && isSameHash && viewValue.getEditorChanges().getChanges().size() > 0) {
+            boolean isSameHash = viewValue != null && isSameTable(viewRepresentation, viewValue.getTableHash());
+            if (isSameHash && viewValue.getEditorChanges().getChanges().size() > 0) {
                 // if there are editor changes and hash of the input table has not changed, we apply the changes
 
-                DataTableSpec spec = m_table.getDataTableSpec();
                 Map<String, Map<String, Object>> editorChanges = viewValue.getEditorChanges().getChanges();
-                BufferedDataContainer dc = exec.createDataContainer(spec);
-                String[] columnNames = spec.getColumnNames();
-                List<String> editableColumns = Arrays.asList(viewRepresentation.getEditableColumns());
-                // set of columns which were editable, but then have become read-only in the node config dialog
-                Set<String> conflictEditColumns = new HashSet<String>();
-
-                // iterate over each row from the input table and apply the changes where appropriate
-                for (DataRow row : m_table) {
-                    String rowKey = row.getKey().getString();
-                    Map<String, Object> rowEditorChanges = editorChanges.get(rowKey);
-
-                    DataCell[] copy = new DataCell[row.getNumCells()];
-                    for (int i = 0; i < row.getNumCells(); i++) {
-                        String colName = columnNames[i];
-                        DataCell cell = row.getCell(i);
-                        if (rowEditorChanges != null && rowEditorChanges.containsKey(colName)) {
-                            // check whether the columns is still editable
-                            if (editableColumns.contains(colName)) {
-                                Object value = rowEditorChanges.get(colName);
-                                DataType type = spec.getColumnSpec(i).getType();
-                                if (value == null) {
-                                    copy[i] = DataType.getMissingCell();
-                                } else if (type.isCompatible(BooleanValue.class)) {
-                                    copy[i] = BooleanCellFactory.create((Boolean) value);
-                                } else if (type.isCompatible(IntValue.class) && value instanceof Integer) {
-                                    copy[i] = new IntCell((Integer) value);
-                                } else if (type.isCompatible(LongValue.class) && value instanceof Integer) {
-                                    copy[i] = new LongCell(((Integer) value).longValue());
-                                } else if (type.isCompatible(DoubleValue.class) && (value instanceof Double || value instanceof Integer)) {
-                                    if (value instanceof Double) {
-                                        copy[i] = new DoubleCell((Double) value);
-                                    } else {
-                                        copy[i] = new DoubleCell((Integer) value);
-                                    }
-                                }  else if (type.getCellClass().equals(StringCell.class)) {
-                                    copy[i] = new StringCell(value.toString());
-                                } else {
-                                    throw new OperationNotSupportedException("Type " + type.getName() + " is not supported for editing.");
-                                }
-                            } else {
-                                // if editor filter setting has changed, do not apply the change and raise a warning
-                                copy[i] = cell;
-                                conflictEditColumns.add(colName);
-                            }
-                        } else {
-                            copy[i] = cell;
-                        }
-                    }
-                    dc.addRowToTable(new DefaultRow(row.getKey(), copy));
-                }
-                if (conflictEditColumns.size() > 0) {
-                    setWarningMessage("The column(s) " + String.join(",", conflictEditColumns) + " have become not editable. Saved changes for these columns are ignored.");
+                ColumnRearranger rearranger = createEditApplier(m_table.getDataTableSpec(),
+                    viewRepresentation.getEditableColumns(), editorChanges);
+                if (rearranger != null) {
+                    out = exec.createColumnRearrangeTable(m_table, rearranger, exec.createSubExecutionContext(0.5));
                 }
-                dc.close();
-                out = dc.getTable();
             }
 
             if (m_config.getEnableSelection()) {
-                List<String> selectionList = null;
-                if (viewValue != null) {
-                    if (viewValue.getSelection() != null) {
-                        selectionList = Arrays.asList(viewValue.getSelection());
-                    }
-                }
-                ColumnRearranger rearranger = createColumnAppender(out.getDataTableSpec(), selectionList);
+                SelectionIndex selection = SelectionIndex.of(viewValue == null ? null : viewValue.getSelection());
+                ColumnRearranger rearranger = createColumnAppender(out.getDataTableSpec(), selection);
                 out = exec.createColumnRearrangeTable(out, rearranger, exec.createSubExecutionContext(0.5));
             }
             setSubscriptionFilterIds(out.getDataTableSpec());
@@ -377,27 +346,322 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
         return new PortObject[]{out};
     }
 
+    /**
+     * Creates a column rearranger which replaces only the columns that have edits. Untouched columns of the input
+     * table are kept as they are, and the edited values are converted to data cells upfront, so the effort of applying
+     * the changes is independent of the number of untouched columns.
+     *
+     * @return the rearranger or <code>null</code> if none of the changes can be applied
+     */
+    private ColumnRearranger createEditApplier(final DataTableSpec spec, final String[] editableColumnNames,
+        final Map<String, Map<String, Object>> editorChanges) throws OperationNotSupportedException {
+        BitSet editableColumns = new BitSet(spec.getNumColumns());
+        for (String colName : editableColumnNames) {
+            int colIndex = spec.findColumnIndex(colName);
+            if (colIndex >= 0) {
+                editableColumns.set(colIndex);
+            }
+        }
+        // set of columns which were editable, but then have become read-only in the node config dialog
+        Set<String> conflictEditColumns = new HashSet<String>();
+        BitSet editedColumns = new BitSet(spec.getNumColumns());
+        for (Map<String, Object> rowEditorChanges : editorChanges.values()) {
+            for (String colName : rowEditorChanges.keySet()) {
+                int colIndex = spec.findColumnIndex(colName);
+                if (colIndex < 0) {
+                    continue;
+                }
+                if (editableColumns.get(colIndex)) {
+                    editedColumns.set(colIndex);
+                } else {
+                    // if editor filter setting has changed, do not apply the change and raise a warning
+                    conflictEditColumns.add(colName);
+                }
+            }
+        }
+        if (conflictEditColumns.size() > 0) {
+            setWarningMessage("The column(s) " + String.join(",", conflictEditColumns) + " have become not editable. Saved changes for these columns are ignored.");
+        }
+        if (editedColumns.isEmpty()) {
+            return null;
+        }
+
+        final int[] replacedColumns = editedColumns.stream().toArray();
+        DataColumnSpec[] replacedSpecs = new DataColumnSpec[replacedColumns.length];
+        for (int i = 0; i < replacedColumns.length; i++) {
+            replacedSpecs[i] = spec.getColumnSpec(replacedColumns[i]);
+        }
+        // convert the edited values of each row, a null cell keeps the cell of the input table
+        final Map<String, DataCell[]> editedCells = new HashMap<String, DataCell[]>(editorChanges.size() * 2);
+        for (Map.Entry<String, Map<String, Object>> rowEditorChanges : editorChanges.entrySet()) {
+            DataCell[] cells = null;
+            for (int i = 0; i < replacedColumns.length; i++) {
+                String colName = replacedSpecs[i].getName();
+                if (rowEditorChanges.getValue().containsKey(colName)) {
+                    if (cells == null) {
+                        cells = new DataCell[replacedColumns.length];
+                    }
+                    cells[i] = createEditedCell(rowEditorChanges.getValue().get(colName), replacedSpecs[i].getType());
+                }
+            }
+            if (cells != null) {
+                editedCells.put(rowEditorChanges.getKey(), cells);
+            }
+        }
+
+        ColumnRearranger rearranger = new ColumnRearranger(spec);
+        rearranger.replace(new AbstractCellFactory(replacedSpecs) {
+            @Override
+            public DataCell[] getCells(final DataRow row) {
+                DataCell[] rowEditedCells = editedCells.get(row.getKey().getString());
+                DataCell[] cells = new DataCell[replacedColumns.length];
+                for (int i = 0; i < replacedColumns.length; i++) {
+                    cells[i] = rowEditedCells != null && rowEditedCells[i] != null ? rowEditedCells[i]
+                        : row.getCell(replacedColumns[i]);
+                }
+                return cells;
+            }
+        }, replacedColumns);
+        return rearranger;
+    }
+
+    private static DataCell createEditedCell(final Object value, final DataType type)
+        throws OperationNotSupportedException {
+        if (value == null) {
+            return DataType.getMissingCell();
+        } else if (type.isCompatible(BooleanValue.class)) {
+            return BooleanCellFactory.create((Boolean) value);
+        } else if (type.isCompatible(IntValue.class) && value instanceof Integer) {
+            return new IntCell((Integer) value);
+        } else if (type.isCompatible(LongValue.class) && value instanceof Integer) {
+            return new LongCell(((Integer) value).longValue());
+        } else if (type.isCompatible(DoubleValue.class) && (value instanceof Double || value instanceof Integer)) {
+            if (value instanceof Double) {
+                return new DoubleCell((Double) value);
+            } else {
+                return new DoubleCell((Integer) value);
+            }
+        }  else if (type.getCellClass().equals(StringCell.class)) {
+            return new StringCell(value.toString());
+        } else {
+            throw new OperationNotSupportedException("Type " + type.getName() + " is not supported for editing.");
+        }
+    }
+
     private JSONDataTable createJSONTableFromBufferedDataTable(final BufferedDataTable table, final ExecutionContext exec) throws CanceledExecutionException {
         FilterResult filter = m_config.getColumnFilterConfig().applyTo(table.getDataTableSpec());
         //ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
         //rearranger.keepOnly(filter.getIncludes());
         //BufferedDataTable filteredTable = exec.createColumnRearrangeTable(table, rearranger, exec.createSubExecutionContext(0.5));
-        JSONDataTable jsonTable = JSONDataTable.newBuilder()
+        JSONDataTable.Builder builder = JSONDataTable.newBuilder()
                 .setDataTable(table)
                 .setId(getTableId(0))
                 .setFirstRow(1)
-                .setMaxRows(m_config.getMaxRows())
                 .setExcludeColumns(filter.getExcludes())
                 .keepFilterColumns(true)
-                .calculateDataHash(true)
-                .useIncomingTableDomain(m_config.isUsingIncomingTableDomain())
-                .build(exec);
+                .useIncomingTableDomain(m_config.isUsingIncomingTableDomain());
+        if (isLazyLoading()) {
+            // only the first page is part of the representation, further pages are requested by the view
+            builder.setMaxRows(Math.min(m_config.getIntialPageSize(), m_config.getMaxRows()));
+        } else {
+            builder.setMaxRows(m_config.getMaxRows());
+            // editor changes saved by older versions are validated against the hash of the JSON table
+            builder.calculateDataHash(isLegacyTableHash(getSavedTableHash()));
+        }
+        JSONDataTable jsonTable = builder.build(exec);
         if (m_config.getMaxRows() < table.size()) {
             setWarningMessage("Only the first " + m_config.getMaxRows() + " rows are displayed.");
         }
         return jsonTable;
     }
 
+    private boolean isLazyLoading() {
+        return m_config.getEnablePaging() && m_config.getEnableLazyLoading();
+    }
+
+    /**
+     * @return the number of rows of the given table displayed in the view
+     */
+    private long getRowCount(final BufferedDataTable table) {
+        return Math.min(table.size(), m_config.getMaxRows());
+    }
+
+    private String calculateDataHash(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        FilterResult filter = m_config.getColumnFilterConfig().applyTo(table.getDataTableSpec());
+        String[] columns = filter.getIncludes();
+        long numRows = getRowCount(table);
+        TableEditorDataHash dataHash = m_dataHash;
+        if (dataHash == null || !dataHash.isHashOf(table, columns, numRows)) {
+            dataHash = TableEditorDataHash.compute(table, columns, numRows, exec);
+            m_dataHash = dataHash;
+        }
+        return dataHash.getHash();
+    }
+
+    /**
+     * @return the hash of the table the saved editor changes belong to
+     */
+    private String getSavedTableHash() {
+        TableEditorViewValue viewValue = getViewValue();
+        return viewValue == null || isViewValueEmpty() ? m_config.getTableHash() : viewValue.getTableHash();
+    }
+
+    private boolean isLegacyTableHash(final String tableHash) {
+        return tableHash != null && !TableEditorDataHash.isRowHash(tableHash) && !isLazyLoading();
+    }
+
+    /**
+     * @return true if the editor changes of both table hashes belong to the same table
+     */
+    private boolean isSameTable(final String tableHash, final String otherTableHash) {
+        if (Objects.equals(tableHash, otherTableHash)) {
+            return true;
+        }
+        TableEditorViewRepresentation representation = getViewRepresentation();
+        return representation != null && isSameTable(representation, tableHash)
+            && isSameTable(representation, otherTableHash);
+    }
+
+    /**
+     * @return true if the editor changes of the given table hash belong to the displayed rows, changes saved by older
+     *         versions are validated against the hash of the JSON table
+     */
+    private static boolean isSameTable(final TableEditorViewRepresentation representation, final String tableHash) {
+        if (tableHash == null) {
+            return false;
+        }
+        if (tableHash.equals(representation.getDataHash())) {
+            return true;
+        }
+        Optional<String> legacyHash =
+            representation.getTable() == null ? Optional.empty() : representation.getTable().getDataHash();
+        return !TableEditorDataHash.isRowHash(tableHash) && legacyHash.isPresent()
+            && legacyHash.get().equals(tableHash);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadViewValue(final TableEditorViewValue viewValue, final boolean useAsDefault) {
+        synchronized (getLock()) {
+            TableEditorViewValue currentValue = getViewValue();
+            if (viewValue != null && viewValue.getIncrementalEditorChanges()) {
+                // the view posted its edits with requests before, only the unconfirmed ones are part of the value
+                TableEditorChangesSettingsModel changes =
+                    new TableEditorChangesSettingsModel(TableEditorViewConfig.CFG_EDITOR_CHANGES);
+                if (currentValue != null && isSameTable(viewValue.getTableHash(), currentValue.getTableHash())) {
+                    changes.mergeChanges(currentValue.getEditorChanges().getChanges());
+                }
+                PostedEditorChanges posted = m_postedChanges.remove(viewValue.getEditSession());
+                if (posted != null && isSameTable(viewValue.getTableHash(), posted.m_tableHash)) {
+                    changes.mergeChanges(posted.m_changes.getChanges());
+                }
+                changes.mergeChanges(viewValue.getEditorChanges().getChanges());
+                viewValue.setEditorChanges(changes);
+                viewValue.setIncrementalEditorChanges(false);
+            }
+            super.loadViewValue(viewValue, useAsDefault);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableEditorViewRequest createEmptyViewRequest() {
+        return new TableEditorViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableEditorViewResponse handleRequest(final TableEditorViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final TableEditorViewResponse response = new TableEditorViewResponse(request);
+        try {
+            final DirectAccessTable cache;
+            final BufferedDataTable table;
+            synchronized (getLock()) {
+                if (m_table == null) {
+                    throw new IllegalStateException("No table available, node needs to be executed.");
+                }
+                // posted edits are buffered per view and only become part of the view value when it is applied
+                PostedEditorChanges posted = m_postedChanges.get(request.getEditSession());
+                if (request.getEditorChanges() != null) {
+                    if (posted == null || !Objects.equals(posted.m_tableHash, request.getTableHash())) {
+                        posted = new PostedEditorChanges(request.getTableHash());
+                        m_postedChanges.put(request.getEditSession(), posted);
+                    }
+                    posted.m_changes.mergeChanges(request.getEditorChanges());
+                }
+                Set<String> editedRows = new HashSet<String>();
+                TableEditorViewValue viewValue = getViewValue();
+                if (viewValue != null && isSameTable(request.getTableHash(), viewValue.getTableHash())) {
+                    editedRows.addAll(viewValue.getEditorChanges().getChanges().keySet());
+                }
+                if (posted != null) {
+                    editedRows.addAll(posted.m_changes.getChanges().keySet());
+                }
+                response.setNumEditedRows(editedRows.size());
+                if (m_cache == null) {
+                    initializeCache();
+                }
+                cache = m_cache;
+                table = m_table;
+            }
+            final long rowCount = getRowCount(table);
+            response.setRowCount(rowCount);
+            if (request.getLength() > 0 && request.getStart() < rowCount) {
+                final int length = (int)Math.min(request.getLength(), rowCount - request.getStart());
+                exec.setMessage("Caching rows...");
+                final List<DataRow> rows = cache.getRows(request.getStart(), length, exec.createSubProgress(0.9));
+                exec.setMessage("Serializing response...");
+                final FilterResult filter = m_config.getColumnFilterConfig().applyTo(table.getDataTableSpec());
+                final JSONDataTable jsonTable = JSONDataTable.newBuilder()
+                        .setDataTable(table)
+                        .setId(getTableId(0))
+                        .setExcludeColumns(filter.getExcludes())
+                        .keepFilterColumns(true)
+                        .useIncomingTableDomain(m_config.isUsingIncomingTableDomain())
+                        .setDataRows(rows.stream().toArray(DataRow[]::new))
+                        .setFirstRow(request.getStart() + 1)
+                        .setMaxRows(length)
+                        .build(exec.createSubProgress(0.1));
+                response.setTable(jsonTable);
+            }
+        } catch (CanceledExecutionException e) {
+            // request was cancelled, no need for special treatment
+            throw e;
+        } catch (Exception e) {
+            // wrap all other exceptions for proper error handling
+            LOGGER.error("Table editor request could not be processed: " + e.getMessage(), e);
+            response.setError(e.getMessage());
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
+    }
+
+    private void initializeCache() {
+        // only cache the columns serialized for a page, the displayed ones and the ones with a filter handler
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final Set<String> excludes =
+            new HashSet<String>(Arrays.asList(m_config.getColumnFilterConfig().applyTo(spec).getExcludes()));
+        final String[] cachedColumns = spec.stream()
+            .filter(c -> !excludes.contains(c.getName()) || c.getFilterHandler().isPresent())
+            .map(DataColumnSpec::getName).toArray(String[]::new);
+        WindowCacheTable cache = new WindowCacheTable(m_table, cachedColumns);
+        int maxPageSize = m_config.getIntialPageSize();
+        if (m_config.getEnablePageSizeChange() && m_config.getAllowedPageSizes().length > 0) {
+            maxPageSize = Math.max(maxPageSize, Arrays.stream(m_config.getAllowedPageSizes()).max().getAsInt());
+        }
+        // same sizing as the lazy loading table view, the default cache size (500) or 5 times the largest page size
+        cache.setCacheSize(Math.max(5 * maxPageSize, WindowCacheTable.DEFAULT_CACHE_SIZE));
+        m_cache = cache;
+    }
+
     private void setSubscriptionFilterIds(final DataTableSpec spec) {
         TableEditorViewRepresentation viewRepresentation = getViewRepresentation();
         if (viewRepresentation != null) {
@@ -451,6 +715,18 @@ private void copyConfigToRepresentation() {
             viewRepresentation.setSingleSelection(m_config.getSingleSelection());
             viewRepresentation.setEnableClearSelectionButton(m_config.getEnableClearSelectionButton());
 
+            //added with 5.12
+            viewRepresentation.setEnableLazyLoading(isLazyLoading());
+            viewRepresentation.setRowCount(getRowCount(m_table));
+            if (isLazyLoading()) {
+                // searching, sorting and hiding rows would need all rows in the view
+                viewRepresentation.setEnableSearching(false);
+                viewRepresentation.setEnableColumnSearching(false);
+                viewRepresentation.setEnableSorting(false);
+                viewRepresentation.setEnableHideUnselected(false);
+                viewRepresentation.setPageSizeShowAll(false);
+            }
+
             //editor settings
             viewRepresentation.setEditableColumns(m_config.getEditableColumnFilterConfig().applyTo(m_table.getDataTableSpec()).getIncludes());
 
@@ -461,7 +737,8 @@ private void copyConfigToRepresentation() {
                 viewValue.setSubscribeFilter(m_config.getSubscribeFilter());
 
                 //added with 3.4
-                viewValue.setHideUnselected(m_config.getHideUnselected() && !m_config.getSingleSelection());
+                viewValue.setHideUnselected(
+                    m_config.getHideUnselected() && !m_config.getSingleSelection() && !isLazyLoading());
 
                 //editor settings
                 viewValue.setEditorChanges(m_config.getEditorChanges());
@@ -476,6 +753,11 @@ private void copyConfigToRepresentation() {
     @Override
     protected void performReset() {
         m_table = null;
+        m_cache = null;
+        // the data hash is kept, it is only reused if the input table is still the same when executed again
+        synchronized (getLock()) {
+            m_postedChanges.clear();
+        }
     }
 
     /**
@@ -530,4 +812,18 @@ public JSONLayoutViewContent getLayoutTemplate() {
         return layout;
     }
 
+    /**
+     * Edits posted by one view with requests that have not been applied yet.
+     */
+    private static final class PostedEditorChanges {
+
+        private final String m_tableHash;
+        private final TableEditorChangesSettingsModel m_changes =
+            new TableEditorChangesSettingsModel(TableEditorViewConfig.CFG_EDITOR_CHANGES);
+
+        PostedEditorChanges(final String tableHash) {
+            m_tableHash = tableHash;
+        }
+    }
+
 }
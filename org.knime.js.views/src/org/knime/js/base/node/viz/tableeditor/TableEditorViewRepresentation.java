@@ -76,6 +76,11 @@ public class TableEditorViewRepresentation extends JSONViewContent {
     private int[] m_allowedPageSizes;
     private boolean m_pageSizeShowAll;
     private boolean m_enableJumpToPage;
+    private boolean m_enableLazyLoading;
+    private static final String CFG_ROW_COUNT = "rowCount";
+    private long m_rowCount;
+    private static final String CFG_DATA_HASH = "dataHash";
+    private String m_dataHash;
     private boolean m_displayRowColors;
     private boolean m_displayRowIds;
     private boolean m_displayColumnHeaders;
@@ -219,6 +224,49 @@ public void setEnableJumpToPage(final boolean enableJumpToPage) {
         m_enableJumpToPage = enableJumpToPage;
     }
 
+    /**
+     * @return the enableLazyLoading
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
+    /**
+     * @return the number of rows displayed in the view, needed for paging if rows are loaded on demand
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the rowCount to set
+     */
+    public void setRowCount(final long rowCount) {
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * @return the hash of the displayed rows, which the editor changes are validated against, null if the
+     *         representation was created by an older version
+     */
+    public String getDataHash() {
+        return m_dataHash;
+    }
+
+    /**
+     * @param dataHash the dataHash to set
+     */
+    public void setDataHash(final String dataHash) {
+        m_dataHash = dataHash;
+    }
+
     /**
      * @return the displayRowColors
      */
@@ -599,6 +647,11 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         settings.addBoolean(TableEditorViewConfig.CFG_SINGLE_SELECTION, m_singleSelection);
         settings.addBoolean(TableEditorViewConfig.CFG_ENABLE_CLEAR_SELECTION_BUTTON, m_enableClearSelectionButton);
 
+        //added with 5.12
+        settings.addBoolean(TableEditorViewConfig.CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+        settings.addString(CFG_DATA_HASH, m_dataHash);
+
         //editor settings
         settings.addStringArray(CFG_EDITABLE_COLUMNS, m_editableColumns);
     }
@@ -649,6 +702,12 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
         m_singleSelection = settings.getBoolean(TableEditorViewConfig.CFG_SINGLE_SELECTION, TableEditorViewConfig.DEFAULT_SINGLE_SELECTION);
         m_enableClearSelectionButton = settings.getBoolean(TableEditorViewConfig.CFG_ENABLE_CLEAR_SELECTION_BUTTON, TableEditorViewConfig.DEFAULT_ENABLE_CLEAR_SELECTION_BUTTON);
 
+        //added with 5.12
+        m_enableLazyLoading = settings.getBoolean(TableEditorViewConfig.CFG_ENABLE_LAZY_LOADING,
+            TableEditorViewConfig.DEFAULT_ENABLE_LAZY_LOADING);
+        m_rowCount = settings.getLong(CFG_ROW_COUNT, 0);
+        m_dataHash = settings.getString(CFG_DATA_HASH, null);
+
         //editor settings
         m_editableColumns = settings.getStringArray(CFG_EDITABLE_COLUMNS, (String[])null);
     }
@@ -676,6 +735,9 @@ public boolean equals(final Object obj) {
                 .append(m_allowedPageSizes, other.m_allowedPageSizes)
                 .append(m_pageSizeShowAll, other.m_pageSizeShowAll)
                 .append(m_enableJumpToPage, other.m_enableJumpToPage)
+                .append(m_enableLazyLoading, other.m_enableLazyLoading)
+                .append(m_rowCount, other.m_rowCount)
+                .append(m_dataHash, other.m_dataHash)
                 .append(m_displayRowColors, other.m_displayRowColors)
                 .append(m_displayRowIds, other.m_displayRowIds)
                 .append(m_displayColumnHeaders, other.m_displayColumnHeaders)
@@ -715,6 +777,9 @@ public int hashCode() {
                 .append(m_allowedPageSizes)
                 .append(m_pageSizeShowAll)
                 .append(m_enableJumpToPage)
+                .append(m_enableLazyLoading)
+                .append(m_rowCount)
+                .append(m_dataHash)
                 .append(m_displayRowColors)
                 .append(m_displayRowIds)
                 .append(m_displayColumnHeaders)
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewRequest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Request issued by the table editor view if lazy loading is enabled. It fetches the rows of a page and posts the
+ * cells edited since the last request, which are buffered by the node until the view value is applied.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class TableEditorViewRequest extends JSONViewRequest {
+
+    private long m_start;
+    private int m_length;
+    private Map<String, Map<String, Object>> m_editorChanges;
+    private String m_tableHash;
+    private String m_editSession;
+
+    /**
+     * @return the index of the first requested row (0-based)
+     */
+    public long getStart() {
+        return m_start;
+    }
+
+    /**
+     * @param start the start to set
+     */
+    public void setStart(final long start) {
+        m_start = start;
+    }
+
+    /**
+     * @return the number of requested rows, 0 if the request only posts editor changes
+     */
+    public int getLength() {
+        return m_length;
+    }
+
+    /**
+     * @param length the length to set
+     */
+    public void setLength(final int length) {
+        m_length = length;
+    }
+
+    /**
+     * @return the cells edited since the last request, a map from row key to a map from column name to value, or
+     *         null if nothing was edited
+     */
+    public Map<String, Map<String, Object>> getEditorChanges() {
+        return m_editorChanges;
+    }
+
+    /**
+     * @param editorChanges the editorChanges to set
+     */
+    public void setEditorChanges(final Map<String, Map<String, Object>> editorChanges) {
+        m_editorChanges = editorChanges;
+    }
+
+    /**
+     * @return the hash of the table the editor changes refer to
+     */
+    public String getTableHash() {
+        return m_tableHash;
+    }
+
+    /**
+     * @param tableHash the tableHash to set
+     */
+    public void setTableHash(final String tableHash) {
+        m_tableHash = tableHash;
+    }
+
+    /**
+     * @return the id of the view instance posting the editor changes
+     */
+    public String getEditSession() {
+        return m_editSession;
+    }
+
+    /**
+     * @param editSession the editSession to set
+     */
+    public void setEditSession(final String editSession) {
+        m_editSession = editSession;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        TableEditorViewRequest other = (TableEditorViewRequest)obj;
+        return new EqualsBuilder()
+                .append(m_start, other.m_start)
+                .append(m_length, other.m_length)
+                .append(m_editorChanges, other.m_editorChanges)
+                .append(m_tableHash, other.m_tableHash)
+                .append(m_editSession, other.m_editSession)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_start)
+                .append(m_length)
+                .append(m_editorChanges)
+                .append(m_tableHash)
+                .append(m_editSession)
+                .toHashCode();
+    }
+}
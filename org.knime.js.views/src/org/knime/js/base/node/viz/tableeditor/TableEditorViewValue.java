@@ -107,6 +107,11 @@ public class TableEditorViewValue extends JSONViewContent {
     private static final String CFG_TABLE_HASH = "tableHash";
     private String m_tableHash = null;
 
+    // set by the view if the editor changes have been posted by requests and only the unconfirmed ones are contained
+    private boolean m_incrementalEditorChanges;
+    // identifies the view instance which posted the editor changes
+    private String m_editSession;
+
     /**
      * @return the selection
      */
@@ -317,6 +322,39 @@ public void setTableHash(final String tableHash) {
         m_tableHash = tableHash;
     }
 
+    /**
+     * @return true if the editor changes of this value are to be merged into the changes posted before, false if
+     *         they replace them
+     * @since 5.12
+     */
+    public boolean getIncrementalEditorChanges() {
+        return m_incrementalEditorChanges;
+    }
+
+    /**
+     * @param incrementalEditorChanges the incrementalEditorChanges to set
+     * @since 5.12
+     */
+    public void setIncrementalEditorChanges(final boolean incrementalEditorChanges) {
+        m_incrementalEditorChanges = incrementalEditorChanges;
+    }
+
+    /**
+     * @return the id of the view instance which posted the editor changes with requests, null if not posted
+     * @since 5.12
+     */
+    public String getEditSession() {
+        return m_editSession;
+    }
+
+    /**
+     * @param editSession the editSession to set
+     * @since 5.12
+     */
+    public void setEditSession(final String editSession) {
+        m_editSession = editSession;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -417,6 +455,8 @@ public boolean equals(final Object obj) {
                 .append(m_subscribeFilter, other.m_subscribeFilter)
                 .append(m_editorChanges, other.m_editorChanges)
                 .append(m_tableHash, m_tableHash)
+                .append(m_incrementalEditorChanges, other.m_incrementalEditorChanges)
+                .append(m_editSession, other.m_editSession)
                 .isEquals();
     }
 
@@ -441,6 +481,8 @@ public int hashCode() {
                 .append(m_subscribeFilter)
                 .append(m_editorChanges)
                 .append(m_tableHash)
+                .append(m_incrementalEditorChanges)
+                .append(m_editSession)
                 .toHashCode();
     }
 
@@ -49,18 +49,18 @@
 package org.knime.js.base.node.viz.tagcloud;
 
 import java.awt.Color;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
 
 import org.apache.commons.lang3.StringUtils;
-import org.knime.base.node.util.DataArray;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -69,6 +69,9 @@
 import org.knime.core.data.DataValue;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.util.DataValueColumnFilter;
 import org.knime.js.core.CSSUtils;
@@ -86,6 +89,10 @@ public class TagCloudTermCellResolver {
     private static boolean SUPPORTS_TERMS = false;
     private static Class<DataValue> termValueClass;
     private static Class<?> termClass;
+    private static MethodHandle getTermValueHandle;
+    private static MethodHandle getTextHandle;
+    private static MethodHandle getWordsHandle;
+    private static MethodHandle termConstructorHandle;
 
     private boolean m_aggregateStrings = false;
     private boolean m_ignoreTermTags = false;
@@ -107,6 +114,27 @@ public class TagCloudTermCellResolver {
         } catch (Throwable throwable) {
             SUPPORTS_TERMS = false;
         }
+        if (SUPPORTS_TERMS) {
+            // resolve the reflective accessors once instead of for every row
+            Lookup lookup = MethodHandles.publicLookup();
+            getTermValueHandle = unreflect(lookup, termValueClass, "getTermValue");
+            getTextHandle = unreflect(lookup, termClass, "getText");
+            getWordsHandle = unreflect(lookup, termValueClass, "getWords");
+            try {
+                termConstructorHandle =
+                    lookup.unreflectConstructor(termClass.getConstructor(List.class, List.class, Boolean.class));
+            } catch (Exception e) {
+                termConstructorHandle = null;
+            }
+        }
+    }
+
+    private static MethodHandle unreflect(final Lookup lookup, final Class<?> clazz, final String methodName) {
+        try {
+            return lookup.unreflect(clazz.getMethod(methodName));
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     static boolean supportsTermCells() {
@@ -183,7 +211,8 @@ boolean isClippingOccured() {
         return m_clippingOccured;
     }
 
-    List<TagCloudData> extractWordCloudData(final DataArray data, final ExecutionContext exec) throws IllegalArgumentException {
+    List<TagCloudData> extractWordCloudData(final BufferedDataTable data, final ExecutionContext exec)
+        throws IllegalArgumentException, CanceledExecutionException {
         // sanity check
         if (!m_useRowIds && StringUtils.isEmpty(m_wordColumn)) {
             throw new IllegalArgumentException("No word column specified!");
@@ -198,90 +227,100 @@ List<TagCloudData> extractWordCloudData(final DataArray data, final ExecutionCon
         int termColIndex = -1;
         if (!m_useRowIds && StringUtils.isNoneEmpty(m_wordColumn)) {
             termColIndex = spec.findColumnIndex(m_wordColumn);
-            isTermType = isTermValue(spec.getColumnSpec(termColIndex));
+            isTermType = isTermValue(spec.getColumnSpec(termColIndex)) && getTermValueHandle != null
+                && getTextHandle != null;
         }
         int sizeColIndex = -1;
         if (StringUtils.isNoneEmpty(m_sizeColumn)) {
-            sizeColIndex = data.getDataTableSpec().findColumnIndex(m_sizeColumn);
+            sizeColIndex = spec.findColumnIndex(m_sizeColumn);
         }
 
         ExecutionContext creationContext = exec.createSubExecutionContext(0.8);
         creationContext.setMessage("Extracting tag cloud data...");
 
         //initializing generic map to hold term and string values which can be used for aggregation
-        Map<Object, TagCloudData> map = new HashMap<Object, TagCloudData>();
-        int rowID = 0;
+        Map<Object, TagBuilder> map = new HashMap<Object, TagBuilder>();
+        final double numRows = data.size();
+        long rowID = 0;
         int tagID = 0;
-        for (final DataRow row : data) {
-            //ignore missing cells
-            if ((termColIndex > -1 && row.getCell(termColIndex).isMissing())
-                    || sizeColIndex > -1 && row.getCell(sizeColIndex).isMissing()) {
-                m_numMissing++;
-                continue;
-            }
-            Object key;
-            String word;
-            String rowKey = row.getKey().getString();
-            if (m_useRowIds) {
-                word = rowKey;
-                key = word;
-            } else {
-                DataCell wordCell = row.getCell(termColIndex);
-                word = ((StringValue)wordCell).getStringValue();
-                key = word;
-                if (isTermType) {
-                    try {
-                        Method getTermValue = termValueClass.getMethod("getTermValue");
-                        Object term = getTermValue.invoke(wordCell);
-                        Method getText = termClass.getMethod("getText");
-                        word = (String)getText.invoke(term);
-                        key = term;
-                        if (m_ignoreTermTags) {
-                            Constructor<?> cons = termClass.getConstructor(List.class, List.class, Boolean.class);
-                            Method getWords = termValueClass.getMethod("getWords");
-                            key = cons.newInstance(getWords.invoke(term), null, true);
-                        }
-                    } catch (Exception e) { /* do nothing */ }
+        try (CloseableRowIterator it = data.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                creationContext.checkCanceled();
+                creationContext.setProgress(++rowID / numRows);
+                //ignore missing cells
+                if ((termColIndex > -1 && row.getCell(termColIndex).isMissing())
+                        || sizeColIndex > -1 && row.getCell(sizeColIndex).isMissing()) {
+                    m_numMissing++;
+                    continue;
+                }
+                Object key;
+                String word;
+                String rowKey = row.getKey().getString();
+                if (m_useRowIds) {
+                    word = rowKey;
+                    key = word;
+                } else {
+                    DataCell wordCell = row.getCell(termColIndex);
+                    word = ((StringValue)wordCell).getStringValue();
+                    key = word;
+                    if (isTermType) {
+                        try {
+                            Object term = getTermValueHandle.invoke(wordCell);
+                            word = (String)getTextHandle.invoke(term);
+                            key = term;
+                            if (m_ignoreTermTags && getWordsHandle != null && termConstructorHandle != null) {
+                                key = termConstructorHandle.invoke(getWordsHandle.invoke(term), null, true);
+                            }
+                        } catch (Throwable e) { /* do nothing */ }
+                    }
                 }
-            }
 
-            double size = 0;
-            if (m_useSizeProperty) {
-                size = spec.getRowSizeFactor(row);
-            } else {
-                DataCell sizeCell = row.getCell(sizeColIndex);
-                size = ((DoubleValue)sizeCell).getDoubleValue();
-            }
+                double size = 0;
+                if (m_useSizeProperty) {
+                    size = spec.getRowSizeFactor(row);
+                } else {
+                    DataCell sizeCell = row.getCell(sizeColIndex);
+                    size = ((DoubleValue)sizeCell).getDoubleValue();
+                }
 
-            if (m_aggregateStrings && map.containsKey(key)) {
-                TagCloudData wcd = map.get(key);
-                wcd.setSize(wcd.getSize() + size);
-                Set<String> rowKeySet = new HashSet<String>(Arrays.asList(wcd.getRowIDs()));
-                rowKeySet.add(rowKey);
-                wcd.setRowIDs(rowKeySet.toArray(new String[0]));
-            } else {
-                TagCloudData wcd = new TagCloudData();
-                wcd.setId("tag_" + Integer.toString(++tagID));
-                wcd.setRowIDs(new String[]{rowKey});
-                wcd.setText(word);
-                wcd.setSize(size);
-                if (m_extractRowColors) {
-                    Color c = spec.getRowColor(row).getColor();
-                    wcd.setColor(CSSUtils.cssHexStringFromColor(c));
+                TagBuilder tag = m_aggregateStrings ? map.get(key) : null;
+                if (tag != null) {
+                    tag.add(rowKey, size);
+                } else {
+                    TagCloudData wcd = new TagCloudData();
+                    wcd.setId("tag_" + Integer.toString(++tagID));
+                    wcd.setText(word);
+                    if (m_extractRowColors) {
+                        Color c = spec.getRowColor(row).getColor();
+                        wcd.setColor(CSSUtils.cssHexStringFromColor(c));
+                    }
+                    tag = new TagBuilder(wcd);
+                    tag.add(rowKey, size);
+                    map.put(key, tag);
                 }
-                map.put(key, wcd);
             }
-            creationContext.setProgress(++rowID / data.size());
         }
 
         exec.setMessage("Sorting tag cloud data...");
-        //sort and top n
-        List<TagCloudData> list = map.entrySet()
-            .stream()
-            .sorted(Map.Entry.<Object, TagCloudData>comparingByValue((final TagCloudData v1, final TagCloudData v2) -> Double.compare(v2.getSize(), v1.getSize())))
-            .limit(m_maxRows)
-            .map(Map.Entry::getValue)
-            .collect(Collectors.toList());
+        //keep the top n tags in a bounded min-heap instead of sorting all of them
+        List<TagCloudData> list = new ArrayList<TagCloudData>(Math.min(map.size(), Math.max(m_maxRows, 0)));
+        if (m_maxRows > 0) {
+            PriorityQueue<TagBuilder> topTags = new PriorityQueue<TagBuilder>(Math.min(map.size(), m_maxRows) + 1,
+                (t1, t2) -> Double.compare(t1.m_size, t2.m_size));
+            for (TagBuilder tag : map.values()) {
+                if (topTags.size() < m_maxRows) {
+                    topTags.add(tag);
+                } else if (tag.m_size > topTags.peek().m_size) {
+                    topTags.poll();
+                    topTags.add(tag);
+                }
+            }
+            while (!topTags.isEmpty()) {
+                list.add(topTags.poll().build());
+            }
+            Collections.reverse(list);
+        }
         if (list.size() < map.size()) {
             m_clippingOccured = true;
         }
@@ -289,4 +328,37 @@ List<TagCloudData> extractWordCloudData(final DataArray data, final ExecutionCon
         return list;
     }
 
+    /**
+     * Collects size and row IDs of a tag. Row IDs are appended to a growable buffer, which is copied to the tag only
+     * once, so that aggregating a word is linear in its number of occurrences.
+     */
+    private static final class TagBuilder {
+
+        private final TagCloudData m_data;
+
+        private String[] m_rowIDs = new String[1];
+
+        private int m_numRowIDs = 0;
+
+        private double m_size = 0;
+
+        TagBuilder(final TagCloudData data) {
+            m_data = data;
+        }
+
+        void add(final String rowID, final double size) {
+            if (m_numRowIDs == m_rowIDs.length) {
+                m_rowIDs = Arrays.copyOf(m_rowIDs, m_rowIDs.length * 2);
+            }
+            m_rowIDs[m_numRowIDs++] = rowID;
+            m_size += size;
+        }
+
+        TagCloudData build() {
+            m_data.setRowIDs(m_numRowIDs == m_rowIDs.length ? m_rowIDs : Arrays.copyOf(m_rowIDs, m_numRowIDs));
+            m_data.setSize(m_size);
+            return m_data;
+        }
+    }
+
 }
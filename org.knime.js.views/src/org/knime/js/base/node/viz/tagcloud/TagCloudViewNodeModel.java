@@ -55,8 +55,6 @@
 import java.util.Map;
 
 import org.knime.base.data.xml.SvgCell;
-import org.knime.base.node.util.DataArray;
-import org.knime.base.node.util.DefaultDataArray;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -67,6 +65,7 @@
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
@@ -83,6 +82,7 @@
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.selection.SelectionIndex;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
@@ -136,7 +136,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         }
         DataTableSpec tableSpec = inSpec;
         if (m_config.getEnableSelection()) {
-            ColumnRearranger rearranger = createColumnAppender(inSpec, null);
+            ColumnRearranger rearranger = createColumnAppender(inSpec, SelectionIndex.of(null));
             tableSpec = inSpec = rearranger.createSpec();
         }
         return new PortObjectSpec[]{imageSpec, tableSpec};
@@ -247,13 +247,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
             representation.setImageGeneration(false);
             if (m_config.getEnableSelection()) {
                 TagCloudViewValue viewValue = getViewValue();
-                List<String> selectionList = null;
-                if (viewValue != null) {
-                    if (viewValue.getSelection() != null) {
-                        selectionList = Arrays.asList(viewValue.getSelection());
-                    }
-                }
-                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
+                SelectionIndex selection = SelectionIndex.of(viewValue == null ? null : viewValue.getSelection());
+                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selection);
                 returnTable = exec.createColumnRearrangeTable(m_table, rearranger, exec);
             }
         }
@@ -261,8 +256,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         return new PortObject[]{svgImageFromView, returnTable};
     }
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        final List<String> usedRowIds = getAllRowIdsFromData();
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final SelectionIndex selection) {
+        final SelectionIndex usedRowIds = SelectionIndex.of(getAllRowIdsFromData());
         String newColName = m_config.getSelectionColumnName();
         if (newColName == null || newColName.trim().isEmpty()) {
             newColName = TagCloudViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
@@ -275,18 +270,11 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
 
             @Override
             public DataCell getCell(final DataRow row) {
-                String rowID = row.getKey().toString();
+                String rowID = row.getKey().getString();
                 if (!usedRowIds.contains(rowID)) {
                     return DataType.getMissingCell();
                 }
-                if (selectionList != null) {
-                    if (selectionList.contains(rowID)) {
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                return BooleanCell.FALSE;
+                return BooleanCellFactory.create(selection.contains(rowID));
             }
         };
         rearranger.append(fac);
@@ -303,8 +291,7 @@ private List<TagCloudData> extractWordCloudData(final BufferedDataTable table, f
                 .aggregateStrings(m_config.getAggregateWords())
                 .ignoreTermTags(m_config.getIgnoreTermTags())
                 .extractRowColors(m_config.getUseColorProp());
-        DataArray da = new DefaultDataArray(table, 1, Integer.MAX_VALUE, exec.createSubExecutionContext(0.2));
-        List<TagCloudData> data = termResolver.extractWordCloudData(da, exec.createSubExecutionContext(0.8));
+        List<TagCloudData> data = termResolver.extractWordCloudData(table, exec);
 
         Map<String, String> warnMessages = new HashMap<String, String>();
         if (termResolver.isClippingOccured()) {
@@ -350,7 +337,7 @@ private JSONDataTable getJSONTable(final BufferedDataTable table, final Executio
                 .build(exec);
     }
 
-    private List<String> getAllRowIdsFromData() {
+    private String[] getAllRowIdsFromData() {
         TagCloudViewRepresentation representation = getViewRepresentation();
         List<String> rowIDs = new ArrayList<String>();
         if (representation != null && representation.getData() != null) {
@@ -358,7 +345,7 @@ private List<String> getAllRowIdsFromData() {
                 rowIDs.addAll(Arrays.asList(tcd.getRowIDs()));
             }
         }
-        return rowIDs;
+        return rowIDs.toArray(new String[0]);
     }
 
     /**
@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.util.selection;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.knime.core.data.RowKey;
+
+/**
+ * Read-only hash index over the row keys of a view selection. Used by the "append selection column" cell factories
+ * of the JavaScript views, which need to look up every output row in the selection. Compared to
+ * {@code Arrays.asList(selection).contains(...)} the lookup is constant time, so appending the selection column is
+ * linear in the number of rows regardless of the number of selected rows.
+ *
+ * <p>
+ * The keys are kept in an open-addressing table with linear probing, which avoids the per-entry objects of a
+ * {@link java.util.HashSet} for large selections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SelectionIndex {
+
+    private static final SelectionIndex EMPTY = new SelectionIndex(new String[0]);
+
+    private final String[] m_keys;
+
+    private final String[] m_slots;
+
+    private final int m_mask;
+
+    private int m_size;
+
+    private SelectionIndex(final String[] keys) {
+        m_keys = keys;
+        // keep the load factor at or below 0.5 to keep probe sequences short
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length) * 2 - 1) << 1;
+        m_slots = new String[capacity];
+        m_mask = capacity - 1;
+        for (String key : keys) {
+            if (key != null) {
+                add(key);
+            }
+        }
+    }
+
+    /**
+     * Creates an index for the given selection.
+     *
+     * @param selection the selected row keys as published by the view, may be <code>null</code>
+     * @return the index, never <code>null</code>; an empty index if the selection is <code>null</code> or empty
+     */
+    public static SelectionIndex of(final String[] selection) {
+        if (selection == null || selection.length == 0) {
+            return EMPTY;
+        }
+        return new SelectionIndex(selection);
+    }
+
+    private void add(final String key) {
+        int slot = hash(key) & m_mask;
+        while (m_slots[slot] != null) {
+            if (m_slots[slot].equals(key)) {
+                return;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        m_slots[slot] = key;
+        m_size++;
+    }
+
+    /**
+     * @param rowKey the row key to look up, may be <code>null</code>
+     * @return <code>true</code> if the row key is part of the selection
+     */
+    public boolean contains(final String rowKey) {
+        if (rowKey == null || m_size == 0) {
+            return false;
+        }
+        int slot = hash(rowKey) & m_mask;
+        String candidate;
+        while ((candidate = m_slots[slot]) != null) {
+            if (candidate.equals(rowKey)) {
+                return true;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        return false;
+    }
+
+    /**
+     * @param rowKey the row key to look up, may be <code>null</code>
+     * @return <code>true</code> if the row key is part of the selection
+     */
+    public boolean contains(final RowKey rowKey) {
+        return rowKey != null && contains(rowKey.getString());
+    }
+
+    /**
+     * @return the number of distinct selected row keys
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * @return <code>true</code> if nothing is selected
+     */
+    public boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    /**
+     * Returns an unmodifiable list view on the selection in its original order whose {@link List#contains(Object)}
+     * is answered by this index. Meant for APIs which still expect a list of row keys.
+     *
+     * @return a list view on the selected row keys
+     */
+    public List<String> asList() {
+        return new AbstractList<String>() {
+
+            @Override
+            public String get(final int index) {
+                return m_keys[index];
+            }
+
+            @Override
+            public int size() {
+                return m_keys.length;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof String && SelectionIndex.this.contains((String)o);
+            }
+        };
+    }
+
+    private static int hash(final String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.js.base.util.selection;
+
+import java.util.Arrays;
+
+/**
+ * Compact encoding of a view selection as sorted, disjoint ranges of row indices. Views whose data rows are in the
+ * order of their input table can publish the selection in this form instead of as a list of row keys, which keeps
+ * the view value small for large selections. The "append selection column" cell factories look up the index of
+ * every output row, so no row key strings are created.
+ *
+ * <p>
+ * The ranges are relative to the table the view displays, a view value therefore has to store the id of that table
+ * alongside the ranges and fall back to the row keys if it doesn't match.
+ *
+ * <p>
+ * The ranges are given as a flat array of pairs of the first (inclusive) and last (exclusive) row index of each
+ * range, e.g. <code>[0, 3, 5, 6]</code> selects the rows 0, 1, 2 and 5.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.12
+ */
+public final class SelectionRanges {
+
+    private static final SelectionRanges EMPTY = new SelectionRanges(new long[0], new long[0]);
+
+    private final long[] m_starts;
+
+    private final long[] m_ends;
+
+    private final long m_size;
+
+    private SelectionRanges(final long[] starts, final long[] ends) {
+        m_starts = starts;
+        m_ends = ends;
+        long size = 0;
+        for (int i = 0; i < starts.length; i++) {
+            size += ends[i] - starts[i];
+        }
+        m_size = size;
+    }
+
+    /**
+     * Creates the selection for the given ranges. The ranges don't need to be sorted, overlapping and adjacent
+     * ranges are merged and empty ranges are ignored.
+     *
+     * @param ranges the pairs of the first (inclusive) and last (exclusive) row index of each range as published by
+     *            the view, may be <code>null</code>
+     * @return the selection, never <code>null</code>; an empty selection if the ranges are <code>null</code> or
+     *         empty
+     * @throws IllegalArgumentException if the array has an odd length or contains negative row indices
+     */
+    public static SelectionRanges of(final long[] ranges) {
+        if (ranges == null || ranges.length == 0) {
+            return EMPTY;
+        }
+        if (ranges.length % 2 != 0) {
+            throw new IllegalArgumentException("Selection ranges must be given as pairs of row indices.");
+        }
+        final int numRanges = ranges.length / 2;
+        final long[][] pairs = new long[numRanges][];
+        for (int i = 0; i < numRanges; i++) {
+            if (ranges[2 * i] < 0 || ranges[2 * i + 1] < 0) {
+                throw new IllegalArgumentException("Selection ranges must not contain negative row indices.");
+            }
+            pairs[i] = new long[]{ranges[2 * i], ranges[2 * i + 1]};
+        }
+        Arrays.sort(pairs, (a, b) -> Long.compare(a[0], b[0]));
+        final long[] starts = new long[numRanges];
+        final long[] ends = new long[numRanges];
+        int count = 0;
+        for (long[] pair : pairs) {
+            if (pair[1] <= pair[0]) {
+                continue;
+            }
+            if (count > 0 && pair[0] <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], pair[1]);
+            } else {
+                starts[count] = pair[0];
+                ends[count] = pair[1];
+                count++;
+            }
+        }
+        return count == 0 ? EMPTY : new SelectionRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    /**
+     * @param rowIndex the index of the row in the table the selection refers to
+     * @return <code>true</code> if the row is part of the selection
+     */
+    public boolean contains(final long rowIndex) {
+        // index of the last range starting at or before the row
+        int pos = Arrays.binarySearch(m_starts, rowIndex);
+        if (pos < 0) {
+            pos = -pos - 2;
+        }
+        return pos >= 0 && rowIndex < m_ends[pos];
+    }
+
+    /**
+     * @return the number of selected rows
+     */
+    public long size() {
+        return m_size;
+    }
+
+    /**
+     * @return <code>true</code> if nothing is selected
+     */
+    public boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    /**
+     * @return the index after the last selected row, 0 if nothing is selected
+     */
+    public long getEnd() {
+        return m_ends.length == 0 ? 0 : m_ends[m_ends.length - 1];
+    }
+
+    /**
+     * @return the sorted and merged ranges as pairs of the first (inclusive) and last (exclusive) row index
+     */
+    public long[] toArray() {
+        final long[] ranges = new long[2 * m_starts.length];
+        for (int i = 0; i < m_starts.length; i++) {
+            ranges[2 * i] = m_starts[i];
+            ranges[2 * i + 1] = m_ends[i];
+        }
+        return ranges;
+    }
+}